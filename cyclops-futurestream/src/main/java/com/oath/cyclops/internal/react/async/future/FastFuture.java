@@ -1,7 +1,9 @@
 package com.oath.cyclops.internal.react.async.future;
 
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
@@ -39,6 +41,7 @@ public class FastFuture<T> {
     private final AtomicReference exception = new AtomicReference(
                                                                   UNSET);
     private final Consumer<FastFuture<T>> doFinally;
+    private final Queue<Runnable> whenDone = new ConcurrentLinkedQueue<>();
     private static UnSet UNSET = new UnSet();
 
     static class UnSet {
@@ -179,6 +182,7 @@ public class FastFuture<T> {
         if (pipeline != null && pipeline.onFail != null)
             pipeline.onFail.accept(t);
         done = true;
+        handleWhenDone();
         return this;
     }
 
@@ -317,6 +321,7 @@ public class FastFuture<T> {
         this.completedExceptionally = false;
         this.done = true;
         handleOnComplete(true);
+        handleWhenDone();
 
         return true;
 
@@ -327,6 +332,7 @@ public class FastFuture<T> {
         exception.set(UNSET);
         this.forXOf = null;
         this.essential = null;
+        this.whenDone.clear();
         this.count.set(0);
         this.max.set(0);
         this.completedExceptionally = false;
@@ -357,6 +363,24 @@ public class FastFuture<T> {
         }
     }
 
+    /**
+     * Called exactly once, after this future completes (successfully or exceptionally). Any number of callbacks may be
+     * registered, each is run once.
+     *
+     */
+    public void whenDone(final Runnable fn) {
+        whenDone.add(fn);
+        if (done)
+            handleWhenDone();
+    }
+
+    private void handleWhenDone() {
+        //the completing and the registering thread may both get here, each callback is polled (and run) by only one of them
+        Runnable fn;
+        while ((fn = whenDone.poll()) != null)
+            fn.run();
+    }
+
     private void handleOnComplete(final boolean force) {
         if (forXOf != null)
             forXOf.accept(buildOnComplete());
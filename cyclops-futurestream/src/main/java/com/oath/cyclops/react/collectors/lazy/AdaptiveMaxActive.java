@@ -0,0 +1,165 @@
+package com.oath.cyclops.react.collectors.lazy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.oath.cyclops.internal.react.async.future.FastFuture;
+
+/**
+ * A MaxActive whose limit adjusts at runtime to the observed completion latency of active futures.
+ *
+ * The latency of each future is measured from submission until it completes, through a completion callback rather than
+ * when the collector next inspects it. Completion latencies are averaged over short sample windows and compared with a
+ * long term baseline. While latency stays at the baseline the limit grows (by roughly its square root per window), as
+ * futures start to queue and latency rises above the baseline the limit is scaled back by the ratio of the two (a
+ * gradient limit). The limit is not raised while fewer than half of the permitted futures are active, as the stream is
+ * then not limited by MaxActive at all.
+ *
+ * <pre>
+ * {@code
+ *   AdaptiveMaxActive limit = MaxActive.adaptive(10, 1, 500);
+ *
+ *   new LazyReact(executor).withMaxActive(limit)
+ *                          .from(urls)
+ *                          .map(this::load)
+ *                          .forEach(this::save);
+ *
+ *   limit.getMaxActive();                              //current limit
+ *   limit.getQueueingDelay(TimeUnit.MILLISECONDS);     //latency in excess of the baseline
+ * }
+ * </pre>
+ */
+public class AdaptiveMaxActive extends MaxActive {
+
+    private static final int MIN_SAMPLES = 10;
+    private static final double SMOOTHING = 0.2;
+    private static final double BASELINE_WINDOWS = 100;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowNanos;
+    private final AtomicInteger active = new AtomicInteger();
+
+    private volatile double limit;
+    private volatile long latencyNanos;
+    private volatile long queueingDelayNanos;
+    private volatile double throughput;
+
+    //guarded by this
+    private double baselineNanos;
+    private long windowStart = System.nanoTime();
+    private long windowLatency;
+    private int windowCount;
+    private int windowMaxActive;
+
+    /**
+     * @param initialLimit Starting limit
+     * @param minLimit Lowest limit
+     * @param maxLimit Highest limit
+     * @param window Minimum duration of each sample window
+     * @param unit TimeUnit of the window
+     */
+    public AdaptiveMaxActive(final int initialLimit, final int minLimit, final int maxLimit, final long window, final TimeUnit unit) {
+        super(initialLimit, reduceTo(initialLimit));
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit)
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowNanos = unit.toNanos(window);
+        this.limit = initialLimit;
+    }
+
+    /**
+     * @return Current limit on the number of active futures
+     */
+    @Override
+    public int getMaxActive() {
+        return (int) limit;
+    }
+
+    /**
+     * @return Number of active futures to wait for once the current limit is exceeded
+     */
+    @Override
+    public int getReduceTo() {
+        return reduceTo(getMaxActive());
+    }
+
+    @Override
+    public void submitted(final FastFuture<?> future) {
+        final long start = System.nanoTime();
+        active.incrementAndGet();
+        future.whenDone(() -> {
+            final long now = System.nanoTime();
+            sample(now - start, active.getAndDecrement(), now);
+        });
+    }
+
+    /**
+     * @return Average completion latency over the last sample window
+     */
+    public long getLatency(final TimeUnit unit) {
+        return unit.convert(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return Amount by which the completion latency over the last sample window exceeded the long term baseline
+     */
+    public long getQueueingDelay(final TimeUnit unit) {
+        return unit.convert(queueingDelayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return Completions per second over the last sample window
+     */
+    public double getThroughput() {
+        return throughput;
+    }
+
+    /*
+     * @param active Number of active futures (including this one) when it completed
+     */
+    private synchronized void sample(final long latency, final int active, final long now) {
+        windowLatency += latency;
+        windowCount++;
+        windowMaxActive = Math.max(windowMaxActive, active);
+        final long elapsed = now - windowStart;
+        if (windowCount < MIN_SAMPLES || elapsed < windowNanos)
+            return;
+
+        final double shortNanos = (double) windowLatency / windowCount;
+        throughput = windowCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+        if (baselineNanos == 0) {
+            baselineNanos = shortNanos;
+        } else {
+            baselineNanos += (shortNanos - baselineNanos) / BASELINE_WINDOWS;
+            //latency has recovered from a period of overload, bring the baseline back down quickly
+            if (baselineNanos > 2 * shortNanos)
+                baselineNanos *= 0.95;
+        }
+        latencyNanos = (long) shortNanos;
+        queueingDelayNanos = (long) Math.max(0, shortNanos - baselineNanos);
+
+        final double current = limit;
+        if (windowMaxActive >= current / 2) {
+            final double gradient = Math.max(0.5, Math.min(1.0, baselineNanos / shortNanos));
+            final double next = current * gradient + Math.sqrt(current);
+            limit = Math.max(minLimit, Math.min(maxLimit, current * (1 - SMOOTHING) + next * SMOOTHING));
+        }
+
+        windowStart = now;
+        windowLatency = 0;
+        windowCount = 0;
+        windowMaxActive = 0;
+    }
+
+    private static int reduceTo(final int limit) {
+        return Math.max(1, limit - Math.max(1, limit / 10));
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveMaxActive[limit=" + getMaxActive() + ", latency=" + latencyNanos + "ns, queueingDelay="
+                + queueingDelayNanos + "ns, throughput=" + throughput + "/s]";
+    }
+}
@@ -50,16 +50,13 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
   public void accept(final FastFuture<T> t) {
 
     active.add(t);
+    maxActive.submitted(t);
 
     if (active.size() > maxActive.getMaxActive()) {
 
       while (active.size() > maxActive.getReduceTo()) {
 
-        final List<FastFuture<T>> toRemove = active.stream()
-          .filter(cf -> cf.isDone())
-          .collect(Collectors.toList());
-        active.removeAll(toRemove);
-        results.addAll(toRemove);
+        removeDone();
         if (active.size() > maxActive.getReduceTo()) {
           final CompletableFuture promise = new CompletableFuture();
           FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> {
@@ -74,6 +71,14 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
 
   }
 
+  private void removeDone() {
+    final List<FastFuture<T>> toRemove = active.stream()
+      .filter(cf -> cf.isDone())
+      .collect(Collectors.toList());
+    active.removeAll(toRemove);
+    results.addAll(toRemove);
+  }
+
   /* (non-Javadoc)
    * @see com.oath.cyclops.react.collectors.lazy.LazyResultConsumer#block(java.util.function.Function)
    */
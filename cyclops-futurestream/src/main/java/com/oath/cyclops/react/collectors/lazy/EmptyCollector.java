@@ -43,17 +43,13 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
   public void accept(final FastFuture<T> t) {
 
     active.add(t);
+    maxActive.submitted(t);
 
     if (active.size() > maxActive.getMaxActive()) {
 
       while (active.size() > maxActive.getReduceTo()) {
 
-        final List<FastFuture> toRemove = active.stream()
-          .filter(cf -> cf.isDone())
-          .peek(this::handleExceptions)
-          .collect(Collectors.toList());
-
-        active.removeAll(toRemove);
+        removeDone();
         if (active.size() > maxActive.getReduceTo()) {
           final CompletableFuture promise = new CompletableFuture();
           FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> promise.complete(true), active.toArray(new FastFuture[0]));
@@ -66,6 +62,14 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
 
   }
 
+  private void removeDone() {
+    final List<FastFuture> toRemove = active.stream()
+      .filter(cf -> cf.isDone())
+      .peek(this::handleExceptions)
+      .collect(Collectors.toList());
+    active.removeAll(toRemove);
+  }
+
   public void add(final FastFuture<T> t) {
     active.add(t);
   }
@@ -1,5 +1,9 @@
 package com.oath.cyclops.react.collectors.lazy;
 
+import java.util.concurrent.TimeUnit;
+
+import com.oath.cyclops.internal.react.async.future.FastFuture;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Builder;
@@ -24,4 +28,30 @@ public class MaxActive {
     public static final MaxActive SEQUENTIAL = new MaxActive(
                                                              10, 1);
 
+    /**
+     * @return A new adaptive limit, starting at 10 active futures and adjusting between 1 and 1000
+     * @see AdaptiveMaxActive
+     */
+    public static AdaptiveMaxActive adaptive() {
+        return adaptive(10, 1, 1000);
+    }
+
+    /**
+     * @param initialLimit Starting limit
+     * @param minLimit Lowest limit
+     * @param maxLimit Highest limit
+     * @return A new adaptive limit, sampling completion latency over windows of at least 100ms
+     * @see AdaptiveMaxActive
+     */
+    public static AdaptiveMaxActive adaptive(final int initialLimit, final int minLimit, final int maxLimit) {
+        return new AdaptiveMaxActive(
+                                     initialLimit, minLimit, maxLimit, 100, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Called by collectors as each future becomes active
+     */
+    public void submitted(final FastFuture<?> future) {
+    }
+
 }
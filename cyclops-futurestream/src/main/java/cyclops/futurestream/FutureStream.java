@@ -20,6 +20,7 @@ import com.oath.cyclops.types.traversable.IterableX;
 import com.oath.cyclops.util.ExceptionSoftener;
 import cyclops.control.Future;
 import com.oath.cyclops.async.QueueFactories;
+import com.oath.cyclops.async.RetryPolicy;
 import com.oath.cyclops.async.adapters.Adapter;
 import com.oath.cyclops.async.adapters.Queue;
 import com.oath.cyclops.async.adapters.Queue.ClosedQueueException;
@@ -122,6 +123,30 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
         return (FutureStream)ReactiveSeq.super.retry(fn,retries,delay,timeUnit);
     }
 
+    /**
+     * Retry a transformation if it fails, scheduling re-attempts on a timer rather than sleeping on a
+     * task executor thread. The composed CompletableFuture for each element completes once fn succeeds,
+     * or exceptionally once the RetryPolicy gives up.
+     *
+     * <pre>
+     * {@code
+     *  new LazyReact().of(1,2,3)
+     *                 .retryAsync(this::makeIOCall, RetryPolicy.exponential(5, 100, TimeUnit.MILLISECONDS)
+     *                                                          .retryOn(IOException.class))
+     *                 .block();
+     * }
+     * </pre>
+     *
+     * @param fn Function to retry if fails
+     * @param policy RetryPolicy determining which failures are retried, and when
+     * @return Next stage in the Stream
+     */
+    @Override
+    default <R> FutureStream<R> retryAsync(final Function<? super U, ? extends R> fn, final RetryPolicy policy) {
+        final Function<U, CompletableFuture<R>> retrying = policy.retrying(fn);
+        return (FutureStream<R>) flatMapToCompletableFuture(retrying::apply);
+    }
+
 
     @Override
     default FutureStream<ReactiveSeq<U>> combinations(final int size) {
@@ -1963,6 +1988,21 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
                                    .distinct());
     }
 
+    @Override
+    default FutureStream<U> distinctWindowed(final int maxSize) {
+        return fromStream(stream().distinctWindowed(maxSize));
+    }
+
+    @Override
+    default FutureStream<U> distinctWindowed(final int maxSize, final long ttl, final TimeUnit unit) {
+        return fromStream(stream().distinctWindowed(maxSize, ttl, unit));
+    }
+
+    @Override
+    default FutureStream<U> distinctApprox(final long expectedInsertions, final double falsePositiveRate) {
+        return fromStream(stream().distinctApprox(expectedInsertions, falsePositiveRate));
+    }
+
     /**
      * Create a sliding view over this Stream
      *
@@ -0,0 +1,96 @@
+package com.oath.cyclops.react.collectors.lazy;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.oath.cyclops.internal.react.async.future.FastFuture;
+import cyclops.futurestream.LazyReact;
+import org.junit.Test;
+
+public class AdaptiveMaxActiveTest {
+
+	private void window(AdaptiveMaxActive limit, long latencyMillis, int active) throws InterruptedException {
+		for(int batch=0;batch<10;batch+=active){
+			List<FastFuture<Integer>> futures = new ArrayList<>();
+			for(int i=0;i<active;i++){
+				FastFuture<Integer> f = new FastFuture<>();
+				futures.add(f);
+				limit.submitted(f);
+			}
+			Thread.sleep(latencyMillis);
+			for(FastFuture<Integer> f : futures)
+				f.set(1);
+		}
+	}
+
+	@Test
+	public void growsWhileLatencyIsStable() throws InterruptedException {
+		AdaptiveMaxActive limit = new AdaptiveMaxActive(10, 1, 1000, 0, TimeUnit.MILLISECONDS);
+		for(int i=0;i<30;i++)
+			window(limit, 5, limit.getMaxActive());
+
+		assertThat(limit.getMaxActive(), greaterThan(10));
+		assertThat(limit.getReduceTo(), lessThan(limit.getMaxActive()));
+		assertThat(limit.getThroughput(), greaterThan(0d));
+	}
+
+	@Test
+	public void shrinksAsLatencyRises() throws InterruptedException {
+		AdaptiveMaxActive limit = new AdaptiveMaxActive(100, 1, 100, 0, TimeUnit.MILLISECONDS);
+		for(int i=0;i<5;i++)
+			window(limit, 2, 100);
+		assertThat(limit.getMaxActive(), equalTo(100));
+
+		for(int i=0;i<5;i++)
+			window(limit, 20, 100);
+
+		assertThat(limit.getMaxActive(), lessThan(100));
+		assertThat(limit.getQueueingDelay(TimeUnit.MILLISECONDS), greaterThan(5l));
+		assertThat(limit.getLatency(TimeUnit.MILLISECONDS), greaterThan(15l));
+	}
+
+	@Test
+	public void notRaisedWhenUnderused() throws InterruptedException {
+		AdaptiveMaxActive limit = new AdaptiveMaxActive(10, 1, 1000, 0, TimeUnit.MILLISECONDS);
+		for(int i=0;i<10;i++)
+			window(limit, 1, 2);
+
+		assertThat(limit.getMaxActive(), equalTo(10));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidLimits() {
+		new AdaptiveMaxActive(10, 20, 1000, 0, TimeUnit.MILLISECONDS);
+	}
+
+	@Test
+	public void measuredWhenCompleted() throws InterruptedException {
+		AdaptiveMaxActive limit = new AdaptiveMaxActive(10, 1, 1000, 0, TimeUnit.MILLISECONDS);
+		for(int i=0;i<10;i++){
+			FastFuture<Integer> f = new FastFuture<>();
+			limit.submitted(f);
+			Thread.sleep(10);
+			f.set(i);
+		}
+		//no collector inspected the futures, their latency was recorded as they completed
+		assertThat(limit.getLatency(TimeUnit.MILLISECONDS), greaterThan(5l));
+	}
+
+	@Test
+	public void lazyReact() {
+		AdaptiveMaxActive limit = MaxActive.adaptive(2, 1, 50);
+		List<Integer> result = new LazyReact(Executors.newFixedThreadPool(4)).withMaxActive(limit)
+															 .range(0, 1000)
+															 .map(i -> i * 2)
+															 .toList();
+		assertThat(result.size(), equalTo(1000));
+		assertThat(limit.getMaxActive(), greaterThan(0));
+	}
+}
@@ -10,6 +10,7 @@ import static org.junit.Assert.assertTrue;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ForkJoinPool;
@@ -38,6 +39,17 @@ public class FastFutureTest {
 
 	Throwable failed;
 
+	@Test
+	public void whenDoneRunsEveryCallbackOnce() {
+		List<String> calls = new ArrayList<>();
+		FastFuture f = future.thenApply(v -> v).build();
+		f.whenDone(() -> calls.add("first"));
+		f.whenDone(() -> calls.add("second"));
+		f.set("done");
+		f.whenDone(() -> calls.add("after"));
+		assertThat(calls, equalTo(Arrays.asList("first", "second", "after")));
+	}
+
 	@Test
 	public void onFail() {
 		FastFuture f = future.onFail(t -> failed = t).thenApply(v -> {
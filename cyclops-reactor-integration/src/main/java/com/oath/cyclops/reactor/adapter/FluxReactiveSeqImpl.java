@@ -618,6 +618,16 @@ public class FluxReactiveSeqImpl<T> implements ReactiveSeq<T> {
         return flux(Spouts.from(flux).onePer(time,t));
     }
 
+    @Override
+    public ReactiveSeq<T> distinctWindowed(int maxSize, long ttl, TimeUnit unit) {
+        return flux(Spouts.from(flux).distinctWindowed(maxSize,ttl,unit));
+    }
+
+    @Override
+    public ReactiveSeq<T> distinctApprox(long expectedInsertions, double falsePositiveRate) {
+        return flux(Spouts.from(flux).distinctApprox(expectedInsertions,falsePositiveRate));
+    }
+
     @Override
     public ReactiveSeq<T> debounce(long time, TimeUnit t) {
         return flux(Spouts.from(flux).debounce(time,t));
@@ -620,6 +620,16 @@ public class FlowableReactiveSeqImpl<T> implements ReactiveSeq<T> {
         return flux(Spouts.from(flowable).onePer(time,t));
     }
 
+    @Override
+    public ReactiveSeq<T> distinctWindowed(int maxSize, long ttl, TimeUnit unit) {
+        return flux(Spouts.from(flowable).distinctWindowed(maxSize,ttl,unit));
+    }
+
+    @Override
+    public ReactiveSeq<T> distinctApprox(long expectedInsertions, double falsePositiveRate) {
+        return flux(Spouts.from(flowable).distinctApprox(expectedInsertions,falsePositiveRate));
+    }
+
     @Override
     public ReactiveSeq<T> debounce(long time, TimeUnit t) {
         return flux(Spouts.from(flowable).debounce(time,t));
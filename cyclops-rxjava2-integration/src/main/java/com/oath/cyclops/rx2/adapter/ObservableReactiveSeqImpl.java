@@ -630,6 +630,16 @@ public class ObservableReactiveSeqImpl<T> implements ReactiveSeq<T> {
         return observable(Observables.connectToReactiveSeq(observable).onePer(time,t));
     }
 
+    @Override
+    public ReactiveSeq<T> distinctWindowed(int maxSize, long ttl, TimeUnit unit) {
+        return observable(Observables.connectToReactiveSeq(observable).distinctWindowed(maxSize,ttl,unit));
+    }
+
+    @Override
+    public ReactiveSeq<T> distinctApprox(long expectedInsertions, double falsePositiveRate) {
+        return observable(Observables.connectToReactiveSeq(observable).distinctApprox(expectedInsertions,falsePositiveRate));
+    }
+
     @Override
     public ReactiveSeq<T> debounce(long time, TimeUnit t) {
         return observable(Observables.connectToReactiveSeq(observable).debounce(time,t));
@@ -0,0 +1,73 @@
+package cyclops.data.hashmap;
+
+import cyclops.data.base.CHAMP;
+import cyclops.data.base.HAMT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class HashMapGet {
+
+    Integer[] keys;
+    CHAMP.Node<Integer,Integer> champ;
+    HAMT.Node<Integer,Integer> hamt;
+
+    @Setup
+    public void before() {
+        keys = new Integer[100_000];
+        CHAMP.Node<Integer,Integer> champ = CHAMP.empty();
+        HAMT.Node<Integer,Integer> hamt = HAMT.empty();
+        for(int i=0;i<keys.length;i++){
+            keys[i] = i * 0x9E3779B9;
+            champ = champ.put(keys[i],i);
+            hamt = hamt.put(keys[i],i);
+        }
+        this.champ = champ;
+        this.hamt = hamt;
+    }
+
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void champOps(Blackhole bh) {
+        for(Integer key : keys){
+            bh.consume(champ.getOrElse(key,null));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void hamtOps(Blackhole bh) {
+        for(Integer key : keys){
+            bh.consume(hamt.getOrElse(key,null));
+        }
+    }
+
+}
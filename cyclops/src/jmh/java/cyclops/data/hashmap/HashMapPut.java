@@ -0,0 +1,68 @@
+package cyclops.data.hashmap;
+
+import cyclops.data.base.CHAMP;
+import cyclops.data.base.HAMT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class HashMapPut {
+
+    Integer[] keys;
+
+    @Setup
+    public void before() {
+        keys = new Integer[100_000];
+        for(int i=0;i<keys.length;i++){
+            keys[i] = i * 0x9E3779B9;
+        }
+    }
+
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public CHAMP.Node<Integer,Integer> champOps() {
+        CHAMP.Node<Integer,Integer> map = CHAMP.empty();
+        for(Integer key : keys){
+            map = map.put(key,key);
+        }
+        return map;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public HAMT.Node<Integer,Integer> hamtOps() {
+        HAMT.Node<Integer,Integer> map = HAMT.empty();
+        for(Integer key : keys){
+            map = map.put(key,key);
+        }
+        return map;
+    }
+
+}
@@ -0,0 +1,131 @@
+package cyclops.reactiveSeq;
+
+import cyclops.data.Vector;
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+public class ParallelMapLarge {
+
+    Integer[] array;
+    List<Integer> list;
+    Vector<Integer> vector;
+
+    @Setup
+    public void before(){
+        array = ReactiveSeq.range(0,1_000_000).toArray(Integer[]::new);
+        list = Arrays.asList(array);
+        vector = Vector.range(0,1_000_000);
+    }
+
+    static long work(int i){
+        long x = i;
+        for(int k=0;k<50;k++)
+            x = x * 6364136223846793005L + 1442695040888963407L;
+        return x;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void jdkParallelArray(Blackhole bh){
+        bh.consume(list.parallelStream()
+                       .map(ParallelMapLarge::work)
+                       .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void sequentialArray(Blackhole bh){
+        bh.consume(ReactiveSeq.of(array)
+                              .map(ParallelMapLarge::work)
+                              .toList());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void parallelArray(Blackhole bh){
+        List<Long> res = ReactiveSeq.of(array)
+                                    .foldParallel(s->s.map(ParallelMapLarge::work).collect(Collectors.toList()));
+        bh.consume(res);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void parallelRange(Blackhole bh){
+        List<Long> res = ReactiveSeq.range(0,1_000_000)
+                                    .map(ParallelMapLarge::work)
+                                    .foldParallel(s->s.collect(Collectors.toList()));
+        bh.consume(res);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void parallelVector(Blackhole bh){
+        bh.consume(vector.stream()
+                         .parallel(s->s.map(ParallelMapLarge::work))
+                         .toList());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void parallelUnsized(Blackhole bh){
+        long res = ReactiveSeq.iterate(0,i->i+1)
+                              .take(1_000_000)
+                              .foldParallel(false,s->s.mapToLong(ParallelMapLarge::work).sum());
+        bh.consume(res);
+    }
+}
@@ -0,0 +1,117 @@
+package scrabble;
+
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+
+//JMH Benchmarking test file : not part of distribution
+/**
+ * Long chains of stateless operators (12 stages of map / filter / peek / limit) over the Shakespeare word list,
+ * pull based ReactiveSeq and Spouts fuse these into a single stage.
+ */
+public class FusedPipelines extends ShakespearePlaysScrabble {
+
+    long peeked;
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 5
+    )
+    @Measurement(
+            iterations = 5
+    )
+    @Fork(1)
+    public List<Integer> stream() {
+        return shakespeareWords.stream()
+                .filter(scrabbleWords::contains)
+                .map(String::toUpperCase)
+                .filter(word -> word.length() > 2)
+                .peek(word -> peeked++)
+                .map(String::toLowerCase)
+                .map(word -> word.charAt(0) + word.length())
+                .filter(score -> score % 3 != 0)
+                .map(score -> score * 2)
+                .peek(score -> peeked++)
+                .filter(score -> score > 200)
+                .map(score -> score + 1)
+                .limit(50_000)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 5
+    )
+    @Measurement(
+            iterations = 5
+    )
+    @Fork(1)
+    public List<Integer> reactiveSeq() {
+        return ReactiveSeq.fromIterable(shakespeareWords)
+                .filter(scrabbleWords::contains)
+                .map(String::toUpperCase)
+                .filter(word -> word.length() > 2)
+                .peek(word -> peeked++)
+                .map(String::toLowerCase)
+                .map(word -> word.charAt(0) + word.length())
+                .filter(score -> score % 3 != 0)
+                .map(score -> score * 2)
+                .peek(score -> peeked++)
+                .filter(score -> score > 200)
+                .map(score -> score + 1)
+                .limit(50_000)
+                .toList();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 5
+    )
+    @Measurement(
+            iterations = 5
+    )
+    @Fork(1)
+    public List<Integer> spouts() {
+        return Spouts.fromIterable(shakespeareWords)
+                .filter(scrabbleWords::contains)
+                .map(String::toUpperCase)
+                .filter(word -> word.length() > 2)
+                .peek(word -> peeked++)
+                .map(String::toLowerCase)
+                .map(word -> word.charAt(0) + word.length())
+                .filter(score -> score % 3 != 0)
+                .map(score -> score * 2)
+                .peek(score -> peeked++)
+                .filter(score -> score > 200)
+                .map(score -> score + 1)
+                .limit(50_000)
+                .toList();
+    }
+
+    public static void main(String[] args) throws Exception {
+        FusedPipelines s = new FusedPipelines();
+        s.init();
+        System.out.println(s.reactiveSeq().equals(s.stream()) && s.spouts().equals(s.stream()));
+        int count = 0;
+        boolean run = true;
+        while(run)
+        {
+            long start = System.currentTimeMillis();
+            for(int i=0;i<100;i++)
+                count +=s.reactiveSeq().size();
+            System.out.println("Time " + (System.currentTimeMillis()-start));
+        }
+        System.out.println( "" + count);
+    }
+}
@@ -0,0 +1,351 @@
+package com.oath.cyclops.async;
+
+import com.oath.cyclops.util.stream.scheduling.cron.CronSchedule;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timing wheel : a low overhead timer for very large numbers of (mostly short lived or cancelled) timeouts.
+ *
+ * Timeouts are hashed into a fixed size ring of buckets by deadline, and a single worker thread advances through the
+ * buckets tick by tick, firing the timeouts whose deadline has been reached. Scheduling and cancelling are O(1), at the
+ * cost of deadlines being rounded up to the tick duration. Expired tasks are handed to the Executor they were scheduled
+ * with, so the worker thread only ever runs short tasks. The worker thread parks until the nearest deadline (or until
+ * the next task is scheduled), skipping the empty ticks in between rather than waking for each of them.
+ *
+ * <pre>
+ * {@code
+ *   HashedWheelTimer.Handle handle = SharedTimer.instance()
+ *                                               .schedule(()->System.out.println("hello"), 100, TimeUnit.MILLISECONDS, executor);
+ *   handle.cancel();
+ * }
+ * </pre>
+ *
+ * @see SharedTimer
+ */
+public final class HashedWheelTimer {
+
+    /**
+     * A cancellable handle to a scheduled task
+     */
+    public interface Handle {
+        /**
+         * Cancel any future executions of the task
+         *
+         * @return false if the task had already been cancelled, or had already fired for the last time
+         */
+        boolean cancel();
+
+        boolean isCancelled();
+    }
+
+    private static final Executor DIRECT = Runnable::run;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final String name;
+    private final long startTime = System.nanoTime();
+    private volatile Thread worker;
+    //time (relative to startTime) the worker is parked until, Long.MIN_VALUE while it is running
+    private volatile long wakeAt = Long.MIN_VALUE;
+
+    /**
+     * @param tickDuration Duration of each tick (the resolution of the timer)
+     * @param unit TimeUnit of the tick duration
+     * @param wheelSize Number of buckets in the wheel, rounded up to a power of two
+     * @param name Name of the worker thread
+     */
+    public HashedWheelTimer(final long tickDuration, final TimeUnit unit, final int wheelSize, final String name) {
+        if (tickDuration <= 0 || wheelSize <= 0)
+            throw new IllegalArgumentException("Tick duration and wheel size must be positive");
+        this.tickNanos = unit.toNanos(tickDuration);
+        final int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        this.wheel = new Bucket[Math.max(1, size)];
+        for (int i = 0; i < wheel.length; i++)
+            wheel[i] = new Bucket();
+        this.mask = wheel.length - 1;
+        this.name = name;
+    }
+
+    /**
+     * Run a short task on the timer thread once the delay has passed
+     */
+    public Handle schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        return schedule(task, delay, unit, DIRECT);
+    }
+
+    /**
+     * Submit task to executor once the delay has passed
+     */
+    public Handle schedule(final Runnable task, final long delay, final TimeUnit unit, final Executor executor) {
+        start();
+        final Timeout timeout = new Timeout(task, executor, System.nanoTime() + Math.max(0, unit.toNanos(delay)) - startTime);
+        pending.add(timeout);
+        if (timeout.deadline < wakeAt)
+            LockSupport.unpark(worker);
+        return timeout;
+    }
+
+    /**
+     * Submit task to executor every period, starting after initialDelay. Executions are scheduled relative to the
+     * first, so the rate does not drift with execution time, but never overlap.
+     */
+    public Handle scheduleAtFixedRate(final Runnable task, final long initialDelay, final long period, final TimeUnit unit,
+                                      final Executor executor) {
+        final Repeating repeating = new Repeating();
+        final long periodNanos = unit.toNanos(period);
+        final long first = System.nanoTime() + unit.toNanos(initialDelay);
+        final long[] count = {0};
+        repeating.next = () -> {
+            try {
+                task.run();
+            } finally {
+                final long next = first + ++count[0] * periodNanos;
+                repeating.reschedule(next - System.nanoTime(), TimeUnit.NANOSECONDS, executor);
+            }
+        };
+        repeating.reschedule(initialDelay, unit, executor);
+        return repeating;
+    }
+
+    /**
+     * Submit task to executor after initialDelay, and then again delay after each execution completes
+     */
+    public Handle scheduleWithFixedDelay(final Runnable task, final long initialDelay, final long delay, final TimeUnit unit,
+                                         final Executor executor) {
+        final Repeating repeating = new Repeating();
+        repeating.next = () -> {
+            try {
+                task.run();
+            } finally {
+                repeating.reschedule(delay, unit, executor);
+            }
+        };
+        repeating.reschedule(initialDelay, unit, executor);
+        return repeating;
+    }
+
+    /**
+     * Submit task to executor at each fire time of a cron schedule
+     */
+    public Handle schedule(final CronSchedule cron, final Runnable task, final Executor executor) {
+        final Repeating repeating = new Repeating();
+        final long[] lastFire = {System.currentTimeMillis()};
+        final Runnable reschedule = () -> {
+            final long now = System.currentTimeMillis();
+            //the wheel may fire slightly early or late, never fire twice for the same time
+            final long next = cron.nextFireTimeAfter(Math.max(now, lastFire[0]));
+            if (next < 0) {
+                repeating.cancel();
+                return;
+            }
+            lastFire[0] = next;
+            repeating.reschedule(next - now, TimeUnit.MILLISECONDS, executor);
+        };
+        repeating.next = () -> {
+            try {
+                task.run();
+            } finally {
+                reschedule.run();
+            }
+        };
+        reschedule.run();
+        return repeating;
+    }
+
+    private void start() {
+        if (started.get() || !started.compareAndSet(false, true))
+            return;
+        final Thread thread = new Thread(this::run, name);
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    private void run() {
+        long tick = 0;
+        //earliest expiry tick of the timeouts in the wheel, only accessed from the worker thread
+        long nearest = Long.MAX_VALUE;
+        for (; ; ) {
+            nearest = Math.min(nearest, transferPending(tick));
+            final long wake = nearest == Long.MAX_VALUE ? Long.MAX_VALUE : (Math.max(nearest, tick) + 1) * tickNanos;
+            //wakeAt is published before pending is re-checked, so a concurrent schedule of an earlier timeout either
+            //sees it and unparks this thread or its timeout is seen here
+            wakeAt = wake;
+            long sleep;
+            while (pending.isEmpty() && (sleep = wake - (System.nanoTime() - startTime)) > 0) {
+                if (wake == Long.MAX_VALUE)
+                    LockSupport.park(this);
+                else
+                    LockSupport.parkNanos(this, sleep);
+            }
+            wakeAt = Long.MIN_VALUE;
+            final long elapsed = (System.nanoTime() - startTime) / tickNanos;
+            while (tick < elapsed && nearest != Long.MAX_VALUE) {
+                if (tick < nearest) {
+                    //the buckets before the nearest expiry hold nothing that can fire
+                    tick = Math.min(nearest, elapsed);
+                    continue;
+                }
+                wheel[(int) (tick & mask)].expire(tick);
+                tick++;
+                nearest = nearestExpiry(tick);
+            }
+            if (nearest == Long.MAX_VALUE) {
+                //the wheel is empty, so skipping the ticks that have passed loses nothing
+                tick = Math.max(tick, elapsed);
+            }
+        }
+    }
+
+    /**
+     * @return Earliest expiry tick of the transferred timeouts, or Long.MAX_VALUE if there were none
+     */
+    private long transferPending(final long tick) {
+        long nearest = Long.MAX_VALUE;
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.isCancelled())
+                continue;
+            timeout.expiryTick = Math.max(timeout.deadline / tickNanos, tick);
+            wheel[(int) (timeout.expiryTick & mask)].timeouts.add(timeout);
+            nearest = Math.min(nearest, timeout.expiryTick);
+        }
+        return nearest;
+    }
+
+    /**
+     * Scans the buckets from tick onwards, removing cancelled timeouts from each bucket visited, until the one holding
+     * the earliest expiry is found
+     *
+     * @return Earliest expiry tick of the timeouts in the wheel, or Long.MAX_VALUE if it is empty
+     */
+    private long nearestExpiry(final long tick) {
+        long nearest = Long.MAX_VALUE;
+        for (int i = 0; i < wheel.length && nearest > tick + i; i++) {
+            nearest = Math.min(nearest, wheel[(int) ((tick + i) & mask)].nearest());
+        }
+        return nearest;
+    }
+
+    private static final class Bucket {
+        //only accessed from the worker thread
+        final ArrayDeque<Timeout> timeouts = new ArrayDeque<>();
+
+        void expire(final long tick) {
+            final Iterator<Timeout> it = timeouts.iterator();
+            while (it.hasNext()) {
+                final Timeout timeout = it.next();
+                if (timeout.isCancelled()) {
+                    it.remove();
+                } else if (timeout.expiryTick <= tick) {
+                    it.remove();
+                    timeout.fire();
+                }
+            }
+        }
+
+        /**
+         * Removes cancelled timeouts
+         *
+         * @return Earliest expiry tick of the remaining timeouts, or Long.MAX_VALUE if there are none
+         */
+        long nearest() {
+            long nearest = Long.MAX_VALUE;
+            final Iterator<Timeout> it = timeouts.iterator();
+            while (it.hasNext()) {
+                final Timeout timeout = it.next();
+                if (timeout.isCancelled())
+                    it.remove();
+                else
+                    nearest = Math.min(nearest, timeout.expiryTick);
+            }
+            return nearest;
+        }
+    }
+
+    private static final class Timeout implements Handle {
+        final Runnable task;
+        final Executor executor;
+        final long deadline;
+        final AtomicBoolean done = new AtomicBoolean(false);
+        volatile boolean cancelled;
+        //only accessed from the worker thread
+        long expiryTick;
+
+        Timeout(final Runnable task, final Executor executor, final long deadline) {
+            this.task = task;
+            this.executor = executor;
+            this.deadline = deadline;
+        }
+
+        void fire() {
+            if (!done.compareAndSet(false, true))
+                return;
+            try {
+                executor.execute(task);
+            } catch (final Throwable t) {
+                //a failing task (or a rejecting executor) must not stop the wheel, report it as if it were uncaught
+                final Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler()
+                      .uncaughtException(thread, t);
+            }
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!done.compareAndSet(false, true))
+                return false;
+            cancelled = true;
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * Handle to a task that reschedules itself after each execution
+     */
+    private final class Repeating implements Handle {
+        volatile Runnable next;
+        volatile Handle current;
+        volatile boolean cancelled;
+
+        void reschedule(final long delay, final TimeUnit unit, final Executor executor) {
+            if (cancelled)
+                return;
+            current = schedule(next, delay, unit, executor);
+            if (cancelled)
+                current.cancel();
+        }
+
+        @Override
+        public boolean cancel() {
+            if (cancelled)
+                return false;
+            cancelled = true;
+            final Handle handle = current;
+            if (handle != null)
+                handle.cancel();
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
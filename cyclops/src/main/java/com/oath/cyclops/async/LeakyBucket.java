@@ -0,0 +1,46 @@
+package com.oath.cyclops.async;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Leaky bucket rate limiter. Permits drain at a constant rate, so successive reservations are spaced evenly and no
+ * bursts are allowed even after an idle period.
+ *
+ * @see RateLimiter#leakyBucket(long, long, java.util.concurrent.TimeUnit)
+ */
+public final class LeakyBucket implements RateLimiter {
+
+    private final double nanosPerPermit;
+    private final LongSupplier clock;
+    private long nextFree;
+
+    LeakyBucket(final double nanosPerPermit, final LongSupplier clock) {
+        if (nanosPerPermit <= 0)
+            throw new IllegalArgumentException("Rate must be positive");
+        this.nanosPerPermit = nanosPerPermit;
+        this.clock = clock;
+        this.nextFree = clock.getAsLong();
+    }
+
+    @Override
+    public synchronized long reserve(final long permits) {
+        final long now = clock.getAsLong();
+        final long start = Math.max(now, nextFree);
+        nextFree = start + (long) (permits * nanosPerPermit);
+        return start - now;
+    }
+
+    @Override
+    public synchronized boolean tryAcquire(final long permits) {
+        final long now = clock.getAsLong();
+        if (nextFree > now)
+            return false;
+        nextFree = now + (long) (permits * nanosPerPermit);
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "LeakyBucket[nanosPerPermit=" + nanosPerPermit + "]";
+    }
+}
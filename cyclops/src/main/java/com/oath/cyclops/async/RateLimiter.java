@@ -0,0 +1,67 @@
+package com.oath.cyclops.async;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A thread safe rate limit that can be shared across many Streams. Rather than blocking, callers reserve permits and
+ * are told how long to wait before using them, so the wait can be scheduled on a timer.
+ *
+ * <pre>
+ * {@code
+ *   //at most 100 calls per second across every pipeline using the limiter, with bursts of up to 20
+ *   RateLimiter limiter = RateLimiter.tokenBucket(100, 1, TimeUnit.SECONDS, 20);
+ *
+ *   Spouts.of(requests)
+ *         .rateLimit(limiter)
+ *         .map(this::callService);
+ * }
+ * </pre>
+ *
+ * @see cyclops.reactive.ReactiveSeq#rateLimit(RateLimiter)
+ */
+public interface RateLimiter {
+
+    /**
+     * Reserve permits, waiting if necessary for them to become available. Reservations are granted in order, so a
+     * reservation made while permits are owed will wait behind earlier ones.
+     *
+     * @param permits Number of permits to reserve
+     * @return Nanoseconds the caller must wait before the permits may be used (0 if they can be used immediately)
+     */
+    long reserve(long permits);
+
+    /**
+     * Acquire permits only if they are available immediately
+     *
+     * @param permits Number of permits to acquire
+     * @return true if the permits were acquired
+     */
+    boolean tryAcquire(long permits);
+
+    /**
+     * Token bucket that refills at permits per period, and can hold up to a single period's worth of permits
+     */
+    static RateLimiter tokenBucket(final long permits, final long period, final TimeUnit unit) {
+        return tokenBucket(permits, period, unit, permits);
+    }
+
+    /**
+     * Burst tolerant token bucket : permits refill at a steady rate, but up to burst unused permits accumulate and can
+     * be spent at once
+     *
+     * @param permits Number of permits added per period
+     * @param period Refill period
+     * @param unit TimeUnit of the period
+     * @param burst Maximum number of permits the bucket can hold
+     */
+    static RateLimiter tokenBucket(final long permits, final long period, final TimeUnit unit, final long burst) {
+        return new TokenBucket(unit.toNanos(period) / (double) permits, burst, System::nanoTime);
+    }
+
+    /**
+     * Leaky bucket that spaces permits evenly, at permits per period, with no bursts
+     */
+    static RateLimiter leakyBucket(final long permits, final long period, final TimeUnit unit) {
+        return new LeakyBucket(unit.toNanos(period) / (double) permits, System::nanoTime);
+    }
+}
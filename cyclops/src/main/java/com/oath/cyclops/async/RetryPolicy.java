@@ -0,0 +1,169 @@
+package com.oath.cyclops.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.Wither;
+
+/**
+ * Configuration for non-blocking retries : rather than sleeping between attempts, re-attempts are scheduled on a
+ * shared timer and run on an Executor once the (exponentially increasing, optionally jittered) delay has passed.
+ *
+ * <pre>
+ * {@code
+ *   RetryStats stats = new RetryStats();
+ *   RetryPolicy policy = RetryPolicy.exponential(5, 100, TimeUnit.MILLISECONDS)
+ *                                   .withJitter(0.5)
+ *                                   .withBudget(50)
+ *                                   .withStats(stats)
+ *                                   .retryOn(IOException.class);
+ *
+ *   Spouts.of(urls)
+ *         .retryAsync(this::load, policy)
+ *         .forEach(System.out::println);
+ * }
+ * </pre>
+ *
+ * @see cyclops.reactive.ReactiveSeq#retryAsync(Function, RetryPolicy)
+ */
+@Getter
+@Wither
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RetryPolicy {
+
+    /**
+     * Maximum number of retries for each element (after the first attempt)
+     */
+    private final int maxRetries;
+    private final long delayNanos;
+    /**
+     * Factor by which the delay increases after each retry
+     */
+    private final double multiplier;
+    private final long maxDelayNanos;
+    /**
+     * Fraction (between 0 and 1) of each delay that is randomized, e.g. 0.5 gives delays between 50% and 100% of the
+     * backoff delay
+     */
+    private final double jitter;
+    /**
+     * Maximum number of retries across all elements of a Stream, or -1 for no limit
+     */
+    private final long budget;
+    private final Predicate<? super Throwable> retryOn;
+    private final HashedWheelTimer timer;
+    private final Executor executor;
+    private final RetryStats stats;
+
+    /**
+     * Retry up to 7 times, with a doubling backoff period starting at 2 seconds (the same schedule as the blocking
+     * retry operator)
+     */
+    public static RetryPolicy defaultPolicy() {
+        return exponential(7, 2, TimeUnit.SECONDS);
+    }
+
+    public static RetryPolicy exponential(final int maxRetries, final long delay, final TimeUnit unit) {
+        return new RetryPolicy(maxRetries, unit.toNanos(delay), 2.0, Long.MAX_VALUE, 0.0, -1, t -> true,
+                               null, ForkJoinPool.commonPool(), new RetryStats());
+    }
+
+    public RetryPolicy withDelay(final long delay, final TimeUnit unit) {
+        return withDelayNanos(unit.toNanos(delay));
+    }
+
+    public RetryPolicy withMaxDelay(final long delay, final TimeUnit unit) {
+        return withMaxDelayNanos(unit.toNanos(delay));
+    }
+
+    /**
+     * Only retry failures that are instances of one of the supplied exception types
+     */
+    @SafeVarargs
+    public final RetryPolicy retryOn(final Class<? extends Throwable>... types) {
+        return withRetryOn(t -> {
+            for (final Class<? extends Throwable> type : types) {
+                if (type.isInstance(t))
+                    return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * @param attempt Number of retries already made for this element
+     * @return Delay in nanoseconds before the next retry
+     */
+    long delayNanos(final int attempt) {
+        final double backoff = Math.min((double) maxDelayNanos, delayNanos * Math.pow(multiplier, attempt));
+        if (jitter <= 0)
+            return (long) backoff;
+        return (long) (backoff * (1 - jitter * ThreadLocalRandom.current()
+                                                            .nextDouble()));
+    }
+
+    /**
+     * Create a function that applies fn, retrying failures according to this policy. The returned function shares a
+     * single retry budget across all of its invocations, create one per Stream.
+     *
+     * @param fn Function to retry if it fails
+     * @return Function whose result completes once fn succeeds, or exceptionally once retries are exhausted
+     */
+    public <T, R> Function<T, CompletableFuture<R>> retrying(final Function<? super T, ? extends R> fn) {
+        final AtomicLong remaining = new AtomicLong(budget);
+        return t -> {
+            final CompletableFuture<R> result = new CompletableFuture<>();
+            attempt(fn, t, 0, remaining, result);
+            return result;
+        };
+    }
+
+    private <T, R> void attempt(final Function<? super T, ? extends R> fn, final T value, final int retries,
+                                final AtomicLong remaining, final CompletableFuture<R> result) {
+        stats.recordAttempt();
+        final R next;
+        try {
+            next = fn.apply(value);
+        } catch (final Throwable e) {
+            if (!retryOn.test(e)) {
+                result.completeExceptionally(e);
+                return;
+            }
+            if (retries >= maxRetries || !acquire(remaining)) {
+                stats.recordExhausted();
+                result.completeExceptionally(e);
+                return;
+            }
+            stats.recordRetry();
+            timer().schedule(() -> attempt(fn, value, retries + 1, remaining, result),
+                             delayNanos(retries), TimeUnit.NANOSECONDS, executor);
+            return;
+        }
+        result.complete(next);
+    }
+
+    private boolean acquire(final AtomicLong remaining) {
+        if (budget < 0)
+            return true;
+        long current;
+        do {
+            current = remaining.get();
+            if (current <= 0)
+                return false;
+        } while (!remaining.compareAndSet(current, current - 1));
+        return true;
+    }
+
+    private HashedWheelTimer timer() {
+        return timer != null ? timer : SharedTimer.instance();
+    }
+}
@@ -0,0 +1,53 @@
+package com.oath.cyclops.async;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts of attempts, retries and exhausted retries made under a RetryPolicy
+ *
+ * @see RetryPolicy
+ */
+public class RetryStats {
+
+    private final AtomicLong attempts = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    /**
+     * @return Total number of invocations of the retried function (first attempts and retries)
+     */
+    public long getAttemptCount() {
+        return attempts.get();
+    }
+
+    /**
+     * @return Number of retries scheduled
+     */
+    public long getRetryCount() {
+        return retries.get();
+    }
+
+    /**
+     * @return Number of elements that failed because the retry limit or the retry budget was used up
+     */
+    public long getExhaustedCount() {
+        return exhausted.get();
+    }
+
+    void recordAttempt() {
+        attempts.incrementAndGet();
+    }
+
+    void recordRetry() {
+        retries.incrementAndGet();
+    }
+
+    void recordExhausted() {
+        exhausted.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return "RetryStats[attempts=" + attempts.get() + ", retries=" + retries.get() + ", exhausted=" + exhausted.get() + "]";
+    }
+}
@@ -0,0 +1,20 @@
+package com.oath.cyclops.async;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timing wheel shared by cyclops' scheduling APIs (scheduled and cron based Streams, Futures and memoization) and
+ * its non-blocking time based operators (retries, rate limiting). Its single daemon thread only tracks deadlines, the
+ * scheduled work itself runs on the Executor supplied with each task.
+ */
+public final class SharedTimer {
+
+    private static final HashedWheelTimer TIMER = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 512, "cyclops-timer");
+
+    private SharedTimer() {
+    }
+
+    public static HashedWheelTimer instance() {
+        return TIMER;
+    }
+}
@@ -0,0 +1,66 @@
+package com.oath.cyclops.async;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket rate limiter. Tokens are added continuously at a fixed rate up to the capacity of the bucket, so unused
+ * capacity can be spent in a burst. Reservations may take the bucket into debt, which later reservations wait to
+ * repay.
+ *
+ * @see RateLimiter#tokenBucket(long, long, java.util.concurrent.TimeUnit, long)
+ */
+public final class TokenBucket implements RateLimiter {
+
+    private final double nanosPerPermit;
+    private final long capacity;
+    private final LongSupplier clock;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(final double nanosPerPermit, final long capacity, final LongSupplier clock) {
+        if (nanosPerPermit <= 0 || capacity <= 0)
+            throw new IllegalArgumentException("Rate and capacity must be positive");
+        this.nanosPerPermit = nanosPerPermit;
+        this.capacity = capacity;
+        this.clock = clock;
+        this.tokens = capacity;
+        this.lastRefill = clock.getAsLong();
+    }
+
+    @Override
+    public synchronized long reserve(final long permits) {
+        refill();
+        tokens -= permits;
+        if (tokens >= 0)
+            return 0;
+        return (long) Math.ceil(-tokens * nanosPerPermit);
+    }
+
+    @Override
+    public synchronized boolean tryAcquire(final long permits) {
+        refill();
+        if (tokens < permits)
+            return false;
+        tokens -= permits;
+        return true;
+    }
+
+    /**
+     * @return Permits currently available (negative while reservations are owed)
+     */
+    public synchronized double available() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        final long now = clock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) / nanosPerPermit);
+        lastRefill = now;
+    }
+
+    @Override
+    public String toString() {
+        return "TokenBucket[nanosPerPermit=" + nanosPerPermit + ", capacity=" + capacity + "]";
+    }
+}
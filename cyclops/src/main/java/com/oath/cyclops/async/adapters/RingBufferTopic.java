@@ -0,0 +1,388 @@
+package com.oath.cyclops.async.adapters;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.oath.cyclops.async.wait.SpinWait;
+import com.oath.cyclops.async.wait.WaitStrategy;
+import com.oath.cyclops.react.async.subscription.AlwaysContinue;
+import com.oath.cyclops.react.async.subscription.Continueable;
+import com.oath.cyclops.types.futurestream.Continuation;
+import com.oath.cyclops.util.ExceptionSoftener;
+
+import cyclops.data.Seq;
+import cyclops.reactive.ReactiveSeq;
+
+import lombok.Synchronized;
+
+/**
+ * A Topic backed by a single pre-allocated ring buffer (in the style of the LMAX Disruptor). Each element is written once
+ * into the buffer, and every subscribing Stream reads it from there by advancing its own sequence cursor - rather than
+ * each element being copied into a private Queue per subscriber.
+ *
+ * What happens when the producer laps the slowest subscriber is determined by the {@link SlowConsumerPolicy}
+ *
+ * <pre>
+ * {@code
+ *   RingBufferTopic<Integer> topic = new RingBufferTopic<>(1024, SlowConsumerPolicy.DROP);
+ *   ReactiveSeq<Integer> s1 = topic.stream();
+ *   ReactiveSeq<Seq<Integer>> s2 = topic.streamBatch(64);
+ *
+ * }
+ * </pre>
+ *
+ * @param <T> Data type for the Topic
+ */
+public class RingBufferTopic<T> extends Topic<T> {
+
+    /**
+     * Behaviour when the ring buffer is full, because a subscriber has not yet read the oldest element
+     */
+    public static enum SlowConsumerPolicy {
+        /**
+         * Producers wait (via the producer WaitStrategy) until the slowest subscriber has moved on
+         */
+        BLOCK,
+        /**
+         * Producers overwrite the oldest elements, slow subscribers skip ahead to the oldest element still available
+         */
+        DROP,
+        /**
+         * Slow subscribers are disconnected (their Streams complete) and producers continue
+         */
+        DISCONNECT
+    }
+
+    private static final Object NULL = new Object();
+    private static final Object END = new Object();
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Object> buffer;
+    private final SlowConsumerPolicy policy;
+    private final WaitStrategy<T> consumerWait;
+    private final WaitStrategy<T> producerWait;
+
+    private volatile long claimed = -1;
+    private volatile long published = -1;
+    private volatile boolean open = true;
+
+    private volatile Seq<Cursor> cursors = Seq.empty();
+    private final Map<ReactiveSeq<?>, Cursor> streamToCursor = new IdentityHashMap<>();
+    private final Object lock = new Object();
+    private final Object publishLock = new Object();
+    private long gatingSequence = -1;
+
+    /**
+     * Construct a RingBufferTopic that blocks producers when a subscriber falls behind
+     *
+     * @param capacity Size of the ring buffer (rounded up to the next power of 2)
+     */
+    public RingBufferTopic(final int capacity) {
+        this(capacity, SlowConsumerPolicy.BLOCK);
+    }
+
+    public RingBufferTopic(final int capacity, final SlowConsumerPolicy policy) {
+        this(capacity, policy, new SpinWait<>(), new SpinWait<>());
+    }
+
+    /**
+     * @param capacity Size of the ring buffer (rounded up to the next power of 2)
+     * @param policy Behaviour when a subscriber falls a full buffer behind
+     * @param consumer WaitStrategy for subscribers waiting for new data
+     * @param producer WaitStrategy for producers waiting for space (when the policy is BLOCK)
+     */
+    public RingBufferTopic(final int capacity, final SlowConsumerPolicy policy, final WaitStrategy<T> consumer,
+                           final WaitStrategy<T> producer) {
+        if (capacity < 2 || capacity > (1 << 30))
+            throw new IllegalArgumentException("Ring buffer capacity must be between 2 and 2^30 but was " + capacity);
+        this.capacity = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(this.capacity);
+        this.policy = policy;
+        this.consumerWait = consumer;
+        this.producerWait = producer;
+    }
+
+    /**
+     * Publish a single datapoint to all connected Streams
+     *
+     * @param data data to add
+     * @return true if published, false if the producer WaitStrategy gave up waiting for space or the Topic was closed
+     */
+    @Override
+    public boolean offer(final T data) {
+        synchronized (publishLock) {
+            if (!open)
+                throw new Queue.ClosedQueueException();
+            final long next = published + 1;
+            if (!awaitCapacity(next))
+                return false;
+            claimed = next;
+            buffer.set((int) next & mask, data == null ? NULL : data);
+            published = next;
+            signalSizes();
+            return true;
+        }
+    }
+
+    @Override
+    public boolean fromStream(final Stream<T> stream) {
+        stream.forEach(this::offer);
+        return true;
+    }
+
+    private boolean awaitCapacity(final long next) {
+        final long wrap = next - capacity;
+        if (policy == SlowConsumerPolicy.DROP || gatingSequence > wrap)
+            return true;
+        gatingSequence = minimumCursor(next);
+        if (gatingSequence > wrap)
+            return true;
+        if (policy == SlowConsumerPolicy.DISCONNECT) {
+            for (final Cursor c : cursors) {
+                if (c.next <= wrap)
+                    detach(c);
+            }
+            gatingSequence = minimumCursor(next);
+            return true;
+        }
+        try {
+            return producerWait.offer(() -> !open || (gatingSequence = minimumCursor(next)) > wrap) && open;
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    private void signalSizes() {
+        for (final Cursor c : cursors) {
+            final Signal<Integer> signal = c.sizeSignal;
+            if (signal != null)
+                signal.set((int) Math.min(Integer.MAX_VALUE, published - c.next + 1));
+        }
+    }
+
+    private long minimumCursor(final long next) {
+        long min = next;
+        for (final Cursor c : cursors) {
+            min = Math.min(min, c.next);
+        }
+        return min;
+    }
+
+    /**
+     * Generating a stream will register the Stream as a subscriber to this topic, it will receive all elements published
+     * from this point on. @see RingBufferTopic.disconnect to disconnect from the topic
+     *
+     * @return Stream of data
+     */
+    @Override
+    public ReactiveSeq<T> stream() {
+        return stream(new AlwaysContinue());
+    }
+
+    @Override
+    public ReactiveSeq<T> stream(final Continueable s) {
+        return connect(c -> new CursorSpliterator<T>(c, s, () -> poll(c)));
+    }
+
+    /**
+     * Generate a Stream that reads from the ring buffer in batches, each batch contains all elements available when
+     * the subscriber is next scheduled (up to maxSize), the subscriber's cursor is advanced once per batch.
+     *
+     * @param maxSize Maximum number of elements per batch
+     * @return Stream of batches of data
+     */
+    public ReactiveSeq<Seq<T>> streamBatch(final int maxSize) {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("Batch size must be positive but was " + maxSize);
+        final Continueable s = new AlwaysContinue();
+        return connect(c -> new CursorSpliterator<Seq<T>>(c, s, () -> pollBatch(c, maxSize)));
+    }
+
+    @Override
+    public ReactiveSeq<CompletableFuture<T>> streamCompletableFutures() {
+        return stream().map(CompletableFuture::completedFuture);
+    }
+
+    @Synchronized("lock")
+    private <R> ReactiveSeq<R> connect(final Function<Cursor, CursorSpliterator<R>> spliterator) {
+        final Cursor cursor = new Cursor(published + 1);
+        cursors = cursors.append(cursor);
+        final ReactiveSeq<R> stream = ReactiveSeq.fromSpliterator(spliterator.apply(cursor));
+        streamToCursor.put(stream, cursor);
+        return stream;
+    }
+
+    /**
+     * Disconnect a Stream from this Topic, producers will no longer wait for it and its Stream will complete.
+     *
+     * @param stream Stream to disconnect
+     */
+    @Override
+    @Synchronized("lock")
+    public void disconnect(final ReactiveSeq<T> stream) {
+        final Cursor cursor = streamToCursor.remove(stream);
+        if (cursor != null)
+            detach(cursor);
+    }
+
+    @Synchronized("lock")
+    private void detach(final Cursor cursor) {
+        cursor.connected = false;
+        cursors = cursors.removeValue(cursor);
+        streamToCursor.values()
+                      .remove(cursor);
+    }
+
+    private Object poll(final Cursor c) {
+        for (;;) {
+            final boolean closed = !open;
+            if (!c.connected)
+                return END;
+            final long seq = c.next;
+            if (seq > published)
+                return closed ? END : null;
+            final Object value = buffer.get((int) seq & mask);
+            if (!lapped(c, seq)) {
+                c.next = seq + 1;
+                return value;
+            }
+        }
+    }
+
+    private Object pollBatch(final Cursor c, final int maxSize) {
+        for (;;) {
+            final boolean closed = !open;
+            if (!c.connected)
+                return END;
+            final long seq = c.next;
+            final int available = (int) Math.min(published - seq + 1, maxSize);
+            if (available <= 0)
+                return closed ? END : null;
+            final Object[] values = new Object[available];
+            for (int i = 0; i < available; i++) {
+                values[i] = buffer.get((int) (seq + i) & mask);
+            }
+            if (!lapped(c, seq)) {
+                c.next = seq + available;
+                Seq<T> batch = Seq.empty();
+                for (int i = available - 1; i >= 0; i--) {
+                    batch = batch.prepend(element(values[i]));
+                }
+                return batch;
+            }
+        }
+    }
+
+    /*
+     * Checked after reading : the producer claims a sequence before writing to its slot, so if the slot read may
+     * have been overwritten the claimed sequence is at least a full buffer ahead of it
+     */
+    private boolean lapped(final Cursor c, final long seq) {
+        final long head = claimed;
+        if (head - seq < capacity)
+            return false;
+        if (policy == SlowConsumerPolicy.DROP)
+            c.next = head - capacity + 1;
+        else
+            detach(c);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked") //the WaitStrategy only hands back the values returned by the Takeable
+    private Object take(final WaitStrategy.Takeable<Object> takeable) {
+        try {
+            return ((WaitStrategy<Object>) (WaitStrategy<?>) consumerWait).take(takeable);
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * Close this Topic, connected Streams complete once they have read all published data
+     *
+     * @return true if closed
+     */
+    @Override
+    public boolean close() {
+        open = false;
+        return true;
+    }
+
+    /**
+     * Subscribers wait for data via the consumer WaitStrategy, Continuations are not used
+     */
+    @Override
+    public void addContinuation(final Continuation cont) {
+
+    }
+
+    /**
+     * @param index Index of a connected Stream, in the order the Streams connected
+     * @return Signal tracking the number of published elements the Stream has not yet read, updated as data is published
+     */
+    @Override
+    public Signal<Integer> getSizeSignal(final int index) {
+        return cursors.getOrElse(index, null).sizeSignal;
+    }
+
+    @Override
+    public void setSizeSignal(final int index, final Signal<Integer> s) {
+        cursors.getOrElse(index, null).sizeSignal = s;
+    }
+
+    @SuppressWarnings("unchecked") //only elements of type T are written to the ring buffer
+    private static <E> E element(final Object value) {
+        return value == NULL ? null : (E) value;
+    }
+
+    static final class Cursor {
+        volatile long next;
+        volatile boolean connected = true;
+        volatile Signal<Integer> sizeSignal;
+
+        Cursor(final long next) {
+            this.next = next;
+        }
+    }
+
+    private final class CursorSpliterator<R> extends Spliterators.AbstractSpliterator<R> {
+        private final Cursor cursor;
+        private final Continueable subscription;
+        private final WaitStrategy.Takeable<Object> poll;
+
+        CursorSpliterator(final Cursor cursor, final Continueable subscription, final WaitStrategy.Takeable<Object> poll) {
+            super(Long.MAX_VALUE, IMMUTABLE | ORDERED);
+            this.cursor = cursor;
+            this.subscription = subscription;
+            this.poll = poll;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super R> action) {
+            Object next;
+            do {
+                //checked on every poll, so a closed subscription is noticed while the WaitStrategy is waiting
+                next = take(() -> subscription.closed() ? END : poll.take());
+            } while (next == null);
+            if (next == END) {
+                detach(cursor);
+                return false;
+            }
+            action.accept(element(next));
+            return true;
+        }
+    }
+
+}
@@ -3,15 +3,14 @@ package com.oath.cyclops.internal.stream;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Spliterator;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import com.oath.cyclops.internal.stream.spliterators.ClosingSpliterator;
 import com.oath.cyclops.types.stream.Connectable;
 import cyclops.reactive.ReactiveSeq;
-import cyclops.companion.Streams;
 
 public abstract class BaseConnectableImpl<T> extends IteratorHotStream<T>implements Connectable<T> {
 
@@ -51,13 +50,11 @@ public abstract class BaseConnectableImpl<T> extends IteratorHotStream<T>impleme
 
     @Override
     public ReactiveSeq<T> connect(final Queue<T> queue) {
-        connections.getAndSet(connected, queue);
-        connected++;
+        addConnection(queue);
         unpause();
-        return Streams.reactiveSeq(StreamSupport.stream(new ClosingSpliterator(
-                                                                                   Long.MAX_VALUE, queue, open),
-                                                            false),
-                                       Optional.empty());
+        final Spliterator<T> split = new ClosingSpliterator<>(
+                                                              Long.MAX_VALUE, queue, open);
+        return new OneShotStreamX<T>(split, Optional.empty()).onClose(() -> removeConnection(queue));
     }
 
 }
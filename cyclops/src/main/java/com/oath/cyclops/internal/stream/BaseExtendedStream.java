@@ -22,6 +22,9 @@ import java.util.stream.*;
  */
 public abstract class BaseExtendedStream<T> implements Unwrapable, ReactiveSeq<T>, Iterable<T>  {
 
+    //run once by close, shared with the Streams derived from this one
+    private volatile Runnable closeHandler;
+
     public abstract Stream<T> unwrapStream();
     @Override
     public final ReactiveSeq<T> parallel() {
@@ -259,13 +262,31 @@ public abstract class BaseExtendedStream<T> implements Unwrapable, ReactiveSeq<T
 
     @Override
     public ReactiveSeq<T> onClose(final Runnable closeHandler) {
-
+        final Runnable current = this.closeHandler;
+        this.closeHandler = current == null ? closeHandler : () -> {
+            try {
+                current.run();
+            } finally {
+                closeHandler.run();
+            }
+        };
         return this;
     }
 
     @Override
     public void close() {
+        final Runnable handler = closeHandler;
+        closeHandler = null;
+        if (handler != null)
+            handler.run();
+    }
 
+    /**
+     * Pass the close handlers registered with this Stream on to a Stream derived from it
+     */
+    protected <R> ReactiveSeq<R> derived(final ReactiveSeq<R> seq) {
+        final Runnable handler = closeHandler;
+        return handler == null || seq == this ? seq : seq.onClose(handler);
     }
     @Override
     public ReactiveSeq<T> xPer(final int x, final long time, final TimeUnit t) {
@@ -351,6 +372,15 @@ public abstract class BaseExtendedStream<T> implements Unwrapable, ReactiveSeq<T
 
     }
     @Override
+    public ReactiveSeq<T> distinctWindowed(final int maxSize, final long ttl, final TimeUnit unit) {
+        final long ttlNanos = ttl==Long.MAX_VALUE ? Long.MAX_VALUE : unit.toNanos(ttl);
+        return filterLazyPredicate(()->BoundedDistinct.recent(maxSize,ttlNanos));
+    }
+    @Override
+    public ReactiveSeq<T> distinctApprox(final long expectedInsertions, final double falsePositiveRate) {
+        return filterLazyPredicate(()->BoundedDistinct.bloom(expectedInsertions,falsePositiveRate));
+    }
+    @Override
     public ReactiveSeq<T> fixedDelay(final long l, final TimeUnit unit) {
         final long elapsedNanos = unit.toNanos(l);
         final long millis = elapsedNanos / 1000000;
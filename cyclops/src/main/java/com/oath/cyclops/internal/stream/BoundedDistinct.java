@@ -0,0 +1,68 @@
+package com.oath.cyclops.internal.stream;
+
+import com.oath.cyclops.util.BloomFilter;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Stateful filters for distinct operators with a bounded memory footprint, a new filter should be created for each
+ * traversal of a Stream.
+ */
+public final class BoundedDistinct {
+
+    private BoundedDistinct(){}
+
+    /**
+     * Elements are remembered until they have not been seen for ttlNanos, or until they are the least recently seen
+     * of more than maxSize remembered elements
+     */
+    public static <T> Predicate<T> recent(int maxSize, long ttlNanos){
+        if(maxSize <= 0)
+            throw new IllegalArgumentException("Max size must be positive but was " + maxSize);
+        LinkedHashMap<T, Long> seen = new LinkedHashMap<>(16, 0.75f, true);
+        return value -> {
+            long now = ttlNanos == Long.MAX_VALUE ? 0 : System.nanoTime();
+            if(ttlNanos != Long.MAX_VALUE) {
+                Iterator<Map.Entry<T, Long>> it = seen.entrySet().iterator();
+                while (it.hasNext()) {
+                    if (now - it.next().getValue() < ttlNanos)
+                        break;
+                    it.remove();
+                }
+            }
+            boolean fresh = seen.put(value, now) == null;
+            if(seen.size() > maxSize){
+                Iterator<T> it = seen.keySet().iterator();
+                it.next();
+                it.remove();
+            }
+            return fresh;
+        };
+    }
+
+    /**
+     * Bloom filter based distinct, duplicates are always removed but a small fraction (falsePositiveRate) of
+     * distinct elements are also dropped. Two filters are rotated so memory remains fixed on infinite Streams :
+     * once the active filter has seen expectedInsertions elements it is retired (but still consulted) and a new
+     * filter is started, the retired filter is discarded at the next rotation.
+     */
+    public static <T> Predicate<T> bloom(long expectedInsertions, double falsePositiveRate){
+        BloomFilter[] filters = {new BloomFilter(expectedInsertions, falsePositiveRate), null};
+        return value -> {
+            BloomFilter retired = filters[1];
+            if(retired != null && retired.mightContain(value))
+                return false;
+            BloomFilter active = filters[0];
+            if(!active.put(value))
+                return false;
+            if(active.isSaturated()){
+                filters[1] = active;
+                filters[0] = new BloomFilter(expectedInsertions, falsePositiveRate);
+            }
+            return true;
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package com.oath.cyclops.internal.stream;
+
+import com.oath.cyclops.types.reactive.BufferOverflowPolicy;
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
+
+import java.util.AbstractQueue;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Transfer queues for connections to a hot stream, each implementing a per subscriber overflow policy. A hot stream
+ * waits on a BlockingQueue that is full, and simply offers to any other Queue.
+ *
+ * @see com.oath.cyclops.types.stream.Connectable#connect(int, BufferOverflowPolicy)
+ */
+public class ConnectionQueues {
+
+    /**
+     * @param bufferSize Capacity of the queue (ignored for LATEST, which holds a single element)
+     * @param policy BLOCK, DROP, DROP_OLDEST or LATEST
+     * @return Queue implementing the policy
+     */
+    public static <T> Queue<T> queue(final int bufferSize, final BufferOverflowPolicy policy) {
+        switch (policy) {
+            case BLOCK:
+                return new ArrayBlockingQueue<>(bufferSize);
+            case DROP:
+                return new ManyToManyConcurrentArrayQueue<>(bufferSize);
+            case DROP_OLDEST:
+                return new DropOldestQueue<>(bufferSize);
+            case LATEST:
+                return new ConflatingQueue<>();
+            default:
+                throw new IllegalArgumentException(policy + " is not supported for hot stream connections, use BLOCK, DROP, DROP_OLDEST or LATEST");
+        }
+    }
+
+    /**
+     * Bounded queue that evicts its oldest element to make space for a new one
+     */
+    static class DropOldestQueue<T> extends AbstractQueue<T> {
+        private final ManyToManyConcurrentArrayQueue<T> queue;
+
+        DropOldestQueue(final int capacity) {
+            this.queue = new ManyToManyConcurrentArrayQueue<>(capacity);
+        }
+
+        @Override
+        public boolean offer(final T t) {
+            while (!queue.offer(t)) {
+                queue.poll();
+            }
+            return true;
+        }
+
+        @Override
+        public T poll() {
+            return queue.poll();
+        }
+
+        @Override
+        public T peek() {
+            return queue.peek();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return queue.iterator();
+        }
+
+        @Override
+        public int size() {
+            return queue.size();
+        }
+    }
+
+    /**
+     * Single slot queue in which each new element replaces any element that has not yet been taken
+     */
+    static class ConflatingQueue<T> extends AbstractQueue<T> {
+        private final AtomicReference<T> latest = new AtomicReference<>();
+
+        @Override
+        public boolean offer(final T t) {
+            latest.set(t);
+            return true;
+        }
+
+        @Override
+        public T poll() {
+            return latest.getAndSet(null);
+        }
+
+        @Override
+        public T peek() {
+            return latest.get();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            final T value = latest.get();
+            return value == null ? Collections.<T>emptyIterator() : Collections.singleton(value)
+                                                                               .iterator();
+        }
+
+        @Override
+        public int size() {
+            return latest.get() == null ? 0 : 1;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.oath.cyclops.internal.stream;
+
+import com.oath.cyclops.util.ExceptionSoftener;
+import cyclops.reactive.RecordSerializer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collector;
+
+/**
+ * External merge sort : data is sorted in runs of at most runSize elements, full runs are spilled to temporary
+ * files on local disk (via a {@link RecordSerializer}) and all runs are then lazily k-way merged.
+ *
+ * Spill files are deleted as soon as they have been fully merged. A merge abandoned part way through (by limit or
+ * findFirst, for example) holds its run files open until it is closed through {@link OpenMerges}.
+ */
+public final class ExternalSort<T> {
+
+    static final int MAX_FAN_IN = 64;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Comparator<? super T> comparator;
+    private final int runSize;
+    private final RecordSerializer<T> serializer;
+    private final boolean distinct;
+    private final OpenMerges open;
+
+    private final List<File> runs = new ArrayList<>();
+    private List<T> current;
+
+    public ExternalSort(Comparator<? super T> comparator, int runSize, RecordSerializer<T> serializer, boolean distinct,
+                        OpenMerges open) {
+        this.comparator = comparator;
+        this.runSize = Math.max(runSize, 1);
+        this.serializer = serializer;
+        this.distinct = distinct;
+        this.open = open;
+        this.current = new ArrayList<>(Math.min(this.runSize, 1024));
+    }
+
+    /**
+     * @param distinct If true only the first of each group of elements that compare equal is retained
+     * @param open Tracks the merges started by the collected Iterables, so they can be released if abandoned
+     * @return Collector that sorts (spilling to disk as necessary) into a single use Iterable
+     */
+    public static <T> Collector<T, ExternalSort<T>, Iterable<T>> collector(Comparator<? super T> comparator, int runSize,
+                                                                          RecordSerializer<T> serializer, boolean distinct,
+                                                                          OpenMerges open){
+        return Collector.of(() -> new ExternalSort<>(comparator, runSize, serializer, distinct, open),
+                            ExternalSort::accept,
+                            (a, b) -> {
+                                for(T next : b.finish())
+                                    a.accept(next);
+                                return a;
+                            },
+                            ExternalSort::finish);
+    }
+
+    public void accept(T value){
+        current.add(value);
+        if(current.size() >= runSize){
+            runs.add(spill(sortRun(current).iterator()));
+            current = new ArrayList<>(Math.min(runSize, 1024));
+        }
+    }
+
+    public Iterable<T> finish(){
+        List<T> last = sortRun(current);
+        current = new ArrayList<>();
+        if(runs.isEmpty())
+            return last;
+        while(runs.size() + 1 > MAX_FAN_IN){
+            List<File> batch = new ArrayList<>(runs.subList(0, MAX_FAN_IN));
+            runs.subList(0, MAX_FAN_IN).clear();
+            List<Iterator<T>> sources = new ArrayList<>();
+            for(File run : batch)
+                sources.add(new RunReader(run));
+            runs.add(0, spill(new Merge(sources)));
+        }
+        List<Iterator<T>> sources = new ArrayList<>();
+        for(File run : runs)
+            sources.add(new RunReader(run));
+        sources.add(last.iterator());
+        runs.clear();
+        Merge merge = new Merge(sources);
+        open.merges.add(merge);
+        return () -> merge;
+    }
+
+    private List<T> sortRun(List<T> run){
+        run.sort(comparator);
+        if(!distinct || run.size() < 2)
+            return run;
+        List<T> res = new ArrayList<>(run.size());
+        T last = null;
+        for(T next : run){
+            if(res.isEmpty() || comparator.compare(last, next) != 0)
+                res.add(next);
+            last = next;
+        }
+        return res;
+    }
+
+    /**
+     * Run files are a record count followed by the serialized records, the count is written once the run is complete
+     */
+    private File spill(Iterator<T> sorted){
+        try {
+            File file = File.createTempFile("cyclops-sort", ".run");
+            long written = 0;
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE))) {
+                out.writeLong(0);
+                while (sorted.hasNext()) {
+                    serializer.write(out, sorted.next());
+                    written++;
+                }
+            }
+            try (RandomAccessFile header = new RandomAccessFile(file, "rw")) {
+                header.writeLong(written);
+            }
+            return file;
+        }catch(IOException e){
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    private final class RunReader implements Iterator<T> {
+        private final File file;
+        private final DataInputStream in;
+        private long remaining;
+        private boolean closed;
+
+        RunReader(File file) {
+            this.file = file;
+            try {
+                this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+                this.remaining = in.readLong();
+            } catch (IOException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+            if(remaining == 0)
+                close();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            if(remaining <= 0)
+                throw new NoSuchElementException();
+            try {
+                T next = serializer.read(in);
+                if(--remaining == 0)
+                    close();
+                return next;
+            } catch (IOException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+
+        void close(){
+            if(closed)
+                return;
+            closed = true;
+            remaining = 0;
+            try {
+                in.close();
+            } catch (IOException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }finally {
+                file.delete();
+            }
+        }
+    }
+
+    private final class Cursor {
+        final Iterator<T> source;
+        final int index;
+        T head;
+
+        Cursor(Iterator<T> source, int index) {
+            this.source = source;
+            this.index = index;
+        }
+    }
+
+    /**
+     * Stable k-way merge, ties are broken by run order
+     */
+    private final class Merge implements Iterator<T> {
+        private final PriorityQueue<Cursor> queue;
+        private boolean hasLast;
+        private T last;
+        private boolean ready;
+        private T next;
+
+        Merge(List<Iterator<T>> sources) {
+            queue = new PriorityQueue<>(Math.max(sources.size(), 1), (a, b) -> {
+                int res = comparator.compare(a.head, b.head);
+                return res != 0 ? res : Integer.compare(a.index, b.index);
+            });
+            for(int i = 0; i < sources.size(); i++){
+                Cursor cursor = new Cursor(sources.get(i), i);
+                if(cursor.source.hasNext()){
+                    cursor.head = cursor.source.next();
+                    queue.add(cursor);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while(!ready && !queue.isEmpty()){
+                Cursor cursor = queue.poll();
+                T value = cursor.head;
+                if(cursor.source.hasNext()){
+                    cursor.head = cursor.source.next();
+                    queue.add(cursor);
+                }
+                if(distinct && hasLast && comparator.compare(last, value) == 0)
+                    continue;
+                hasLast = true;
+                last = value;
+                next = value;
+                ready = true;
+            }
+            if(!ready)
+                open.merges.remove(this);
+            return ready;
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            ready = false;
+            T res = next;
+            next = null;
+            return res;
+        }
+
+        void close(){
+            open.merges.remove(this);
+            while(!queue.isEmpty()){
+                Iterator<T> source = queue.poll().source;
+                if(source instanceof ExternalSort<?>.RunReader)
+                    ((ExternalSort<?>.RunReader)source).close();
+            }
+            ready = false;
+            next = null;
+        }
+    }
+
+    /**
+     * The merges in progress for a sorted Stream. Closing releases any that were abandoned part way through, closing
+     * and deleting their remaining run files.
+     */
+    public static final class OpenMerges implements Runnable {
+        private final Set<ExternalSort<?>.Merge> merges = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void run() {
+            for(ExternalSort<?>.Merge merge : merges)
+                merge.close();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.oath.cyclops.internal.stream;
+
+import cyclops.data.HashMap;
+import cyclops.data.Vector;
+import cyclops.function.Monoid;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Grouping Collectors for ReactiveSeq.
+ *
+ * Groups are accumulated in a java.util.HashMap of mutable per key builders (rather than by path copying a
+ * persistent HashMap per element) and frozen into a persistent HashMap once all elements have been seen.
+ * The combiners preserve encounter order, so the Collectors can also be used with (ordered) parallel Streams.
+ * A group with more elements than a Vector can hold fails with an IndexOutOfBoundsException.
+ */
+public final class Groupings {
+
+    private Groupings(){}
+
+    public static <T, K> Collector<T, ?, HashMap<K, Vector<T>>> groupBy(Function<? super T, ? extends K> classifier){
+        return Collector.<T, Map<K, Vector.Builder<T>>, HashMap<K, Vector<T>>>of(java.util.HashMap::new,
+            (m, t) -> m.computeIfAbsent(classifier.apply(t), k -> Vector.builder()).append(t),
+            (a, b) -> {
+                b.forEach((k, v) -> {
+                    Vector.Builder<T> left = a.putIfAbsent(k, v);
+                    if (left != null)
+                        left.appendAll(v.build());
+                });
+                return a;
+            },
+            m -> {
+                HashMap.Builder<K, Vector<T>> res = HashMap.builder();
+                m.forEach((k, v) -> res.put(k, v.build()));
+                return res.build();
+            });
+    }
+
+    public static <T, K, R> Collector<T, ?, HashMap<K, R>> groupByReduce(Function<? super T, ? extends K> classifier,
+                                                                         Function<? super T, ? extends R> mapper,
+                                                                         Monoid<R> monoid){
+        return Collector.<T, Map<K, Accumulator<R>>, HashMap<K, R>>of(java.util.HashMap::new,
+            (m, t) -> {
+                Accumulator<R> acc = m.computeIfAbsent(classifier.apply(t), k -> new Accumulator<>(monoid.zero()));
+                acc.value = monoid.apply(acc.value, mapper.apply(t));
+            },
+            (a, b) -> {
+                b.forEach((k, v) -> {
+                    Accumulator<R> left = a.putIfAbsent(k, v);
+                    if (left != null)
+                        left.value = monoid.apply(left.value, v.value);
+                });
+                return a;
+            },
+            m -> {
+                HashMap.Builder<K, R> res = HashMap.builder();
+                m.forEach((k, v) -> res.put(k, v.value));
+                return res.build();
+            });
+    }
+
+    private static final class Accumulator<R> {
+        R value;
+
+        Accumulator(R value) {
+            this.value = value;
+        }
+    }
+}
@@ -1,27 +1,31 @@
 package com.oath.cyclops.internal.stream;
 
-import java.util.Date;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import com.oath.cyclops.async.HashedWheelTimer;
+import com.oath.cyclops.async.SharedTimer;
 import com.oath.cyclops.util.ExceptionSoftener;
-import cyclops.companion.Eithers;
-import cyclops.function.FluentFunctions;
-import com.oath.cyclops.util.stream.scheduling.cron.CronExpression;
+import com.oath.cyclops.util.stream.scheduling.cron.CronSchedule;
 
 public class IteratorHotStream<T> {
 
-    protected final AtomicReferenceArray<Queue<T>> connections = new AtomicReferenceArray<>(
-                                                                                            10);
+    private static final Queue<?>[] NONE = new Queue<?>[0];
+
+    /**
+     * Copy on write registry of connected queues, emission reads a snapshot without locking
+     */
+    protected final AtomicReference<Queue<T>[]> connections = new AtomicReference<>(none());
     protected final AtomicBoolean open = new AtomicBoolean(
                                                            true);
-    protected volatile int connected = 0;
+    protected volatile HashedWheelTimer.Handle scheduled;
     protected final AtomicReference<CompletableFuture<Void>> pause = new AtomicReference<>(
                                                                                            CompletableFuture.<Void> completedFuture(null));
 
@@ -40,96 +44,108 @@ public class IteratorHotStream<T> {
         pause.set(new CompletableFuture<Void>());
     }
 
-    protected void scheduleInternal(final Iterator<T> it, final String cron, final ScheduledExecutorService ex) {
-        final Date now = new Date();
-        final Date d = ExceptionSoftener.softenSupplier(() -> new CronExpression(
-                                                                                 cron))
-                                        .get()
-                                        .getNextValidTimeAfter(now);
-
-        final long delay = d.getTime() - now.getTime();
-
-        ex.schedule(() -> {
-            synchronized (it) {
-                if (it.hasNext()) {
-                    try {
-                        final T next = it.next();
-                        final int local = connected;
-
-                        for (int i = 0; i < local; i++) {
+    /**
+     * @return Number of currently connected queues
+     */
+    public int connectionCount() {
+        return connections.get().length;
+    }
 
-                            Eithers.blocking(connections.get(i))
-                                      .fold(FluentFunctions.ofChecked(in -> {
-                                in.put(next);
-                                return true;
-                            }), q -> q.offer(next));
-                        }
+    @SuppressWarnings("unchecked") //the shared empty array never holds an element
+    private static <T> Queue<T>[] none() {
+        return (Queue<T>[]) NONE;
+    }
 
-                    } finally {
+    protected void addConnection(final Queue<T> queue) {
+        Queue<T>[] current;
+        Queue<T>[] next;
+        do {
+            current = connections.get();
+            next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = queue;
+        } while (!connections.compareAndSet(current, next));
+    }
 
-                        scheduleInternal(it, cron, ex);
+    protected void removeConnection(final Queue<T> queue) {
+        Queue<T>[] current;
+        Queue<T>[] next;
+        do {
+            current = connections.get();
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == queue) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0)
+                return;
+            next = current.length == 1 ? IteratorHotStream.<T> none() : Arrays.copyOf(current, current.length - 1);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+        } while (!connections.compareAndSet(current, next));
+    }
 
-                    }
-                } else {
-                    open.set(false);
+    /**
+     * Deliver an element to every connected queue. The overflow behaviour of each connection is determined by its
+     * queue : a BlockingQueue is waited on (holding up the other connections), other queues may drop or conflate.
+     */
+    protected void emit(final T next) {
+        for (final Queue<T> queue : connections.get()) {
+            if (queue instanceof BlockingQueue) {
+                try {
+                    ((BlockingQueue<T>) queue).put(next);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread()
+                          .interrupt();
+                    throw ExceptionSoftener.throwSoftenedException(e);
                 }
+            } else {
+                queue.offer(next);
             }
-        } , delay, TimeUnit.MILLISECONDS);
+        }
+    }
 
+    protected void scheduleInternal(final Iterator<T> it, final String cron, final ScheduledExecutorService ex) {
+        scheduled(SharedTimer.instance()
+                             .schedule(CronSchedule.of(cron), () -> emitNext(it), ex));
     }
 
     protected IteratorHotStream<T> scheduleFixedDelayInternal(final Iterator<T> it, final long delay, final ScheduledExecutorService ex) {
-        ex.scheduleWithFixedDelay(() -> {
-            synchronized (it) {
-                if (it.hasNext()) {
-
-                    final T next = it.next();
-
-                    final int local = connected;
-
-                    for (int i = 0; i < local; i++) {
-
-                        Eithers.blocking(connections.get(i))
-                                  .fold(FluentFunctions.ofChecked(in -> {
-                            in.put(next);
-                            return true;
-                        }), q -> q.offer(next));
-
-                    }
-
-                } else {
-                    open.set(false);
-                }
-            }
-        } , delay, delay, TimeUnit.MILLISECONDS);
+        scheduled(SharedTimer.instance()
+                             .scheduleWithFixedDelay(() -> emitNext(it), delay, delay, TimeUnit.MILLISECONDS, ex));
         return this;
 
     }
 
     protected IteratorHotStream<T> scheduleFixedRate(final Iterator<T> it, final long rate, final ScheduledExecutorService ex) {
-        ex.scheduleAtFixedRate(() -> {
-            synchronized (it) {
-                if (it.hasNext()) {
-
-                    final T next = it.next();
-
-                    final int local = connected;
-
-                    for (int i = 0; i < local; i++) {
+        scheduled(SharedTimer.instance()
+                             .scheduleAtFixedRate(() -> emitNext(it), 0, rate, TimeUnit.MILLISECONDS, ex));
+        return this;
 
-                        Eithers.blocking(connections.get(i))
-                                  .fold(FluentFunctions.ofChecked(in -> {
-                            in.put(next);
-                            return true;
-                        }), q -> q.offer(next));
-                    }
+    }
 
-                } else {
-                    open.set(false);
-                }
-            }
-        } , 0, rate, TimeUnit.MILLISECONDS);
-        return this;
+    /*
+     * The first run may exhaust the iterator before the handle is published, in which case emitNext finds no handle to
+     * cancel and it is cancelled here instead
+     */
+    private void scheduled(final HashedWheelTimer.Handle handle) {
+        scheduled = handle;
+        if (!open.get())
+            handle.cancel();
+    }
 
+    /*
+     * Runs of a scheduled task never overlap (the next run is only scheduled once the previous one completes), so the
+     * iterator is advanced by one thread at a time without locking
+     */
+    private void emitNext(final Iterator<T> it) {
+        if (it.hasNext()) {
+            emit(it.next());
+        } else {
+            open.set(false);
+            final HashedWheelTimer.Handle handle = scheduled;
+            if (handle != null)
+                handle.cancel();
+        }
     }
 }
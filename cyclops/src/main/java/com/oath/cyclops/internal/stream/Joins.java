@@ -0,0 +1,374 @@
+package com.oath.cyclops.internal.stream;
+
+import com.oath.cyclops.internal.stream.spliterators.push.IterableSourceOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.MergeJoinOperator;
+import com.oath.cyclops.internal.stream.spliterators.push.Operator;
+import cyclops.control.Either;
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Key based joins for ReactiveSeq.
+ *
+ * Hash joins build an index over the second (build) stream once and stream the first (probe) stream against it,
+ * for push based streams the index is built asynchronously before the probe stream is subscribed to.
+ */
+public final class Joins {
+
+    private Joins(){}
+
+    public static <T, U, K> Collector<U, ?, Map<K, List<U>>> index(Function<? super U, ? extends K> key){
+        return Collector.<U, Map<K, List<U>>>of(HashMap::new,
+                                                (m, u) -> m.computeIfAbsent(key.apply(u), k -> new ArrayList<>(1)).add(u),
+                                                (a, b) -> {
+                                                    b.forEach((k, v) -> a.computeIfAbsent(k, x -> new ArrayList<>(v.size())).addAll(v));
+                                                    return a;
+                                                });
+    }
+
+    /**
+     * Build an index over the build stream with the supplied Collector, then apply fn to the index to create the
+     * joined Stream. The index is only built once the returned Stream is traversed (or subscribed to).
+     */
+    public static <T, U, A, R> ReactiveSeq<R> withIndex(ReactiveSeq<T> probe, ReactiveSeq<U> build,
+                                                        Collector<? super U, ?, A> collector,
+                                                        Function<? super A, ? extends ReactiveSeq<R>> fn){
+        if(probe instanceof ReactiveStreamX)
+            return Spouts.from(build).collectAll(collector).mergeMap(fn);
+        return ReactiveSeq.deferFromStream(() -> fn.apply(build.collect(collector)));
+    }
+
+    public static <T, U, K> ReactiveSeq<Tuple2<T, U>> innerJoin(ReactiveSeq<T> probe, ReactiveSeq<U> build,
+                                                                Function<? super T, ? extends K> key,
+                                                                Function<? super U, ? extends K> buildKey){
+        return withIndex(probe, build, index(buildKey), index -> probe.concatMap(t -> {
+            List<U> matches = index.get(key.apply(t));
+            if(matches == null)
+                return Collections.emptyList();
+            List<Tuple2<T, U>> res = new ArrayList<>(matches.size());
+            for(U u : matches)
+                res.add(Tuple.tuple(t, u));
+            return res;
+        }));
+    }
+
+    public static <T, U, K> ReactiveSeq<Tuple2<T, Option<U>>> leftOuterJoin(ReactiveSeq<T> probe, ReactiveSeq<U> build,
+                                                                            Function<? super T, ? extends K> key,
+                                                                            Function<? super U, ? extends K> buildKey){
+        return withIndex(probe, build, index(buildKey), index -> probe.concatMap(t -> {
+            List<U> matches = index.get(key.apply(t));
+            if(matches == null)
+                return Collections.singletonList(Tuple.tuple(t, Option.none()));
+            List<Tuple2<T, Option<U>>> res = new ArrayList<>(matches.size());
+            for(U u : matches)
+                res.add(Tuple.tuple(t, Option.some(u)));
+            return res;
+        }));
+    }
+
+    public static <T, U, K> ReactiveSeq<T> semiJoin(ReactiveSeq<T> probe, ReactiveSeq<U> build,
+                                                    Function<? super T, ? extends K> key,
+                                                    Function<? super U, ? extends K> buildKey, boolean anti){
+        Collector<U, ?, Set<K>> keys = Collector.<U, Set<K>>of(HashSet::new,
+                                                               (s, u) -> s.add(buildKey.apply(u)),
+                                                               (a, b) -> { a.addAll(b); return a; });
+        return withIndex(probe, build, keys, index -> probe.filter(t -> index.contains(key.apply(t)) != anti));
+    }
+
+    /**
+     * Merge two push based Streams, emitting elements from each as they arrive.
+     */
+    @SuppressWarnings("unchecked") //the generic array is only read by the merging operator
+    public static <T> ReactiveSeq<T> merge(ReactiveSeq<T> first, ReactiveSeq<T> second){
+        return Spouts.of(first, second).mergeMap(2, i -> i);
+    }
+
+    /**
+     * Sort-merge join, pulling from both Streams via their Iterators when both are synchronous. If either Stream is
+     * push based, both are subscribed to and joined by a {@link MergeJoinOperator}, which only requests from one side
+     * at a time.
+     */
+    public static <T, U, K> ReactiveSeq<Tuple2<T, U>> mergeJoin(ReactiveSeq<T> left, ReactiveSeq<U> right,
+                                                                Function<? super T, ? extends K> leftKey,
+                                                                Function<? super U, ? extends K> rightKey,
+                                                                Comparator<? super K> comparator){
+        if(!(left instanceof ReactiveStreamX) && !(right instanceof ReactiveStreamX))
+            return ReactiveSeq.fromIterable(() -> new MergeJoinIterator<T, U, K>(left.iterator(), right.iterator(),
+                                                                                 leftKey, rightKey, comparator));
+        return new ReactiveStreamX<>(new MergeJoinOperator<>(operator(left), operator(right), leftKey, rightKey, comparator),
+                                     ReactiveStreamX.Type.BACKPRESSURE);
+    }
+
+    private static <T> Operator<T> operator(ReactiveSeq<T> seq){
+        if(seq instanceof ReactiveStreamX)
+            return ((ReactiveStreamX<T>) seq).source;
+        return new IterableSourceOperator<>(seq);
+    }
+
+    /**
+     * Inner join of two Iterators ordered (ascending, according to the supplied Comparator) on the join key.
+     * Only the current run of equal keys from the right hand side is buffered.
+     */
+    public static final class MergeJoinIterator<T, U, K> implements Iterator<Tuple2<T, U>> {
+        private final Iterator<T> left;
+        private final Iterator<U> right;
+        private final Function<? super T, ? extends K> leftKey;
+        private final Function<? super U, ? extends K> rightKey;
+        private final Comparator<? super K> comparator;
+
+        private final List<U> run = new ArrayList<>();
+        private K runKey;
+        private boolean hasRun;
+        private U nextRight;
+        private boolean hasNextRight;
+        private T current;
+        private boolean hasCurrent;
+        private int runIndex;
+        private boolean ready;
+
+        public MergeJoinIterator(Iterator<T> left, Iterator<U> right, Function<? super T, ? extends K> leftKey,
+                                 Function<? super U, ? extends K> rightKey, Comparator<? super K> comparator) {
+            this.left = left;
+            this.right = right;
+            this.leftKey = leftKey;
+            this.rightKey = rightKey;
+            this.comparator = comparator;
+            advanceRight();
+        }
+
+        private void advanceRight(){
+            hasNextRight = right.hasNext();
+            nextRight = hasNextRight ? right.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if(ready)
+                return true;
+            if(hasCurrent && runIndex < run.size())
+                return ready = true;
+            while(left.hasNext()){
+                current = left.next();
+                hasCurrent = true;
+                K key = leftKey.apply(current);
+                if(!hasRun || comparator.compare(runKey, key) != 0)
+                    loadRun(key);
+                runIndex = 0;
+                if(!run.isEmpty())
+                    return ready = true;
+            }
+            hasCurrent = false;
+            return false;
+        }
+
+        private void loadRun(K key){
+            run.clear();
+            while(hasNextRight && comparator.compare(rightKey.apply(nextRight), key) < 0)
+                advanceRight();
+            while(hasNextRight && comparator.compare(rightKey.apply(nextRight), key) == 0){
+                run.add(nextRight);
+                advanceRight();
+            }
+            runKey = key;
+            hasRun = true;
+        }
+
+        @Override
+        public Tuple2<T, U> next() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            ready = false;
+            return Tuple.tuple(current, run.get(runIndex++));
+        }
+    }
+
+    /**
+     * Push based sort-merge join : elements from either side are accepted in the order they arrive, left elements are
+     * buffered until the run of equal keys on the right hand side is known to be complete.
+     *
+     * The join places no bound on what it buffers itself, callers apply back-pressure by only supplying a left element
+     * while {@link #needsLeft()} and a right element while {@link #needsRight()}. Then at most one element is pending
+     * on each side, in addition to the current run of equal right keys.
+     */
+    public static final class MergeJoin<T, U, K> {
+        private final Function<? super T, ? extends K> leftKey;
+        private final Function<? super U, ? extends K> rightKey;
+        private final Comparator<? super K> comparator;
+
+        private final ArrayDeque<T> lefts = new ArrayDeque<>();
+        private final ArrayDeque<U> rights = new ArrayDeque<>();
+        private boolean leftDone;
+        private boolean rightDone;
+
+        private final List<U> run = new ArrayList<>();
+        private K runKey;
+        private boolean hasRun;
+        private boolean runComplete;
+
+        public MergeJoin(Function<? super T, ? extends K> leftKey, Function<? super U, ? extends K> rightKey,
+                         Comparator<? super K> comparator) {
+            this.leftKey = leftKey;
+            this.rightKey = rightKey;
+            this.comparator = comparator;
+        }
+
+        public synchronized List<Tuple2<T, U>> left(T t){
+            lefts.add(t);
+            return drain();
+        }
+
+        public synchronized List<Tuple2<T, U>> right(U u){
+            rights.add(u);
+            return drain();
+        }
+
+        public synchronized List<Tuple2<T, U>> leftComplete(){
+            leftDone = true;
+            return drain();
+        }
+
+        public synchronized List<Tuple2<T, U>> rightComplete(){
+            rightDone = true;
+            return drain();
+        }
+
+        /**
+         * @return true if no left element is waiting to be joined
+         */
+        public synchronized boolean needsLeft(){
+            return lefts.isEmpty() && !leftDone;
+        }
+
+        /**
+         * @return true if the waiting left element can't be joined until the next right element arrives
+         */
+        public synchronized boolean needsRight(){
+            return !lefts.isEmpty() && rights.isEmpty() && !rightDone;
+        }
+
+        /**
+         * @return true once no further pairs can be produced
+         */
+        public synchronized boolean isComplete(){
+            if(!lefts.isEmpty())
+                return false;
+            return leftDone || (rightDone && rights.isEmpty() && run.isEmpty());
+        }
+
+        private List<Tuple2<T, U>> drain(){
+            List<Tuple2<T, U>> res = null;
+            while(!lefts.isEmpty()){
+                T current = lefts.peek();
+                K key = leftKey.apply(current);
+                if(!hasRun || comparator.compare(runKey, key) != 0){
+                    run.clear();
+                    runKey = key;
+                    hasRun = true;
+                    runComplete = false;
+                }
+                if(!runComplete){
+                    while(!rights.isEmpty() && comparator.compare(rightKey.apply(rights.peek()), key) < 0)
+                        rights.poll();
+                    while(!rights.isEmpty() && comparator.compare(rightKey.apply(rights.peek()), key) == 0)
+                        run.add(rights.poll());
+                    if(rights.isEmpty() && !rightDone)
+                        break;
+                    runComplete = true;
+                }
+                lefts.poll();
+                if(!run.isEmpty()){
+                    if(res == null)
+                        res = new ArrayList<>(run.size());
+                    for(U u : run)
+                        res.add(Tuple.tuple(current, u));
+                }
+            }
+            return res == null ? Collections.emptyList() : res;
+        }
+    }
+
+    /**
+     * Symmetric hash join over count based windows : each element is joined against the most recent windowSize
+     * elements of the other Stream, so memory use is bounded however long either Stream runs.
+     */
+    public static final class WindowedJoin<T, U, K> {
+        private final Function<? super T, ? extends K> leftKey;
+        private final Function<? super U, ? extends K> rightKey;
+        private final int windowSize;
+
+        private final Window<T, K> lefts = new Window<>();
+        private final Window<U, K> rights = new Window<>();
+
+        public WindowedJoin(Function<? super T, ? extends K> leftKey, Function<? super U, ? extends K> rightKey, int windowSize) {
+            this.leftKey = leftKey;
+            this.rightKey = rightKey;
+            this.windowSize = Math.max(windowSize, 1);
+        }
+
+        public synchronized List<Tuple2<T, U>> accept(Either<T, U> next){
+            return next.fold(t -> {
+                ArrayDeque<Entry<U, K>> matches = rights.index.get(lefts.add(leftKey.apply(t), t, windowSize));
+                if(matches == null)
+                    return Collections.<Tuple2<T, U>>emptyList();
+                List<Tuple2<T, U>> res = new ArrayList<>(matches.size());
+                for(Entry<U, K> u : matches)
+                    res.add(Tuple.tuple(t, u.value));
+                return res;
+            }, u -> {
+                ArrayDeque<Entry<T, K>> matches = lefts.index.get(rights.add(rightKey.apply(u), u, windowSize));
+                if(matches == null)
+                    return Collections.<Tuple2<T, U>>emptyList();
+                List<Tuple2<T, U>> res = new ArrayList<>(matches.size());
+                for(Entry<T, K> t : matches)
+                    res.add(Tuple.tuple(t.value, u));
+                return res;
+            });
+        }
+
+        private static final class Entry<E, K> {
+            final K key;
+            final E value;
+
+            Entry(K key, E value) {
+                this.key = key;
+                this.value = value;
+            }
+        }
+
+        private static final class Window<E, K> {
+            final ArrayDeque<Entry<E, K>> order = new ArrayDeque<>();
+            final Map<K, ArrayDeque<Entry<E, K>>> index = new HashMap<>();
+
+            K add(K key, E value, int windowSize){
+                if(order.size() >= windowSize){
+                    Entry<E, K> oldest = order.poll();
+                    ArrayDeque<Entry<E, K>> bucket = index.get(oldest.key);
+                    bucket.poll();
+                    if(bucket.isEmpty())
+                        index.remove(oldest.key);
+                }
+                Entry<E, K> entry = new Entry<>(key, value);
+                order.add(entry);
+                index.computeIfAbsent(key, k -> new ArrayDeque<>(1)).add(entry);
+                return key;
+            }
+        }
+    }
+}
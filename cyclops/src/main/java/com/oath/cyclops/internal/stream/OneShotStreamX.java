@@ -163,12 +163,12 @@ public class OneShotStreamX<T> extends SpliteratorBasedStream<T> {
 
     @Override
     <X> ReactiveSeq<X> createSeq(Stream<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new OneShotStreamX<X>(stream,reversible);
+        return derived(new OneShotStreamX<X>(stream,reversible));
     }
 
     @Override
     <X> ReactiveSeq<X> createSeq(Spliterator<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new OneShotStreamX<X>(stream,reversible);
+        return derived(new OneShotStreamX<X>(stream,reversible));
     }
 
     Spliterator<T> get() {
@@ -12,6 +12,8 @@ import com.oath.cyclops.util.ExceptionSoftener;
 import com.oath.cyclops.internal.stream.spliterators.push.*;
 import cyclops.control.Future;
 import com.oath.cyclops.async.QueueFactories;
+import com.oath.cyclops.async.RateLimiter;
+import com.oath.cyclops.async.SharedTimer;
 import com.oath.cyclops.async.adapters.QueueFactory;
 import com.oath.cyclops.async.adapters.Signal;
 import com.oath.cyclops.async.adapters.Topic;
@@ -39,6 +41,7 @@ import org.reactivestreams.Subscription;
 
 
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -137,11 +140,13 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
     }
 
     <X> ReactiveStreamX<X> createSeq(Operator<X> stream) {
-        return new ReactiveStreamX<X>(stream, defaultErrorHandler, async);
+        return createSeq(stream, async);
     }
 
     <X> ReactiveStreamX<X> createSeq(Operator<X> stream, Type async) {
-        return new ReactiveStreamX<X>(stream, defaultErrorHandler, async);
+        final ReactiveStreamX<X> seq = new ReactiveStreamX<X>(stream, defaultErrorHandler, async);
+        derived(seq);
+        return seq;
     }
 
 
@@ -383,8 +388,10 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public final <R> ReactiveSeq<R> map(final Function<? super T, ? extends R> fn) {
-
-
+        if(source instanceof ChunkedOperator)
+            return createSeq(((ChunkedOperator<?,T>)source).map(fn));
+        if(FusedOperator.isFusable(source))
+            return createSeq(FusedOperator.fuse(source).map(fn));
         return createSeq(new MapOperator<T, R>(this.source, fn));
     }
 
@@ -421,6 +428,10 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public final ReactiveSeq<T> filter(final Predicate<? super T> fn) {
+        if(source instanceof ChunkedOperator)
+            return createSeq(((ChunkedOperator<?,T>)source).filter(fn));
+        if(FusedOperator.isFusable(source))
+            return createSeq(FusedOperator.fuse(source).filter(fn));
         return createSeq(new FilterOperator<T>(source, fn));
 
     }
@@ -465,8 +476,8 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         if (stream instanceof ReactiveSeq)
             return (ReactiveSeq) stream;
         if (stream instanceof Iterable)
-            return new ReactiveStreamX<>(new IterableSourceOperator<>((Iterable<R>) stream));
-        return new ReactiveStreamX<>(new SpliteratorToOperator<>(stream.spliterator()));
+            return derived(new ReactiveStreamX<>(new IterableSourceOperator<>((Iterable<R>) stream)));
+        return derived(new ReactiveStreamX<>(new SpliteratorToOperator<>(stream.spliterator())));
     }
 
     @Override
@@ -1115,6 +1126,13 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         return createSeq(new SkipOperator<>(source, num));
     }
 
+    @Override
+    public ReactiveSeq<T> rateLimit(RateLimiter limiter, ToLongFunction<? super T> weigher) {
+        //delayed elements are emitted from another thread so we force onto the async path
+        return createSeq(new RateLimitingOperator<>(source, limiter, weigher, SharedTimer.instance(), ForkJoinPool.commonPool()),
+                         async == SYNC ? BACKPRESSURE : async);
+    }
+
     @Override
     public ReactiveSeq<T> cycle() {
 
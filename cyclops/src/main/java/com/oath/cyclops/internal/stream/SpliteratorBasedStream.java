@@ -223,6 +223,8 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
 
     @Override
     public ReactiveSeq<T> skip(final long num) {
+        if(FusedSpliterator.isFusable(stream))
+            return createSeq(FusedSpliterator.fuse(stream).skip(num), reversible);
         return createSeq(new SkipSpliterator<>(get(),num), reversible);
     }
 
@@ -242,7 +244,8 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
 
     @Override
     public ReactiveSeq<T> limit(final long num) {
-
+        if(FusedSpliterator.isFusable(stream))
+            return createSeq(FusedSpliterator.fuse(stream).limit(num), reversible);
         return createSeq(new LimitSpliterator<T>(get(),num), reversible);
     }
 
@@ -288,7 +291,7 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
     @Override
     public final Optional<T> reduce(final BinaryOperator<T> accumulator) {
         Object[] result = {null};
-        stream.forEachRemaining(e->{
+        copy().forEachRemaining(e->{
             if(result[0]==null)
                 result[0]=e;
             else{
@@ -310,7 +313,9 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
 
     @Override
     public final <R> ReactiveSeq<R> map(final Function<? super T, ? extends R> fn) {
-
+        if(this.stream instanceof FusedSpliterator || this.stream instanceof FilteringSpliterator){
+            return createSeq(FusedSpliterator.fuse(stream).map(fn),reversible);
+        }
         if(this.stream instanceof ComposableFunction){
             ComposableFunction f = (ComposableFunction)stream;
             return createSeq(f.compose(fn),reversible);
@@ -383,6 +388,8 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
     }
     @Override
     public final ReactiveSeq<T> filter(final Predicate<? super T> fn) {
+        if(this.stream instanceof FusedSpliterator || this.stream instanceof MappingSpliterator)
+            return createSeq(FusedSpliterator.fuse(stream).filter(fn), reversible);
         return createSeq(new FilteringSpliterator<T>(get(),fn).compose(), reversible);
 
     }
@@ -413,7 +420,7 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
     public long count() {
 
         long[] result = {0};
-        stream.forEachRemaining(t -> result[0]++);
+        copy().forEachRemaining(t -> result[0]++);
         return result[0];
 
 
@@ -47,12 +47,12 @@ public class StreamX<T> extends SpliteratorBasedStream<T> {
 
     @Override
     <X> ReactiveSeq<X> createSeq(Stream<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new StreamX<X>(stream,reversible);
+        return derived(new StreamX<X>(stream,reversible));
     }
 
     @Override
     <X> ReactiveSeq<X> createSeq(Spliterator<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new StreamX<X>(stream,reversible);
+        return derived(new StreamX<X>(stream,reversible));
     }
 
 
@@ -0,0 +1,130 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Applies a run of map, filter, skip and limit stages to a source Spliterator in a single loop.
+ *
+ * Chains that mix these operators (e.g. map, filter, map, peek, limit) are collapsed into one FusedSpliterator,
+ * rather than a nested chain of MappingSpliterator, FilteringSpliterator and LimitSpliterator instances.
+ */
+public class FusedSpliterator<T,R> implements CopyableSpliterator<R> {
+
+    final Spliterator<T> source;
+    final FusedStages stages;
+    private final FusedStages.Traversal traversal;
+    private Object next;
+    private final Consumer<T> capture;
+
+    public FusedSpliterator(Spliterator<T> source, FusedStages stages) {
+        this.source = source;
+        this.stages = stages;
+        this.traversal = stages.traversal();
+        this.capture = t -> next = traversal.apply(t);
+    }
+
+    /**
+     * @return true if the supplied Spliterator can be fused with further stages
+     */
+    public static boolean isFusable(Spliterator<?> split){
+        return split instanceof FusedSpliterator || split instanceof MappingSpliterator
+                || split instanceof FilteringSpliterator;
+    }
+
+    /**
+     * Convert a fusable Spliterator (see {@link #isFusable(Spliterator)}) into a FusedSpliterator
+     */
+    public static <T> FusedSpliterator<?,T> fuse(Spliterator<T> split){
+        if(split instanceof FusedSpliterator)
+            return (FusedSpliterator<?,T>)split;
+        if(split instanceof MappingSpliterator){
+            MappingSpliterator<?,T> mapping = (MappingSpliterator<?,T>)split;
+            return new FusedSpliterator<>(CopyableSpliterator.copy(mapping.source),FusedStages.empty().map(mapping.mapper));
+        }
+        FilteringSpliterator<T> filtering = (FilteringSpliterator<T>)split;
+        return new FusedSpliterator<>(CopyableSpliterator.copy(filtering.source),FusedStages.empty().filter(filtering.mapper));
+    }
+
+    public <R2> FusedSpliterator<T,R2> map(Function<? super R, ? extends R2> fn){
+        return new FusedSpliterator<>(CopyableSpliterator.copy(source),stages.map(fn));
+    }
+
+    public FusedSpliterator<T,R> filter(Predicate<? super R> predicate){
+        return new FusedSpliterator<>(CopyableSpliterator.copy(source),stages.filter(predicate));
+    }
+
+    public FusedSpliterator<T,R> skip(long n){
+        return new FusedSpliterator<>(CopyableSpliterator.copy(source),stages.skip(n));
+    }
+
+    public FusedSpliterator<T,R> limit(long n){
+        return new FusedSpliterator<>(CopyableSpliterator.copy(source),stages.limit(n));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super R> action) {
+        Consumer<T> sink = t -> {
+            Object value = traversal.apply(t);
+            if(value != FusedStages.DROPPED)
+                action.accept(FusedStages.<R>emitted(value));
+        };
+        if(!stages.isPositional()){
+            source.forEachRemaining(sink);
+            return;
+        }
+        while(!traversal.isDone() && source.tryAdvance(sink)){
+
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        while(!traversal.isDone()){
+            next = FusedStages.DROPPED;
+            if(!source.tryAdvance(capture))
+                return false;
+            if(next != FusedStages.DROPPED){
+                R value = FusedStages.emitted(next);
+                next = null;
+                action.accept(value);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        if(stages.isPositional())
+            return null;
+        Spliterator<T> prefix = source.trySplit();
+        return prefix == null ? null : new FusedSpliterator<>(prefix,stages);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        if(stages.isSizePreserving())
+            return source.characteristics() & (Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED);
+        return source.characteristics() & Spliterator.ORDERED;
+    }
+
+    @Override
+    public Spliterator<R> copy() {
+        return new FusedSpliterator<>(CopyableSpliterator.copy(source),stages);
+    }
+
+    /**
+     * @return A FusedSpliterator applying the same stages to another source
+     */
+    FusedSpliterator<T,R> withSource(Spliterator<T> split){
+        return new FusedSpliterator<>(split,stages);
+    }
+}
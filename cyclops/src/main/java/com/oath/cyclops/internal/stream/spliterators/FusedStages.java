@@ -0,0 +1,194 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An immutable run of map, filter, skip and limit stages that are executed together in a single loop, rather than
+ * as a chain of nested Spliterators / Operators (each with its own tryAdvance or onNext call site).
+ *
+ * Adjacent stages of the same kind are collapsed as they are appended (maps are composed, predicates are and-ed,
+ * skips are summed and the smallest limit is kept).
+ */
+public final class FusedStages {
+
+    static final int MAP = 0;
+    static final int FILTER = 1;
+    static final int SKIP = 2;
+    static final int LIMIT = 3;
+
+    /**
+     * Returned by {@link Traversal#apply(Object)} when an element is removed by a filter, skip or limit stage
+     */
+    public static final Object DROPPED = new Object();
+
+    private static final FusedStages EMPTY = new FusedStages(new int[0], new Object[0], new long[0]);
+
+    private final int[] kinds;
+    private final Object[] fns;
+    private final long[] counts;
+
+    private FusedStages(int[] kinds, Object[] fns, long[] counts) {
+        this.kinds = kinds;
+        this.fns = fns;
+        this.counts = counts;
+    }
+
+    public static FusedStages empty(){
+        return EMPTY;
+    }
+
+    public FusedStages map(Function<?, ?> fn){
+        if(lastKind() == MAP)
+            return replaceLast(function(fns[fns.length - 1]).andThen(function(fn)), 0);
+        return append(MAP, fn, 0);
+    }
+
+    public FusedStages filter(Predicate<?> predicate){
+        if(lastKind() == FILTER)
+            return replaceLast(predicate(fns[fns.length - 1]).and(predicate(predicate)), 0);
+        return append(FILTER, predicate, 0);
+    }
+
+    public FusedStages skip(long n){
+        if(lastKind() == SKIP)
+            return replaceLast(null, counts[counts.length - 1] + n);
+        return append(SKIP, null, n);
+    }
+
+    public FusedStages limit(long n){
+        if(lastKind() == LIMIT)
+            return replaceLast(null, Math.min(counts[counts.length - 1], n));
+        return append(LIMIT, null, n);
+    }
+
+    public int size(){
+        return kinds.length;
+    }
+
+    /**
+     * @return true if every stage is a map (i.e. the number of elements is unchanged)
+     */
+    public boolean isSizePreserving(){
+        for(int kind : kinds){
+            if(kind != MAP)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return true if any stage depends on the position of an element (skip and limit), such stages can't be
+     * applied independently to each split of a parallel Stream
+     */
+    public boolean isPositional(){
+        for(int kind : kinds){
+            if(kind == SKIP || kind == LIMIT)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return state for a single traversal of the stages
+     */
+    public Traversal traversal(){
+        return new Traversal();
+    }
+
+    private int lastKind(){
+        return kinds.length == 0 ? -1 : kinds[kinds.length - 1];
+    }
+
+    /**
+     * @return value, the output of the last stage, as the element type of the fused Stream
+     */
+    @SuppressWarnings("unchecked") //the last stage always emits elements of the fused Stream's type
+    public static <R> R emitted(Object value){
+        return (R)value;
+    }
+
+    @SuppressWarnings("unchecked") //each stage is only applied to the output of the stage before it
+    private static Function<Object, Object> function(Object fn){
+        return (Function<Object, Object>)fn;
+    }
+
+    @SuppressWarnings("unchecked") //each stage is only applied to the output of the stage before it
+    private static Predicate<Object> predicate(Object predicate){
+        return (Predicate<Object>)predicate;
+    }
+
+    private FusedStages append(int kind, Object fn, long count){
+        int[] k = Arrays.copyOf(kinds, kinds.length + 1);
+        Object[] f = Arrays.copyOf(fns, fns.length + 1);
+        long[] c = Arrays.copyOf(counts, counts.length + 1);
+        k[k.length - 1] = kind;
+        f[f.length - 1] = fn;
+        c[c.length - 1] = count;
+        return new FusedStages(k, f, c);
+    }
+
+    private FusedStages replaceLast(Object fn, long count){
+        Object[] f = fns.clone();
+        long[] c = counts.clone();
+        f[f.length - 1] = fn;
+        c[c.length - 1] = count;
+        return new FusedStages(kinds, f, c);
+    }
+
+    /**
+     * Skip and limit counters for one traversal. Not thread safe.
+     */
+    public final class Traversal {
+        private final long[] seen = new long[kinds.length];
+        private boolean done;
+
+        private Traversal(){
+            for(int i = 0; i < kinds.length; i++){
+                if(kinds[i] == LIMIT && counts[i] <= 0)
+                    done = true;
+            }
+        }
+
+        /**
+         * @return true once a limit has been reached, after which no further elements will be emitted
+         */
+        public boolean isDone(){
+            return done;
+        }
+
+        /**
+         * Run an element through all stages
+         *
+         * @return The transformed element, or {@link FusedStages#DROPPED}
+         */
+        public Object apply(Object value){
+            for(int i = 0; i < kinds.length; i++){
+                switch(kinds[i]){
+                    case MAP:
+                        value = function(fns[i]).apply(value);
+                        break;
+                    case FILTER:
+                        if(!predicate(fns[i]).test(value))
+                            return DROPPED;
+                        break;
+                    case SKIP:
+                        if(seen[i] < counts[i]){
+                            seen[i]++;
+                            return DROPPED;
+                        }
+                        break;
+                    default:
+                        if(seen[i] >= counts[i]){
+                            done = true;
+                            return DROPPED;
+                        }
+                        if(++seen[i] == counts[i])
+                            done = true;
+                }
+            }
+            return value;
+        }
+    }
+}
@@ -11,7 +11,7 @@ import java.util.function.Consumer;
 
 public class IteratableSpliterator<T> extends Spliterators.AbstractSpliterator<T> implements CopyableSpliterator<T>{
 
-  private final Iterable<T> source;
+  final Iterable<T> source;
 
   Iterator<T> active;
 
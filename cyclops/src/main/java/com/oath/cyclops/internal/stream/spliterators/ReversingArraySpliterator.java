@@ -30,7 +30,7 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 
     @Override
     public long estimateSize() {
-        return max;
+        return Math.max(0,reverse ? index - start + 1 : max - index);
     }
 
     @Override
@@ -56,7 +56,7 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
     public void forEachRemaining(Consumer<? super T> action) {
         Objects.requireNonNull(action);
 
-        int index = this.index; //local index for replayability
+        int index = this.index;
 
         if (!reverse) {
             for (;index < max && index > -1;) {
@@ -69,6 +69,7 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 
             }
         }
+        this.index = index; //a traversed spliterator is exhausted, it must not split or traverse again
 
     }
 
@@ -95,8 +96,14 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 
     @Override
     public Spliterator<T> trySplit() {
-
-        return this;
+        if(reverse)
+            return null;
+        int mid = (index + max) >>> 1;
+        if(mid <= index)
+            return null;
+        Spliterator<T> prefix = new ReversingArraySpliterator<T>(array, index, mid, false);
+        start = index = mid;
+        return prefix;
     }
 
     @Override
@@ -0,0 +1,194 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import com.oath.cyclops.types.persistent.PersistentCollection;
+import com.oath.cyclops.internal.stream.spliterators.ints.ReversingRangeIntSpliterator;
+import com.oath.cyclops.internal.stream.spliterators.longs.ReversingRangeLongSpliterator;
+
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Rebuilds a ReactiveSeq Spliterator chain so that it can be split for fork / join execution.
+ *
+ * Sized, indexable sources (arrays, ranges and Iterables whose own Spliterator is SUBSIZED, such as Vector) are
+ * split in halves, with map and filter stages (fused or not) re-applied to each half. Collections of known size are batch
+ * split by the JDK, and any other source or stage falls back to batch splitting of the whole chain.
+ */
+public final class SplittingSpliterators {
+
+    private SplittingSpliterators(){}
+
+    public static <T> Spliterator<T> splittable(Spliterator<T> source){
+        Spliterator<T> split = split(source);
+        if(split!=null)
+            return split;
+        return Spliterators.spliteratorUnknownSize(Spliterators.iterator(source), Spliterator.ORDERED);
+    }
+
+    @SuppressWarnings("unchecked") //the input type of a stage is erased, it is only ever recombined with its own mapper
+    private static <T> Spliterator<T> split(Spliterator<T> source){
+        if(source instanceof MappingSpliterator){
+            MappingSpliterator<Object,T> mapping = (MappingSpliterator<Object,T>)source;
+            Spliterator<Object> split = split(mapping.source);
+            return split==null ? null : new Mapping<>(split,mapping.mapper);
+        }
+        if(source instanceof FilteringSpliterator){
+            FilteringSpliterator<T> filtering = (FilteringSpliterator<T>)source;
+            Spliterator<T> split = split(filtering.source);
+            return split==null ? null : new Filtering<>(split,filtering.mapper);
+        }
+        if(source instanceof FusedSpliterator){
+            FusedSpliterator<Object,T> fused = (FusedSpliterator<Object,T>)source;
+            if(fused.stages.isPositional())
+                return null;
+            Spliterator<Object> split = split(fused.source);
+            return split==null ? null : fused.withSource(split);
+        }
+        if(source instanceof ReversingArraySpliterator && !((ReversingArraySpliterator<T>)source).isReverse())
+            return new Ordered<>(source);
+        if(source instanceof ReversingRangeIntSpliterator && !((ReversingRangeIntSpliterator)source).isReverse())
+            return new Ordered<>(source);
+        if(source instanceof ReversingRangeLongSpliterator && !((ReversingRangeLongSpliterator)source).isReverse())
+            return new Ordered<>(source);
+        if(source instanceof IteratableSpliterator && ((IteratableSpliterator<T>)source).active==null)
+            return split(((IteratableSpliterator<T>)source).source);
+        if(source.hasCharacteristics(Spliterator.SUBSIZED))
+            return source;
+        return null;
+    }
+
+    private static <T> Spliterator<T> split(Iterable<T> iterable){
+        Spliterator<T> split = iterable.spliterator();
+        if(split.hasCharacteristics(Spliterator.SUBSIZED))
+            return split;
+        if(iterable instanceof PersistentCollection)
+            return Spliterators.spliterator(iterable.iterator(),((PersistentCollection<T>)iterable).size(),Spliterator.ORDERED);
+        if(iterable instanceof Collection)
+            return Spliterators.spliterator(iterable.iterator(),((Collection<T>)iterable).size(),Spliterator.ORDERED);
+        return null;
+    }
+
+    /**
+     * Reports the encounter order of ReactiveSeq sources, which don't declare it themselves
+     */
+    static final class Ordered<T> implements Spliterator<T> {
+        private final Spliterator<T> source;
+
+        Ordered(Spliterator<T> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return source.tryAdvance(action);
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            source.forEachRemaining(action);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<T> prefix = source.trySplit();
+            return prefix==null ? null : new Ordered<>(prefix);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() | Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    static final class Mapping<T,R> implements Spliterator<R> {
+        private final Spliterator<T> source;
+        private final Function<? super T, ? extends R> mapper;
+
+        Mapping(Spliterator<T> source, Function<? super T, ? extends R> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            return source.tryAdvance(t->action.accept(mapper.apply(t)));
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            source.forEachRemaining(t->action.accept(mapper.apply(t)));
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            Spliterator<T> prefix = source.trySplit();
+            return prefix==null ? null : new Mapping<>(prefix,mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & (Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+    }
+
+    static final class Filtering<T> implements Spliterator<T> {
+        private final Spliterator<T> source;
+        private final Predicate<? super T> predicate;
+        private boolean accepted;
+
+        Filtering(Spliterator<T> source, Predicate<? super T> predicate) {
+            this.source = source;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            accepted = false;
+            while(!accepted && source.tryAdvance(t->{
+                if(predicate.test(t)){
+                    accepted = true;
+                    action.accept(t);
+                }
+            }));
+            return accepted;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            source.forEachRemaining(t->{
+                if(predicate.test(t))
+                    action.accept(t);
+            });
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<T> prefix = source.trySplit();
+            return prefix==null ? null : new Filtering<>(prefix,predicate);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & Spliterator.ORDERED;
+        }
+    }
+}
@@ -77,7 +77,9 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
 
     @Override
     public long estimateSize() {
-        return max;
+        if (!reverse)
+            return index < max ? ((long)max - index + step - 1) / step : 0;
+        return index >= min ? ((long)index - min) / step + 1 : 0;
     }
 
     @Override
@@ -87,7 +89,13 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
 
     @Override
     public Spliterator.OfInt trySplit() {
-        return this;
+        long size = estimateSize();
+        if(reverse || size < 2)
+            return null;
+        int mid = (int)(index + (size / 2) * step);
+        ReversingRangeIntSpliterator prefix = new ReversingRangeIntSpliterator(index, mid, step, false);
+        start = index = mid;
+        return prefix;
     }
 
     @Override
@@ -99,7 +107,7 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
 
     @Override
     public void forEachRemaining(IntConsumer action) {
-        int index = this.index; //use local index making spliterator reusable
+        int index = this.index;
         if (!reverse) {
             for( ;index < max && index >= min;) {
                 action.accept(index);
@@ -115,12 +123,13 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
             }
 
         }
+        this.index = index; //a traversed spliterator is exhausted, it must not split or traverse again
     }
 
 
     @Override
     public void forEachRemaining(Consumer<? super Integer> action) {
-        int index = this.index; //use local index making spliterator reusable
+        int index = this.index;
         if (!reverse) {
             for( ;index < max && index >= min;) {
                 action.accept(index);
@@ -134,6 +143,7 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
             }
 
         }
+        this.index = index; //a traversed spliterator is exhausted, it must not split or traverse again
     }
 
 
@@ -78,7 +78,9 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong,Reversa
 
     @Override
     public long estimateSize() {
-        return max;
+        if (!reverse)
+            return index < max ? (max - index + step - 1) / step : 0;
+        return index >= min ? (index - min) / step + 1 : 0;
     }
 
     @Override
@@ -88,7 +90,13 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong,Reversa
 
     @Override
     public Spliterator.OfLong trySplit() {
-        return this;
+        long size = estimateSize();
+        if(reverse || size < 2)
+            return null;
+        long mid = index + (size / 2) * step;
+        ReversingRangeLongSpliterator prefix = new ReversingRangeLongSpliterator(index, mid, step, false);
+        start = index = mid;
+        return prefix;
     }
 
     @Override
@@ -100,7 +108,7 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong,Reversa
 
     @Override
     public void forEachRemaining(LongConsumer action) {
-        long index = this.index; //use local index making spliterator reusable
+        long index = this.index;
         if (!reverse) {
             for( ;index < max && index >= min;) {
                 action.accept(index);
@@ -116,12 +124,13 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong,Reversa
             }
 
         }
+        this.index = index; //a traversed spliterator is exhausted, it must not split or traverse again
     }
 
 
     @Override
     public void forEachRemaining(Consumer<? super Long> action) {
-        long index = this.index; //use local index making spliterator reusable
+        long index = this.index;
         if (!reverse) {
             for( ;index < max && index >= min;) {
                 action.accept(index);
@@ -135,6 +144,7 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong,Reversa
             }
 
         }
+        this.index = index; //a traversed spliterator is exhausted, it must not split or traverse again
     }
 
 
@@ -1,27 +1,189 @@
 package com.oath.cyclops.internal.stream.spliterators.push;
 
 import com.oath.cyclops.types.reactive.BufferOverflowPolicy;
+import com.oath.cyclops.types.reactive.OverflowStats;
+import com.oath.cyclops.util.ExceptionSoftener;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 
 public class BufferingSinkOperator<T> implements Operator<T> {
+    public static final int DEFAULT_SAMPLE_RATE = 10;
+    private static final Object EMPTY = new Object();
+
     private final Queue<T> q;
 
     private final AtomicBoolean active = new AtomicBoolean(false);
     private final Consumer<? super Subscriber<T>> sub;
     private final BufferOverflowPolicy policy;
+    private final OverflowStats stats;
+    private final int sampleRate;
+    private final AtomicLong sampled = new AtomicLong();
+    private final SpillFile<T> spill;
+    private final Object overflowLock = new Object();
+    private volatile Object latest = EMPTY;
 
 
 
     public BufferingSinkOperator(Queue<T> q, Consumer<? super Subscriber<T>> sub, BufferOverflowPolicy  policy) {
+        this(q, sub, policy, new OverflowStats(), DEFAULT_SAMPLE_RATE, new File(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * @param sampleRate For BufferOverflowPolicy.SAMPLE, admit one in every sampleRate overflowing elements
+     * @param spillDirectory For BufferOverflowPolicy.SPILL_TO_DISK, directory in which to create the overflow file
+     */
+    public BufferingSinkOperator(Queue<T> q, Consumer<? super Subscriber<T>> sub, BufferOverflowPolicy policy,
+                                 OverflowStats stats, int sampleRate, File spillDirectory) {
+        if(sampleRate <= 0)
+            throw new IllegalArgumentException("Sample rate must be positive but was " + sampleRate);
         this.q = q;
         this.sub = sub;
         this.policy = policy;
+        this.stats = stats;
+        this.sampleRate = sampleRate;
+        this.spill = policy == BufferOverflowPolicy.SPILL_TO_DISK ? new SpillFile<>(spillDirectory) : null;
+    }
+
+    public OverflowStats getStats() {
+        return stats;
+    }
+
+    private void offer(T t, Runnable whileBlocked, Consumer<? super Throwable> onError) {
+        switch (policy) {
+            case LATEST:
+                synchronized (overflowLock) {
+                    if (latest == EMPTY && q.offer(t))
+                        return;
+                    stats.recordOverflow();
+                    if (latest != EMPTY)
+                        stats.recordDrop();
+                    latest = t;
+                }
+                return;
+            case SPILL_TO_DISK:
+                synchronized (overflowLock) {
+                    if (spill.isEmpty() && q.offer(t))
+                        return;
+                    stats.recordOverflow();
+                    try {
+                        spill.write(t);
+                    } catch (Exception e) {
+                        stats.recordDrop();
+                        onError.accept(e);
+                    }
+                }
+                return;
+        }
+        if (q.offer(t))
+            return;
+        stats.recordOverflow();
+        switch (policy) {
+            case DROP:
+                stats.recordDrop();
+                break;
+            case BLOCK:
+                while (!q.offer(t)) {
+                    Thread.yield();
+                    whileBlocked.run();
+                }
+                break;
+            case SAMPLE:
+                if (sampled.incrementAndGet() % sampleRate != 0) {
+                    stats.recordDrop();
+                    break;
+                }
+                //sampled elements make space as DROP_OLDEST
+                replaceOldest(t);
+                break;
+            case DROP_OLDEST:
+                replaceOldest(t);
+                break;
+        }
+    }
+
+    /*
+     * The consumer polls under the same lock for the dropping policies, so it never races the producer for the head
+     */
+    private void replaceOldest(T t) {
+        synchronized (overflowLock) {
+            while (!q.offer(t)) {
+                if (q.poll() != null)
+                    stats.recordDrop();
+            }
+        }
+    }
+
+    /*
+     * Delete the overflow file once the stream has failed or been cancelled. After completion the spilled elements can
+     * still be requested, the file is deleted as they are drained.
+     */
+    private void discardSpill() {
+        if (spill == null)
+            return;
+        synchronized (overflowLock) {
+            try {
+                spill.close();
+            } catch (IOException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked") //latest only ever holds EMPTY or an element of type T
+    private T poll() {
+        switch (policy) {
+            case LATEST:
+                synchronized (overflowLock) {
+                    T next = q.poll();
+                    if (next == null && latest != EMPTY) {
+                        next = (T) latest;
+                        latest = EMPTY;
+                    }
+                    return next;
+                }
+            case SPILL_TO_DISK:
+                synchronized (overflowLock) {
+                    T next = q.poll();
+                    if (next == null) {
+                        try {
+                            next = spill.read();
+                        } catch (Exception e) {
+                            throw ExceptionSoftener.throwSoftenedException(e);
+                        }
+                    }
+                    return next;
+                }
+            case SAMPLE:
+            case DROP_OLDEST:
+                synchronized (overflowLock) {
+                    return q.poll();
+                }
+            default:
+                return q.poll();
+        }
+    }
+
+    private boolean isEmpty() {
+        if (!q.isEmpty())
+            return false;
+        switch (policy) {
+            case LATEST:
+                return latest == EMPTY;
+            case SPILL_TO_DISK:
+                synchronized (overflowLock) {
+                    return spill.isEmpty();
+                }
+            default:
+                return true;
+        }
     }
 
     @Override
@@ -36,6 +198,12 @@ public class BufferingSinkOperator<T> implements Operator<T> {
                delegate[0].request(n);
                processQueue(this,onNext);
             }
+
+            @Override
+            public void cancel() {
+                super.cancel();
+                discardSpill();
+            }
         };
 
         sub.accept(new Subscriber<T>() {
@@ -49,21 +217,14 @@ public class BufferingSinkOperator<T> implements Operator<T> {
             public void onNext(T t) {
 
 
-                if(!q.offer(t)){
-                    policy.match(t).map(v->{
-                       while(!q.offer(t)){
-                           Thread.yield();
-                           processQueue(ss,onNext);
-                       }
-                       return v;
-                    });
-                }
+                offer(t, () -> processQueue(ss, onNext), onError);
                 processQueue(ss,onNext);
 
             }
 
             @Override
             public void onError(Throwable t) {
+                discardSpill();
                 onError.accept(t);
             }
 
@@ -79,7 +240,7 @@ public class BufferingSinkOperator<T> implements Operator<T> {
         if(active.compareAndSet(false,true)) {
 
             while(ss.isActive()) {
-                T next = q.poll();
+                T next = poll();
                 if (next != null) {
                     onNext.accept(next);
                     ss.requested.decrementAndGet();
@@ -88,7 +249,7 @@ public class BufferingSinkOperator<T> implements Operator<T> {
                     break;
             }
             active.set(false);
-            if (!q.isEmpty() && ss.isActive()) {
+            if (!isEmpty() && ss.isActive()) {
                 processQueue(ss,onNext);
             }
 
@@ -99,7 +260,7 @@ public class BufferingSinkOperator<T> implements Operator<T> {
 
         if(active.compareAndSet(false,true)) {
             while(true) {
-                T next = q.poll();
+                T next = poll();
                 if (next != null) {
                     onNext.accept(next);
 
@@ -108,7 +269,7 @@ public class BufferingSinkOperator<T> implements Operator<T> {
                     break;
             }
             active.set(false);
-            if (!q.isEmpty()) {
+            if (!isEmpty()) {
                 processQueue(onNext);
             }
 
@@ -128,20 +289,14 @@ public class BufferingSinkOperator<T> implements Operator<T> {
             @Override
             public void onNext(T t) {
 
-                if(!q.offer(t)){
-                    policy.match(t).map(v->{
-                        while(!q.offer(t)){
-                            Thread.yield();
-                        }
-                        return v;
-                    });
-                }
+                offer(t, () -> {}, onError);
                 processQueue(onNext);
 
             }
 
             @Override
             public void onError(Throwable t) {
+                discardSpill();
                 onError.accept(t);
             }
 
@@ -0,0 +1,197 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import com.oath.cyclops.internal.stream.spliterators.FusedStages;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Micro-batched push mode : the source Operator emits chunks (arrays) of elements, with upstream demand accounted
+ * per chunk rather than per element. The chunks are unpacked here, with any fused map / filter / peek stages applied
+ * in the same loop, and delivered downstream one element at a time respecting element level demand.
+ *
+ * Elements left over from a chunk when downstream demand is exhausted are held until more demand is signalled.
+ */
+public class ChunkedOperator<T,R> implements Operator<R> {
+
+    /**
+     * Number of chunks requested from the source ahead of downstream demand
+     */
+    static final int PREFETCH = 2;
+
+    final Operator<Object[]> source;
+    final FusedStages stages;
+
+    public ChunkedOperator(Operator<Object[]> source, FusedStages stages){
+        this.source = source;
+        this.stages = stages;
+    }
+
+    /**
+     * Batch the elements of a Spliterator into chunks of (up to) size elements
+     */
+    public static <T> Spliterator<Object[]> chunks(Spliterator<T> source, int size){
+        if(size <= 0)
+            throw new IllegalArgumentException("Chunk size must be positive but was " + size);
+        return new Spliterators.AbstractSpliterator<Object[]>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            Object[] chunk;
+            int index;
+            final Consumer<T> add = t -> chunk[index++] = t;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Object[]> action) {
+                chunk = new Object[size];
+                index = 0;
+                while(index < size && source.tryAdvance(add)){
+
+                }
+                if(index == 0)
+                    return false;
+                action.accept(index == size ? chunk : Arrays.copyOf(chunk, index));
+                return true;
+            }
+        };
+    }
+
+    public <R2> ChunkedOperator<T,R2> map(Function<? super R, ? extends R2> fn){
+        return new ChunkedOperator<>(source,stages.map(fn));
+    }
+
+    public ChunkedOperator<T,R> filter(Predicate<? super R> predicate){
+        return new ChunkedOperator<>(source,stages.filter(predicate));
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Drain drain = new Drain(onNext,onError,onComplete);
+        drain.upstream = source.subscribe(drain::onChunk,onError,()->{
+            drain.done = true;
+            drain.drain();
+        });
+        return drain;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        FusedStages.Traversal traversal = stages.traversal();
+        source.subscribeAll(chunk->{
+            for(Object next : chunk){
+                try {
+                    Object value = traversal.apply(next);
+                    if(value != FusedStages.DROPPED)
+                        onNext.accept(FusedStages.<R>emitted(value));
+                } catch (Throwable t) {
+                    onError.accept(t);
+                }
+            }
+        },onError,onCompleteDs);
+    }
+
+    private final class Drain extends StreamSubscription {
+        final Queue<Object[]> chunks = new ConcurrentLinkedQueue<>();
+        final AtomicInteger wip = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final FusedStages.Traversal traversal = stages.traversal();
+        final Consumer<? super R> onNext;
+        final Consumer<? super Throwable> onError;
+        final Runnable onComplete;
+        volatile StreamSubscription upstream;
+        volatile boolean done;
+        boolean completed;
+        Object[] chunk;
+        int index;
+
+        Drain(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+        }
+
+        void onChunk(Object[] chunk){
+            chunks.offer(chunk);
+            inFlight.decrementAndGet();
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if(n <= 0) {
+                onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                return;
+            }
+            if(!isOpen)
+                return;
+            super.request(n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            StreamSubscription up = upstream;
+            if(up != null)
+                up.cancel();
+        }
+
+        void drain(){
+            if(wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            do {
+                emit();
+                missed = wip.addAndGet(-missed);
+            } while(missed != 0);
+        }
+
+        private void emit(){
+            while(isOpen && !completed) {
+                while(chunk == null || index == chunk.length){
+                    chunk = chunks.poll();
+                    index = 0;
+                    if(chunk == null){
+                        if(done || traversal.isDone()){
+                            completed = true;
+                            onComplete.run();
+                        } else if(requested.get() > 0) {
+                            prefetch();
+                        }
+                        return;
+                    }
+                    prefetch();
+                }
+                if(requested.get() == 0){
+                    return;
+                }
+                Object next = chunk[index++];
+                try {
+                    Object value = traversal.apply(next);
+                    if(value != FusedStages.DROPPED){
+                        requested.decrementAndGet();
+                        onNext.accept(FusedStages.<R>emitted(value));
+                    }
+                } catch (Throwable t) {
+                    requested.decrementAndGet();
+                    onError.accept(t);
+                }
+            }
+        }
+
+        private void prefetch(){
+            StreamSubscription up = upstream;
+            if(up == null)
+                return;
+            int outstanding = inFlight.get();
+            if(outstanding < PREFETCH){
+                inFlight.addAndGet(PREFETCH - outstanding);
+                up.request(PREFETCH - outstanding);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import com.oath.cyclops.internal.stream.spliterators.FusedStages;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Applies a run of map and filter stages to a source Operator in a single onNext handler, rather than as a chain of
+ * MapOperator and FilterOperator instances.
+ *
+ * Skip and limit remain separate Operators, as they manage demand and cancellation of the upstream subscription.
+ */
+public class FusedOperator<T,R> extends BaseOperator<T,R> {
+
+    final FusedStages stages;
+
+    public FusedOperator(Operator<T> source, FusedStages stages){
+        super(source);
+        this.stages = stages;
+    }
+
+    /**
+     * @return true if the supplied Operator can be fused with further map and filter stages
+     */
+    public static boolean isFusable(Operator<?> op){
+        return op instanceof FusedOperator || op instanceof MapOperator || op instanceof FilterOperator;
+    }
+
+    /**
+     * Convert a fusable Operator (see {@link #isFusable(Operator)}) into a FusedOperator
+     */
+    public static <T> FusedOperator<?,T> fuse(Operator<T> op){
+        if(op instanceof FusedOperator)
+            return (FusedOperator<?,T>)op;
+        if(op instanceof MapOperator){
+            MapOperator<?,T> map = (MapOperator<?,T>)op;
+            return new FusedOperator<>(map.source,FusedStages.empty().map(map.mapper));
+        }
+        FilterOperator<T> filter = (FilterOperator<T>)op;
+        return new FusedOperator<>(filter.source,FusedStages.empty().filter(filter.predicate));
+    }
+
+    public <R2> FusedOperator<T,R2> map(Function<? super R, ? extends R2> fn){
+        return new FusedOperator<>(source,stages.map(fn));
+    }
+
+    public FusedOperator<T,R> filter(Predicate<? super R> predicate){
+        return new FusedOperator<>(source,stages.filter(predicate));
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        FusedStages.Traversal traversal = stages.traversal();
+        StreamSubscription[] upstream = {null};
+        upstream[0] = source.subscribe(e-> {
+                    try {
+                        Object value = traversal.apply(e);
+                        if(value != FusedStages.DROPPED)
+                            onNext.accept(FusedStages.<R>emitted(value));
+                        else
+                            request(upstream,1);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        FusedStages.Traversal traversal = stages.traversal();
+        source.subscribeAll(e-> {
+                    try {
+                        Object value = traversal.apply(e);
+                        if(value != FusedStages.DROPPED)
+                            onNext.accept(FusedStages.<R>emitted(value));
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
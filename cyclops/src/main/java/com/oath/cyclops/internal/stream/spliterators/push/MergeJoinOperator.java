@@ -0,0 +1,155 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import com.oath.cyclops.internal.stream.Joins;
+import cyclops.data.tuple.Tuple2;
+
+import java.util.Comparator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Push based sort-merge join of two sources ordered on the join key.
+ *
+ * Elements are requested one at a time, from the left source while no left element is waiting to be joined and from
+ * the right source while the waiting left element's run of equal right keys is incomplete, so neither source can run
+ * ahead of the other. Joined pairs are only requested from the sources as the downstream Subscriber requests them.
+ */
+public class MergeJoinOperator<T, U, K> implements Operator<Tuple2<T, U>> {
+
+    private final Operator<T> left;
+    private final Operator<U> right;
+    private final Function<? super T, ? extends K> leftKey;
+    private final Function<? super U, ? extends K> rightKey;
+    private final Comparator<? super K> comparator;
+
+    public MergeJoinOperator(Operator<T> left, Operator<U> right, Function<? super T, ? extends K> leftKey,
+                             Function<? super U, ? extends K> rightKey, Comparator<? super K> comparator) {
+        this.left = left;
+        this.right = right;
+        this.leftKey = leftKey;
+        this.rightKey = rightKey;
+        this.comparator = comparator;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super Tuple2<T, U>> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        return new Join(onNext, onError, onComplete).start();
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super Tuple2<T, U>> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        subscribe(onNext, onError, onComplete).request(Long.MAX_VALUE);
+    }
+
+    private final class Join extends StreamSubscription {
+        private final Joins.MergeJoin<T, U, K> join = new Joins.MergeJoin<>(leftKey, rightKey, comparator);
+        private final Queue<Tuple2<T, U>> ready = new ConcurrentLinkedQueue<>();
+        private final Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger(0);
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+        private final Consumer<? super Tuple2<T, U>> onNext;
+        private final Consumer<? super Throwable> onError;
+        private final Runnable onComplete;
+        private StreamSubscription leftSub;
+        private StreamSubscription rightSub;
+        private volatile boolean leftRequested;
+        private volatile boolean rightRequested;
+
+        Join(Consumer<? super Tuple2<T, U>> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+        }
+
+        StreamSubscription start() {
+            leftSub = left.subscribe(t -> {
+                ready.addAll(join.left(t));
+                leftRequested = false;
+                drain();
+            }, e -> {
+                errors.add(e);
+                leftRequested = false;
+                drain();
+            }, () -> {
+                ready.addAll(join.leftComplete());
+                drain();
+            });
+            rightSub = right.subscribe(u -> {
+                ready.addAll(join.right(u));
+                rightRequested = false;
+                drain();
+            }, e -> {
+                errors.add(e);
+                rightRequested = false;
+                drain();
+            }, () -> {
+                ready.addAll(join.rightComplete());
+                drain();
+            });
+            return this;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                return;
+            }
+            super.request(n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            leftSub.cancel();
+            rightSub.cancel();
+        }
+
+        /**
+         * Emits the pairs joined so far, then requests the next element from whichever side the join is waiting on.
+         * A source may deliver synchronously from within request, in which case the delivery is picked up by the next
+         * pass of the loop rather than recursing.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            for (; ; ) {
+                Throwable error;
+                while ((error = errors.poll()) != null)
+                    onError.accept(error);
+                while (isOpen && requested.get() > 0 && !ready.isEmpty()) {
+                    requested.decrementAndGet();
+                    onNext.accept(ready.poll());
+                }
+                if (isOpen && ready.isEmpty()) {
+                    if (join.isComplete()) {
+                        if (completed.compareAndSet(false, true)) {
+                            leftSub.cancel();
+                            rightSub.cancel();
+                            onComplete.run();
+                        }
+                    } else if (requested.get() > 0) {
+                        if (join.needsLeft()) {
+                            if (!leftRequested) {
+                                leftRequested = true;
+                                leftSub.request(1);
+                            }
+                        } else if (join.needsRight() && !rightRequested) {
+                            rightRequested = true;
+                            rightSub.request(1);
+                        }
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import com.oath.cyclops.async.HashedWheelTimer;
+import com.oath.cyclops.async.RateLimiter;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Emits elements no faster than a (possibly shared) RateLimiter allows. Elements are requested from upstream one at a
+ * time, and only while there is downstream demand. Each element reserves its weight in permits on arrival, if it must
+ * wait the emission is scheduled on a timer (and run on an Executor) rather than blocking the emitting thread, and the next element is not
+ * requested until it has been emitted.
+ */
+public class RateLimitingOperator<T> extends BaseOperator<T,T> {
+
+    final RateLimiter limiter;
+    final ToLongFunction<? super T> weigher;
+    final HashedWheelTimer timer;
+    final Executor executor;
+
+    public RateLimitingOperator(Operator<T> source, RateLimiter limiter, ToLongFunction<? super T> weigher,
+                                HashedWheelTimer timer, Executor executor){
+        super(source);
+        this.limiter = limiter;
+        this.weigher = weigher;
+        this.timer = timer;
+        this.executor = executor;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Limited limited = new Limited(onNext,onError,onComplete);
+        limited.upstream[0] = source.subscribe(limited::onNext,limited::onError,limited::onComplete);
+        return limited;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+
+    private final class Limited extends StreamSubscription {
+        final StreamSubscription[] upstream = {null};
+        final AtomicBoolean inFlight = new AtomicBoolean(false);
+        final AtomicBoolean completed = new AtomicBoolean(false);
+        final AtomicInteger wip = new AtomicInteger();
+        final Consumer<? super T> onNext;
+        final Consumer<? super Throwable> onError;
+        final Runnable onComplete;
+        volatile boolean done;
+        volatile boolean scheduled;
+
+        Limited(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+        }
+
+        @Override
+        public void request(long n) {
+            if(n <= 0) {
+                onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                return;
+            }
+            if(!isOpen)
+                return;
+            super.request(n);
+            pull();
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            StreamSubscription up = upstream[0];
+            if(up != null)
+                up.cancel();
+        }
+
+        void onNext(T next){
+            long wait;
+            try {
+                wait = limiter.reserve(weigher.applyAsLong(next));
+            } catch (Throwable t) {
+                onError(t);
+                return;
+            }
+            if(wait <= 0) {
+                emit(next);
+                pull();
+                return;
+            }
+            scheduled = true;
+            timer.schedule(() -> {
+                emit(next);
+                scheduled = false;
+                if(done)
+                    complete();
+                else
+                    pull();
+            }, wait, TimeUnit.NANOSECONDS, executor);
+        }
+
+        void onError(Throwable t){
+            requested.decrementAndGet();
+            onError.accept(t);
+            inFlight.set(false);
+            pull();
+        }
+
+        void onComplete(){
+            done = true;
+            if(!scheduled)
+                complete();
+        }
+
+        private void emit(T next){
+            if(isOpen) {
+                requested.decrementAndGet();
+                onNext.accept(next);
+            }
+            inFlight.set(false);
+        }
+
+        private void complete(){
+            if(completed.compareAndSet(false,true))
+                onComplete.run();
+        }
+
+        /**
+         * Request the next element from upstream if there is demand and none is outstanding. Synchronous sources
+         * emit from within request, so re-entrant calls are folded into the outer loop rather than recursing.
+         */
+        private void pull(){
+            if(wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            do {
+                if(isOpen && !done && requested.get() > 0 && inFlight.compareAndSet(false,true))
+                    RateLimitingOperator.this.request(upstream,1);
+                missed = wip.addAndGet(-missed);
+            } while(missed != 0);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * FIFO of Serializable elements paged to a temporary file. The file is deleted (and a new one started on the next write)
+ * each time all of the elements written have been read back, or when the SpillFile is closed. Not thread safe.
+ */
+final class SpillFile<T> implements AutoCloseable {
+
+    private final File directory;
+    private File file;
+    private ObjectOutputStream out;
+    private ObjectInputStream in;
+    private long written;
+    private long flushed;
+    private long read;
+
+    SpillFile(File directory) {
+        this.directory = directory;
+    }
+
+    boolean isEmpty() {
+        return read == written;
+    }
+
+    long size() {
+        return written - read;
+    }
+
+    void write(T value) throws IOException {
+        if (out == null) {
+            file = File.createTempFile("cyclops-spill", ".bin", directory);
+            out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        }
+        out.writeObject(value);
+        //don't retain references to written elements
+        out.reset();
+        written++;
+    }
+
+    /**
+     * @return The oldest element not yet read, or null if empty
+     */
+    @SuppressWarnings("unchecked") //only elements of type T are written to the file
+    T read() throws IOException, ClassNotFoundException {
+        if (isEmpty())
+            return null;
+        if (read == flushed) {
+            out.flush();
+            flushed = written;
+        }
+        if (in == null)
+            in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+        T next = (T) in.readObject();
+        read++;
+        if (isEmpty())
+            close();
+        return next;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (in != null)
+                in.close();
+            if (out != null)
+                out.close();
+        } finally {
+            if (file != null)
+                file.delete();
+            in = null;
+            out = null;
+            file = null;
+            written = flushed = read = 0;
+        }
+    }
+}
@@ -3,7 +3,37 @@ package com.oath.cyclops.types.reactive;
 import cyclops.control.Either;
 import cyclops.control.Option;
 
-public enum BufferOverflowPolicy{ DROP, BLOCK;
+/**
+ * Behaviour of a buffering Stream (e.g. Spouts.reactiveBuffer) when data arrives faster than it is requested and the
+ * buffer is full
+ */
+public enum BufferOverflowPolicy{
+    /**
+     * Discard the new element
+     */
+    DROP,
+    /**
+     * Block the producer until there is space in the buffer
+     */
+    BLOCK,
+    /**
+     * Discard the oldest buffered element to make space for the new one
+     */
+    DROP_OLDEST,
+    /**
+     * Hold the new element in a single overflow slot, each further new element replaces it until it has been emitted
+     */
+    LATEST,
+    /**
+     * Admit one in every N overflowing elements (by discarding the oldest buffered element), discard the others
+     */
+    SAMPLE,
+    /**
+     * Page overflowing elements to a local file, they are read back in order once the buffer drains. Elements must be
+     * Serializable
+     */
+    SPILL_TO_DISK;
+
     public <T> Option<T> match(T value){
         return this==DROP? Option.none() : Option.some(value);
     }
@@ -0,0 +1,42 @@
+package com.oath.cyclops.types.reactive;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts of elements that arrived at a buffering Stream when its buffer was full, and of elements it discarded
+ * as a result
+ *
+ * @see BufferOverflowPolicy
+ */
+public class OverflowStats {
+
+    private final AtomicLong overflows = new AtomicLong();
+    private final AtomicLong drops = new AtomicLong();
+
+    /**
+     * @return Number of elements that arrived when the buffer was full
+     */
+    public long getOverflowCount() {
+        return overflows.get();
+    }
+
+    /**
+     * @return Number of elements discarded (new, evicted or replaced depending on the BufferOverflowPolicy)
+     */
+    public long getDropCount() {
+        return drops.get();
+    }
+
+    public long recordOverflow() {
+        return overflows.incrementAndGet();
+    }
+
+    public long recordDrop() {
+        return drops.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return "OverflowStats[overflows=" + overflows.get() + ", drops=" + drops.get() + "]";
+    }
+}
@@ -4,6 +4,8 @@ import java.util.Queue;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import com.oath.cyclops.internal.stream.ConnectionQueues;
+import com.oath.cyclops.types.reactive.BufferOverflowPolicy;
 import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 
 import cyclops.reactive.ReactiveSeq;
@@ -56,6 +58,31 @@ public interface Connectable<T> {
                                                            256));
     }
 
+    /**
+     * Connect to this Connectable with a per connection overflow policy, so a slow subscriber does not hold up the
+     * others (unless it connects with BLOCK).
+     *
+     * <pre>
+     * {@code
+     *   Connectable<Price> prices = ReactiveSeq.generate(this::nextPrice)
+     *                                          .hotStream(exec);
+     *
+     *   prices.connect(1, BufferOverflowPolicy.LATEST)   //only ever see the most recent price
+     *         .forEach(this::display);
+     *   prices.connect(10_000, BufferOverflowPolicy.DROP_OLDEST)
+     *         .forEach(this::record);
+     * }
+     * </pre>
+     *
+     * @param bufferSize Number of elements buffered for this connection
+     * @param policy BLOCK (wait for space), DROP (discard new elements), DROP_OLDEST (discard the oldest buffered element)
+     *               or LATEST (conflate to the most recent element)
+     * @return Stream connected to the Connectable emitting data
+     */
+    public default ReactiveSeq<T> connect(final int bufferSize, final BufferOverflowPolicy policy) {
+        return connect(ConnectionQueues.<T>queue(bufferSize, policy));
+    }
+
     /**
      * Connect to this Connectable using the provided transfer async.Queue.
      * The transfer Queue can be used to applyHKT backpressure to the Connectable if it produces
@@ -5,8 +5,6 @@ import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import com.oath.cyclops.internal.stream.BaseConnectableImpl;
-import cyclops.companion.Eithers;
-import cyclops.function.FluentFunctions;
 
 /**
  * A Connectable (Stream already emitting data) that can not be paused
@@ -28,20 +26,7 @@ public class NonPausableConnectable<T> extends BaseConnectableImpl<T> {
         CompletableFuture.runAsync(() -> {
             pause.get()
                  .join();
-            stream.forEach(a -> {
-
-                final int local = connected;
-
-                for (int i = 0; i < local; i++) {
-
-                    Eithers.blocking(connections.get(i))
-                              .fold(FluentFunctions.ofChecked(in -> {
-                        in.put(a);
-                        return true;
-                    }), q -> q.offer(a));
-                }
-
-            });
+            stream.forEach(this::emit);
 
             open.set(false);
 
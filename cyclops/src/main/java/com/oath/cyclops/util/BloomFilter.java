@@ -0,0 +1,68 @@
+package com.oath.cyclops.util;
+
+/**
+ * Fixed size Bloom filter, sized for an expected number of insertions and a target false positive rate.
+ * Once more than the expected number of elements have been added the false positive rate rises above the target.
+ *
+ * Not thread safe.
+ */
+public final class BloomFilter {
+
+    private final long[] bits;
+    private final int numHashes;
+    private final long expectedInsertions;
+    private long insertions;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if(expectedInsertions <= 0)
+            throw new IllegalArgumentException("Expected insertions must be positive but was " + expectedInsertions);
+        if(!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1 (exclusive) but was " + falsePositiveRate);
+        long m = (long)Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new long[(int)Math.min(Math.max(1, (m + 63) / 64), Integer.MAX_VALUE / 64)];
+        this.numHashes = Math.max(1, (int)Math.round((double)bits.length * 64 / expectedInsertions * Math.log(2)));
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public boolean mightContain(Object value){
+        long hash = Hashing.hash64(value);
+        int h1 = (int)hash;
+        int h2 = (int)(hash >>> 32);
+        for(int i = 1; i <= numHashes; i++){
+            long bit = index(h1 + i * h2);
+            if((bits[(int)(bit >>> 6)] & (1L << bit)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the value was (probably) not already present
+     */
+    public boolean put(Object value){
+        long hash = Hashing.hash64(value);
+        int h1 = (int)hash;
+        int h2 = (int)(hash >>> 32);
+        boolean changed = false;
+        for(int i = 1; i <= numHashes; i++){
+            long bit = index(h1 + i * h2);
+            int word = (int)(bit >>> 6);
+            long mask = 1L << bit;
+            if((bits[word] & mask) == 0){
+                bits[word] |= mask;
+                changed = true;
+            }
+        }
+        if(changed)
+            insertions++;
+        return changed;
+    }
+
+    public boolean isSaturated(){
+        return insertions >= expectedInsertions;
+    }
+
+    private long index(int combined){
+        return (combined & Integer.MAX_VALUE) % ((long)bits.length * 64);
+    }
+}
@@ -0,0 +1,53 @@
+package com.oath.cyclops.util;
+
+import java.util.Objects;
+
+/**
+ * Spreads values over 64 bits for use in probabilistic data structures.
+ *
+ * Strings (and other CharSequences), Longs and Doubles are hashed over their full content. Other values are hashed
+ * from their 32 bit hashCode, so any two of them with equal hashCodes always collide : a BloomFilter treats them as
+ * the same element and a HyperLogLog cannot distinguish more than 2^32 such values.
+ */
+public final class Hashing {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Hashing(){}
+
+    public static long hash64(Object value){
+        if(value instanceof CharSequence)
+            return mix64(fnv64((CharSequence)value));
+        if(value instanceof Long)
+            return mix64(0x9E3779B97F4A7C15L * ((Long)value + 1L));
+        if(value instanceof Double)
+            return mix64(0x9E3779B97F4A7C15L * (Double.doubleToLongBits((Double)value) + 1L));
+        return mix64(0x9E3779B97F4A7C15L * (Objects.hashCode(value) + 1L));
+    }
+
+    /**
+     * FNV-1a over the 16 bit chars of the sequence
+     */
+    private static long fnv64(CharSequence chars){
+        long h = FNV_OFFSET;
+        for(int i=0;i<chars.length();i++){
+            char c = chars.charAt(i);
+            h = (h ^ (c & 0xff)) * FNV_PRIME;
+            h = (h ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return h;
+    }
+
+    /**
+     * MurmurHash3 64 bit finalizer
+     */
+    public static long mix64(long h){
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
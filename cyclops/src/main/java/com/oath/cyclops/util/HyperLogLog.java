@@ -0,0 +1,80 @@
+package com.oath.cyclops.util;
+
+/**
+ * HyperLogLog cardinality estimator, using 2^precision one byte registers.
+ * The relative standard error of the estimate is approximately 1.04 / sqrt(2^precision)
+ * (e.g. 0.81% for the default precision of 14, which uses 16KB).
+ *
+ * Not thread safe.
+ */
+public final class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 14;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if(precision < 4 || precision > 18)
+            throw new IllegalArgumentException("Precision must be between 4 and 18 but was " + precision);
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public void add(Object value){
+        addHash(Hashing.hash64(value));
+    }
+
+    public void addHash(long hash){
+        int index = (int)(hash >>> (64 - precision));
+        long rest = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte)(Long.numberOfLeadingZeros(rest) + 1);
+        if(rank > registers[index])
+            registers[index] = rank;
+    }
+
+    /**
+     * Merge another HyperLogLog (of the same precision) into this one
+     */
+    public HyperLogLog merge(HyperLogLog other){
+        if(other.precision != precision)
+            throw new IllegalArgumentException("Can't merge HyperLogLogs with precision " + precision + " and " + other.precision);
+        for(int i = 0; i < registers.length; i++){
+            if(other.registers[i] > registers[i])
+                registers[i] = other.registers[i];
+        }
+        return this;
+    }
+
+    public long estimate(){
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for(byte register : registers){
+            sum += 1.0 / (1L << register);
+            if(register == 0)
+                zeros++;
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if(estimate <= 2.5 * m && zeros > 0)
+            estimate = m * Math.log((double)m / zeros);
+        return Math.round(estimate);
+    }
+
+    private static double alpha(int m){
+        switch(m){
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / m);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.oath.cyclops.util.stream.scheduling.cron;
+
+import com.oath.cyclops.util.ExceptionSoftener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.TreeSet;
+
+/**
+ * A cron expression compiled once into bit masks for each field, so that the next fire time can be found by jumping
+ * directly to the next matching month, day, hour, minute and second rather than stepping a Calendar field by field.
+ *
+ * The most recently used compiled schedules are cached by expression and time zone, so repeatedly scheduling the same
+ * cron String does not re-parse it.
+ * Expressions using the L, W or # day modifiers, and fire times that fall in a daylight saving gap or overlap, are
+ * delegated to {@link CronExpression}.
+ *
+ * <pre>
+ * {@code
+ *   CronSchedule everyFiveSeconds = CronSchedule.of("0/5 * * * * ?");
+ *   long next = everyFiveSeconds.nextFireTimeAfter(System.currentTimeMillis());
+ * }
+ * </pre>
+ */
+public final class CronSchedule {
+
+    private static final int MAX_CACHED = 256;
+    private static final Map<String, CronSchedule> cache = Collections.synchronizedMap(new LeastRecentlyUsed());
+
+    private final CronExpression expression;
+    private final ZoneId zone;
+    private final boolean compiled;
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+    private final boolean byDayOfWeek;
+    private final TreeSet<Integer> years;
+
+    private static final class LeastRecentlyUsed extends LinkedHashMap<String, CronSchedule> {
+        private static final long serialVersionUID = 1L;
+
+        LeastRecentlyUsed() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, CronSchedule> eldest) {
+            return size() > MAX_CACHED;
+        }
+    }
+
+    private CronSchedule(final CronExpression expression) {
+        this.expression = expression;
+        this.zone = expression.getTimeZone()
+                              .toZoneId();
+        this.seconds = mask(expression.seconds, 0, 59);
+        this.minutes = mask(expression.minutes, 0, 59);
+        this.hours = mask(expression.hours, 0, 23);
+        this.daysOfMonth = mask(expression.daysOfMonth, 1, 31);
+        this.months = mask(expression.months, 1, 12);
+        this.daysOfWeek = mask(expression.daysOfWeek, 1, 7);
+        final boolean domSpecified = !expression.daysOfMonth.contains(CronExpression.NO_SPEC);
+        final boolean dowSpecified = !expression.daysOfWeek.contains(CronExpression.NO_SPEC);
+        this.byDayOfWeek = dowSpecified;
+        this.years = expression.years.contains(CronExpression.ALL_SPEC) ? null : new TreeSet<>(expression.years);
+        this.compiled = domSpecified != dowSpecified && !expression.lastdayOfMonth && !expression.lastdayOfWeek
+                && !expression.nearestWeekday && expression.nthdayOfWeek == 0;
+    }
+
+    /**
+     * @param cron Cron expression in Quartz format
+     * @return Compiled (and cached) schedule for the expression in the default time zone
+     */
+    public static CronSchedule of(final String cron) {
+        return of(cron, TimeZone.getDefault());
+    }
+
+    /**
+     * @param cron Cron expression in Quartz format
+     * @param timeZone Time zone the expression is evaluated in
+     * @return Compiled (and cached) schedule for the expression
+     */
+    public static CronSchedule of(final String cron, final TimeZone timeZone) {
+        return cache.computeIfAbsent(timeZone.getID() + " " + cron, k -> {
+            final CronExpression expression = ExceptionSoftener.softenSupplier(() -> new CronExpression(cron))
+                                                               .get();
+            expression.setTimeZone(timeZone);
+            return new CronSchedule(expression);
+        });
+    }
+
+    public String getCronExpression() {
+        return expression.getCronExpression();
+    }
+
+    /**
+     * @param epochMillis Time to search from
+     * @return Next fire time strictly after epochMillis (in epoch millis), or -1 if the schedule never fires again
+     */
+    public long nextFireTimeAfter(final long epochMillis) {
+        if (!compiled)
+            return fallback(epochMillis);
+        LocalDateTime t = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone)
+                                       .truncatedTo(ChronoUnit.SECONDS)
+                                       .plusSeconds(1);
+        while (t.getYear() <= CronExpression.MAX_YEAR) {
+            if (years != null && !years.contains(t.getYear())) {
+                final Integer year = years.ceiling(t.getYear() + 1);
+                if (year == null)
+                    return -1;
+                t = LocalDateTime.of(year, 1, 1, 0, 0);
+                continue;
+            }
+            final int month = next(months, t.getMonthValue());
+            if (month != t.getMonthValue()) {
+                t = month < 0 ? LocalDateTime.of(t.getYear() + 1, 1, 1, 0, 0)
+                        : LocalDateTime.of(t.getYear(), month, 1, 0, 0);
+                continue;
+            }
+            if (!dayMatches(t)) {
+                t = t.truncatedTo(ChronoUnit.DAYS)
+                     .plusDays(1);
+                continue;
+            }
+            final int hour = next(hours, t.getHour());
+            if (hour != t.getHour()) {
+                t = hour < 0 ? t.truncatedTo(ChronoUnit.DAYS)
+                                .plusDays(1)
+                        : t.truncatedTo(ChronoUnit.DAYS)
+                           .withHour(hour);
+                continue;
+            }
+            final int minute = next(minutes, t.getMinute());
+            if (minute != t.getMinute()) {
+                t = minute < 0 ? t.truncatedTo(ChronoUnit.HOURS)
+                                  .plusHours(1)
+                        : t.truncatedTo(ChronoUnit.HOURS)
+                           .withMinute(minute);
+                continue;
+            }
+            final int second = next(seconds, t.getSecond());
+            if (second != t.getSecond()) {
+                t = second < 0 ? t.truncatedTo(ChronoUnit.MINUTES)
+                                  .plusMinutes(1)
+                        : t.withSecond(second);
+                continue;
+            }
+            //a local time skipped or repeated by a daylight saving transition is resolved the way CronExpression does
+            if (zone.getRules()
+                    .getValidOffsets(t)
+                    .size() != 1)
+                return fallback(epochMillis);
+            final long next = t.atZone(zone)
+                               .toInstant()
+                               .toEpochMilli();
+            if (next > epochMillis)
+                return next;
+            t = t.plusSeconds(1);
+        }
+        return -1;
+    }
+
+    private long fallback(final long epochMillis) {
+        final Date next = expression.getNextValidTimeAfter(new Date(epochMillis));
+        return next == null ? -1 : next.getTime();
+    }
+
+    /**
+     * @return Milliseconds from now until the next fire time, or -1 if the schedule never fires again
+     */
+    public long delayFromNow() {
+        final long now = System.currentTimeMillis();
+        final long next = nextFireTimeAfter(now);
+        return next < 0 ? -1 : next - now;
+    }
+
+    private boolean dayMatches(final LocalDateTime t) {
+        if (byDayOfWeek) {
+            //Quartz numbers days of the week from Sunday = 1
+            final int dow = t.getDayOfWeek()
+                             .getValue() % 7 + 1;
+            return (daysOfWeek & (1L << dow)) != 0;
+        }
+        return (daysOfMonth & (1L << t.getDayOfMonth())) != 0;
+    }
+
+    /**
+     * @return The smallest set bit at or above from, or -1 if there is none
+     */
+    private static int next(final long mask, final int from) {
+        final long remaining = mask & (-1L << from);
+        return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    private static long mask(final Set<Integer> values, final int min, final int max) {
+        if (values.contains(CronExpression.ALL_SPEC))
+            return (-1L >>> (63 - max)) & (-1L << min);
+        long mask = 0;
+        for (final Integer value : values) {
+            if (value >= min && value <= max)
+                mask |= 1L << value;
+        }
+        return mask;
+    }
+
+    @Override
+    public String toString() {
+        return "CronSchedule[" + expression.getCronExpression() + "]";
+    }
+}
@@ -1,6 +1,8 @@
 package cyclops.control;
 
 
+import com.oath.cyclops.async.SharedTimer;
+import com.oath.cyclops.util.stream.scheduling.cron.CronSchedule;
 import com.oath.cyclops.hkt.Higher;
 
 
@@ -414,25 +416,15 @@ public class Future<T> implements To<Future<T>>,
      * @param cron Cron expression in Quartz format
      * @param ex ScheduledExecutorService used to execute the provided Supplier
      * @param t The Supplier to execute to populate the Future
-     * @return Future populated on a Cron based Schedule
+     * @return Future populated on a Cron based Schedule, or failed with a NoSuchElementException if the expression has no
+     *         future fire time
      */
     public static <T> Future<T> schedule(final String cron, final ScheduledExecutorService ex, final Supplier<T> t) {
-
-        final CompletableFuture<T> future = new CompletableFuture<>();
-        final Future<T> wrapped = Future.of(future);
-        ReactiveSeq.generate(() -> {
-            try {
-                future.complete(t.get());
-            } catch (final Throwable t1) {
-                future.completeExceptionally(t1);
-            }
-            return 1;
-
-        })
-                   .limit(1)
-                   .schedule(cron, ex);
-
-        return wrapped;
+        final CronSchedule schedule = CronSchedule.of(cron);
+        final long delay = schedule.delayFromNow();
+        if (delay < 0)
+            return Future.ofError(new NoSuchElementException("Cron expression " + cron + " has no future fire time"));
+        return schedule(delay, ex, t);
     }
 
     /**
@@ -456,17 +448,14 @@ public class Future<T> implements To<Future<T>>,
         final CompletableFuture<T> future = new CompletableFuture<>();
         final Future<T> wrapped = Future.of(future);
 
-        ReactiveSeq.generate(() -> {
-            try {
-                future.complete(t.get());
-            } catch (final Throwable t1) {
-                future.completeExceptionally(t1);
-            }
-            return 1;
-
-        })
-                   .limit(1)
-                   .scheduleFixedDelay(delay, ex);
+        SharedTimer.instance()
+                   .schedule(() -> {
+                       try {
+                           future.complete(t.get());
+                       } catch (final Throwable t1) {
+                           future.completeExceptionally(t1);
+                       }
+                   }, delay, TimeUnit.MILLISECONDS, ex);
 
         return wrapped;
     }
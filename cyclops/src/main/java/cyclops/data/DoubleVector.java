@@ -0,0 +1,274 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.base.PrimitiveTrie;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent Vector specialized for double values. Elements are stored unboxed in 32 element double[] leaves of a bit mapped trie
+ * (see {@link Vector} for the boxed equivalent), so a DoubleVector uses roughly the same memory as a double[] of the same size.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DoubleVector implements Iterable<Double>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final DoubleVector EMPTY = new DoubleVector(PrimitiveTrie.empty(),new double[0],0);
+
+    private final PrimitiveTrie trie;
+    private final double[] tail;
+    private final int size;
+
+    public static DoubleVector empty(){
+        return EMPTY;
+    }
+
+    public static DoubleVector of(double... values){
+        return fromArray(values,values.length);
+    }
+
+    public static DoubleVector fromStream(DoubleStream stream){
+        double[] values = stream.toArray();
+        return fromArray(values,values.length);
+    }
+
+    public static DoubleVector fromIterable(Iterable<Double> it){
+        if(it instanceof DoubleVector){
+            return (DoubleVector)it;
+        }
+        double[] buffer = new double[PrimitiveTrie.WIDTH];
+        int length = 0;
+        for(Double next : it){
+            if(length==buffer.length)
+                buffer = Arrays.copyOf(buffer,length*2);
+            buffer[length++]=next;
+        }
+        return fromArray(buffer,length);
+    }
+
+    private static DoubleVector fromArray(double[] values, int length){
+        if(length==0)
+            return EMPTY;
+        int leaves = (length-1) >>> PrimitiveTrie.BITS_IN_INDEX;
+        Object[] nodes = new Object[leaves];
+        for(int i=0;i<leaves;i++){
+            nodes[i] = Arrays.copyOfRange(values,i*PrimitiveTrie.WIDTH,(i+1)*PrimitiveTrie.WIDTH);
+        }
+        return new DoubleVector(PrimitiveTrie.fromLeaves(nodes,leaves),Arrays.copyOfRange(values,leaves*PrimitiveTrie.WIDTH,length),length);
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size==0;
+    }
+
+    public Option<Double> get(int pos){
+        if(pos<0 || pos>=size)
+            return Option.none();
+        return Option.some(leafFor(pos)[pos & (PrimitiveTrie.WIDTH-1)]);
+    }
+
+    public double getOrElse(int pos, double alt){
+        if(pos<0 || pos>=size)
+            return alt;
+        return leafFor(pos)[pos & (PrimitiveTrie.WIDTH-1)];
+    }
+
+    public DoubleVector append(double value){
+        if(tail.length<PrimitiveTrie.WIDTH){
+            double[] newTail = Arrays.copyOf(tail,tail.length+1);
+            newTail[tail.length]=value;
+            return new DoubleVector(trie,newTail,size+1);
+        }
+        return new DoubleVector(trie.appendLeaf(tail),new double[]{value},size+1);
+    }
+
+    public DoubleVector appendAll(double... values){
+        DoubleVector res = this;
+        for(double next : values){
+            res = res.append(next);
+        }
+        return res;
+    }
+
+    public DoubleVector updateAt(int pos, double value){
+        if(pos<0 || pos>=size)
+            return this;
+        int tailStart = tailStart();
+        if(pos>=tailStart){
+            double[] newTail = Arrays.copyOf(tail,tail.length);
+            newTail[pos-tailStart]=value;
+            return new DoubleVector(trie,newTail,size);
+        }
+        int leafIndex = pos >>> PrimitiveTrie.BITS_IN_INDEX;
+        double[] leaf = Arrays.copyOf((double[])trie.leafAt(leafIndex),PrimitiveTrie.WIDTH);
+        leaf[pos & (PrimitiveTrie.WIDTH-1)]=value;
+        return new DoubleVector(trie.updateLeaf(leafIndex,leaf),tail,size);
+    }
+
+    public DoubleVector map(DoubleUnaryOperator fn){
+        return new DoubleVector(trie.mapLeaves(leaf->map((double[])leaf,fn)),map(tail,fn),size);
+    }
+
+    private static double[] map(double[] leaf, DoubleUnaryOperator fn){
+        double[] res = new double[leaf.length];
+        for(int i=0;i<leaf.length;i++){
+            res[i]=fn.applyAsDouble(leaf[i]);
+        }
+        return res;
+    }
+
+    public <R> Vector<R> mapToObj(DoubleFunction<? extends R> fn){
+        Vector.Builder<R> res = Vector.builder();
+        PrimitiveIterator.OfDouble it = iterator();
+        while(it.hasNext()){
+            res.append(fn.apply(it.nextDouble()));
+        }
+        return res.build();
+    }
+
+    public DoubleVector filter(DoublePredicate pred){
+        double[] buffer = new double[PrimitiveTrie.WIDTH];
+        int length = 0;
+        PrimitiveIterator.OfDouble it = iterator();
+        while(it.hasNext()){
+            double next = it.nextDouble();
+            if(pred.test(next)){
+                if(length==buffer.length)
+                    buffer = Arrays.copyOf(buffer,length*2);
+                buffer[length++]=next;
+            }
+        }
+        if(length==size)
+            return this;
+        return fromArray(buffer,length);
+    }
+
+    public double foldLeft(double zero, DoubleBinaryOperator fn){
+        double res = zero;
+        int leaves = trie.leafCount();
+        for(int i=0;i<leaves;i++){
+            for(double next : (double[])trie.leafAt(i)){
+                res = fn.applyAsDouble(res,next);
+            }
+        }
+        for(double next : tail){
+            res = fn.applyAsDouble(res,next);
+        }
+        return res;
+    }
+
+    public double sum(){
+        return foldLeft(0d,Double::sum);
+    }
+
+    public double[] toArray(){
+        double[] res = new double[size];
+        int leaves = trie.leafCount();
+        for(int i=0;i<leaves;i++){
+            System.arraycopy(trie.leafAt(i),0,res,i*PrimitiveTrie.WIDTH,PrimitiveTrie.WIDTH);
+        }
+        System.arraycopy(tail,0,res,tailStart(),tail.length);
+        return res;
+    }
+
+    /**
+     * @return A sequential DoubleStream that reads directly from the leaves of this DoubleVector without copying or boxing
+     */
+    public DoubleStream doubleStream(){
+        return StreamSupport.doubleStream(spliterator(),false);
+    }
+
+    public ReactiveSeq<Double> stream(){
+        return ReactiveSeq.fromDoubleStream(doubleStream());
+    }
+
+    @Override
+    public Spliterator.OfDouble spliterator(){
+        return Spliterators.spliterator(iterator(),size,Spliterator.ORDERED | Spliterator.SIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator(){
+        return new PrimitiveIterator.OfDouble() {
+            int index = 0;
+            double[] leaf = tail;
+
+            @Override
+            public boolean hasNext() {
+                return index<size;
+            }
+
+            @Override
+            public double nextDouble() {
+                if(index>=size)
+                    throw new NoSuchElementException();
+                int pos = index & (PrimitiveTrie.WIDTH-1);
+                if(pos==0)
+                    leaf = leafFor(index);
+                index++;
+                return leaf[pos];
+            }
+        };
+    }
+
+    private int tailStart(){
+        return trie.leafCount() << PrimitiveTrie.BITS_IN_INDEX;
+    }
+
+    private double[] leafFor(int pos){
+        if(pos>=tailStart())
+            return tail;
+        return (double[])trie.leafAt(pos >>> PrimitiveTrie.BITS_IN_INDEX);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this==o)
+            return true;
+        if(!(o instanceof DoubleVector))
+            return false;
+        DoubleVector other = (DoubleVector)o;
+        if(size!=other.size)
+            return false;
+        PrimitiveIterator.OfDouble a = iterator();
+        PrimitiveIterator.OfDouble b = other.iterator();
+        while(a.hasNext()){
+            if(Double.compare(a.nextDouble(),b.nextDouble())!=0)
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        PrimitiveIterator.OfDouble it = iterator();
+        while(it.hasNext()){
+            hashCode = 31 * hashCode + Double.hashCode(it.nextDouble());
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return stream().join(", ","[","]");
+    }
+}
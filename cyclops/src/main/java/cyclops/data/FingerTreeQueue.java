@@ -0,0 +1,816 @@
+package cyclops.data;
+
+import com.oath.cyclops.types.persistent.PersistentCollection;
+import com.oath.cyclops.types.persistent.PersistentQueue;
+import cyclops.control.Option;
+import cyclops.data.base.FingerTree;
+import cyclops.data.tuple.Tuple3;
+import cyclops.data.tuple.Tuple4;
+import cyclops.function.Function3;
+import cyclops.function.Function4;
+import cyclops.function.Monoid;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import org.reactivestreams.Publisher;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An ImmutableQueue backed by a 2-3 finger tree annotated with sizes.
+ *
+ * Unlike {@link BankersQueue} there is no reversal of the back list when the front runs out, access to both
+ * ends is amortized O(1) and indexing, splitting and concatenation (via appendAll / prependAll with another
+ * FingerTreeQueue, take, drop, insertAt, removeAt and updateAt) are O(log n).
+ *
+ * @param <T> Element type
+ */
+public interface FingerTreeQueue<T> extends ImmutableQueue<T>, Serializable {
+    long serialVersionUID = 1L;
+
+    @SuppressWarnings("unchecked") //Collectors.toList() accumulates into a List
+    static <T> Collector<T, List<T>, FingerTreeQueue<T>> collector() {
+        Collector<T, ?, List<T>> c  = Collectors.toList();
+        return Collectors.<T, List<T>, Iterable<T>,FingerTreeQueue<T>>collectingAndThen((Collector)c,FingerTreeQueue::fromIterable);
+    }
+    static <T> FingerTreeQueue<T> fromStream(Stream<T> stream){
+        return fromIterable(ReactiveSeq.fromStream(stream));
+    }
+    static <T> FingerTreeQueue<T> fromIterable(Iterable<T> iterable){
+        if(iterable instanceof FingerTreeQueue)
+            return (FingerTreeQueue<T>)iterable;
+        return ofTree(FingerTree.fromIterable(iterable));
+    }
+    static <T> FingerTreeQueue<T> fromIterator(Iterator<T> it){
+        return fromIterable(()->it);
+    }
+    static <T> FingerTreeQueue<T> ofTree(FingerTree<T> tree){
+        return tree.isEmpty() ? empty() : new Cons<>(tree);
+    }
+    @SuppressWarnings("unchecked") //Nil holds no elements, so it can be shared across all element types
+    static <T> FingerTreeQueue<T> empty(){
+        return (FingerTreeQueue<T>)Nil.Instance;
+    }
+    @SafeVarargs
+    @SuppressWarnings("varargs") //FingerTree.of only reads from values
+    static <T> FingerTreeQueue<T> of(T... values) {
+        return ofTree(FingerTree.of(values));
+    }
+
+    FingerTree<T> tree();
+
+    @Override
+    default <R> FingerTreeQueue<R> unitIterable(Iterable<R> it){
+        return fromIterable(it);
+    }
+
+    @Override
+    default <R> FingerTreeQueue<R> unitStream(Stream<R> stream){
+        return fromStream(stream);
+    }
+
+    @Override
+    default FingerTreeQueue<T> emptyUnit(){
+        return empty();
+    }
+
+    default Tuple2<T,FingerTreeQueue<T>> dequeue(T defaultValue){
+        FingerTree<T> tree = tree();
+        if(tree.isEmpty())
+            return Tuple.tuple(defaultValue,this);
+        return Tuple.tuple(tree.head(),ofTree(tree.tail()));
+    }
+
+    default Tuple2<T,FingerTreeQueue<T>> dequeueLast(T defaultValue){
+        FingerTree<T> tree = tree();
+        if(tree.isEmpty())
+            return Tuple.tuple(defaultValue,this);
+        return Tuple.tuple(tree.last(),ofTree(tree.init()));
+    }
+
+    default T last(T alt){
+        FingerTree<T> tree = tree();
+        return tree.isEmpty() ? alt : tree.last();
+    }
+
+    default FingerTreeQueue<T> enqueue(T value){
+        return append(value);
+    }
+
+    default FingerTreeQueue<T> tail(){
+        return ofTree(tree().tail());
+    }
+
+    default FingerTreeQueue<T> init(){
+        return ofTree(tree().init());
+    }
+
+    @Override
+    default int size(){
+        return tree().size();
+    }
+
+    @Override
+    default boolean isEmpty(){
+        return tree().isEmpty();
+    }
+
+    @Override
+    default Option<T> get(int pos){
+        return tree().get(pos);
+    }
+
+    @Override
+    default T getOrElse(int pos, T alt){
+        return tree().getOrElse(pos,alt);
+    }
+
+    @Override
+    default T getOrElseGet(int pos, Supplier<? extends T> alt){
+        return tree().getOrElseGet(pos,alt);
+    }
+
+    @Override
+    default Iterator<T> iterator(){
+        return tree().iterator();
+    }
+
+    @Override
+    default ReactiveSeq<T> stream(){
+        return ReactiveSeq.fromIterable(tree());
+    }
+
+    @Override
+    default LazySeq<T> lazySeq(){
+        return LazySeq.fromIterable(tree());
+    }
+
+    @Override
+    default FingerTreeQueue<T> prepend(T value){
+        return new Cons<>(tree().prepend(value));
+    }
+
+    @Override
+    default FingerTreeQueue<T> append(T value){
+        return new Cons<>(tree().append(value));
+    }
+
+    @Override
+    default FingerTreeQueue<T> prependAll(Iterable<? extends T> value){
+        return ofTree(Cons.<T>treeOf(value).concat(tree()));
+    }
+
+    @Override
+    default FingerTreeQueue<T> appendAll(Iterable<? extends T> value){
+        return ofTree(tree().concat(Cons.<T>treeOf(value)));
+    }
+
+    @Override
+    default FingerTreeQueue<T> plus(T value){
+        return append(value);
+    }
+
+    @Override
+    default FingerTreeQueue<T> plusAll(Iterable<? extends T> list) {
+        return appendAll(list);
+    }
+
+    @Override
+    default FingerTreeQueue<T> minus() {
+        return tail();
+    }
+
+    @Override
+    default FingerTreeQueue<T> drop(long num){
+        return ofTree(tree().drop((int)Math.min(num,Integer.MAX_VALUE)));
+    }
+
+    @Override
+    default FingerTreeQueue<T> take(long num){
+        return ofTree(tree().take((int)Math.min(num,Integer.MAX_VALUE)));
+    }
+
+    @Override
+    default FingerTreeQueue<T> dropRight(int num) {
+        return take(size()-(long)Math.max(num,0));
+    }
+
+    @Override
+    default FingerTreeQueue<T> takeRight(int num) {
+        return drop(size()-(long)Math.max(num,0));
+    }
+
+    @Override
+    default FingerTreeQueue<T> slice(long from, long to) {
+        long start = Math.max(from,0);
+        return drop(start).take(to-start);
+    }
+
+    @Override
+    default Tuple2<ImmutableQueue<T>, ImmutableQueue<T>> splitAt(int n) {
+        Tuple2<FingerTree<T>, FingerTree<T>> split = tree().split(n);
+        return Tuple.tuple(ofTree(split._1()),ofTree(split._2()));
+    }
+
+    @Override
+    default FingerTreeQueue<T> deleteBetween(int start, int end) {
+        if(start>=end || end<=0 || start>=size())
+            return this;
+        Tuple2<FingerTree<T>, FingerTree<T>> split = tree().split(Math.max(start,0));
+        return ofTree(split._1().concat(split._2().drop(end-Math.max(start,0))));
+    }
+
+    @Override
+    default FingerTreeQueue<T> insertAt(int pos, T value) {
+        return ofTree(tree().insertAt(pos,value));
+    }
+
+    @Override
+    default FingerTreeQueue<T> insertAt(int pos, Iterable<? extends T> values) {
+        Tuple2<FingerTree<T>, FingerTree<T>> split = tree().split(pos);
+        return ofTree(split._1().concat(Cons.<T>treeOf(values)).concat(split._2()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") //values is only read from
+    default FingerTreeQueue<T> insertAt(int pos, T... values) {
+        return insertAt(pos,Arrays.asList(values));
+    }
+
+    @Override
+    default FingerTreeQueue<T> removeAt(long pos) {
+        if(pos<0 || pos>=size())
+            return this;
+        return ofTree(tree().removeAt((int)pos));
+    }
+
+    @Override
+    default FingerTreeQueue<T> updateAt(int pos, T value) {
+        return ofTree(tree().set(pos,value));
+    }
+
+    @Override
+    default FingerTreeQueue<T> replace(T currentElement, T newElement) {
+        int pos = 0;
+        for(T next : this){
+            if(Objects.equals(next,currentElement))
+                return updateAt(pos,newElement);
+            pos++;
+        }
+        return this;
+    }
+
+    @Override
+    default FingerTreeQueue<T> removeFirst(Predicate<? super T> pred) {
+        int pos = 0;
+        for(T next : this){
+            if(pred.test(next))
+                return removeAt(pos);
+            pos++;
+        }
+        return this;
+    }
+
+    @Override
+    default FingerTreeQueue<T> removeValue(T value) {
+        return removeFirst(e->Objects.equals(e,value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") //values is only read from
+    default FingerTreeQueue<T> removeAll(T... values) {
+        return (FingerTreeQueue<T>)ImmutableQueue.super.removeAll(values);
+    }
+
+    @Override
+    default FingerTreeQueue<T> removeAll(Iterable<? extends T> it){
+        return (FingerTreeQueue<T>) ImmutableQueue.super.removeAll(it);
+    }
+
+    @Override
+    default FingerTreeQueue<T> reverse() {
+        return ofTree(tree().reverse());
+    }
+
+    @Override
+    default FingerTreeQueue<T> filter(Predicate<? super T> fn) {
+        return fromStream(stream().filter(fn));
+    }
+
+    @Override
+    default <R> FingerTreeQueue<R> map(Function<? super T, ? extends R> fn) {
+        return ofTree(tree().map(fn));
+    }
+
+    @Override
+    default <R> FingerTreeQueue<R> flatMap(Function<? super T, ? extends ImmutableQueue<? extends R>> fn) {
+        return fromStream(stream().concatMap(fn));
+    }
+
+    @Override
+    default <R> FingerTreeQueue<R> concatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
+        return fromStream(stream().concatMap(fn));
+    }
+
+    @Override
+    default <R> FingerTreeQueue<R> mergeMap(Function<? super T, ? extends Publisher<? extends R>> fn) {
+        return fromStream(stream().mergeMap(fn));
+    }
+
+    @Override
+    default <R> FingerTreeQueue<R> mergeMap(int maxConcurecy, Function<? super T, ? extends Publisher<? extends R>> fn) {
+        return fromStream(stream().mergeMap(maxConcurecy,fn));
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Cons<T> implements FingerTreeQueue<T>, ImmutableQueue.Some<T> {
+        private static final long serialVersionUID = 1L;
+        private final FingerTree<T> tree;
+
+        /**
+         * @return The FingerTree backing it, if it is a FingerTreeQueue, otherwise a new FingerTree of its elements
+         */
+        static <T> FingerTree<T> treeOf(Iterable<? extends T> it){
+            if(it instanceof FingerTreeQueue)
+                return FingerTree.fromIterable(((FingerTreeQueue<? extends T>)it).tree());
+            return FingerTree.fromIterable(it);
+        }
+
+        @Override
+        public FingerTree<T> tree() {
+            return tree;
+        }
+
+        @Override
+        public T head() {
+            return tree.head();
+        }
+
+        @Override
+        public FingerTreeQueue<T> tail() {
+            return ofTree(tree.tail());
+        }
+
+        @Override
+        public <R> R fold(Function<? super Some<T>, ? extends R> fn1, Function<? super None<T>, ? extends R> fn2) {
+            return fn1.apply(this);
+        }
+
+        @Override
+        public ImmutableQueue<T> onEmpty(T value) {
+            return this;
+        }
+
+        @Override
+        public ImmutableQueue<T> onEmptyGet(Supplier<? extends T> supplier) {
+            return this;
+        }
+
+        @Override
+        public ImmutableQueue<T> onEmptySwitch(Supplier<? extends ImmutableQueue<T>> supplier) {
+            return this;
+        }
+
+        @Override
+        public Tuple2<T, ImmutableQueue<T>> unapply() {
+            return Tuple.tuple(head(),tail());
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = 1;
+            for (T next : this)
+                hashCode = 31*hashCode + (next==null ? 0 : next.hashCode());
+            return hashCode;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked") //elements are only compared, by equals
+        public boolean equals(Object obj) {
+            if(obj==null)
+                return false;
+            if (obj == this)
+                return true;
+            if(obj instanceof PersistentQueue) {
+                return equalToIteration((Iterable<T>)obj);
+            }
+            return false;
+        }
+
+        @Override
+        public String toString(){
+            return tree.toString();
+        }
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public final class Nil<T> implements FingerTreeQueue<T>, ImmutableQueue.None<T> {
+        private static final long serialVersionUID = 1L;
+        static final Nil<Object> Instance = new Nil<>();
+
+        @Override
+        public FingerTree<T> tree() {
+            return FingerTree.empty();
+        }
+
+        @Override
+        public <R> R fold(Function<? super Some<T>, ? extends R> fn1, Function<? super None<T>, ? extends R> fn2) {
+            return fn2.apply(this);
+        }
+
+        @Override
+        public ImmutableQueue<T> onEmpty(T value) {
+            return append(value);
+        }
+
+        @Override
+        public ImmutableQueue<T> onEmptyGet(Supplier<? extends T> supplier) {
+            return append(supplier.get());
+        }
+
+        @Override
+        public ImmutableQueue<T> onEmptySwitch(Supplier<? extends ImmutableQueue<T>> supplier) {
+            return supplier.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(obj instanceof PersistentQueue){
+                return ((PersistentQueue<?>)obj).size()==0;
+            }
+            return false;
+        }
+
+        @Override
+        public String toString(){
+            return "[]";
+        }
+
+        private Object readResolve() {
+            return Instance;
+        }
+    }
+
+    default FingerTreeQueue<T> takeWhile(Predicate<? super T> p) {
+        return (FingerTreeQueue<T>)ImmutableQueue.super.takeWhile(p);
+    }
+    default FingerTreeQueue<T> dropWhile(Predicate<? super T> p) {
+        return (FingerTreeQueue<T>)ImmutableQueue.super.dropWhile(p);
+    }
+
+    default Tuple2<FingerTreeQueue<T>,FingerTreeQueue<T>> duplicate(){
+        return Tuple.tuple(this,this);
+    }
+    default <R1, R2> Tuple2<FingerTreeQueue<R1>, FingerTreeQueue<R2>> unzip(Function<? super T, Tuple2<? extends R1, ? extends R2>> fn) {
+        Tuple2<FingerTreeQueue<R1>, FingerTreeQueue<Tuple2<? extends R1, ? extends R2>>> x = map(fn).duplicate().map1(s -> s.map(Tuple2::_1));
+        return x.map2(s -> s.map(Tuple2::_2));
+    }
+
+
+
+    default <R> R foldLeft(R zero, BiFunction<R, ? super T, R> f){
+        R acc= zero;
+        for(T next : this){
+            acc= f.apply(acc,next);
+        }
+        return acc;
+    }
+
+  @Override
+    default <U> FingerTreeQueue<U> ofType(Class<? extends U> type) {
+        return fromStream(stream().ofType(type));
+    }
+
+    @Override
+    default FingerTreeQueue<T> filterNot(Predicate<? super T> predicate) {
+        return (FingerTreeQueue<T>)ImmutableQueue.super.filterNot(predicate);
+    }
+
+    @Override
+    default FingerTreeQueue<T> notNull() {
+        return (FingerTreeQueue<T>)ImmutableQueue.super.notNull();
+    }
+
+    @Override
+    default FingerTreeQueue<T> peek(Consumer<? super T> c) {
+        return (FingerTreeQueue<T>)ImmutableQueue.super.peek(c);
+    }
+
+
+
+    @Override
+    default FingerTreeQueue<T> removeStream(Stream<? extends T> stream) {
+        return (FingerTreeQueue<T>)ImmutableQueue.super.removeStream(stream);
+    }
+
+    @Override
+    default FingerTreeQueue<T> retainAll(Iterable<? extends T> it) {
+        return (FingerTreeQueue<T>)ImmutableQueue.super.retainAll(it);
+    }
+
+    @Override
+    default FingerTreeQueue<T> retainStream(Stream<? extends T> stream) {
+        return (FingerTreeQueue<T>)ImmutableQueue.super.retainStream(stream);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") //values is only read from
+    default FingerTreeQueue<T> retainAll(T... values) {
+        return (FingerTreeQueue<T>)ImmutableQueue.super.retainAll(values);
+    }
+
+    @Override
+    default FingerTreeQueue<ReactiveSeq<T>> permutations() {
+        return (FingerTreeQueue<ReactiveSeq<T>>)ImmutableQueue.super.permutations();
+    }
+
+    @Override
+    default FingerTreeQueue<ReactiveSeq<T>> combinations(int size) {
+        return (FingerTreeQueue<ReactiveSeq<T>>)ImmutableQueue.super.combinations(size);
+    }
+
+    @Override
+    default FingerTreeQueue<ReactiveSeq<T>> combinations() {
+        return (FingerTreeQueue<ReactiveSeq<T>>)ImmutableQueue.super.combinations();
+    }
+
+  @Override
+    default <T2, R> FingerTreeQueue<R> zip(BiFunction<? super T, ? super T2, ? extends R> fn, Publisher<? extends T2> publisher) {
+        return fromStream(stream().zip(fn, publisher));
+    }
+
+    @Override
+    default <U, R> FingerTreeQueue<R> zipWithStream(Stream<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
+        return fromStream(stream().zipWithStream(other,zipper));
+    }
+
+    @Override
+    default <U> FingerTreeQueue<Tuple2<T, U>> zipWithPublisher(Publisher<? extends U> other) {
+        return fromStream(stream().zipWithPublisher(other));
+    }
+
+    @Override
+    default <U> FingerTreeQueue<Tuple2<T, U>> zip(Iterable<? extends U> other) {
+        return fromStream(stream().zip(other));
+    }
+
+    @Override
+    default <S, U, R> FingerTreeQueue<R> zip3(Iterable<? extends S> second, Iterable<? extends U> third, Function3<? super T, ? super S, ? super U, ? extends R> fn3) {
+        return fromStream(stream().zip3(second,third,fn3));
+    }
+
+    @Override
+    default <T2, T3, T4, R> FingerTreeQueue<R> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth, Function4<? super T, ? super T2, ? super T3, ? super T4, ? extends R> fn) {
+        return fromStream(stream().zip4(second,third,fourth,fn));
+    }
+
+    @Override
+    default FingerTreeQueue<T> combine(BiPredicate<? super T, ? super T> predicate, BinaryOperator<T> op) {
+        return (FingerTreeQueue<T>)ImmutableQueue.super.combine(predicate,op);
+    }
+
+    @Override
+    default FingerTreeQueue<T> combine(Monoid<T> op, BiPredicate<? super T, ? super T> predicate) {
+        return (FingerTreeQueue<T>)ImmutableQueue.super.combine(op,predicate);
+    }
+
+    @Override
+    default FingerTreeQueue<T> cycle(long times) {
+        return (FingerTreeQueue<T>)ImmutableQueue.super.cycle(times);
+    }
+
+    @Override
+    default FingerTreeQueue<T> cycle(Monoid<T> m, long times) {
+        return (FingerTreeQueue<T>)ImmutableQueue.super.cycle(m,times);
+    }
+
+    @Override
+    default FingerTreeQueue<T> cycleWhile(Predicate<? super T> predicate) {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.cycleWhile(predicate);
+    }
+
+    @Override
+    default FingerTreeQueue<T> cycleUntil(Predicate<? super T> predicate) {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.cycleUntil(predicate);
+    }
+
+    @Override
+    default <U, R> FingerTreeQueue<R> zip(Iterable<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
+        return fromStream(stream().zip(other,zipper));
+    }
+
+    @Override
+    default <S, U> FingerTreeQueue<Tuple3<T, S, U>> zip3(Iterable<? extends S> second, Iterable<? extends U> third) {
+        return fromStream(stream().zip3(second,third));
+    }
+
+    @Override
+    default <T2, T3, T4> FingerTreeQueue<Tuple4<T, T2, T3, T4>> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth) {
+        return fromStream(stream().zip4(second,third,fourth));
+    }
+
+    @Override
+    default FingerTreeQueue<Tuple2<T, Long>> zipWithIndex() {
+        return (FingerTreeQueue<Tuple2<T,Long>>) ImmutableQueue.super.zipWithIndex();
+    }
+
+    @Override
+    default FingerTreeQueue<Seq<T>> sliding(int windowSize) {
+        return (FingerTreeQueue<Seq<T>>) ImmutableQueue.super.sliding(windowSize);
+    }
+
+    @Override
+    default FingerTreeQueue<Seq<T>> sliding(int windowSize, int increment) {
+        return (FingerTreeQueue<Seq<T>>) ImmutableQueue.super.sliding(windowSize,increment);
+    }
+
+    @Override
+    default <C extends PersistentCollection<? super T>> FingerTreeQueue<C> grouped(int size, Supplier<C> supplier) {
+        return (FingerTreeQueue<C>) ImmutableQueue.super.grouped(size,supplier);
+    }
+
+    @Override
+    default FingerTreeQueue<Vector<T>> groupedUntil(Predicate<? super T> predicate) {
+        return (FingerTreeQueue<Vector<T>>) ImmutableQueue.super.groupedUntil(predicate);
+    }
+
+    @Override
+    default FingerTreeQueue<Vector<T>> groupedUntil(BiPredicate<Vector<? super T>, ? super T> predicate) {
+        return (FingerTreeQueue<Vector<T>>) ImmutableQueue.super.groupedUntil(predicate);
+    }
+
+    @Override
+    default <U> FingerTreeQueue<Tuple2<T, U>> zipWithStream(Stream<? extends U> other) {
+        return fromStream(stream().zipWithStream(other));
+    }
+
+    @Override
+    default FingerTreeQueue<Vector<T>> groupedWhile(Predicate<? super T> predicate) {
+        return (FingerTreeQueue<Vector<T>>) ImmutableQueue.super.groupedWhile(predicate);
+    }
+
+    @Override
+    default <C extends PersistentCollection<? super T>> FingerTreeQueue<C> groupedWhile(Predicate<? super T> predicate, Supplier<C> factory) {
+        return (FingerTreeQueue<C>) ImmutableQueue.super.groupedWhile(predicate,factory);
+    }
+
+    @Override
+    default <C extends PersistentCollection<? super T>> FingerTreeQueue<C> groupedUntil(Predicate<? super T> predicate, Supplier<C> factory) {
+        return (FingerTreeQueue<C>) ImmutableQueue.super.groupedUntil(predicate,factory);
+    }
+
+    @Override
+    default FingerTreeQueue<Vector<T>> grouped(int groupSize) {
+        return (FingerTreeQueue<Vector<T>>) ImmutableQueue.super.grouped(groupSize);
+    }
+
+    @Override
+    default FingerTreeQueue<T> distinct() {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.distinct();
+    }
+
+    @Override
+    default FingerTreeQueue<T> scanLeft(Monoid<T> monoid) {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.scanLeft(monoid);
+    }
+
+    @Override
+    default <U> FingerTreeQueue<U> scanLeft(U seed, BiFunction<? super U, ? super T, ? extends U> function) {
+        return (FingerTreeQueue<U>) ImmutableQueue.super.scanLeft(seed,function);
+    }
+
+    @Override
+    default FingerTreeQueue<T> scanRight(Monoid<T> monoid) {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.scanRight(monoid);
+    }
+
+    @Override
+    default <U> FingerTreeQueue<U> scanRight(U identity, BiFunction<? super T, ? super U, ? extends U> combiner) {
+        return (FingerTreeQueue<U>) ImmutableQueue.super.scanRight(identity,combiner);
+    }
+
+    @Override
+    default FingerTreeQueue<T> sorted() {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.sorted();
+    }
+
+    @Override
+    default FingerTreeQueue<T> sorted(Comparator<? super T> c) {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.sorted(c);
+    }
+
+
+
+    @Override
+    default FingerTreeQueue<T> takeUntil(Predicate<? super T> p) {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.takeUntil(p);
+    }
+
+    @Override
+    default FingerTreeQueue<T> dropUntil(Predicate<? super T> p) {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.dropUntil(p);
+    }
+
+
+
+
+
+    @Override
+    default FingerTreeQueue<T> intersperse(T value) {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.intersperse(value);
+    }
+
+    @Override
+    default FingerTreeQueue<T> shuffle() {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.shuffle();
+    }
+
+    @Override
+    default FingerTreeQueue<T> shuffle(Random random) {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.shuffle(random);
+    }
+
+
+
+    @Override
+    default FingerTreeQueue<T> prependStream(Stream<? extends T> stream) {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.prependStream(stream);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") //values is only read from
+    default FingerTreeQueue<T> appendAll(T... values) {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.appendAll(values);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") //values is only read from
+    default FingerTreeQueue<T> prependAll(T... values) {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.prependAll(values);
+    }
+
+
+    @Override
+    default FingerTreeQueue<T> insertStreamAt(int pos, Stream<T> stream) {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.insertStreamAt(pos,stream);
+    }
+
+
+
+    @Override
+    default <U extends Comparable<? super U>> FingerTreeQueue<T> sorted(Function<? super T, ? extends U> function) {
+        return (FingerTreeQueue<T>) ImmutableQueue.super.sorted(function);
+    }
+    default String mkString(){
+        return stream().join(",","[","]");
+    }
+
+
+  @Override
+  @SuppressWarnings("unchecked") //the ImmutableQueue default builds its result via concatMap, which returns a FingerTreeQueue
+  default <R1, R2, R3, R> FingerTreeQueue<R> forEach4(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends Iterable<R2>> iterable2, Function3<? super T, ? super R1, ? super R2, ? extends Iterable<R3>> iterable3, Function4<? super T, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
+    return (FingerTreeQueue< R>) ImmutableQueue.super.forEach4(iterable1,iterable2,iterable3,yieldingFunction);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") //the ImmutableQueue default builds its result via concatMap, which returns a FingerTreeQueue
+  default <R1, R2, R3, R> FingerTreeQueue<R> forEach4(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends Iterable<R2>> iterable2, Function3<? super T, ? super R1, ? super R2, ? extends Iterable<R3>> iterable3, Function4<? super T, ? super R1, ? super R2, ? super R3, Boolean> filterFunction, Function4<? super T, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
+    return (FingerTreeQueue< R>) ImmutableQueue.super.forEach4(iterable1,iterable2,iterable3,filterFunction,yieldingFunction);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") //the ImmutableQueue default builds its result via concatMap, which returns a FingerTreeQueue
+  default <R1, R2, R> FingerTreeQueue<R> forEach3(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends Iterable<R2>> iterable2, Function3<? super T, ? super R1, ? super R2, ? extends R> yieldingFunction) {
+    return (FingerTreeQueue< R>) ImmutableQueue.super.forEach3(iterable1,iterable2,yieldingFunction);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") //the ImmutableQueue default builds its result via concatMap, which returns a FingerTreeQueue
+  default <R1, R2, R> FingerTreeQueue<R> forEach3(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends Iterable<R2>> iterable2, Function3<? super T, ? super R1, ? super R2, Boolean> filterFunction, Function3<? super T, ? super R1, ? super R2, ? extends R> yieldingFunction) {
+    return (FingerTreeQueue< R>) ImmutableQueue.super.forEach3(iterable1,iterable2,filterFunction,yieldingFunction);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") //the ImmutableQueue default builds its result via concatMap, which returns a FingerTreeQueue
+  default <R1, R> FingerTreeQueue<R> forEach2(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends R> yieldingFunction) {
+    return (FingerTreeQueue< R>) ImmutableQueue.super.forEach2(iterable1,yieldingFunction);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") //the ImmutableQueue default builds its result via concatMap, which returns a FingerTreeQueue
+  default <R1, R> FingerTreeQueue<R> forEach2(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, Boolean> filterFunction, BiFunction<? super T, ? super R1, ? extends R> yieldingFunction) {
+    return (FingerTreeQueue< R>) ImmutableQueue.super.forEach2(iterable1,filterFunction,yieldingFunction);
+  }
+}
@@ -8,9 +8,9 @@ import cyclops.control.Trampoline;
 import cyclops.function.Function3;
 import cyclops.function.Function4;
 import com.oath.cyclops.hkt.DataWitness.hashMap;
+import cyclops.data.base.CHAMP;
 import cyclops.data.base.HAMT;
 import cyclops.reactive.ReactiveSeq;
-import lombok.AllArgsConstructor;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 
@@ -24,14 +24,24 @@ import java.util.stream.Stream;
 
 
 
-@AllArgsConstructor
 public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,Higher2<hashMap,K,V>, Serializable{
 
-    private final HAMT.Node<K,V> map;
+    private final CHAMP.Node<K,V> map;
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Create a HashMap containing the entries of the supplied HAMT
+     */
+    public HashMap(HAMT.Node<K,V> map){
+        this(HashMap.<K,V>builder().putAll(map.lazyList()).build().map);
+    }
+
+    private HashMap(CHAMP.Node<K,V> map){
+        this.map = map;
+    }
+
     public static <K,V> HashMap<K,V> empty(){
-        return new HashMap<>(HAMT.empty());
+        return new HashMap<>(CHAMP.empty());
     }
     public static <K,V> HashMap<K,V> of(K k,V v){
         HashMap<K,V> res = empty();
@@ -40,21 +50,21 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
     }
 
     public static <K,V> HashMap<K,V> fromMap(Map<K,V> map){
-        HashMap<K,V> res = empty();
+        Builder<K,V> res = builder();
         for(Map.Entry<K,V> next : map.entrySet()){
-            res = res.put(next.getKey(),next.getValue());
+            res.put(next.getKey(),next.getValue());
         }
-        return res;
+        return res.build();
     }
     public static <K,V> HashMap<K,V> fromMap(PersistentMap<K,V> map){
         if(map instanceof HashMap){
             return (HashMap)map;
         }
-        HashMap<K,V> res = empty();
+        Builder<K,V> res = builder();
         for(Tuple2<K,V> next : map){
-            res = res.put(next._1(),next._2());
+            res.put(next._1(),next._2());
         }
-        return res;
+        return res.build();
     }
     public static <K,V> HashMap<K,V> of(K k1,V v1,K k2, V v2){
         HashMap<K,V> res = empty();
@@ -62,7 +72,51 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
     }
 
     public static <K,V> HashMap<K,V> fromStream(Stream<Tuple2<K,V>> stream){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(),(m,t2)->m.put(t2._1(),t2._2()));
+        Builder<K,V> res = builder();
+        Iterator<Tuple2<K,V>> it = stream.iterator();
+        while(it.hasNext()){
+            Tuple2<K,V> next = it.next();
+            res.put(next._1(),next._2());
+        }
+        return res.build();
+    }
+
+    public static <K,V> Builder<K,V> builder(){
+        return new Builder<>();
+    }
+
+    /**
+     * Transient builder for bulk loading a HashMap. CHAMP nodes created by the builder are updated in place,
+     * rather than copied per entry, and build() freezes the current state into an immutable HashMap in O(1).
+     * The builder can continue to be used after build(), nodes shared with a built HashMap are copied before
+     * being modified.
+     *
+     * A Builder is not thread safe.
+     */
+    public static final class Builder<K,V>{
+        private CHAMP.Node<K,V> map = CHAMP.empty();
+        private Object edit = new Object();
+
+        public Builder<K,V> put(K key, V value){
+            map = map.plus(edit,0,key.hashCode(),key,value);
+            return this;
+        }
+
+        public Builder<K,V> putAll(Iterable<? extends Tuple2<? extends K, ? extends V>> entries){
+            for(Tuple2<? extends K, ? extends V> next : entries){
+                put(next._1(),next._2());
+            }
+            return this;
+        }
+
+        public int size(){
+            return map.size();
+        }
+
+        public HashMap<K,V> build(){
+            edit = new Object();
+            return new HashMap<>(map);
+        }
     }
 
     public int size(){
@@ -155,7 +209,7 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public HashMap<K, V> removeAll(K... keys) {
-        HAMT.Node<K,V> cur = map;
+        CHAMP.Node<K,V> cur = map;
         for(K key : keys){
             cur = cur.minus(0,key.hashCode(),key);
         }
@@ -170,7 +224,7 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public boolean containsKey(K key) {
-        return map.get(0,key.hashCode(),key).isPresent();
+        return map.containsKey(key);
     }
 
 
@@ -197,7 +251,11 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
 
     @Override
+    @SuppressWarnings("unchecked") //HashMaps are immutable, so a HashMap<? extends K, ? extends V> can safely be used as a HashMap<K,V>
     public HashMap<K, V> putAll(PersistentMap<? extends K, ? extends V> map) {
+        if(map instanceof HashMap){
+            return new HashMap<>(CHAMP.union(this.map,((HashMap<K,V>)map).map));
+        }
         HashMap<K,V> res = this;
         for(Tuple2<? extends K, ? extends V> e : map){
             res = res.put(e._1(),e._2());
@@ -208,7 +266,11 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
 
     @Override
+    @SuppressWarnings("unchecked") //the keys are only compared, by equals and hashCode
     public HashMap<K, V> removeAllKeys(Iterable<? extends K> keys) {
+        if(keys instanceof HashSet){
+            return new HashMap<>(CHAMP.difference(map,((HashSet<K>)keys).trie()));
+        }
         HashMap<K,V> res = this;
         for(K e : keys){
             res = res.remove(e);
@@ -216,9 +278,19 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
         return res;
     }
 
+    /**
+     * Remove all entries whose keys are not present in the supplied keys. When keys is a HashSet the two tries are
+     * intersected structurally in a single pass.
+     */
+    @SuppressWarnings("unchecked") //the keys are only compared, by equals and hashCode
+    public HashMap<K, V> retainAllKeys(Iterable<? extends K> keys) {
+        HashSet<K> set = HashSet.fromIterable((Iterable<K>)keys);
+        return new HashMap<>(CHAMP.intersection(map,set.trie()));
+    }
+
     @Override
     public Iterator<Tuple2<K, V>> iterator() {
-        return stream().iterator();
+        return map.iterator();
     }
 
     @Override
@@ -242,7 +314,11 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public int hashCode() {
-        return map.streamNaturalOrder().foldLeft(0,(acc,t2)-> acc+t2.hashCode());
+        int hash = 0;
+        for(Tuple2<K,V> next : map){
+            hash += next.hashCode();
+        }
+        return hash;
     }
 
     public static <K, V> HashMap<K,V> narrow(HashMap<? extends K, ? extends V> map) {
@@ -6,6 +6,7 @@ import com.oath.cyclops.types.persistent.PersistentSet;
 import com.oath.cyclops.hkt.Higher;
 import cyclops.control.Option;
 import com.oath.cyclops.hkt.DataWitness.hashSet;
+import cyclops.data.base.CHAMP;
 import cyclops.data.base.HAMT;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
@@ -16,9 +17,6 @@ import cyclops.function.Function4;
 import cyclops.function.Monoid;
 import cyclops.reactive.Generator;
 import cyclops.reactive.ReactiveSeq;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import org.reactivestreams.Publisher;
 
 import java.io.Serializable;
@@ -28,11 +26,14 @@ import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Serializable {
     private static final long serialVersionUID = 1L;
-    @Getter
-    private final HAMT.Node<T,T> map;
+    private final CHAMP.Node<T,T> map;
+    private transient volatile HAMT.Node<T,T> hamt;
+
+    private HashSet(CHAMP.Node<T,T> map){
+        this.map = map;
+    }
 
     static <T> Collector<T, Set<T>, HashSet<T>> collector() {
         Collector<T, ?, Set<T>> c  = Collectors.toSet();
@@ -40,19 +41,55 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
     }
 
     public static <T> HashSet<T> empty(){
-        return new HashSet<T>( HAMT.empty());
+        return new HashSet<T>( CHAMP.empty());
     }
     public static <T> HashSet<T> singleton(T value){
-        HAMT.Node<T, T> tree = HAMT.empty();
+        CHAMP.Node<T, T> tree = CHAMP.empty();
         tree = tree.plus(0,value.hashCode(),value,value);
         return new HashSet<>(tree);
     }
     public static <T> HashSet<T> of(T... values){
-        HAMT.Node<T, T> tree = HAMT.empty();
+        Builder<T> res = builder();
         for(T value : values){
-            tree = tree.plus(0,value.hashCode(),value,value);
+            res.add(value);
+        }
+        return res.build();
+    }
+
+    public static <T> Builder<T> builder(){
+        return new Builder<>();
+    }
+
+    /**
+     * Transient builder for bulk loading a HashSet, CHAMP nodes created by the builder are updated in place
+     * and build() freezes the current state into an immutable HashSet in O(1).
+     *
+     * A Builder is not thread safe.
+     */
+    public static final class Builder<T>{
+        private CHAMP.Node<T,T> map = CHAMP.empty();
+        private Object edit = new Object();
+
+        public Builder<T> add(T value){
+            map = map.plus(edit,0,value.hashCode(),value,value);
+            return this;
+        }
+
+        public Builder<T> addAll(Iterable<? extends T> values){
+            for(T next : values){
+                add(next);
+            }
+            return this;
+        }
+
+        public int size(){
+            return map.size();
+        }
+
+        public HashSet<T> build(){
+            edit = new Object();
+            return new HashSet<>(map);
         }
-        return new HashSet<>(tree);
     }
     public static <U, T> HashSet<T> unfold(final U seed, final Function<? super U, Option<Tuple2<T, U>>> unfolder) {
         return fromStream(ReactiveSeq.unfold(seed,unfolder));
@@ -96,10 +133,18 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
     }
 
     public static <T> HashSet<T> fromStream(Stream<T> stream){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(),(m,t2)->m.plus(t2));
+        Builder<T> res = builder();
+        Iterator<T> it = stream.iterator();
+        while(it.hasNext()){
+            res.add(it.next());
+        }
+        return res.build();
     }
     public static <T> HashSet<T> fromIterable(Iterable<T> it){
-        return ReactiveSeq.fromIterable(it).foldLeft(empty(),(m, t2)->m.plus(t2));
+        if(it instanceof HashSet){
+            return (HashSet<T>)it;
+        }
+        return HashSet.<T>builder().addAll(it).build();
     }
     public static <T> HashSet<T> fromIterator(Iterator<T> it){
       return fromIterable((()->it));
@@ -112,7 +157,7 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
 
     public boolean containsValue(T value){
-        return map.get(0,value.hashCode(),value).isPresent();
+        return map.containsKey(value);
     }
 
     @Override
@@ -210,6 +255,9 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
       @Override
       public HashSet<T> plusAll(Iterable<? extends T> list) {
+          if(list instanceof HashSet){
+              return union((HashSet<? extends T>)list);
+          }
           HashSet<T> res = this;
           for(T next : list){
               res = res.plus(next);
@@ -220,6 +268,9 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
       @Override
       public HashSet<T> removeAll(Iterable<? extends T> list) {
+          if(list instanceof HashSet){
+              return difference((HashSet<?>)list);
+          }
           HashSet<T> res = this;
           for(T next : list){
               res = res.removeValue(next);
@@ -229,12 +280,12 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
       @Override
       public ReactiveSeq<T> stream() {
-          return map.stream().map(t->t._1());
+          return ReactiveSeq.fromIterable(map::keyIterator);
       }
 
       @Override
       public Iterator<T> iterator() {
-          return stream().iterator();
+          return map.keyIterator();
       }
 
       @Override
@@ -344,9 +395,50 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
       @Override
       public HashSet<T> retainAll(Iterable<? extends T> it) {
+          if(it instanceof HashSet){
+              return intersection((HashSet<?>)it);
+          }
           return (HashSet<T>)ImmutableSet.super.retainAll(it);
       }
 
+      /**
+       * Union, intersection and difference merge the underlying tries in a single pass, sharing any subtrees that
+       * are unchanged by the operation.
+       */
+      @SuppressWarnings("unchecked") //HashSets are immutable, so a HashSet<? extends T> can safely be used as a HashSet<T>
+      public HashSet<T> union(HashSet<? extends T> other){
+          return new HashSet<>(CHAMP.union(map,((HashSet<T>)other).map));
+      }
+
+      @SuppressWarnings("unchecked") //the values of other are only compared, by equals and hashCode
+      public HashSet<T> intersection(HashSet<?> other){
+          return new HashSet<>(CHAMP.intersection(map,((HashSet<T>)other).map));
+      }
+
+      @SuppressWarnings("unchecked") //the values of other are only compared, by equals and hashCode
+      public HashSet<T> difference(HashSet<?> other){
+          return new HashSet<>(CHAMP.difference(map,((HashSet<T>)other).map));
+      }
+
+      CHAMP.Node<T,T> trie(){
+          return map;
+      }
+
+      /**
+       * @return The values of this HashSet as a HAMT, built on the first call and cached thereafter
+       */
+      public HAMT.Node<T,T> getMap(){
+          HAMT.Node<T,T> res = hamt;
+          if(res==null){
+              res = HAMT.empty();
+              for(T next : this){
+                  res = res.plus(0,next.hashCode(),next,next);
+              }
+              hamt = res;
+          }
+          return res;
+      }
+
       @Override
       public HashSet<T> retainStream(Stream<? extends T> stream) {
           return (HashSet<T>)ImmutableSet.super.retainStream(stream);
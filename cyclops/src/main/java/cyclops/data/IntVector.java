@@ -0,0 +1,283 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.base.PrimitiveTrie;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent Vector specialized for int values. Elements are stored unboxed in 32 element int[] leaves of a bit mapped trie
+ * (see {@link Vector} for the boxed equivalent), so a IntVector uses roughly the same memory as a int[] of the same size.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IntVector implements Iterable<Integer>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final IntVector EMPTY = new IntVector(PrimitiveTrie.empty(),new int[0],0);
+
+    private final PrimitiveTrie trie;
+    private final int[] tail;
+    private final int size;
+
+    public static IntVector empty(){
+        return EMPTY;
+    }
+
+    public static IntVector of(int... values){
+        return fromArray(values,values.length);
+    }
+
+    public static IntVector range(int start, int end){
+        if(start>=end)
+            return EMPTY;
+        int[] values = new int[end-start];
+        for(int i=0;i<values.length;i++)
+            values[i]=start+i;
+        return fromArray(values,values.length);
+    }
+
+    public static IntVector fromStream(IntStream stream){
+        int[] values = stream.toArray();
+        return fromArray(values,values.length);
+    }
+
+    public static IntVector fromIterable(Iterable<Integer> it){
+        if(it instanceof IntVector){
+            return (IntVector)it;
+        }
+        int[] buffer = new int[PrimitiveTrie.WIDTH];
+        int length = 0;
+        for(Integer next : it){
+            if(length==buffer.length)
+                buffer = Arrays.copyOf(buffer,length*2);
+            buffer[length++]=next;
+        }
+        return fromArray(buffer,length);
+    }
+
+    private static IntVector fromArray(int[] values, int length){
+        if(length==0)
+            return EMPTY;
+        int leaves = (length-1) >>> PrimitiveTrie.BITS_IN_INDEX;
+        Object[] nodes = new Object[leaves];
+        for(int i=0;i<leaves;i++){
+            nodes[i] = Arrays.copyOfRange(values,i*PrimitiveTrie.WIDTH,(i+1)*PrimitiveTrie.WIDTH);
+        }
+        return new IntVector(PrimitiveTrie.fromLeaves(nodes,leaves),Arrays.copyOfRange(values,leaves*PrimitiveTrie.WIDTH,length),length);
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size==0;
+    }
+
+    public Option<Integer> get(int pos){
+        if(pos<0 || pos>=size)
+            return Option.none();
+        return Option.some(leafFor(pos)[pos & (PrimitiveTrie.WIDTH-1)]);
+    }
+
+    public int getOrElse(int pos, int alt){
+        if(pos<0 || pos>=size)
+            return alt;
+        return leafFor(pos)[pos & (PrimitiveTrie.WIDTH-1)];
+    }
+
+    public IntVector append(int value){
+        if(tail.length<PrimitiveTrie.WIDTH){
+            int[] newTail = Arrays.copyOf(tail,tail.length+1);
+            newTail[tail.length]=value;
+            return new IntVector(trie,newTail,size+1);
+        }
+        return new IntVector(trie.appendLeaf(tail),new int[]{value},size+1);
+    }
+
+    public IntVector appendAll(int... values){
+        IntVector res = this;
+        for(int next : values){
+            res = res.append(next);
+        }
+        return res;
+    }
+
+    public IntVector updateAt(int pos, int value){
+        if(pos<0 || pos>=size)
+            return this;
+        int tailStart = tailStart();
+        if(pos>=tailStart){
+            int[] newTail = Arrays.copyOf(tail,tail.length);
+            newTail[pos-tailStart]=value;
+            return new IntVector(trie,newTail,size);
+        }
+        int leafIndex = pos >>> PrimitiveTrie.BITS_IN_INDEX;
+        int[] leaf = Arrays.copyOf((int[])trie.leafAt(leafIndex),PrimitiveTrie.WIDTH);
+        leaf[pos & (PrimitiveTrie.WIDTH-1)]=value;
+        return new IntVector(trie.updateLeaf(leafIndex,leaf),tail,size);
+    }
+
+    public IntVector map(IntUnaryOperator fn){
+        return new IntVector(trie.mapLeaves(leaf->map((int[])leaf,fn)),map(tail,fn),size);
+    }
+
+    private static int[] map(int[] leaf, IntUnaryOperator fn){
+        int[] res = new int[leaf.length];
+        for(int i=0;i<leaf.length;i++){
+            res[i]=fn.applyAsInt(leaf[i]);
+        }
+        return res;
+    }
+
+    public <R> Vector<R> mapToObj(IntFunction<? extends R> fn){
+        Vector.Builder<R> res = Vector.builder();
+        PrimitiveIterator.OfInt it = iterator();
+        while(it.hasNext()){
+            res.append(fn.apply(it.nextInt()));
+        }
+        return res.build();
+    }
+
+    public IntVector filter(IntPredicate pred){
+        int[] buffer = new int[PrimitiveTrie.WIDTH];
+        int length = 0;
+        PrimitiveIterator.OfInt it = iterator();
+        while(it.hasNext()){
+            int next = it.nextInt();
+            if(pred.test(next)){
+                if(length==buffer.length)
+                    buffer = Arrays.copyOf(buffer,length*2);
+                buffer[length++]=next;
+            }
+        }
+        if(length==size)
+            return this;
+        return fromArray(buffer,length);
+    }
+
+    public int foldLeft(int zero, IntBinaryOperator fn){
+        int res = zero;
+        int leaves = trie.leafCount();
+        for(int i=0;i<leaves;i++){
+            for(int next : (int[])trie.leafAt(i)){
+                res = fn.applyAsInt(res,next);
+            }
+        }
+        for(int next : tail){
+            res = fn.applyAsInt(res,next);
+        }
+        return res;
+    }
+
+    public int sum(){
+        return foldLeft(0,Integer::sum);
+    }
+
+    public int[] toArray(){
+        int[] res = new int[size];
+        int leaves = trie.leafCount();
+        for(int i=0;i<leaves;i++){
+            System.arraycopy(trie.leafAt(i),0,res,i*PrimitiveTrie.WIDTH,PrimitiveTrie.WIDTH);
+        }
+        System.arraycopy(tail,0,res,tailStart(),tail.length);
+        return res;
+    }
+
+    /**
+     * @return A sequential IntStream that reads directly from the leaves of this IntVector without copying or boxing
+     */
+    public IntStream intStream(){
+        return StreamSupport.intStream(spliterator(),false);
+    }
+
+    public ReactiveSeq<Integer> stream(){
+        return ReactiveSeq.fromIntStream(intStream());
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator(){
+        return Spliterators.spliterator(iterator(),size,Spliterator.ORDERED | Spliterator.SIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator(){
+        return new PrimitiveIterator.OfInt() {
+            int index = 0;
+            int[] leaf = tail;
+
+            @Override
+            public boolean hasNext() {
+                return index<size;
+            }
+
+            @Override
+            public int nextInt() {
+                if(index>=size)
+                    throw new NoSuchElementException();
+                int pos = index & (PrimitiveTrie.WIDTH-1);
+                if(pos==0)
+                    leaf = leafFor(index);
+                index++;
+                return leaf[pos];
+            }
+        };
+    }
+
+    private int tailStart(){
+        return trie.leafCount() << PrimitiveTrie.BITS_IN_INDEX;
+    }
+
+    private int[] leafFor(int pos){
+        if(pos>=tailStart())
+            return tail;
+        return (int[])trie.leafAt(pos >>> PrimitiveTrie.BITS_IN_INDEX);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this==o)
+            return true;
+        if(!(o instanceof IntVector))
+            return false;
+        IntVector other = (IntVector)o;
+        if(size!=other.size)
+            return false;
+        PrimitiveIterator.OfInt a = iterator();
+        PrimitiveIterator.OfInt b = other.iterator();
+        while(a.hasNext()){
+            if(Integer.compare(a.nextInt(),b.nextInt())!=0)
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        PrimitiveIterator.OfInt it = iterator();
+        while(it.hasNext()){
+            hashCode = 31 * hashCode + Integer.hashCode(it.nextInt());
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return stream().join(", ","[","]");
+    }
+}
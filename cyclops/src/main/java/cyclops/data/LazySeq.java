@@ -136,20 +136,20 @@ public interface LazySeq<T> extends  ImmutableList<T>,
         return fromStream(ReactiveSeq.generate(s));
     }
      static LazySeq<Integer> range(final int start, final int end) {
-        return LazySeq.fromStream(ReactiveSeq.range(start,end));
+        return Chunk.fromIterator(ReactiveSeq.range(start,end).iterator());
 
     }
     static LazySeq<Integer> range(final int start, final int step, final int end) {
-       return LazySeq.fromStream(ReactiveSeq.range(start,step,end));
+       return Chunk.fromIterator(ReactiveSeq.range(start,step,end).iterator());
 
     }
     static LazySeq<Long> rangeLong(final long start, final long step, final long end) {
-        return LazySeq.fromStream(ReactiveSeq.rangeLong(start,step,end));
+        return Chunk.fromIterator(ReactiveSeq.rangeLong(start,step,end).iterator());
     }
 
 
     static LazySeq<Long> rangeLong(final long start, final long end) {
-        return LazySeq.fromStream(ReactiveSeq.rangeLong(start,end));
+        return Chunk.fromIterator(ReactiveSeq.rangeLong(start,end).iterator());
 
     }
 
@@ -292,8 +292,29 @@ public interface LazySeq<T> extends  ImmutableList<T>,
     static <T> LazySeq<T> fromIterable(Iterable<T> it){
         if(it instanceof LazySeq)
             return (LazySeq<T>)it;
+        if(it instanceof Collection || it instanceof PersistentCollection)
+            return Chunk.fromIterator(it.iterator());
         return fromIterator(it.iterator());
     }
+
+    /**
+     * Create a chunked LazySeq that materializes up to 32 elements from the supplied Iterable at a time, rather than one
+     * element per lazy cell. Iteration, map, filter, zip and take over a chunked LazySeq operate a chunk at a time.
+     *
+     * <pre>
+     * {@code
+     *  LazySeq.chunked(ReactiveSeq.iterate(1,i->i+1))
+     *         .map(i->i*2)
+     *         .take(100);
+     * }
+     * </pre>
+     *
+     * @param it Iterable to read from, in blocks of up to 32 elements
+     * @return Chunked LazySeq
+     */
+    static <T> LazySeq<T> chunked(Iterable<? extends T> it){
+        return Chunk.fromIterator(it.iterator());
+    }
     static <T> LazySeq<T> fromIterator(Iterator<T> it){
         return new Lazy<>(Eval.later(()->it.hasNext() ? cons(Eval.later(()->it.next()),
                             head ->{
@@ -310,12 +331,11 @@ public interface LazySeq<T> extends  ImmutableList<T>,
         }) : empty()));
     }
     @SafeVarargs
+    @SuppressWarnings("varargs") //the copy is only ever read as Object[]
     static <T> LazySeq<T> of(T... value){
-        LazySeq<T> result = empty();
-        for(int i=value.length;i>0;i--){
-            result = result.prepend(value[i-1]);
-        }
-        return result;
+        if(value.length==0)
+            return empty();
+        return new Chunk<>(value.clone(),0,value.length,()->empty());
     }
     static <T> LazySeq<T> empty(){
         return Nil.Instance;
@@ -338,7 +358,12 @@ public interface LazySeq<T> extends  ImmutableList<T>,
         if( n <= 0)
             return LazySeq.Nil.Instance;
 
-        return fromStream(ReactiveSeq.fromIterable(this).take(n));
+        return defer(()->{
+            LazySeq<T> active = Chunk.unwrap(this);
+            if(active instanceof Chunk)
+                return active.take(n);
+            return fromStream(ReactiveSeq.fromIterable(active).take(n));
+        });
 
     }
     default LazySeq<T> takeWhile(Predicate<? super T> p) {
@@ -373,8 +398,18 @@ public interface LazySeq<T> extends  ImmutableList<T>,
         return defer(()-> {
             LazySeq<T> current = this;
             long pos = num;
-            while (pos-- > 0 && !current.isEmpty()) {
-                current = current.foldLazySeq(c -> c.tail.get(), nil -> nil);
+            while (pos > 0 && !current.isEmpty()) {
+                LazySeq<T> active = Chunk.unwrap(current);
+                if(active instanceof Chunk){
+                    Chunk<T> chunk = (Chunk<T>)active;
+                    if(pos < chunk.length())
+                        return chunk.dropWithin((int)pos);
+                    pos -= chunk.length();
+                    current = chunk.rest.get();
+                }else {
+                    current = active.foldLazySeq(c -> c.tail.get(), nil -> empty());
+                    pos--;
+                }
             }
             return current;
         });
@@ -483,13 +518,40 @@ public interface LazySeq<T> extends  ImmutableList<T>,
     default Iterator<T> iterator(){
         return new Iterator<T>() {
             LazySeq<T> current= LazySeq.this;
+            Object[] chunk;
+            int pos;
+            int end;
+            Supplier<LazySeq<T>> rest;
+
+            private void advance(){
+                if(rest!=null){
+                    current = rest.get();
+                    rest = null;
+                }
+            }
             @Override
             public boolean hasNext() {
+                if(pos<end)
+                    return true;
+                advance();
                 return current.fold(c->true, n->false);
             }
 
             @Override
             public T next() {
+                if(pos<end)
+                    return Chunk.<T>elementAt(chunk,pos++);
+                advance();
+                LazySeq<T> active = Chunk.unwrap(current);
+                if(active instanceof Chunk){
+                    Chunk<T> next = (Chunk<T>)active;
+                    chunk = next.chunk;
+                    pos = next.offset;
+                    end = next.end;
+                    rest = next.rest;
+                    current = null;
+                    return Chunk.<T>elementAt(chunk,pos++);
+                }
                 return current.foldLazySeq(c->{
                     current = c.tail.get();
                     return c.head.get();
@@ -660,7 +722,12 @@ public interface LazySeq<T> extends  ImmutableList<T>,
 
     @Override
     default <U, R> LazySeq<R> zip(Iterable<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
-        return (LazySeq<R>) ImmutableList.super.zip(other,zipper);
+        return defer(()->{
+            LazySeq<T> active = Chunk.unwrap(this);
+            if(active instanceof Chunk)
+                return ((Chunk<T>)active).zip(other.iterator(),zipper);
+            return (LazySeq<R>) ImmutableList.super.zip(other,zipper);
+        });
     }
 
     @Override
@@ -1224,6 +1291,136 @@ public interface LazySeq<T> extends  ImmutableList<T>,
 
     }
 
+    /**
+     * A Cons cell backed by a block of already materialized elements, chunk[offset] to chunk[end-1], followed by a
+     * lazily evaluated (and memoized) rest. Element at a time operations see a chunk as a Cons with the first element
+     * as its head, while iteration, map, filter, zip, take and drop work on a whole block at a time.
+     */
+    public static final class Chunk<T> extends Cons<T> {
+        private static final long serialVersionUID = 1L;
+        static final int SIZE = 32;
+
+        private final Object[] chunk;
+        private final int offset;
+        private final int end;
+        private final Supplier<LazySeq<T>> rest;
+
+        private Chunk(Object[] chunk, int offset, int end, Supplier<LazySeq<T>> rest) {
+            super(Eval.now(Chunk.<T>elementAt(chunk,offset)),
+                  Memoize.memoizeSupplier(()->offset+1<end ? new Chunk<>(chunk,offset+1,end,rest) : rest.get()));
+            this.chunk = chunk;
+            this.offset = offset;
+            this.end = end;
+            this.rest = rest;
+        }
+
+        @SuppressWarnings("unchecked") //chunks are only ever populated with elements of type T
+        static <T> T elementAt(Object[] chunk, int index){
+            return (T)chunk[index];
+        }
+
+        static <T> LazySeq<T> fromIterator(Iterator<? extends T> it){
+            return new Lazy<T>(Eval.<LazySeq<T>>later(()->{
+                Object[] chunk = new Object[SIZE];
+                int n = 0;
+                while(n<SIZE && it.hasNext()){
+                    chunk[n++]=it.next();
+                }
+                if(n==0)
+                    return empty();
+                Supplier<LazySeq<T>> rest = n<SIZE ? ()->empty() : Memoize.memoizeSupplier(()->fromIterator(it));
+                return new Chunk<>(chunk,0,n,rest);
+            }));
+        }
+
+        static <T> LazySeq<T> unwrap(LazySeq<T> seq){
+            LazySeq<T> active = seq;
+            while(active instanceof Lazy){
+                active = ((Lazy<T>)active).ref.get();
+            }
+            return active;
+        }
+
+        int length(){
+            return end-offset;
+        }
+
+        LazySeq<T> dropWithin(int n){
+            return new Chunk<>(chunk,offset+n,end,rest);
+        }
+
+        @Override
+        public <R> LazySeq<R> map(Function<? super T, ? extends R> fn) {
+            return defer(()->{
+                Object[] mapped = new Object[length()];
+                for(int i=0;i<mapped.length;i++){
+                    mapped[i] = fn.apply(Chunk.<T>elementAt(chunk,offset+i));
+                }
+                return new Chunk<R>(mapped,0,mapped.length,Memoize.memoizeSupplier(()->rest.get().map(fn)));
+            });
+        }
+
+        @Override
+        public LazySeq<T> filter(Predicate<? super T> pred) {
+            return defer(()->{
+                Chunk<T> current = this;
+                while(true) {
+                    Object[] filtered = new Object[current.length()];
+                    int n = 0;
+                    for (int i = current.offset; i < current.end; i++) {
+                        T next = Chunk.<T>elementAt(current.chunk,i);
+                        if (pred.test(next))
+                            filtered[n++] = next;
+                    }
+                    if (n > 0) {
+                        Supplier<LazySeq<T>> rest = current.rest;
+                        return new Chunk<T>(filtered, 0, n, Memoize.memoizeSupplier(() -> rest.get().filter(pred)));
+                    }
+                    LazySeq<T> next = unwrap(current.rest.get());
+                    if (!(next instanceof Chunk))
+                        return next.filter(pred);
+                    current = (Chunk<T>)next;
+                }
+            });
+        }
+
+        @Override
+        public LazySeq<T> take(long n) {
+            if(n<=0)
+                return empty();
+            if(n<=length())
+                return new Chunk<>(chunk,offset,offset+(int)n,()->empty());
+            return new Chunk<>(chunk,offset,end,Memoize.memoizeSupplier(()->rest.get().take(n-length())));
+        }
+
+        @SuppressWarnings("unchecked") //the remaining Iterator<? extends U> is only read from
+        <U, R> LazySeq<R> zip(Iterator<? extends U> it, BiFunction<? super T, ? super U, ? extends R> zipper) {
+            return defer(()->{
+                Object[] zipped = new Object[length()];
+                int n = 0;
+                while(n<zipped.length && it.hasNext()){
+                    zipped[n] = zipper.apply(Chunk.<T>elementAt(chunk,offset+n),it.next());
+                    n++;
+                }
+                if(n==0)
+                    return empty();
+                if(n<zipped.length)
+                    return new Chunk<R>(zipped,0,n,()->empty());
+                return new Chunk<R>(zipped,0,n,Memoize.memoizeSupplier(()->{
+                    LazySeq<T> next = unwrap(rest.get());
+                    if(next instanceof Chunk)
+                        return ((Chunk<T>)next).zip(it,zipper);
+                    return next.zip(LazySeq.<U>fromIterator((Iterator<U>)it),zipper);
+                }));
+            });
+        }
+
+        @Override
+        public Cons<T> append(Supplier<LazySeq<T>> list) {
+            return new Chunk<>(chunk,offset,end,Memoize.memoizeSupplier(()->rest.get().append(list)));
+        }
+    }
+
     @AllArgsConstructor
     public static class Lazy<T> implements LazySeq<T>{
 
@@ -14,6 +14,7 @@ import lombok.AllArgsConstructor;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
@@ -21,14 +22,22 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.*;
 import java.util.stream.Stream;
 
+/**
+ * An immutable map that iterates in insertion order. Each key is assigned a monotonically increasing sequence number
+ * when first inserted, and the order is kept in a TreeMap keyed by sequence number, so that put, remove, first and last
+ * are all O(log n). Updating the value of an existing key retains its original position.
+ */
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class LinkedMap<K,V> implements ImmutableMap<K,V>, Higher2<linkedHashMap,K,V> {
 
-    private final ImmutableMap<K, V> map;
-    private final Vector<Tuple2<K, V>> order;
+    private static final Comparator<Long> SEQUENCE_ORDER = Comparator.naturalOrder();
+
+    private final HashMap<K, Tuple2<Long, V>> map;
+    private final TreeMap<Long, Tuple2<K, V>> order;
+    private final long nextSequence;
 
     public static <K,V> LinkedMap<K,V> empty(){
-        return new LinkedMap<>(HashMap.empty(),Vector.empty());
+        return new LinkedMap<>(HashMap.empty(),TreeMap.empty(SEQUENCE_ORDER),0);
     }
     public static <K,V> LinkedMap<K,V> of(K k,V v){
         LinkedMap<K,V> res = empty();
@@ -50,17 +59,33 @@ public final class LinkedMap<K,V> implements ImmutableMap<K,V>, Higher2<linkedHa
         return ReactiveSeq.fromStream(stream).foldLeft(empty(),(m,t2)->m.put(t2._1(),t2._2()));
     }
     public Option<V> get(K key){
-        return map.get(key);
+        return map.get(key).map(Tuple2::_2);
     }
 
     @Override
     public V getOrElse(K key, V alt) {
-        return map.getOrElse(key,alt);
+        Tuple2<Long, V> entry = map.getOrElse(key,null);
+        return entry==null ? alt : entry._2();
     }
 
     @Override
     public V getOrElseGet(K key, Supplier<? extends V> alt) {
-        return map.getOrElseGet(key,alt);
+        Tuple2<Long, V> entry = map.getOrElse(key,null);
+        return entry==null ? alt.get() : entry._2();
+    }
+
+    /**
+     * @return The least recently inserted entry, in O(log n)
+     */
+    public Option<Tuple2<K, V>> first(){
+        return order.select(0).map(Tuple2::_2);
+    }
+
+    /**
+     * @return The most recently inserted entry, in O(log n)
+     */
+    public Option<Tuple2<K, V>> last(){
+        return order.select(order.size()-1).map(Tuple2::_2);
     }
 
     @Override
@@ -80,7 +105,7 @@ public final class LinkedMap<K,V> implements ImmutableMap<K,V>, Higher2<linkedHa
 
     @Override
     public ReactiveSeq<Tuple2<K, V>> stream() {
-        return order.stream();
+        return order.stream().map(Tuple2::_2);
     }
 
     @Override
@@ -139,13 +164,15 @@ public final class LinkedMap<K,V> implements ImmutableMap<K,V>, Higher2<linkedHa
 
     @Override
     public boolean contains(Tuple2<K, V> t) {
-        return map.contains(t);
+        Tuple2<Long, V> entry = map.getOrElse(t._1(),null);
+        return entry!=null && Objects.equals(entry._2(),t._2());
     }
 
     public LinkedMap<K, V> put(K key, V value) {
-        Vector<Tuple2<K, V>> newOrder = get(key).map(v -> order.replaceFirst(Tuple.tuple(key, v), Tuple.tuple(key, value)))
-                .orElseGet(() -> order.plus(Tuple.tuple(key, value)));
-        return new LinkedMap<>(map.put(key,value),newOrder);
+        Tuple2<Long, V> entry = map.getOrElse(key,null);
+        long sequence = entry==null ? nextSequence : entry._1();
+        return new LinkedMap<>(map.put(key,Tuple.tuple(sequence,value)),order.put(sequence,Tuple.tuple(key,value)),
+                                entry==null ? nextSequence+1 : nextSequence);
 
     }
 
@@ -156,23 +183,18 @@ public final class LinkedMap<K,V> implements ImmutableMap<K,V>, Higher2<linkedHa
     }
 
     @Override
-    public ImmutableMap<K, V> putAll(PersistentMap<? extends K,? extends V> map) {
+    public LinkedMap<K, V> putAll(PersistentMap<? extends K,? extends V> map) {
         PersistentMap< K,V> narrow = (PersistentMap<K,V>)map;
-        ImmutableMap<K,V> res = HashMap.empty();
-        Vector<Tuple2<K,V>> ordering =order;
+        LinkedMap<K,V> res = this;
         for(Tuple2<K,V> t : narrow){
-            if(containsKey(t._1()))
-                ordering = ordering.replaceFirst(Tuple.tuple(t._1(),getOrElse(t._1(),null)),t);
-            else
-                ordering =ordering.plus(t);
-            res = res.put(t);
-
+            res = res.put(t._1(),t._2());
         }
-        return new LinkedMap<K,V>(res,ordering);
+        return res;
     }
 
     public LinkedMap<K, V> remove(K key) {
-       return containsKey(key) ? new LinkedMap<K,V>(map.remove(key),order.removeFirst(t -> Objects.equals(key, t._1()))) : this;
+        Tuple2<Long, V> entry = map.getOrElse(key,null);
+        return entry==null ? this : new LinkedMap<K,V>(map.remove(key),order.remove(entry._1()),nextSequence);
     }
 
     @Override
@@ -284,6 +306,10 @@ public final class LinkedMap<K,V> implements ImmutableMap<K,V>, Higher2<linkedHa
 
   @Override
   public int hashCode() {
-    return Objects.hash(map);
+    int hash = 0;
+    for(Tuple2<K,V> next : this){
+      hash += next.hashCode();
+    }
+    return hash;
   }
 }
@@ -0,0 +1,283 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.base.PrimitiveTrie;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent Vector specialized for long values. Elements are stored unboxed in 32 element long[] leaves of a bit mapped trie
+ * (see {@link Vector} for the boxed equivalent), so a LongVector uses roughly the same memory as a long[] of the same size.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LongVector implements Iterable<Long>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final LongVector EMPTY = new LongVector(PrimitiveTrie.empty(),new long[0],0);
+
+    private final PrimitiveTrie trie;
+    private final long[] tail;
+    private final int size;
+
+    public static LongVector empty(){
+        return EMPTY;
+    }
+
+    public static LongVector of(long... values){
+        return fromArray(values,values.length);
+    }
+
+    public static LongVector range(long start, long end){
+        if(start>=end)
+            return EMPTY;
+        long[] values = new long[Math.toIntExact(end-start)];
+        for(int i=0;i<values.length;i++)
+            values[i]=start+i;
+        return fromArray(values,values.length);
+    }
+
+    public static LongVector fromStream(LongStream stream){
+        long[] values = stream.toArray();
+        return fromArray(values,values.length);
+    }
+
+    public static LongVector fromIterable(Iterable<Long> it){
+        if(it instanceof LongVector){
+            return (LongVector)it;
+        }
+        long[] buffer = new long[PrimitiveTrie.WIDTH];
+        int length = 0;
+        for(Long next : it){
+            if(length==buffer.length)
+                buffer = Arrays.copyOf(buffer,length*2);
+            buffer[length++]=next;
+        }
+        return fromArray(buffer,length);
+    }
+
+    private static LongVector fromArray(long[] values, int length){
+        if(length==0)
+            return EMPTY;
+        int leaves = (length-1) >>> PrimitiveTrie.BITS_IN_INDEX;
+        Object[] nodes = new Object[leaves];
+        for(int i=0;i<leaves;i++){
+            nodes[i] = Arrays.copyOfRange(values,i*PrimitiveTrie.WIDTH,(i+1)*PrimitiveTrie.WIDTH);
+        }
+        return new LongVector(PrimitiveTrie.fromLeaves(nodes,leaves),Arrays.copyOfRange(values,leaves*PrimitiveTrie.WIDTH,length),length);
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size==0;
+    }
+
+    public Option<Long> get(int pos){
+        if(pos<0 || pos>=size)
+            return Option.none();
+        return Option.some(leafFor(pos)[pos & (PrimitiveTrie.WIDTH-1)]);
+    }
+
+    public long getOrElse(int pos, long alt){
+        if(pos<0 || pos>=size)
+            return alt;
+        return leafFor(pos)[pos & (PrimitiveTrie.WIDTH-1)];
+    }
+
+    public LongVector append(long value){
+        if(tail.length<PrimitiveTrie.WIDTH){
+            long[] newTail = Arrays.copyOf(tail,tail.length+1);
+            newTail[tail.length]=value;
+            return new LongVector(trie,newTail,size+1);
+        }
+        return new LongVector(trie.appendLeaf(tail),new long[]{value},size+1);
+    }
+
+    public LongVector appendAll(long... values){
+        LongVector res = this;
+        for(long next : values){
+            res = res.append(next);
+        }
+        return res;
+    }
+
+    public LongVector updateAt(int pos, long value){
+        if(pos<0 || pos>=size)
+            return this;
+        int tailStart = tailStart();
+        if(pos>=tailStart){
+            long[] newTail = Arrays.copyOf(tail,tail.length);
+            newTail[pos-tailStart]=value;
+            return new LongVector(trie,newTail,size);
+        }
+        int leafIndex = pos >>> PrimitiveTrie.BITS_IN_INDEX;
+        long[] leaf = Arrays.copyOf((long[])trie.leafAt(leafIndex),PrimitiveTrie.WIDTH);
+        leaf[pos & (PrimitiveTrie.WIDTH-1)]=value;
+        return new LongVector(trie.updateLeaf(leafIndex,leaf),tail,size);
+    }
+
+    public LongVector map(LongUnaryOperator fn){
+        return new LongVector(trie.mapLeaves(leaf->map((long[])leaf,fn)),map(tail,fn),size);
+    }
+
+    private static long[] map(long[] leaf, LongUnaryOperator fn){
+        long[] res = new long[leaf.length];
+        for(int i=0;i<leaf.length;i++){
+            res[i]=fn.applyAsLong(leaf[i]);
+        }
+        return res;
+    }
+
+    public <R> Vector<R> mapToObj(LongFunction<? extends R> fn){
+        Vector.Builder<R> res = Vector.builder();
+        PrimitiveIterator.OfLong it = iterator();
+        while(it.hasNext()){
+            res.append(fn.apply(it.nextLong()));
+        }
+        return res.build();
+    }
+
+    public LongVector filter(LongPredicate pred){
+        long[] buffer = new long[PrimitiveTrie.WIDTH];
+        int length = 0;
+        PrimitiveIterator.OfLong it = iterator();
+        while(it.hasNext()){
+            long next = it.nextLong();
+            if(pred.test(next)){
+                if(length==buffer.length)
+                    buffer = Arrays.copyOf(buffer,length*2);
+                buffer[length++]=next;
+            }
+        }
+        if(length==size)
+            return this;
+        return fromArray(buffer,length);
+    }
+
+    public long foldLeft(long zero, LongBinaryOperator fn){
+        long res = zero;
+        int leaves = trie.leafCount();
+        for(int i=0;i<leaves;i++){
+            for(long next : (long[])trie.leafAt(i)){
+                res = fn.applyAsLong(res,next);
+            }
+        }
+        for(long next : tail){
+            res = fn.applyAsLong(res,next);
+        }
+        return res;
+    }
+
+    public long sum(){
+        return foldLeft(0,Long::sum);
+    }
+
+    public long[] toArray(){
+        long[] res = new long[size];
+        int leaves = trie.leafCount();
+        for(int i=0;i<leaves;i++){
+            System.arraycopy(trie.leafAt(i),0,res,i*PrimitiveTrie.WIDTH,PrimitiveTrie.WIDTH);
+        }
+        System.arraycopy(tail,0,res,tailStart(),tail.length);
+        return res;
+    }
+
+    /**
+     * @return A sequential LongStream that reads directly from the leaves of this LongVector without copying or boxing
+     */
+    public LongStream longStream(){
+        return StreamSupport.longStream(spliterator(),false);
+    }
+
+    public ReactiveSeq<Long> stream(){
+        return ReactiveSeq.fromLongStream(longStream());
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator(){
+        return Spliterators.spliterator(iterator(),size,Spliterator.ORDERED | Spliterator.SIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator(){
+        return new PrimitiveIterator.OfLong() {
+            int index = 0;
+            long[] leaf = tail;
+
+            @Override
+            public boolean hasNext() {
+                return index<size;
+            }
+
+            @Override
+            public long nextLong() {
+                if(index>=size)
+                    throw new NoSuchElementException();
+                int pos = index & (PrimitiveTrie.WIDTH-1);
+                if(pos==0)
+                    leaf = leafFor(index);
+                index++;
+                return leaf[pos];
+            }
+        };
+    }
+
+    private int tailStart(){
+        return trie.leafCount() << PrimitiveTrie.BITS_IN_INDEX;
+    }
+
+    private long[] leafFor(int pos){
+        if(pos>=tailStart())
+            return tail;
+        return (long[])trie.leafAt(pos >>> PrimitiveTrie.BITS_IN_INDEX);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this==o)
+            return true;
+        if(!(o instanceof LongVector))
+            return false;
+        LongVector other = (LongVector)o;
+        if(size!=other.size)
+            return false;
+        PrimitiveIterator.OfLong a = iterator();
+        PrimitiveIterator.OfLong b = other.iterator();
+        while(a.hasNext()){
+            if(Long.compare(a.nextLong(),b.nextLong())!=0)
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        PrimitiveIterator.OfLong it = iterator();
+        while(it.hasNext()){
+            hashCode = 31 * hashCode + Long.hashCode(it.nextLong());
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return stream().join(", ","[","]");
+    }
+}
@@ -0,0 +1,502 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.reactive.ReactiveSeq;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.IoUtil;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * An immutable, read only Vector whose elements and trie nodes live outside the heap, in a memory mapped file or in a
+ * direct buffer arena. Elements are decoded on access by a pluggable {@link Codec}, so getOrElse is O(log32 n) and
+ * iteration streams the elements without deserializing the whole structure.
+ *
+ * An OffHeapVector is written once, in order, by a {@link Writer}. The file ends in a fixed size footer, so it can be
+ * reopened in O(1), and a mapped file can be shared read only between JVM processes.
+ *
+ * <pre>
+ * {@code
+ *   try(OffHeapVector.Writer<Long> writer = OffHeapVector.writer(path, Codec.longs())){
+ *       history.forEach(writer::append);
+ *   }
+ *   OffHeapVector<Long> vector = OffHeapVector.open(path, Codec.longs());
+ * }
+ * </pre>
+ *
+ * File layout (little endian) :-
+ * element records [int length, bytes], trie nodes [up to 32 long offsets] and a 32 byte footer
+ * [int magic, int version, int segment bits, int height, long size, long root offset].
+ * Records and nodes never straddle a segment boundary so that files larger than 2GB can be mapped as a series of
+ * segments.
+ *
+ * An OffHeapVector must not be accessed after it has been closed.
+ *
+ * @param <T> Element type
+ */
+public final class OffHeapVector<T> implements Iterable<T>, AutoCloseable {
+
+    static final int MAGIC = 0x43595643;
+    static final int VERSION = 1;
+    static final int FOOTER_LENGTH = 32;
+    static final int DEFAULT_SEGMENT_BITS = 30;
+    private static final int BITS_IN_INDEX = 5;
+    private static final int WIDTH = 1 << BITS_IN_INDEX;
+    private static final int MASK = WIDTH - 1;
+    private static final int MAX_HEIGHT = 13;
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private final DirectBuffer[] segments;
+    private final MappedByteBuffer[] mapped;
+    private final int segmentBits;
+    private final long segmentMask;
+    private final long size;
+    private final int height;
+    private final long root;
+    private final Codec<T> codec;
+
+    private OffHeapVector(DirectBuffer[] segments, MappedByteBuffer[] mapped, int segmentBits, long size, int height, long root, Codec<T> codec) {
+        this.segments = segments;
+        this.mapped = mapped;
+        this.segmentBits = segmentBits;
+        this.segmentMask = (1L << segmentBits) - 1;
+        this.size = size;
+        this.height = height;
+        this.root = root;
+        this.codec = codec;
+    }
+
+    /**
+     * Map an existing OffHeapVector file read only. Only the footer is read, elements are decoded on demand.
+     */
+    public static <T> OffHeapVector<T> open(Path path, Codec<T> codec) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < FOOTER_LENGTH)
+                throw new IllegalArgumentException("Not an OffHeapVector file " + path);
+            ByteBuffer footer = ByteBuffer.allocate(FOOTER_LENGTH).order(ORDER);
+            while (footer.hasRemaining()) {
+                if (channel.read(footer, length - FOOTER_LENGTH + footer.position()) < 0)
+                    throw new IllegalArgumentException("Not an OffHeapVector file " + path);
+            }
+            int segmentBits = checkFooter(new UnsafeBuffer(footer.array()), 0);
+            long segmentSize = 1L << segmentBits;
+            int count = (int) ((length + segmentSize - 1) >>> segmentBits);
+            DirectBuffer[] segments = new DirectBuffer[count];
+            MappedByteBuffer[] mapped = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long start = i * segmentSize;
+                mapped[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(segmentSize, length - start));
+                segments[i] = new UnsafeBuffer(mapped[i]);
+            }
+            return fromFooter(segments, mapped, segmentBits, segments[count - 1], (int) (length - FOOTER_LENGTH - (count - 1) * segmentSize), codec);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read an OffHeapVector from a buffer arena containing the complete output of a {@link Writer}. The buffer is not
+     * copied and must not be modified.
+     */
+    public static <T> OffHeapVector<T> wrap(DirectBuffer buffer, Codec<T> codec) {
+        if (buffer.capacity() < FOOTER_LENGTH)
+            throw new IllegalArgumentException("Buffer does not contain an OffHeapVector");
+        int footer = buffer.capacity() - FOOTER_LENGTH;
+        checkFooter(buffer, footer);
+        return fromFooter(new DirectBuffer[]{buffer}, new MappedByteBuffer[0], 31, buffer, footer, codec);
+    }
+
+    private static int checkFooter(DirectBuffer buffer, int offset) {
+        if (buffer.getInt(offset, ORDER) != MAGIC)
+            throw new IllegalArgumentException("Not an OffHeapVector, invalid magic number");
+        int version = buffer.getInt(offset + 4, ORDER);
+        if (version != VERSION)
+            throw new IllegalArgumentException("Unsupported OffHeapVector version " + version);
+        return buffer.getInt(offset + 8, ORDER);
+    }
+
+    private static <T> OffHeapVector<T> fromFooter(DirectBuffer[] segments, MappedByteBuffer[] mapped, int segmentBits, DirectBuffer buffer, int offset, Codec<T> codec) {
+        return new OffHeapVector<>(segments, mapped, segmentBits, buffer.getLong(offset + 16, ORDER), buffer.getInt(offset + 12, ORDER),
+                buffer.getLong(offset + 24, ORDER), codec);
+    }
+
+    public static <T> Writer<T> writer(Path path, Codec<T> codec) {
+        try {
+            return new Writer<>(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING), codec, DEFAULT_SEGMENT_BITS);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param out Channel to write to, it will be closed when the Writer is closed
+     */
+    public static <T> Writer<T> writer(WritableByteChannel out, Codec<T> codec) {
+        return new Writer<>(out, codec, DEFAULT_SEGMENT_BITS);
+    }
+
+    /**
+     * Write all values to a new file at path and map it.
+     */
+    public static <T> OffHeapVector<T> write(Path path, Codec<T> codec, Iterable<? extends T> values) {
+        try (Writer<T> writer = writer(path, codec)) {
+            writer.appendAll(values);
+        }
+        return open(path, codec);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public Option<T> get(long index) {
+        if (index < 0 || index >= size)
+            return Option.none();
+        return Option.some(decode(recordOffset(index)));
+    }
+
+    public T getOrElse(long index, T alt) {
+        if (index < 0 || index >= size)
+            return alt;
+        return decode(recordOffset(index));
+    }
+
+    public T getOrElseGet(long index, Supplier<? extends T> alt) {
+        if (index < 0 || index >= size)
+            return alt.get();
+        return decode(recordOffset(index));
+    }
+
+    private long leafOffset(long index) {
+        long node = root;
+        for (int level = height; level > 1; level--) {
+            node = readLong(node + 8L * ((index >>> (BITS_IN_INDEX * (level - 1))) & MASK));
+        }
+        return node;
+    }
+
+    private long recordOffset(long index) {
+        return readLong(leafOffset(index) + 8L * (index & MASK));
+    }
+
+    private long readLong(long offset) {
+        return segments[(int) (offset >>> segmentBits)].getLong((int) (offset & segmentMask), ORDER);
+    }
+
+    private T decode(long offset) {
+        DirectBuffer segment = segments[(int) (offset >>> segmentBits)];
+        int local = (int) (offset & segmentMask);
+        return codec.decode(segment, local + 4, segment.getInt(local, ORDER));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            long index = 0;
+            long leaf;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (index >= size)
+                    throw new NoSuchElementException();
+                if ((index & MASK) == 0)
+                    leaf = leafOffset(index);
+                return decode(readLong(leaf + 8L * (index++ & MASK)));
+            }
+        };
+    }
+
+    public ReactiveSeq<T> stream() {
+        return ReactiveSeq.fromIterable(this);
+    }
+
+    /**
+     * Unmap the underlying file, if any.
+     */
+    @Override
+    public void close() {
+        for (MappedByteBuffer next : mapped) {
+            IoUtil.unmap(next);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return stream().join(",", "OffHeapVector[", "]");
+    }
+
+    /**
+     * Encodes elements to, and decodes elements from, off heap buffers.
+     */
+    public interface Codec<T> {
+        /**
+         * Encode value into buffer, which expands as required
+         *
+         * @return Number of bytes written
+         */
+        int encode(T value, MutableDirectBuffer buffer, int offset);
+
+        T decode(DirectBuffer buffer, int offset, int length);
+
+        static Codec<byte[]> bytes() {
+            return new Codec<byte[]>() {
+                @Override
+                public int encode(byte[] value, MutableDirectBuffer buffer, int offset) {
+                    buffer.putBytes(offset, value);
+                    return value.length;
+                }
+
+                @Override
+                public byte[] decode(DirectBuffer buffer, int offset, int length) {
+                    byte[] res = new byte[length];
+                    buffer.getBytes(offset, res);
+                    return res;
+                }
+            };
+        }
+
+        static Codec<Long> longs() {
+            return new Codec<Long>() {
+                @Override
+                public int encode(Long value, MutableDirectBuffer buffer, int offset) {
+                    buffer.putLong(offset, value, ORDER);
+                    return 8;
+                }
+
+                @Override
+                public Long decode(DirectBuffer buffer, int offset, int length) {
+                    return buffer.getLong(offset, ORDER);
+                }
+            };
+        }
+
+        static Codec<Integer> ints() {
+            return new Codec<Integer>() {
+                @Override
+                public int encode(Integer value, MutableDirectBuffer buffer, int offset) {
+                    buffer.putInt(offset, value, ORDER);
+                    return 4;
+                }
+
+                @Override
+                public Integer decode(DirectBuffer buffer, int offset, int length) {
+                    return buffer.getInt(offset, ORDER);
+                }
+            };
+        }
+
+        static Codec<String> strings() {
+            return new Codec<String>() {
+                @Override
+                public int encode(String value, MutableDirectBuffer buffer, int offset) {
+                    return buffer.putStringWithoutLengthUtf8(offset, value);
+                }
+
+                @Override
+                public String decode(DirectBuffer buffer, int offset, int length) {
+                    return buffer.getStringWithoutLengthUtf8(offset, length);
+                }
+            };
+        }
+    }
+
+    /**
+     * Appends elements in order, writing element records as they arrive and each trie node as soon as it is full, so
+     * memory use is independent of the number of elements written. close() writes the remaining partial nodes and
+     * the footer.
+     *
+     * A Writer is not thread safe.
+     */
+    public static final class Writer<T> implements AutoCloseable {
+        private final WritableByteChannel out;
+        private final Codec<T> codec;
+        private final int segmentBits;
+        private final ByteBuffer staging = ByteBuffer.allocateDirect(1 << 16).order(ORDER);
+        private final ExpandableArrayBuffer scratch = new ExpandableArrayBuffer(256);
+        private final long[][] levels = new long[MAX_HEIGHT][];
+        private final int[] counts = new int[MAX_HEIGHT];
+        private long position;
+        private long size;
+        private boolean closed;
+
+        Writer(WritableByteChannel out, Codec<T> codec, int segmentBits) {
+            this.out = out;
+            this.codec = codec;
+            this.segmentBits = segmentBits;
+        }
+
+        public Writer<T> append(T value) {
+            if (closed)
+                throw new IllegalStateException("Writer is closed");
+            int length = codec.encode(value, scratch, 0);
+            long offset = reserve(4L + length);
+            putInt(length);
+            byte[] bytes = scratch.byteArray();
+            for (int written = 0; written < length; ) {
+                if (!staging.hasRemaining())
+                    flush();
+                int chunk = Math.min(staging.remaining(), length - written);
+                staging.put(bytes, written, chunk);
+                written += chunk;
+            }
+            position += length;
+            push(0, offset);
+            size++;
+            return this;
+        }
+
+        public Writer<T> appendAll(Iterable<? extends T> values) {
+            for (T next : values) {
+                append(next);
+            }
+            return this;
+        }
+
+        public long size() {
+            return size;
+        }
+
+        private void push(int level, long offset) {
+            if (levels[level] == null)
+                levels[level] = new long[WIDTH];
+            levels[level][counts[level]++] = offset;
+            if (counts[level] == WIDTH) {
+                long node = writeNode(level);
+                push(level + 1, node);
+            }
+        }
+
+        private long writeNode(int level) {
+            int count = counts[level];
+            long offset = reserve(8L * count);
+            for (int i = 0; i < count; i++) {
+                putLong(levels[level][i]);
+            }
+            counts[level] = 0;
+            return offset;
+        }
+
+        private boolean higher(int level) {
+            for (int i = level + 1; i < MAX_HEIGHT; i++) {
+                if (counts[i] > 0)
+                    return true;
+            }
+            return false;
+        }
+
+        /**
+         * Pads to the next segment if a record of the supplied length would otherwise straddle a segment boundary
+         *
+         * @return Offset at which the record will be written
+         */
+        private long reserve(long length) {
+            long segmentSize = 1L << segmentBits;
+            if (length > segmentSize)
+                throw new IllegalArgumentException("Element of " + length + " bytes exceeds the maximum segment size");
+            long remaining = segmentSize - (position & (segmentSize - 1));
+            if (length > remaining) {
+                for (long i = 0; i < remaining; i++) {
+                    if (!staging.hasRemaining())
+                        flush();
+                    staging.put((byte) 0);
+                }
+                position += remaining;
+            }
+            return position;
+        }
+
+        private void putInt(int value) {
+            if (staging.remaining() < 4)
+                flush();
+            staging.putInt(value);
+            position += 4;
+        }
+
+        private void putLong(long value) {
+            if (staging.remaining() < 8)
+                flush();
+            staging.putLong(value);
+            position += 8;
+        }
+
+        private void flush() {
+            staging.flip();
+            try {
+                while (staging.hasRemaining()) {
+                    out.write(staging);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            staging.clear();
+        }
+
+        @Override
+        public void close() {
+            if (closed)
+                return;
+            closed = true;
+            long root = -1;
+            int height = 0;
+            long carry = -1;
+            for (int level = 0; level < MAX_HEIGHT; level++) {
+                if (carry >= 0) {
+                    levels[level] = levels[level] == null ? new long[WIDTH] : levels[level];
+                    levels[level][counts[level]++] = carry;
+                    carry = -1;
+                }
+                if (counts[level] == 0)
+                    continue;
+                boolean higher = higher(level);
+                if (!higher && level > 0 && counts[level] == 1) {
+                    root = levels[level][0];
+                    height = level;
+                    break;
+                }
+                carry = writeNode(level);
+                if (!higher) {
+                    root = carry;
+                    height = level + 1;
+                    break;
+                }
+            }
+            reserve(FOOTER_LENGTH);
+            putInt(MAGIC);
+            putInt(VERSION);
+            putInt(segmentBits);
+            putInt(height);
+            putLong(size);
+            putLong(root);
+            flush();
+            try {
+                out.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -9,8 +9,6 @@ import cyclops.function.Function4;
 import com.oath.cyclops.hkt.DataWitness.treeMap;
 import cyclops.data.base.RedBlackTree;
 import cyclops.reactive.ReactiveSeq;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 import lombok.experimental.Wither;
@@ -23,7 +21,6 @@ import java.util.Objects;
 import java.util.function.*;
 import java.util.stream.Stream;
 
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
                                             Higher2<treeMap,K,V>,
                                             Serializable{
@@ -33,6 +30,10 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
     @Wither()
     private final Comparator<K> comparator;
 
+    private TreeMap(RedBlackTree.Tree<K, V> map, Comparator<K> comparator) {
+        this.map = RedBlackTree.rootIsBlack(map);
+        this.comparator = comparator;
+    }
 
     public ReactiveSeq<Tuple2<K,V>> stream(){
         return map.stream();
@@ -219,6 +220,65 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
         return map.size();
     }
 
+    public Option<Tuple2<K,V>> floor(K key){
+        return map.floor(key);
+    }
+
+    public Option<Tuple2<K,V>> ceiling(K key){
+        return map.ceiling(key);
+    }
+
+    public Option<Tuple2<K,V>> lower(K key){
+        return map.lower(key);
+    }
+
+    public Option<Tuple2<K,V>> higher(K key){
+        return map.higher(key);
+    }
+
+    /**
+     * @return Number of keys in this TreeMap strictly less than key
+     */
+    public int rank(K key){
+        return map.rank(key);
+    }
+
+    /**
+     * @return Entry at position index in key order
+     */
+    public Option<Tuple2<K,V>> select(int index){
+        return map.select(index);
+    }
+
+    /**
+     * Range view over the keys from (inclusive) until to (exclusive), shares structure with this TreeMap and is created in O(log n)
+     */
+    public TreeMap<K,V> subMap(K from, K to){
+        return subMap(from,true,to,false);
+    }
+
+    public TreeMap<K,V> subMap(K from, boolean fromInclusive, K to, boolean toInclusive){
+        if(comparator.compare(from,to)>0)
+            return empty(comparator);
+        return new TreeMap<>(RedBlackTree.until(RedBlackTree.from(map,from,fromInclusive),to,toInclusive),comparator);
+    }
+
+    public TreeMap<K,V> headMap(K to){
+        return headMap(to,false);
+    }
+
+    public TreeMap<K,V> headMap(K to, boolean inclusive){
+        return new TreeMap<>(RedBlackTree.until(map,to,inclusive),comparator);
+    }
+
+    public TreeMap<K,V> tailMap(K from){
+        return tailMap(from,true);
+    }
+
+    public TreeMap<K,V> tailMap(K from, boolean inclusive){
+        return new TreeMap<>(RedBlackTree.from(map,from,inclusive),comparator);
+    }
+
     @Override
     public <K2, V2> DMap.Two<K, V, K2, V2> merge(ImmutableMap<K2, V2> one) {
         return DMap.two(this,one);
@@ -238,7 +238,30 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
 
     @Override
     public Option<T> get(int index) {
-        return stream().elementAt(index);
+        return map.select(index).map(Tuple2::_1);
+    }
+
+    public Option<T> floor(T value){
+        return map.floor(value).map(Tuple2::_1);
+    }
+
+    public Option<T> ceiling(T value){
+        return map.ceiling(value).map(Tuple2::_1);
+    }
+
+    public Option<T> lower(T value){
+        return map.lower(value).map(Tuple2::_1);
+    }
+
+    public Option<T> higher(T value){
+        return map.higher(value).map(Tuple2::_1);
+    }
+
+    /**
+     * @return Number of values in this TreeSet strictly less than value
+     */
+    public int rank(T value){
+        return map.rank(value);
     }
 
 
@@ -254,33 +277,59 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
         return comp;
     }
 
+    /**
+     * Values from fromElement (inclusive) until toElement (exclusive). As before, an absent fromElement gives an empty
+     * TreeSet and an absent toElement runs to the end of the set. Shares structure with this TreeSet and is created in
+     * O(log n), use {@link #subSet(Object, boolean, Object, boolean)} for a range between arbitrary bounds
+     */
     @Override
-    public ImmutableSortedSet<T> subSet(T fromElement, T toElement) {
+    public TreeSet<T> subSet(T fromElement, T toElement) {
+        if(!containsValue(fromElement))
+            return empty(comp);
+        TreeSet<T> tail = tailSet(fromElement,true);
+        return tail.containsValue(toElement) ? tail.headSet(toElement,false) : tail;
+    }
+
+    public TreeSet<T> subSet(T fromElement, boolean fromInclusive, T toElement, boolean toInclusive) {
+        if(comp.compare(fromElement,toElement)>0)
+            return empty(comp);
+        return new TreeSet<>(RedBlackTree.until(RedBlackTree.from(map,fromElement,fromInclusive),toElement,toInclusive),comp);
+    }
 
-       return fromStream(stream().dropWhile(e-> !Objects.equals(e,fromElement))
-                                 .takeUntil(e->Objects.equals(e,toElement)),comp);
+    public TreeSet<T> headSet(T toElement) {
+        return headSet(toElement,false);
+    }
+
+    public TreeSet<T> headSet(T toElement, boolean inclusive) {
+        return new TreeSet<>(RedBlackTree.until(map,toElement,inclusive),comp);
+    }
 
+    public TreeSet<T> tailSet(T fromElement) {
+        return tailSet(fromElement,true);
     }
 
+    public TreeSet<T> tailSet(T fromElement, boolean inclusive) {
+        return new TreeSet<>(RedBlackTree.from(map,fromElement,inclusive),comp);
+    }
 
     @Override
     public Option<T> first() {
-        return Option.fromIterable(this);
+        return get(0);
     }
 
     @Override
     public Option<T> last() {
-        return stream().takeRight(1).takeOne();
+        return get(size()-1);
     }
 
     @Override
-    public ImmutableSortedSet<T> drop(int num) {
-        return fromStream(stream().drop(num),comp);
+    public TreeSet<T> drop(int num) {
+        return get(num).fold(s->tailSet(s),()->num<=0 ? this : empty(comp));
     }
 
     @Override
-    public ImmutableSortedSet<T> take(int num) {
-        return fromStream(stream().take(num),comp);
+    public TreeSet<T> take(int num) {
+        return get(num).fold(s->headSet(s),()->num<=0 ? empty(comp) : this);
     }
 
     public String printTree(){
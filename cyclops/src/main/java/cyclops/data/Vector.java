@@ -8,6 +8,7 @@ import com.oath.cyclops.types.persistent.PersistentIndexed;
 import cyclops.control.Either;
 import cyclops.control.Option;
 import cyclops.data.base.BAMT;
+import cyclops.data.base.RRBT;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.tuple.Tuple3;
@@ -102,6 +103,22 @@ public class Vector<T> implements ImmutableList<T>,
   }
     @Override
     public Iterator<T> iterator(){
+        if(root instanceof RRBT){
+            Iterator<T> rootIt = root.iterator();
+            int tailStart = size-tail.size();
+            return new Iterator<T>() {
+                int index =0;
+                @Override
+                public boolean hasNext() {
+                    return index <size;
+                }
+
+                @Override
+                public T next() {
+                    return index++<tailStart ? rootIt.next() : tail.getOrElse(index-1-tailStart,null);
+                }
+            };
+        }
         return new Iterator<T>() {
             int index =0;
             @Override
@@ -129,25 +146,35 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> removeAt(long i) {
-        return (Vector<T>)ImmutableList.super.removeAt(i);
+        if(i<0 || i>=size)
+            return this;
+        return fromRRBT(relaxed().removeAt((int)i));
     }
 
     @Override
     public Vector<T> insertAt(int pos, T... values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        return insertAt(pos,Arrays.asList(values));
     }
     @Override
     public Vector<T> insertAt(int i, T e){
-        return (Vector<T>)ImmutableList.super.insertAt(i,e);
+        if(i>=size)
+            return append(e);
+        return fromRRBT(relaxed().insertAt(i,e));
     }
 
     @Override
     public Vector<T> insertAt(int pos, Iterable<? extends T> values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        if(pos<=0)
+            return prependAll(values);
+        if(pos>=size)
+            return appendAll(values);
+        Tuple2<RRBT<T>, RRBT<T>> split = relaxed().split(pos);
+        return fromRRBT(split._1().concat(Vector.<T>narrow(values).relaxed())
+                                  .concat(split._2()));
     }
     @Override
     public Vector<T> insertAt(int pos, ReactiveSeq<? extends T> values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        return insertAt(pos,(Iterable<? extends T>)values);
     }
     public Vector<T> plusAll(int i, Iterable<? extends T> values){
         return insertAt(i,values);
@@ -157,6 +184,32 @@ public class Vector<T> implements ImmutableList<T>,
         return new Vector<>(new BAMT.Zero<>(),BAMT.ActiveTail.emptyTail(),0);
     }
 
+    private static <T> Vector<T> fromRRBT(RRBT<T> tree){
+        if(tree.isEmpty())
+            return empty();
+        if(tree.height()==0)
+            return new Vector<>(new BAMT.Zero<>(),new BAMT.ActiveTail<>(tree.getNestedArrayAt(0)),tree.size());
+        return new Vector<>(tree,BAMT.ActiveTail.emptyTail(),tree.size());
+    }
+
+    /**
+     * @return This Vector (root and tail) as a single relaxed radix balanced tree, supporting O(log n) splicing
+     */
+    private RRBT<T> relaxed(){
+        RRBT<T> tree = RRBT.fromNestedArray(root);
+        if(tail.size()==0)
+            return tree;
+        return tree.append(tail);
+    }
+
+    private Vector<T> concat(Vector<T> other){
+        if(other.isEmpty())
+            return this;
+        if(isEmpty())
+            return other;
+        return fromRRBT(relaxed().concat(other.relaxed()));
+    }
+
     public static <T> Vector<T> fill(T t, int max){
         return Vector.fromStream(ReactiveSeq.fill(t).take(max));
     }
@@ -210,18 +263,125 @@ public class Vector<T> implements ImmutableList<T>,
         if(it instanceof Vector){
             return (Vector<T>)it;
         }
-        Vector<T> res = empty();
-        for(T next : it){
-            res = res.plus(next);
+        return Vector.<T>builder().appendAll(it).build();
+    }
+
+    @SuppressWarnings("unchecked") //Vectors are immutable, so a Vector<? extends T> can safely be used as a Vector<T>
+    private static <T> Vector<T> narrow(Iterable<? extends T> it){
+        if(it instanceof Vector){
+            return (Vector<T>)it;
         }
-        return res;
+        return Vector.<T>builder().appendAll(it).build();
     }
     public static <T> Vector<T> of(T... value){
-        Vector<T> res = empty();
+        Builder<T> res = builder();
         for(T next : value){
-            res = res.plus(next);
+            res.append(next);
+        }
+        return res.build();
+    }
+
+    public static <T> Builder<T> builder(){
+        return new Builder<>();
+    }
+
+    /**
+     * Transient builder for bulk loading a Vector. Leaves and branch arrays are filled in place, rather than
+     * copied on every append, and build() freezes the current state into an immutable Vector by trimming only
+     * the partially filled arrays on the right edge of the trie.
+     * The builder can continue to be used after build().
+     *
+     * A Builder is not thread safe.
+     */
+    public static final class Builder<T>{
+        private static final int LEVELS = 5;
+        //a full trie of LEVELS branch levels over 32 element leaves, plus the leaf being filled
+        private static final int MAX_SIZE = (1 << (5*(LEVELS+1))) + 32;
+        private Object[] leaf = new Object[32];
+        private int leafSize = 0;
+        private final Object[][] levels = new Object[LEVELS][];
+        private final int[] counts = new int[LEVELS];
+        private int size = 0;
+
+        public Builder<T> append(T value){
+            if(leafSize==32){
+                if(size==MAX_SIZE)
+                    throw new IndexOutOfBoundsException("A Vector can hold at most "+MAX_SIZE+" elements");
+                push(0,leaf);
+                leaf = new Object[32];
+                leafSize = 0;
+            }
+            leaf[leafSize++]=value;
+            size++;
+            return this;
+        }
+
+        public Builder<T> appendAll(Iterable<? extends T> values){
+            for(T next : values){
+                append(next);
+            }
+            return this;
+        }
+
+        public int size(){
+            return size;
+        }
+
+        private void push(int level, Object node){
+            if(levels[level]==null)
+                levels[level]=newLevel(level);
+            levels[level][counts[level]++]=node;
+            if(counts[level]==32 && level<LEVELS-1){
+                push(level+1,levels[level]);
+                levels[level]=null;
+                counts[level]=0;
+            }
+        }
+
+        private static Object[] newLevel(int level){
+            switch(level){
+                case 0: return new Object[32][];
+                case 1: return new Object[32][][];
+                case 2: return new Object[32][][][];
+                case 3: return new Object[32][][][][];
+                default: return new Object[32][][][][][];
+            }
+        }
+
+        @SuppressWarnings("unchecked") //leaves are Object[] that only ever hold T
+        public Vector<T> build(){
+            BAMT.ActiveTail<T> tail = new BAMT.ActiveTail<>((T[])Arrays.copyOf(leaf,leafSize));
+            int top = -1;
+            Object[] node = null;
+            for(int i=0;i<LEVELS;i++){
+                if(counts[i]==0 && node==null)
+                    continue;
+                Object[] next = Arrays.copyOf(levels[i]==null ? newLevel(i) : levels[i],counts[i]+(node==null ? 0 : 1));
+                if(node!=null)
+                    next[counts[i]]=node;
+                node = next;
+                top = i;
+            }
+            if(top==-1)
+                return new Vector<>(new BAMT.Zero<>(),tail,size);
+            while(top>0 && node.length==1){
+                node = (Object[])node[0];
+                top--;
+            }
+            if(top==0 && node.length==1)
+                return new Vector<>(BAMT.One.one((T[])node[0]),tail,size);
+            return new Vector<>(root(node,top),tail,size);
+        }
+
+        private static <T> BAMT.NestedArray<T> root(Object[] node, int top){
+            switch(top){
+                case 0: return BAMT.Two.two((Object[][])node);
+                case 1: return BAMT.Three.three((Object[][][])node);
+                case 2: return BAMT.Four.four((Object[][][][])node);
+                case 3: return BAMT.Five.five((Object[][][][][])node);
+                default: return BAMT.Six.six((Object[][][][][][])node);
+            }
         }
-        return res;
     }
 
 
@@ -233,25 +393,72 @@ public class Vector<T> implements ImmutableList<T>,
         return ReactiveSeq.fromIterable(this);
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return new VectorSpliterator<>(this,0,size);
+    }
+
+    /**
+     * Sized Spliterator over an index range, splits in halves so Vectors can be processed with fork / join
+     */
+    static final class VectorSpliterator<T> implements Spliterator<T> {
+        private final Vector<T> vector;
+        private int index;
+        private final int end;
+
+        VectorSpliterator(Vector<T> vector, int index, int end) {
+            this.vector = vector;
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if(index>=end)
+                return false;
+            action.accept(vector.getOrElse(index++,null));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if(index>=end)
+                return;
+            Vector<T> range = index==0 && end==vector.size ? vector : vector.slice(index,end);
+            index = end;
+            for(T next : range)
+                action.accept(next);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index + end) >>> 1;
+            if(mid<=index)
+                return null;
+            Spliterator<T> prefix = new VectorSpliterator<>(vector,index,mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end-index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+        }
+    }
+
     public Vector<T> filter(Predicate<? super T> pred){
-        int newSize= 0;
-        BAMT.NestedArray<T> newRoot =new BAMT.Zero<>();
-        BAMT.ActiveTail<T> newTail = BAMT.ActiveTail.emptyTail();
+        Builder<T> res = builder();
         for (T t : this) {
             if(pred.test(t)) {
-                if (newTail.size() < 32) {
-                    newTail = newTail.append(t);
-                    newSize++;
-                } else {
-                    newRoot = newRoot.append(newTail);
-                    newTail = BAMT.ActiveTail.tail(t);
-                    newSize++;
-                }
+                res.append(t);
             }
-
-
         }
-        return new Vector<>(newRoot,newTail,newSize);
+        return res.build();
     }
 
     public <R> Vector<R> map(Function<? super T, ? extends R> fn){
@@ -406,32 +613,17 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public <U, R> Vector<R> zip(Iterable<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
-        int newSize= 0;
-        BAMT.NestedArray<R> newRoot =new BAMT.Zero<>();
-        BAMT.ActiveTail<R> newTail = BAMT.ActiveTail.emptyTail();
+        Builder<R> res = builder();
         Iterator<? extends U> it = other.iterator();
         for (T t : this) {
             if(it.hasNext()) {
-                R r = zipper.apply(t, it.next());
-                if(newTail.size()<32) {
-                    newTail = newTail.append(r);
-                    newSize++;
-                }else{
-                    newRoot = newRoot.append(newTail);
-                    newTail = BAMT.ActiveTail.tail(r);
-                    newSize++;
-                }
+                res.append(zipper.apply(t, it.next()));
             }
             else{
                 break;
             }
-
-
-
-
         }
-        return new Vector<R>(newRoot,newTail,newSize);
-       // return (Vector<R>) ImmutableList.super.zip(other,zipper);
+        return res.build();
     }
 
     @Override
@@ -573,7 +765,8 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> slice(long from, long to) {
-        return (Vector<T>) ImmutableList.super.slice(from,to);
+        long start = Math.max(0,from);
+        return drop(start).take(Math.max(0,to-start));
     }
 
 
@@ -589,17 +782,22 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> prependAll(T... values) {
-        return (Vector<T>) ImmutableList.super.prependAll(values);
+        return prependAll(Arrays.asList(values));
     }
 
     @Override
     public Vector<T> deleteBetween(int start, int end) {
-        return (Vector<T>) ImmutableList.super.deleteBetween(start,end);
+        int from = Math.max(0,start);
+        int to = Math.min(end,size);
+        if(from>=to)
+            return this;
+        RRBT<T> tree = relaxed();
+        return fromRRBT(tree.take(from).concat(tree.drop(to)));
     }
 
     @Override
     public Vector<T> insertStreamAt(int pos, Stream<T> stream) {
-        return (Vector<T>) ImmutableList.super.insertStreamAt(pos,stream);
+        return insertAt(pos,ReactiveSeq.fromStream(stream));
     }
 
 
@@ -645,24 +843,11 @@ public class Vector<T> implements ImmutableList<T>,
 
   @Override
     public <R> Vector<R> concatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
-      int newSize= 0;
-      BAMT.NestedArray<R> newRoot =new BAMT.Zero<>();
-      BAMT.ActiveTail<R> newTail = BAMT.ActiveTail.emptyTail();
+      Builder<R> res = builder();
       for (T t : this) {
-          for(R r : fn.apply(t)) {
-
-              if(newTail.size()<32) {
-                  newTail = newTail.append(r);
-                  newSize++;
-              }else{
-                  newRoot = newRoot.append(newTail);
-                  newTail = BAMT.ActiveTail.tail(r);
-                  newSize++;
-              }
-
-          }
+          res.appendAll(fn.apply(t));
       }
-      return new Vector<R>(newRoot,newTail,newSize);
+      return res.build();
     }
 
     public Either<Integer,Vector<T>> set(int pos, T value) {
@@ -718,12 +903,12 @@ public class Vector<T> implements ImmutableList<T>,
         private void readObject(ObjectInputStream s) throws ClassNotFoundException, IOException {
             s.defaultReadObject();
             final int size = s.readInt();
-            Vector<T> res = empty();
+            Builder<T> res = builder();
             for (int i = 0; i < size; i++) {
                 T n = (T) s.readObject();
-                res = res.append(n);
+                res.append(n);
             }
-            v=res;
+            v=res.build();
         }
     }
 
@@ -748,7 +933,7 @@ public class Vector<T> implements ImmutableList<T>,
             BAMT.ActiveTail<T> newTail = tail.takeRight(num);
             return new Vector<>(new BAMT.Zero<>(),newTail,newTail.size());
         }
-        return (Vector<T>)ImmutableList.super.dropRight(num);
+        return drop(size()-num);
     }
 
     public Vector<T> dropRight(int num){
@@ -756,13 +941,7 @@ public class Vector<T> implements ImmutableList<T>,
             return this;
         if(num>=size())
             return empty();
-        if(tail.size()==1){
-            return new Vector<>(this.root,BAMT.ActiveTail.emptyTail(),size()-1).drop(num-1);
-        }
-        if(tail.size()>0){
-            return new Vector<>(this.root,tail.dropRight(num),size()-(Math.min(tail.size(),num))).dropRight(num-tail.size());
-        }
-        return unitStream(stream().dropRight(num));
+        return take(size()-num);
     }
     @Override
     public Vector<T> drop(long num) {
@@ -773,7 +952,7 @@ public class Vector<T> implements ImmutableList<T>,
         if(size()<32){
             return new Vector<>(this.root,tail.drop((int)num),size()-(int)num);
         }
-        return unitStream(stream().drop(num));
+        return fromRRBT(relaxed().drop((int)num));
     }
 
     @Override
@@ -782,52 +961,22 @@ public class Vector<T> implements ImmutableList<T>,
             return empty();
         if(num>=size())
             return this;
-        if(size()<32){
-            return new Vector<T>(this.root,tail.dropRight(Math.max(tail.size()-(int)num,0)),(int)num);
+        int tailStart = size-tail.size();
+        if(num>=tailStart){
+            return new Vector<T>(this.root,tail.dropRight(size-(int)num),(int)num);
         }
-        return unitStream(stream().take(num));
+        return fromRRBT(relaxed().take((int)num));
     }
 
     @Override
     public Vector<T> prepend(T value) {
-        return prependAll(Arrays.asList(value));
+        return insertAt(0,value);
     }
 
 
     @Override
     public Vector<T> prependAll(Iterable<? extends T> value) {
-        int newSize= 0;
-        BAMT.NestedArray<T> newRoot =new BAMT.Zero<>();
-        BAMT.ActiveTail<T> newTail = BAMT.ActiveTail.emptyTail();
-
-        for (T t : value) {
-
-            if(newTail.size()<32) {
-                newTail = newTail.append(t);
-                newSize++;
-            }else{
-                newRoot = newRoot.append(newTail);
-                newTail = BAMT.ActiveTail.tail(t);
-                newSize++;
-            }
-
-
-        }
-        for (T t : this) {
-
-            if(newTail.size()<32) {
-                newTail = newTail.append(t);
-                newSize++;
-            }else{
-                newRoot = newRoot.append(newTail);
-                newTail = BAMT.ActiveTail.tail(t);
-                newSize++;
-            }
-
-
-        }
-
-        return new Vector<>(newRoot,newTail,newSize);
+        return Vector.<T>narrow(value).concat(this);
     }
 
     public Vector<T> append(T value) {
@@ -836,6 +985,9 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> appendAll(Iterable<? extends T> value) {
+        if(value instanceof Vector && ((Vector<? extends T>)value).size()>32){
+            return concat(Vector.<T>narrow(value));
+        }
         int newSize= size;
         BAMT.NestedArray<T> newRoot =root;
         BAMT.ActiveTail<T> newTail = tail;
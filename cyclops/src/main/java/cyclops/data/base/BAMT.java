@@ -1000,7 +1000,7 @@ public class BAMT<T> {
                 updatedNodes[array.length] = new Object[][][][][]{new Object[][][][]{new Object[][][]{new Object[][]{tail.array}}}};
                 return six(updatedNodes);
             }
-            return this; //BAMT is full
+            throw new IndexOutOfBoundsException("A BAMT can hold at most "+(1 << 30)+" elements");
         }
 
         @Override
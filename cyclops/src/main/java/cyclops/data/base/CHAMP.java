@@ -0,0 +1,751 @@
+package cyclops.data.base;
+
+
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Compressed Hash-Array Mapped Prefix-tree (Steindorfer &amp; Vinju, OOPSLA 2015).
+ *
+ * Unlike {@link HAMT}, keys and values are stored inline in the node that owns their hash prefix rather than in a
+ * separate node object per entry. Each node has two bitmaps, one for inline entries and one for sub-nodes, and a single
+ * Object[] laid out as [k0,v0,k1,v1,...,node0,node1,...].
+ */
+public final class CHAMP {
+
+    static final int BITS_IN_INDEX = 5;
+    static final int MASK = (1 << BITS_IN_INDEX) - 1;
+    static final int MAX_DEPTH = 8;
+
+    private static final BitmapIndexedNode<Object, Object> EMPTY = new BitmapIndexedNode<>(0, 0, new Object[0], 0, null);
+
+    private CHAMP() {
+    }
+
+    @SuppressWarnings("unchecked") //the empty node holds no entries, so it can be shared across all key and value types
+    public static <K, V> Node<K, V> empty() {
+        return (Node<K, V>) EMPTY;
+    }
+
+    public interface Node<K, V> extends Iterable<Tuple2<K, V>>, Serializable {
+        long serialVersionUID = 1L;
+
+        default Node<K, V> put(K key, V value) {
+            return plus(0, key.hashCode(), key, value);
+        }
+
+        default Option<V> get(K key) {
+            return get(0, key.hashCode(), key);
+        }
+
+        default V getOrElse(K key, V alt) {
+            return getOrElse(0, key.hashCode(), key, alt);
+        }
+
+        default boolean containsKey(K key) {
+            return entry(this, 0, key.hashCode(), key) != null;
+        }
+
+        default Node<K, V> minus(K key) {
+            return minus(0, key.hashCode(), key);
+        }
+
+        default Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
+            return plus(null, bitShiftDepth, hash, key, value);
+        }
+
+        /**
+         * Transient insertion, nodes owned by the supplied edit token may be updated in place rather than copied.
+         * Used to bulk load a CHAMP trie, the edit token must not escape the builder that owns it.
+         */
+        Node<K, V> plus(Object edit, int bitShiftDepth, int hash, K key, V value);
+
+        Option<V> get(int bitShiftDepth, int hash, K key);
+
+        V getOrElse(int bitShiftDepth, int hash, K key, V alt);
+
+        V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt);
+
+        Node<K, V> minus(int bitShiftDepth, int hash, K key);
+
+        int size();
+
+        @Override
+        @SuppressWarnings("unchecked") //entries in the content arrays of a Node<K, V> are always a K and a V
+        default Iterator<Tuple2<K, V>> iterator() {
+            return new NodeIterator<Tuple2<K, V>>(this) {
+                @Override
+                Tuple2<K, V> current(Object key, Object value) {
+                    return Tuple.tuple((K) key, (V) value);
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked") //entries in the content arrays of a Node<K, V> are always a K and a V
+        default Iterator<K> keyIterator() {
+            return new NodeIterator<K>(this) {
+                @Override
+                K current(Object key, Object value) {
+                    return (K) key;
+                }
+            };
+        }
+
+        default ReactiveSeq<Tuple2<K, V>> stream() {
+            return ReactiveSeq.fromIterable(this);
+        }
+    }
+
+    /**
+     * Structural union of two tries in a single pass, where values in right take precedence. Subtrees present on only one
+     * side, or shared by both sides, are reused rather than rebuilt.
+     */
+    public static <K, V> Node<K, V> union(Node<K, V> left, Node<K, V> right) {
+        return union(0, left, right);
+    }
+
+    /**
+     * Structural intersection of two tries in a single pass, retaining the keys (and values) of left that are also
+     * present in right.
+     */
+    public static <K, V> Node<K, V> intersection(Node<K, V> left, Node<K, ?> right) {
+        return intersection(0, left, right);
+    }
+
+    /**
+     * Structural difference of two tries in a single pass, retaining the keys (and values) of left that are not
+     * present in right.
+     */
+    public static <K, V> Node<K, V> difference(Node<K, V> left, Node<K, ?> right) {
+        return difference(0, left, right);
+    }
+
+    static <K, V> Node<K, V> union(int bitShiftDepth, Node<K, V> left, Node<K, V> right) {
+        if (left == right || right.size() == 0)
+            return left;
+        if (left.size() == 0)
+            return right;
+        if (left instanceof BitmapIndexedNode && right instanceof BitmapIndexedNode)
+            return ((BitmapIndexedNode<K, V>) left).union(bitShiftDepth, (BitmapIndexedNode<K, V>) right);
+        if (!(right instanceof BitmapIndexedNode)) {
+            Node<K, V> res = left;
+            for (Tuple2<K, V> next : right) {
+                res = res.plus(bitShiftDepth, next._1().hashCode(), next._1(), next._2());
+            }
+            return res;
+        }
+        Node<K, V> res = right;
+        for (Tuple2<K, V> next : left) {
+            if (entry(right, bitShiftDepth, next._1().hashCode(), next._1()) == null)
+                res = res.plus(bitShiftDepth, next._1().hashCode(), next._1(), next._2());
+        }
+        return res;
+    }
+
+    @SuppressWarnings("unchecked") //entry pairs found in left are always a K and a V
+    static <K, V> Node<K, V> intersection(int bitShiftDepth, Node<K, V> left, Node<K, ?> right) {
+        if (left == right)
+            return left;
+        if (left.size() == 0 || right.size() == 0)
+            return empty();
+        if (left instanceof BitmapIndexedNode && right instanceof BitmapIndexedNode)
+            return ((BitmapIndexedNode<K, V>) left).intersection(bitShiftDepth, (BitmapIndexedNode<K, ?>) right);
+        Node<K, V> res = empty();
+        for (Tuple2<K, ?> next : right) {
+            Object[] found = entry(left, bitShiftDepth, next._1().hashCode(), next._1());
+            if (found != null)
+                res = res.plus(bitShiftDepth, next._1().hashCode(), (K) found[0], (V) found[1]);
+        }
+        return res.size() == left.size() ? left : res;
+    }
+
+    static <K, V> Node<K, V> difference(int bitShiftDepth, Node<K, V> left, Node<K, ?> right) {
+        if (left.size() == 0 || right.size() == 0)
+            return left;
+        if (left == right)
+            return empty();
+        if (left instanceof BitmapIndexedNode && right instanceof BitmapIndexedNode)
+            return ((BitmapIndexedNode<K, V>) left).difference(bitShiftDepth, (BitmapIndexedNode<K, ?>) right);
+        Node<K, V> res = left;
+        for (Tuple2<K, ?> next : right) {
+            res = res.minus(bitShiftDepth, next._1().hashCode(), next._1());
+        }
+        return res;
+    }
+
+    /**
+     * @return The stored key and value as a pair, or null if key is not present
+     */
+    static Object[] entry(Node<?, ?> root, int bitShiftDepth, int hash, Object key) {
+        Node<?, ?> node = root;
+        int shift = bitShiftDepth;
+        while (node instanceof BitmapIndexedNode) {
+            BitmapIndexedNode<?, ?> bitmapNode = (BitmapIndexedNode<?, ?>) node;
+            int bit = bitpos(hash, shift);
+            if ((bitmapNode.dataMap & bit) != 0) {
+                int index = 2 * bitmapNode.dataIndex(bit);
+                Object[] content = bitmapNode.content;
+                return Objects.equals(content[index], key) ? new Object[]{content[index], content[index + 1]} : null;
+            }
+            if ((bitmapNode.nodeMap & bit) == 0)
+                return null;
+            node = (Node<?, ?>) bitmapNode.content[bitmapNode.nodeIndex(bit)];
+            shift += BITS_IN_INDEX;
+        }
+        HashCollisionNode<?, ?> collisionNode = (HashCollisionNode<?, ?>) node;
+        if (collisionNode.hash != hash)
+            return null;
+        int index = collisionNode.find(key);
+        return index < 0 ? null : new Object[]{collisionNode.content[index], collisionNode.content[index + 1]};
+    }
+
+    static int bitpos(int hash, int shift) {
+        return 1 << mask(hash, shift);
+    }
+
+    static int mask(int hash, int shift) {
+        return (hash >>> shift) & MASK;
+    }
+
+    static Object[] contentOf(Node<?, ?> node) {
+        return node instanceof BitmapIndexedNode ? ((BitmapIndexedNode<?, ?>) node).content : ((HashCollisionNode<?, ?>) node).content;
+    }
+
+    static int dataLengthOf(Node<?, ?> node) {
+        return node instanceof BitmapIndexedNode ? 2 * Integer.bitCount(((BitmapIndexedNode<?, ?>) node).dataMap) : ((HashCollisionNode<?, ?>) node).content.length;
+    }
+
+    static <K, V> Node<K, V> mergeTwo(Object edit, int bitShiftDepth, K key0, V value0, int hash0, K key1, V value1, int hash1) {
+        if (hash0 == hash1)
+            return new HashCollisionNode<>(hash0, new Object[]{key0, value0, key1, value1});
+        int mask0 = mask(hash0, bitShiftDepth);
+        int mask1 = mask(hash1, bitShiftDepth);
+        if (mask0 != mask1) {
+            Object[] content = mask0 < mask1 ? new Object[]{key0, value0, key1, value1} : new Object[]{key1, value1, key0, value0};
+            return new BitmapIndexedNode<>(1 << mask0 | 1 << mask1, 0, content, 2, edit);
+        }
+        Node<K, V> nested = mergeTwo(edit, bitShiftDepth + BITS_IN_INDEX, key0, value0, hash0, key1, value1, hash1);
+        return new BitmapIndexedNode<>(0, 1 << mask0, new Object[]{nested}, 2, edit);
+    }
+
+    public static final class BitmapIndexedNode<K, V> implements Node<K, V> {
+        private static final long serialVersionUID = 1L;
+        private int dataMap;
+        private int nodeMap;
+        private Object[] content;
+        private int size;
+        private final transient Object edit;
+
+        BitmapIndexedNode(int dataMap, int nodeMap, Object[] content, int size, Object edit) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+            this.size = size;
+            this.edit = edit;
+        }
+
+        int dataIndex(int bit) {
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        int nodeIndex(int bit) {
+            return 2 * Integer.bitCount(dataMap) + Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        private Node<K, V> nodeAt(int bit) {
+            return nodeAtIndex(nodeIndex(bit));
+        }
+
+        //content is laid out as [k0,v0,k1,v1,...,node0,node1,...] and only ever populated from a Node<K, V>
+        @SuppressWarnings("unchecked")
+        private K keyAt(int index) {
+            return (K) content[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        private V valueAt(int index) {
+            return (V) content[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        private Node<K, V> nodeAtIndex(int index) {
+            return (Node<K, V>) content[index];
+        }
+
+        @Override
+        public Option<V> get(int bitShiftDepth, int hash, K key) {
+            int bit = bitpos(hash, bitShiftDepth);
+            if ((dataMap & bit) != 0) {
+                int index = 2 * dataIndex(bit);
+                return Objects.equals(content[index], key) ? Option.of(valueAt(index + 1)) : Option.none();
+            }
+            if ((nodeMap & bit) != 0)
+                return nodeAt(bit).get(bitShiftDepth + BITS_IN_INDEX, hash, key);
+            return Option.none();
+        }
+
+        @Override
+        public V getOrElse(int bitShiftDepth, int hash, K key, V alt) {
+            int bit = bitpos(hash, bitShiftDepth);
+            if ((dataMap & bit) != 0) {
+                int index = 2 * dataIndex(bit);
+                return Objects.equals(content[index], key) ? valueAt(index + 1) : alt;
+            }
+            if ((nodeMap & bit) != 0)
+                return nodeAt(bit).getOrElse(bitShiftDepth + BITS_IN_INDEX, hash, key, alt);
+            return alt;
+        }
+
+        @Override
+        public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt) {
+            int bit = bitpos(hash, bitShiftDepth);
+            if ((dataMap & bit) != 0) {
+                int index = 2 * dataIndex(bit);
+                return Objects.equals(content[index], key) ? valueAt(index + 1) : alt.get();
+            }
+            if ((nodeMap & bit) != 0)
+                return nodeAt(bit).getOrElseGet(bitShiftDepth + BITS_IN_INDEX, hash, key, alt);
+            return alt.get();
+        }
+
+        private BitmapIndexedNode<K, V> editable(Object edit) {
+            return edit != null && edit == this.edit ? this : new BitmapIndexedNode<>(dataMap, nodeMap, content.clone(), size, edit);
+        }
+
+        private BitmapIndexedNode<K, V> update(Object edit, int dataMap, int nodeMap, Object[] content, int size) {
+            if (edit != null && edit == this.edit) {
+                this.dataMap = dataMap;
+                this.nodeMap = nodeMap;
+                this.content = content;
+                this.size = size;
+                return this;
+            }
+            return new BitmapIndexedNode<>(dataMap, nodeMap, content, size, edit);
+        }
+
+        @Override
+        public Node<K, V> plus(Object edit, int bitShiftDepth, int hash, K key, V value) {
+            int bit = bitpos(hash, bitShiftDepth);
+            if ((dataMap & bit) != 0) {
+                int index = 2 * dataIndex(bit);
+                K currentKey = keyAt(index);
+                if (Objects.equals(currentKey, key)) {
+                    BitmapIndexedNode<K, V> res = editable(edit);
+                    res.content[index] = key;
+                    res.content[index + 1] = value;
+                    return res;
+                }
+                Node<K, V> nested = mergeTwo(edit, bitShiftDepth + BITS_IN_INDEX, currentKey, valueAt(index + 1), currentKey.hashCode(), key, value, hash);
+                return migrateToNode(edit, bit, index, nested, size + 1);
+            }
+            if ((nodeMap & bit) != 0) {
+                int index = nodeIndex(bit);
+                Node<K, V> current = nodeAtIndex(index);
+                int currentSize = current.size();
+                Node<K, V> updated = current.plus(edit, bitShiftDepth + BITS_IN_INDEX, hash, key, value);
+                BitmapIndexedNode<K, V> res = editable(edit);
+                res.content[index] = updated;
+                res.size = size + updated.size() - currentSize;
+                return res;
+            }
+            int index = 2 * dataIndex(bit);
+            Object[] inserted = new Object[content.length + 2];
+            System.arraycopy(content, 0, inserted, 0, index);
+            inserted[index] = key;
+            inserted[index + 1] = value;
+            System.arraycopy(content, index, inserted, index + 2, content.length - index);
+            return update(edit, dataMap | bit, nodeMap, inserted, size + 1);
+        }
+
+        private Node<K, V> migrateToNode(Object edit, int bit, int dataIndex, Node<K, V> nested, int newSize) {
+            int nodeIndex = 2 * Integer.bitCount(dataMap) - 2 + Integer.bitCount(nodeMap & (bit - 1));
+            Object[] migrated = new Object[content.length - 1];
+            System.arraycopy(content, 0, migrated, 0, dataIndex);
+            System.arraycopy(content, dataIndex + 2, migrated, dataIndex, nodeIndex - dataIndex);
+            migrated[nodeIndex] = nested;
+            System.arraycopy(content, nodeIndex + 2, migrated, nodeIndex + 1, content.length - nodeIndex - 2);
+            return update(edit, dataMap ^ bit, nodeMap | bit, migrated, newSize);
+        }
+
+        private Node<K, V> migrateToInline(int bit, Node<K, V> single, int newSize) {
+            Object[] entry = contentOf(single);
+            int dataIndex = 2 * dataIndex(bit);
+            int nodeIndex = nodeIndex(bit);
+            Object[] migrated = new Object[content.length + 1];
+            System.arraycopy(content, 0, migrated, 0, dataIndex);
+            migrated[dataIndex] = entry[0];
+            migrated[dataIndex + 1] = entry[1];
+            System.arraycopy(content, dataIndex, migrated, dataIndex + 2, nodeIndex - dataIndex);
+            System.arraycopy(content, nodeIndex + 1, migrated, nodeIndex + 2, content.length - nodeIndex - 1);
+            return new BitmapIndexedNode<>(dataMap | bit, nodeMap ^ bit, migrated, newSize, null);
+        }
+
+        @Override
+        public Node<K, V> minus(int bitShiftDepth, int hash, K key) {
+            int bit = bitpos(hash, bitShiftDepth);
+            if ((dataMap & bit) != 0) {
+                int index = 2 * dataIndex(bit);
+                if (!Objects.equals(content[index], key))
+                    return this;
+                Object[] removed = new Object[content.length - 2];
+                System.arraycopy(content, 0, removed, 0, index);
+                System.arraycopy(content, index + 2, removed, index, content.length - index - 2);
+                return new BitmapIndexedNode<>(dataMap ^ bit, nodeMap, removed, size - 1, null);
+            }
+            if ((nodeMap & bit) != 0) {
+                int index = nodeIndex(bit);
+                Node<K, V> current = nodeAtIndex(index);
+                Node<K, V> updated = current.minus(bitShiftDepth + BITS_IN_INDEX, hash, key);
+                if (updated == current)
+                    return this;
+                if (updated.size() == 1)
+                    return migrateToInline(bit, updated, size - 1);
+                Object[] copy = content.clone();
+                copy[index] = updated;
+                return new BitmapIndexedNode<>(dataMap, nodeMap, copy, size - 1, null);
+            }
+            return this;
+        }
+
+        Node<K, V> union(int bitShiftDepth, BitmapIndexedNode<K, V> that) {
+            Merged<K, V> res = new Merged<>();
+            int nextShift = bitShiftDepth + BITS_IN_INDEX;
+            for (int bits = dataMap | nodeMap | that.dataMap | that.nodeMap; bits != 0; bits &= bits - 1) {
+                int bit = Integer.lowestOneBit(bits);
+                if ((dataMap & bit) != 0) {
+                    int index = 2 * dataIndex(bit);
+                    K key = keyAt(index);
+                    V value = valueAt(index + 1);
+                    if ((that.dataMap & bit) != 0) {
+                        int thatIndex = 2 * that.dataIndex(bit);
+                        K thatKey = that.keyAt(thatIndex);
+                        V thatValue = that.valueAt(thatIndex + 1);
+                        if (Objects.equals(key, thatKey))
+                            res.data(bit, thatKey, thatValue, this, that);
+                        else
+                            res.node(bit, mergeTwo(null, nextShift, key, value, key.hashCode(), thatKey, thatValue, thatKey.hashCode()), this, that);
+                    } else if ((that.nodeMap & bit) != 0) {
+                        Node<K, V> thatNode = that.nodeAt(bit);
+                        boolean present = entry(thatNode, nextShift, key.hashCode(), key) != null;
+                        res.node(bit, present ? thatNode : thatNode.plus(nextShift, key.hashCode(), key, value), this, that);
+                    } else {
+                        res.data(bit, key, value, this, that);
+                    }
+                } else if ((nodeMap & bit) != 0) {
+                    Node<K, V> node = nodeAt(bit);
+                    if ((that.dataMap & bit) != 0) {
+                        int thatIndex = 2 * that.dataIndex(bit);
+                        K thatKey = that.keyAt(thatIndex);
+                        res.node(bit, node.plus(nextShift, thatKey.hashCode(), thatKey, that.valueAt(thatIndex + 1)), this, that);
+                    } else if ((that.nodeMap & bit) != 0) {
+                        res.node(bit, CHAMP.union(nextShift, node, that.nodeAt(bit)), this, that);
+                    } else {
+                        res.node(bit, node, this, that);
+                    }
+                } else if ((that.dataMap & bit) != 0) {
+                    int thatIndex = 2 * that.dataIndex(bit);
+                    res.data(bit, that.keyAt(thatIndex), that.valueAt(thatIndex + 1), this, that);
+                } else {
+                    res.node(bit, that.nodeAt(bit), this, that);
+                }
+            }
+            return res.build(this, that);
+        }
+
+        @SuppressWarnings("unchecked") //entry pairs found in this node are always a K and a V
+        Node<K, V> intersection(int bitShiftDepth, BitmapIndexedNode<K, ?> that) {
+            Merged<K, V> res = new Merged<>();
+            int nextShift = bitShiftDepth + BITS_IN_INDEX;
+            int common = (dataMap | nodeMap) & (that.dataMap | that.nodeMap);
+            if (common != (dataMap | nodeMap))
+                res.sameAsLeft = false;
+            for (int bits = common; bits != 0; bits &= bits - 1) {
+                int bit = Integer.lowestOneBit(bits);
+                if ((dataMap & bit) != 0) {
+                    int index = 2 * dataIndex(bit);
+                    K key = keyAt(index);
+                    boolean present = (that.dataMap & bit) != 0 ? Objects.equals(key, that.content[2 * that.dataIndex(bit)])
+                            : entry(that.nodeAt(bit), nextShift, key.hashCode(), key) != null;
+                    if (present)
+                        res.data(bit, key, valueAt(index + 1), this, null);
+                    else
+                        res.sameAsLeft = false;
+                } else {
+                    Node<K, V> node = nodeAt(bit);
+                    if ((that.dataMap & bit) != 0) {
+                        Object thatKey = that.content[2 * that.dataIndex(bit)];
+                        Object[] found = entry(node, nextShift, thatKey.hashCode(), thatKey);
+                        res.sameAsLeft = false;
+                        if (found != null)
+                            res.data(bit, (K) found[0], (V) found[1], this, null);
+                    } else {
+                        res.node(bit, CHAMP.intersection(nextShift, node, that.nodeAt(bit)), this, null);
+                    }
+                }
+            }
+            return res.build(this, null);
+        }
+
+        Node<K, V> difference(int bitShiftDepth, BitmapIndexedNode<K, ?> that) {
+            Merged<K, V> res = new Merged<>();
+            int nextShift = bitShiftDepth + BITS_IN_INDEX;
+            for (int bits = dataMap | nodeMap; bits != 0; bits &= bits - 1) {
+                int bit = Integer.lowestOneBit(bits);
+                if ((dataMap & bit) != 0) {
+                    int index = 2 * dataIndex(bit);
+                    K key = keyAt(index);
+                    boolean present = (that.dataMap & bit) != 0 ? Objects.equals(key, that.content[2 * that.dataIndex(bit)])
+                            : (that.nodeMap & bit) != 0 && entry(that.nodeAt(bit), nextShift, key.hashCode(), key) != null;
+                    if (present)
+                        res.sameAsLeft = false;
+                    else
+                        res.data(bit, key, valueAt(index + 1), this, null);
+                } else {
+                    Node<K, V> node = nodeAt(bit);
+                    if ((that.dataMap & bit) != 0) {
+                        K thatKey = that.keyAt(2 * that.dataIndex(bit));
+                        res.node(bit, node.minus(nextShift, thatKey.hashCode(), thatKey), this, null);
+                    } else if ((that.nodeMap & bit) != 0) {
+                        res.node(bit, CHAMP.difference(nextShift, node, that.nodeAt(bit)), this, null);
+                    } else {
+                        res.node(bit, node, this, null);
+                    }
+                }
+            }
+            return res.build(this, null);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder s = new StringBuilder("{d:" + Integer.toBinaryString(dataMap) + ",n:" + Integer.toBinaryString(nodeMap) + ",s:" + size);
+            int dataLength = 2 * Integer.bitCount(dataMap);
+            for (int i = 0; i < dataLength; i += 2) {
+                s.append(",[k:" + content[i] + ",v:" + content[i + 1] + "]");
+            }
+            for (int i = dataLength; i < content.length; i++) {
+                s.append("," + content[i]);
+            }
+            return s.append("}").toString();
+        }
+    }
+
+    public static final class HashCollisionNode<K, V> implements Node<K, V> {
+        private static final long serialVersionUID = 1L;
+        private final int hash;
+        private final Object[] content;
+
+        HashCollisionNode(int hash, Object[] content) {
+            this.hash = hash;
+            this.content = content;
+        }
+
+        @SuppressWarnings("unchecked") //content is laid out as [k0,v0,k1,v1,...] and only ever populated from a Node<K, V>
+        private V valueAt(int index) {
+            return (V) content[index];
+        }
+
+        int find(Object key) {
+            for (int i = 0; i < content.length; i += 2) {
+                if (Objects.equals(content[i], key))
+                    return i;
+            }
+            return -1;
+        }
+
+        @Override
+        public Option<V> get(int bitShiftDepth, int hash, K key) {
+            int index = this.hash == hash ? find(key) : -1;
+            return index < 0 ? Option.none() : Option.of(valueAt(index + 1));
+        }
+
+        @Override
+        public V getOrElse(int bitShiftDepth, int hash, K key, V alt) {
+            int index = this.hash == hash ? find(key) : -1;
+            return index < 0 ? alt : valueAt(index + 1);
+        }
+
+        @Override
+        public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt) {
+            int index = this.hash == hash ? find(key) : -1;
+            return index < 0 ? alt.get() : valueAt(index + 1);
+        }
+
+        @Override
+        public Node<K, V> plus(Object edit, int bitShiftDepth, int hash, K key, V value) {
+            if (this.hash == hash) {
+                int index = find(key);
+                Object[] updated;
+                if (index < 0) {
+                    updated = Arrays.copyOf(content, content.length + 2);
+                    index = content.length;
+                } else {
+                    updated = content.clone();
+                }
+                updated[index] = key;
+                updated[index + 1] = value;
+                return new HashCollisionNode<>(hash, updated);
+            }
+            int mask = mask(this.hash, bitShiftDepth);
+            int thatMask = mask(hash, bitShiftDepth);
+            if (mask != thatMask)
+                return new BitmapIndexedNode<>(1 << thatMask, 1 << mask, new Object[]{key, value, this}, size() + 1, edit);
+            Node<K, V> nested = plus(edit, bitShiftDepth + BITS_IN_INDEX, hash, key, value);
+            return new BitmapIndexedNode<>(0, 1 << mask, new Object[]{nested}, size() + 1, edit);
+        }
+
+        @Override
+        public Node<K, V> minus(int bitShiftDepth, int hash, K key) {
+            int index = this.hash == hash ? find(key) : -1;
+            if (index < 0)
+                return this;
+            Object[] removed = new Object[content.length - 2];
+            System.arraycopy(content, 0, removed, 0, index);
+            System.arraycopy(content, index + 2, removed, index, content.length - index - 2);
+            return new HashCollisionNode<>(hash, removed);
+        }
+
+        @Override
+        public int size() {
+            return content.length / 2;
+        }
+
+        @Override
+        public String toString() {
+            return "[COLLISION : h:" + hash + "," + Arrays.toString(content) + "]";
+        }
+    }
+
+    /**
+     * Accumulates the slots of a node produced by merging two nodes, tracking whether the result is identical to
+     * either input so that it can be reused.
+     */
+    private static final class Merged<K, V> {
+        final Object[] data = new Object[2 * (MASK + 1)];
+        final Object[] nodes = new Object[MASK + 1];
+        int dataMap;
+        int nodeMap;
+        int dataLength;
+        int nodeLength;
+        int size;
+        boolean sameAsLeft = true;
+        boolean sameAsRight = true;
+
+        void data(int bit, K key, V value, BitmapIndexedNode<K, ?> left, BitmapIndexedNode<K, ?> right) {
+            sameAsLeft = sameAsLeft && isData(left, bit, key, value);
+            sameAsRight = sameAsRight && isData(right, bit, key, value);
+            dataMap |= bit;
+            data[dataLength++] = key;
+            data[dataLength++] = value;
+            size++;
+        }
+
+        @SuppressWarnings("unchecked") //a single entry node of a Node<K, V> holds a K and a V
+        void node(int bit, Node<K, V> node, BitmapIndexedNode<K, ?> left, BitmapIndexedNode<K, ?> right) {
+            if (node.size() == 1) {
+                Object[] entry = contentOf(node);
+                data(bit, (K) entry[0], (V) entry[1], left, right);
+                return;
+            }
+            sameAsLeft = sameAsLeft && isNode(left, bit, node);
+            sameAsRight = sameAsRight && isNode(right, bit, node);
+            if (node.size() == 0)
+                return;
+            nodeMap |= bit;
+            nodes[nodeLength++] = node;
+            size += node.size();
+        }
+
+        private static boolean isData(BitmapIndexedNode<?, ?> source, int bit, Object key, Object value) {
+            if (source == null || (source.dataMap & bit) == 0)
+                return false;
+            int index = 2 * source.dataIndex(bit);
+            return source.content[index] == key && source.content[index + 1] == value;
+        }
+
+        private static boolean isNode(BitmapIndexedNode<?, ?> source, int bit, Node<?, ?> node) {
+            return source != null && (source.nodeMap & bit) != 0 && source.content[source.nodeIndex(bit)] == node;
+        }
+
+        Node<K, V> build(BitmapIndexedNode<K, V> left, BitmapIndexedNode<K, V> right) {
+            if (sameAsLeft)
+                return left;
+            if (sameAsRight && right != null)
+                return right;
+            if (size == 0)
+                return empty();
+            Object[] content = new Object[dataLength + nodeLength];
+            System.arraycopy(data, 0, content, 0, dataLength);
+            System.arraycopy(nodes, 0, content, dataLength, nodeLength);
+            return new BitmapIndexedNode<>(dataMap, nodeMap, content, size, null);
+        }
+    }
+
+    /**
+     * Depth first iterator over the inline entries of a trie, walking the content arrays directly
+     */
+    abstract static class NodeIterator<R> implements Iterator<R> {
+        private final Object[][] stack = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth = -1;
+        private Object[] data;
+        private int dataPosition;
+        private int dataEnd;
+        private int remaining;
+
+        NodeIterator(Node<?, ?> root) {
+            remaining = root.size();
+            push(root);
+        }
+
+        private void push(Node<?, ?> node) {
+            Object[] content = contentOf(node);
+            int dataLength = dataLengthOf(node);
+            data = content;
+            dataPosition = 0;
+            dataEnd = dataLength;
+            if (dataLength < content.length) {
+                depth++;
+                stack[depth] = content;
+                positions[depth] = dataLength;
+            }
+        }
+
+        abstract R current(Object key, Object value);
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public R next() {
+            if (remaining == 0)
+                throw new NoSuchElementException();
+            while (dataPosition >= dataEnd) {
+                Object[] parent = stack[depth];
+                Node<?, ?> child = (Node<?, ?>) parent[positions[depth]++];
+                if (positions[depth] == parent.length)
+                    depth--;
+                push(child);
+            }
+            remaining--;
+            R res = current(data[dataPosition], data[dataPosition + 1]);
+            dataPosition += 2;
+            return res;
+        }
+    }
+}
@@ -0,0 +1,708 @@
+package cyclops.data.base;
+
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 2-3 Finger Tree annotated with sizes.
+ *
+ * Each level of the tree holds a digit of one to four items at either end, with the levels in between holding
+ * 2-3 nodes built from the items of the level above. Adding and removing elements at either end is amortized O(1)
+ * and never requires the whole structure to be rebuilt, while concatenation, splitting and indexing descend the
+ * spine and are O(log n).
+ *
+ * Items at depth 0 are the elements themselves, items at deeper levels are {@link Node}s which cache their size.
+ *
+ * @param <T> Element type
+ */
+public final class FingerTree<T> implements Iterable<T>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final Object[] NO_ITEMS = new Object[0];
+    private static final FingerTree<Object> EMPTY = new FingerTree<>(Empty.INSTANCE);
+
+    private final Tree root;
+
+    private FingerTree(Tree root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked") //the empty tree holds no elements, so it can be shared across all element types
+    public static <T> FingerTree<T> empty(){
+        return (FingerTree<T>)EMPTY;
+    }
+
+    @SafeVarargs
+    public static <T> FingerTree<T> of(T... values){
+        Tree tree = Empty.INSTANCE;
+        for(T next : values)
+            tree = tree.append(next,0);
+        return wrap(tree);
+    }
+
+    @SuppressWarnings("unchecked") //FingerTrees are immutable, so a FingerTree<? extends T> can safely be used as a FingerTree<T>
+    public static <T> FingerTree<T> fromIterable(Iterable<? extends T> it){
+        if(it instanceof FingerTree)
+            return (FingerTree<T>)it;
+        Tree tree = Empty.INSTANCE;
+        for(T next : it)
+            tree = tree.append(next,0);
+        return wrap(tree);
+    }
+
+    private static <T> FingerTree<T> wrap(Tree tree){
+        return tree.size()==0 ? empty() : new FingerTree<>(tree);
+    }
+
+    @SuppressWarnings("unchecked") //the items at depth 0 of a FingerTree<T> are its elements
+    static <T> T element(Object item){
+        return (T)item;
+    }
+
+    public int size(){
+        return root.size();
+    }
+
+    public boolean isEmpty(){
+        return root.size()==0;
+    }
+
+    public FingerTree<T> prepend(T value){
+        return new FingerTree<>(root.prepend(value,0));
+    }
+
+    public FingerTree<T> append(T value){
+        return new FingerTree<>(root.append(value,0));
+    }
+
+    /**
+     * @return The first element
+     * @throws NoSuchElementException if this tree is empty
+     */
+    public T head(){
+        return element(root.head());
+    }
+
+    /**
+     * @return The last element
+     * @throws NoSuchElementException if this tree is empty
+     */
+    public T last(){
+        return element(root.last());
+    }
+
+    /**
+     * @return All elements but the first, or this tree if it is empty
+     */
+    public FingerTree<T> tail(){
+        return wrap(root.tail(0));
+    }
+
+    /**
+     * @return All elements but the last, or this tree if it is empty
+     */
+    public FingerTree<T> init(){
+        return wrap(root.init(0));
+    }
+
+    @SuppressWarnings("unchecked") //FingerTrees are immutable, so a FingerTree<? extends T> can safely be used as a FingerTree<T>
+    public FingerTree<T> concat(FingerTree<? extends T> other){
+        if(other.isEmpty())
+            return this;
+        if(isEmpty())
+            return (FingerTree<T>)other;
+        return new FingerTree<>(concat(root,NO_ITEMS,other.root,0));
+    }
+
+    /**
+     * @return Tuple containing the first n elements and the remaining elements
+     */
+    public Tuple2<FingerTree<T>,FingerTree<T>> split(int n){
+        if(n<=0)
+            return Tuple.tuple(empty(),this);
+        if(n>=size())
+            return Tuple.tuple(this,empty());
+        Split split = root.split(n,0);
+        return Tuple.tuple(wrap(split.left),wrap(split.right.prepend(split.item,0)));
+    }
+
+    public FingerTree<T> take(int n){
+        return split(n)._1();
+    }
+
+    public FingerTree<T> drop(int n){
+        return split(n)._2();
+    }
+
+    public FingerTree<T> insertAt(int pos, T value){
+        if(pos<=0)
+            return prepend(value);
+        if(pos>=size())
+            return append(value);
+        Tuple2<FingerTree<T>, FingerTree<T>> split = split(pos);
+        return split._1().append(value).concat(split._2());
+    }
+
+    public FingerTree<T> removeAt(int pos){
+        if(pos<0 || pos>=size())
+            return this;
+        if(pos==0)
+            return tail();
+        Split split = root.split(pos,0);
+        return wrap(concat(split.left,NO_ITEMS,split.right,0));
+    }
+
+    public FingerTree<T> set(int pos, T value){
+        if(pos<0 || pos>=size())
+            return this;
+        Split split = root.split(pos,0);
+        return wrap(concat(split.left,new Object[]{value},split.right,0));
+    }
+
+    public <R> FingerTree<R> map(Function<? super T, ? extends R> fn){
+        return wrap(root.map(item->fn.apply(element(item)),0));
+    }
+
+    public FingerTree<T> reverse(){
+        Tree tree = Empty.INSTANCE;
+        Iterator<T> it = reverseIterator();
+        while(it.hasNext())
+            tree = tree.append(it.next(),0);
+        return wrap(tree);
+    }
+
+    public Option<T> get(int pos){
+        if(pos<0 || pos>=size())
+            return Option.none();
+        return Option.some(element(root.lookup(pos,0)));
+    }
+
+    public T getOrElse(int pos, T alt){
+        if(pos<0 || pos>=size())
+            return alt;
+        return element(root.lookup(pos,0));
+    }
+
+    public T getOrElseGet(int pos, Supplier<? extends T> alt){
+        if(pos<0 || pos>=size())
+            return alt.get();
+        return element(root.lookup(pos,0));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new TreeIterator<>(root,false);
+    }
+
+    public Iterator<T> reverseIterator() {
+        return new TreeIterator<>(root,true);
+    }
+
+    public ReactiveSeq<T> stream(){
+        return ReactiveSeq.fromIterable(this);
+    }
+
+    @Override
+    public String toString() {
+        return stream().join(",","[","]");
+    }
+
+    static int size(Object item, int depth){
+        return depth==0 ? 1 : ((Node)item).size;
+    }
+
+    static int size(Object[] digit, int depth){
+        if(depth==0)
+            return digit.length;
+        int size = 0;
+        for(Object next : digit)
+            size += ((Node)next).size;
+        return size;
+    }
+
+    static Node node(int depth, Object... items){
+        return new Node(size(items,depth),items);
+    }
+
+    static Object lookup(Object item, int pos, int depth){
+        while(depth>0){
+            depth--;
+            for(Object next : ((Node)item).items){
+                int size = size(next,depth);
+                if(pos<size){
+                    item = next;
+                    break;
+                }
+                pos -= size;
+            }
+        }
+        return item;
+    }
+
+    static Object map(Object item, Function<Object,Object> fn, int depth){
+        if(depth==0)
+            return fn.apply(item);
+        Node node = (Node)item;
+        return new Node(node.size,map(node.items,fn,depth-1));
+    }
+
+    static Object[] map(Object[] digit, Function<Object,Object> fn, int depth){
+        Object[] res = new Object[digit.length];
+        for(int i=0;i<digit.length;i++)
+            res[i] = map(digit[i],fn,depth);
+        return res;
+    }
+
+    /**
+     * @return The index of the item within digit that contains position pos
+     */
+    static int index(Object[] digit, int pos, int depth){
+        for(int i=0;i<digit.length;i++){
+            pos -= size(digit[i],depth);
+            if(pos<0)
+                return i;
+        }
+        return digit.length-1;
+    }
+
+    static Tree fromDigit(Object[] digit, int depth){
+        switch(digit.length){
+            case 0:
+                return Empty.INSTANCE;
+            case 1:
+                return new Single(digit[0],size(digit[0],depth));
+            default:
+                int half = digit.length/2;
+                return new Deep(size(digit,depth),Arrays.copyOfRange(digit,0,half),Empty.INSTANCE,Arrays.copyOfRange(digit,half,digit.length));
+        }
+    }
+
+    /**
+     * Build a tree from a possibly empty prefix, borrowing the first node of the middle tree when necessary
+     */
+    static Tree deepLeft(Object[] prefix, Tree middle, Object[] suffix, int depth){
+        if(prefix.length>0)
+            return new Deep(size(prefix,depth)+middle.size()+size(suffix,depth),prefix,middle,suffix);
+        if(middle.size()==0)
+            return fromDigit(suffix,depth);
+        Node first = (Node)middle.head();
+        return new Deep(middle.size()+size(suffix,depth),first.items,middle.tail(depth+1),suffix);
+    }
+
+    /**
+     * Build a tree from a possibly empty suffix, borrowing the last node of the middle tree when necessary
+     */
+    static Tree deepRight(Object[] prefix, Tree middle, Object[] suffix, int depth){
+        if(suffix.length>0)
+            return new Deep(size(prefix,depth)+middle.size()+size(suffix,depth),prefix,middle,suffix);
+        if(middle.size()==0)
+            return fromDigit(prefix,depth);
+        Node last = (Node)middle.last();
+        return new Deep(size(prefix,depth)+middle.size(),prefix,middle.init(depth+1),last.items);
+    }
+
+    static Tree concat(Tree left, Object[] items, Tree right, int depth){
+        if(left instanceof Empty){
+            for(int i=items.length-1;i>=0;i--)
+                right = right.prepend(items[i],depth);
+            return right;
+        }
+        if(right instanceof Empty){
+            for(Object next : items)
+                left = left.append(next,depth);
+            return left;
+        }
+        if(left instanceof Single)
+            return concat(Empty.INSTANCE,items,right,depth).prepend(((Single)left).item,depth);
+        if(right instanceof Single)
+            return concat(left,items,Empty.INSTANCE,depth).append(((Single)right).item,depth);
+        Deep l = (Deep)left;
+        Deep r = (Deep)right;
+        Object[] joined = new Object[l.suffix.length+items.length+r.prefix.length];
+        System.arraycopy(l.suffix,0,joined,0,l.suffix.length);
+        System.arraycopy(items,0,joined,l.suffix.length,items.length);
+        System.arraycopy(r.prefix,0,joined,l.suffix.length+items.length,r.prefix.length);
+        Tree middle = concat(l.middle,nodes(joined,depth),r.middle,depth+1);
+        return new Deep(l.size+size(items,depth)+r.size,l.prefix,middle,r.suffix);
+    }
+
+    /**
+     * Pack between 2 and 12 items into 2-3 nodes
+     */
+    static Object[] nodes(Object[] items, int depth){
+        Object[] res = new Object[(items.length+2)/3];
+        int count = 0;
+        int i = 0;
+        while(i<items.length){
+            int remaining = items.length-i;
+            if(remaining==2 || remaining==4){
+                res[count++] = node(depth,items[i],items[i+1]);
+                i += 2;
+            }else{
+                res[count++] = node(depth,items[i],items[i+1],items[i+2]);
+                i += 3;
+            }
+        }
+        return count==res.length ? res : Arrays.copyOf(res,count);
+    }
+
+    static Object[] prepend(Object item, Object[] digit){
+        Object[] res = new Object[digit.length+1];
+        res[0] = item;
+        System.arraycopy(digit,0,res,1,digit.length);
+        return res;
+    }
+
+    static Object[] append(Object[] digit, Object item){
+        Object[] res = Arrays.copyOf(digit,digit.length+1);
+        res[digit.length] = item;
+        return res;
+    }
+
+    static final class Node implements Serializable {
+        private static final long serialVersionUID = 1L;
+        final int size;
+        final Object[] items;
+
+        Node(int size, Object[] items) {
+            this.size = size;
+            this.items = items;
+        }
+    }
+
+    static final class Split {
+        final Tree left;
+        final Object item;
+        final Tree right;
+
+        Split(Tree left, Object item, Tree right) {
+            this.left = left;
+            this.item = item;
+            this.right = right;
+        }
+    }
+
+    static abstract class Tree implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        abstract int size();
+        abstract Tree prepend(Object item, int depth);
+        abstract Tree append(Object item, int depth);
+        abstract Object head();
+        abstract Object last();
+        abstract Tree tail(int depth);
+        abstract Tree init(int depth);
+        abstract Object lookup(int pos, int depth);
+
+        /**
+         * @return The item containing position pos, along with the trees either side of it
+         */
+        abstract Split split(int pos, int depth);
+        abstract Tree map(Function<Object,Object> fn, int depth);
+    }
+
+    static final class Empty extends Tree {
+        private static final long serialVersionUID = 1L;
+        static final Empty INSTANCE = new Empty();
+
+        @Override
+        int size() {
+            return 0;
+        }
+
+        @Override
+        Tree prepend(Object item, int depth) {
+            return new Single(item,FingerTree.size(item,depth));
+        }
+
+        @Override
+        Tree append(Object item, int depth) {
+            return new Single(item,FingerTree.size(item,depth));
+        }
+
+        @Override
+        Object head() {
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        Object last() {
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        Tree tail(int depth) {
+            return this;
+        }
+
+        @Override
+        Tree init(int depth) {
+            return this;
+        }
+
+        @Override
+        Object lookup(int pos, int depth) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        @Override
+        Split split(int pos, int depth) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        @Override
+        Tree map(Function<Object,Object> fn, int depth) {
+            return this;
+        }
+
+        private Object readResolve() {
+            return INSTANCE;
+        }
+    }
+
+    static final class Single extends Tree {
+        private static final long serialVersionUID = 1L;
+        final Object item;
+        final int size;
+
+        Single(Object item, int size) {
+            this.item = item;
+            this.size = size;
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        Tree prepend(Object item, int depth) {
+            return new Deep(FingerTree.size(item,depth)+size,new Object[]{item},Empty.INSTANCE,new Object[]{this.item});
+        }
+
+        @Override
+        Tree append(Object item, int depth) {
+            return new Deep(size+FingerTree.size(item,depth),new Object[]{this.item},Empty.INSTANCE,new Object[]{item});
+        }
+
+        @Override
+        Object head() {
+            return item;
+        }
+
+        @Override
+        Object last() {
+            return item;
+        }
+
+        @Override
+        Tree tail(int depth) {
+            return Empty.INSTANCE;
+        }
+
+        @Override
+        Tree init(int depth) {
+            return Empty.INSTANCE;
+        }
+
+        @Override
+        Object lookup(int pos, int depth) {
+            return FingerTree.lookup(item,pos,depth);
+        }
+
+        @Override
+        Split split(int pos, int depth) {
+            return new Split(Empty.INSTANCE,item,Empty.INSTANCE);
+        }
+
+        @Override
+        Tree map(Function<Object,Object> fn, int depth) {
+            return new Single(FingerTree.map(item,fn,depth),size);
+        }
+    }
+
+    static final class Deep extends Tree {
+        private static final long serialVersionUID = 1L;
+        final int size;
+        final Object[] prefix;
+        final Tree middle;
+        final Object[] suffix;
+
+        Deep(int size, Object[] prefix, Tree middle, Object[] suffix) {
+            this.size = size;
+            this.prefix = prefix;
+            this.middle = middle;
+            this.suffix = suffix;
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        Tree prepend(Object item, int depth) {
+            int newSize = size+FingerTree.size(item,depth);
+            if(prefix.length<4)
+                return new Deep(newSize,FingerTree.prepend(item,prefix),middle,suffix);
+            Node node = node(depth,prefix[1],prefix[2],prefix[3]);
+            return new Deep(newSize,new Object[]{item,prefix[0]},middle.prepend(node,depth+1),suffix);
+        }
+
+        @Override
+        Tree append(Object item, int depth) {
+            int newSize = size+FingerTree.size(item,depth);
+            if(suffix.length<4)
+                return new Deep(newSize,prefix,middle,FingerTree.append(suffix,item));
+            Node node = node(depth,suffix[0],suffix[1],suffix[2]);
+            return new Deep(newSize,prefix,middle.append(node,depth+1),new Object[]{suffix[3],item});
+        }
+
+        @Override
+        Object head() {
+            return prefix[0];
+        }
+
+        @Override
+        Object last() {
+            return suffix[suffix.length-1];
+        }
+
+        @Override
+        Tree tail(int depth) {
+            if(prefix.length>1)
+                return new Deep(size-FingerTree.size(prefix[0],depth),Arrays.copyOfRange(prefix,1,prefix.length),middle,suffix);
+            return deepLeft(NO_ITEMS,middle,suffix,depth);
+        }
+
+        @Override
+        Tree init(int depth) {
+            if(suffix.length>1)
+                return new Deep(size-FingerTree.size(suffix[suffix.length-1],depth),prefix,middle,Arrays.copyOf(suffix,suffix.length-1));
+            return deepRight(prefix,middle,NO_ITEMS,depth);
+        }
+
+        @Override
+        Object lookup(int pos, int depth) {
+            int prefixSize = FingerTree.size(prefix,depth);
+            if(pos<prefixSize)
+                return lookupDigit(prefix,pos,depth);
+            pos -= prefixSize;
+            if(pos<middle.size())
+                return middle.lookup(pos,depth+1);
+            return lookupDigit(suffix,pos-middle.size(),depth);
+        }
+
+        private static Object lookupDigit(Object[] digit, int pos, int depth){
+            for(Object next : digit){
+                int size = FingerTree.size(next,depth);
+                if(pos<size)
+                    return FingerTree.lookup(next,pos,depth);
+                pos -= size;
+            }
+            throw new IndexOutOfBoundsException();
+        }
+
+        @Override
+        Split split(int pos, int depth) {
+            int prefixSize = FingerTree.size(prefix,depth);
+            if(pos<prefixSize){
+                int i = index(prefix,pos,depth);
+                return new Split(fromDigit(Arrays.copyOfRange(prefix,0,i),depth),prefix[i],
+                                 deepLeft(Arrays.copyOfRange(prefix,i+1,prefix.length),middle,suffix,depth));
+            }
+            pos -= prefixSize;
+            if(pos<middle.size()){
+                Split split = middle.split(pos,depth+1);
+                Object[] items = ((Node)split.item).items;
+                int i = index(items,pos-split.left.size(),depth);
+                return new Split(deepRight(prefix,split.left,Arrays.copyOfRange(items,0,i),depth),items[i],
+                                 deepLeft(Arrays.copyOfRange(items,i+1,items.length),split.right,suffix,depth));
+            }
+            int i = index(suffix,pos-middle.size(),depth);
+            return new Split(deepRight(prefix,middle,Arrays.copyOfRange(suffix,0,i),depth),suffix[i],
+                             fromDigit(Arrays.copyOfRange(suffix,i+1,suffix.length),depth));
+        }
+
+        @Override
+        Tree map(Function<Object,Object> fn, int depth) {
+            return new Deep(size,FingerTree.map(prefix,fn,depth),middle.map(fn,depth+1),FingerTree.map(suffix,fn,depth));
+        }
+    }
+
+    /**
+     * Iterates over the tree using an explicit stack. Trees are pushed with negative tags (-depth-1) and
+     * items with their depth, elements are items at depth 0.
+     */
+    static final class TreeIterator<T> implements Iterator<T> {
+        private final boolean reverse;
+        private Object[] stack = new Object[16];
+        private int[] tags = new int[16];
+        private int top = 0;
+
+        TreeIterator(Tree root, boolean reverse) {
+            this.reverse = reverse;
+            if(root.size()>0)
+                push(root,-1);
+        }
+
+        private void push(Object next, int tag){
+            if(top==stack.length){
+                stack = Arrays.copyOf(stack,top*2);
+                tags = Arrays.copyOf(tags,top*2);
+            }
+            stack[top] = next;
+            tags[top++] = tag;
+        }
+
+        private void pushAll(Object[] items, int depth){
+            if(reverse){
+                for(Object next : items)
+                    push(next,depth);
+            }else{
+                for(int i=items.length-1;i>=0;i--)
+                    push(items[i],depth);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while(top>0 && tags[top-1]!=0){
+                Object next = stack[--top];
+                int tag = tags[top];
+                stack[top] = null;
+                if(tag>0){
+                    pushAll(((Node)next).items,tag-1);
+                }else if(next instanceof Single){
+                    push(((Single)next).item,-tag-1);
+                }else if(next instanceof Deep){
+                    Deep deep = (Deep)next;
+                    int depth = -tag-1;
+                    pushAll(reverse ? deep.prefix : deep.suffix,depth);
+                    if(deep.middle.size()>0)
+                        push(deep.middle,tag-1);
+                    pushAll(reverse ? deep.suffix : deep.prefix,depth);
+                }
+            }
+            return top>0;
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            T next = element(stack[--top]);
+            stack[top] = null;
+            return next;
+        }
+    }
+}
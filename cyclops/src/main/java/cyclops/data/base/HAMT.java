@@ -257,12 +257,13 @@ public final class HAMT<K, V> implements Serializable {
             int posThis = BitsetNode.bitpos(mask1);
             int posThat = BitsetNode.bitpos(mask2);
             int newBitset = posThis | posThat;
+            int newSize = size + that.size();
             if (mask1 == mask2) { //collision
                 Node<K, V> merged = merge(bitShiftDepth + BITS_IN_INDEX, thatHash, that);
-                return new BitsetNode<>(newBitset, 2, new Node[]{merged});
+                return new BitsetNode<>(newBitset, newSize, new Node[]{merged});
             }
             Node<K, V>[] ordered = mask1 < mask2 ? new Node[]{this, that} : new Node[]{that, this};
-            return new BitsetNode<>(newBitset, 2, ordered);
+            return new BitsetNode<>(newBitset, newSize, ordered);
         }
 
         @Override
@@ -406,7 +407,7 @@ public final class HAMT<K, V> implements Serializable {
                 Node<K, V>[] removedNodes = new Node[nodes.length - 1];
                 System.arraycopy(nodes, 0, removedNodes, 0, arrayPos);
                 System.arraycopy(nodes, arrayPos + 1, removedNodes, arrayPos, nodes.length - arrayPos - 1);
-                if (removedNodes.length == 1) {
+                if (removedNodes.length == 1 && !(removedNodes[0] instanceof BitsetNode)) {
                     return removedNodes[0];
                 }
                 return new BitsetNode<>(removedBit, size(removedNodes), removedNodes);
@@ -0,0 +1,119 @@
+package cyclops.data.base;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bit mapped trie of full 32 element leaves, where each leaf is an opaque primitive array (int[], long[] or double[]).
+ * The trie only manages the branch structure, element access is left to the primitive specialized Vector that owns it.
+ * Leaves are addressed by leaf index (element index / 32).
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrimitiveTrie implements Serializable {
+
+    public static final int BITS_IN_INDEX = 5;
+    public static final int WIDTH = 1 << BITS_IN_INDEX;
+    private static final int MASK = WIDTH - 1;
+    private static final int MAX_HEIGHT = 6;
+    private static final long serialVersionUID = 1L;
+
+    private static final PrimitiveTrie EMPTY = new PrimitiveTrie(null, 0, 0);
+
+    private final Object[] root;
+    private final int height;
+    private final int leafCount;
+
+    public static PrimitiveTrie empty(){
+        return EMPTY;
+    }
+
+    /**
+     * Build a trie bottom up from the supplied leaves
+     *
+     * @param leaves Full leaves in order, the array is not retained
+     * @param count Number of leaves to use
+     */
+    public static PrimitiveTrie fromLeaves(Object[] leaves, int count){
+        if(count==0)
+            return EMPTY;
+        Object[] level = Arrays.copyOf(leaves,count);
+        int height = 1;
+        while(level.length>WIDTH){
+            Object[] parents = new Object[(level.length+MASK)/WIDTH];
+            for(int i=0;i<parents.length;i++){
+                parents[i]=Arrays.copyOfRange(level,i*WIDTH,Math.min(level.length,(i+1)*WIDTH));
+            }
+            level = parents;
+            height++;
+        }
+        return new PrimitiveTrie(level,height,count);
+    }
+
+    public int leafCount(){
+        return leafCount;
+    }
+
+    public Object leafAt(int leafIndex){
+        Object[] node = root;
+        for(int level=height;level>1;level--){
+            node = (Object[])node[(leafIndex >>> (BITS_IN_INDEX * (level-1))) & MASK];
+        }
+        return node[leafIndex & MASK];
+    }
+
+    public PrimitiveTrie appendLeaf(Object leaf){
+        if(leafCount==0)
+            return new PrimitiveTrie(new Object[]{leaf},1,1);
+        if(leafCount == 1 << (BITS_IN_INDEX*height)){
+            if(height==MAX_HEIGHT)
+                throw new IndexOutOfBoundsException("A PrimitiveTrie can hold at most "+leafCount+" leaves");
+            return new PrimitiveTrie(new Object[]{root,path(height,leaf)},height+1,leafCount+1);
+        }
+        return new PrimitiveTrie(push(root,height,leafCount,leaf),height,leafCount+1);
+    }
+
+    public PrimitiveTrie updateLeaf(int leafIndex, Object leaf){
+        return new PrimitiveTrie(update(root,height,leafIndex,leaf),height,leafCount);
+    }
+
+    public PrimitiveTrie mapLeaves(UnaryOperator<Object> fn){
+        if(leafCount==0)
+            return this;
+        return new PrimitiveTrie(map(root,height,fn),height,leafCount);
+    }
+
+    private static Object[] push(Object[] node, int level, int leafIndex, Object leaf){
+        int indx = (leafIndex >>> (BITS_IN_INDEX * (level-1))) & MASK;
+        Object[] copy = Arrays.copyOf(node,Math.max(node.length,indx+1));
+        if(level==1)
+            copy[indx]=leaf;
+        else if(indx<node.length)
+            copy[indx]=push((Object[])node[indx],level-1,leafIndex,leaf);
+        else
+            copy[indx]=path(level-1,leaf);
+        return copy;
+    }
+
+    private static Object path(int level, Object leaf){
+        return level==0 ? leaf : new Object[]{path(level-1,leaf)};
+    }
+
+    private static Object[] update(Object[] node, int level, int leafIndex, Object leaf){
+        int indx = (leafIndex >>> (BITS_IN_INDEX * (level-1))) & MASK;
+        Object[] copy = Arrays.copyOf(node,node.length);
+        copy[indx] = level==1 ? leaf : update((Object[])node[indx],level-1,leafIndex,leaf);
+        return copy;
+    }
+
+    private static Object[] map(Object[] node, int level, UnaryOperator<Object> fn){
+        Object[] res = new Object[node.length];
+        for(int i=0;i<node.length;i++){
+            res[i] = level==1 ? fn.apply(node[i]) : map((Object[])node[i],level-1,fn);
+        }
+        return res;
+    }
+}
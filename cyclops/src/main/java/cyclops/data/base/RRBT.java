@@ -0,0 +1,509 @@
+package cyclops.data.base;
+
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Relaxed Radix Balanced Tree.
+ *
+ * A 32-way trie where branch nodes may hold fewer than 32 children, in which case they carry a cumulative
+ * size table used to resolve indexes. Every node other than the root holds between 16 and 32 slots,
+ * which keeps the tree height logarithmic while allowing concatenation, splitting, insertion and removal
+ * at arbitrary indexes in O(log n).
+ *
+ * Nodes are either leaves (an Object[] of elements, height 0), dense branches (an Object[] of complete
+ * sub-tries, exactly as used by {@link BAMT}) or {@link Relaxed} branches. Dense branches allow a populated
+ * BAMT to be adopted without copying its leaves.
+ *
+ * @param <T> Element type
+ */
+public final class RRBT<T> implements BAMT.PopulatedArray<T> {
+
+    static final int BITS_IN_INDEX = 5;
+    static final int WIDTH = 1 << BITS_IN_INDEX;
+    static final int MIN_WIDTH = WIDTH / 2;
+    static final Object[] EMPTY_LEAF = new Object[0];
+
+    private static final RRBT<Object> EMPTY = new RRBT<>(EMPTY_LEAF,0,0);
+
+    private final Object root;
+    private final int height;
+    private final int size;
+
+    RRBT(Object root, int height, int size) {
+        this.root = root;
+        this.height = height;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked") //the empty tree holds no elements, so can be shared for any element type
+    public static <T> RRBT<T> empty(){
+        return (RRBT<T>)EMPTY;
+    }
+
+    public static <T> RRBT<T> leaf(T[] array){
+        if(array.length==0)
+            return empty();
+        return new RRBT<>(array,0,array.length);
+    }
+
+    /**
+     * Adopt a populated BAMT structure, the leaves and all complete sub-tries are shared. Only the right
+     * spine of the trie is rebuilt, which costs O(log n).
+     */
+    public static <T> RRBT<T> fromNestedArray(BAMT.NestedArray<T> array){
+        if(array instanceof RRBT)
+            return (RRBT<T>)array;
+        if(array instanceof BAMT.Zero)
+            return empty();
+        if(array instanceof BAMT.ActiveTail || array instanceof BAMT.One)
+            return leaf(((BAMT.PopulatedArray<T>)array).getNestedArrayAt(0));
+        if(array instanceof BAMT.Two)
+            return adopt(((BAMT.Two<T>)array).array,1);
+        if(array instanceof BAMT.Three)
+            return adopt(((BAMT.Three<T>)array).array,2);
+        if(array instanceof BAMT.Four)
+            return adopt(((BAMT.Four<T>)array).array,3);
+        if(array instanceof BAMT.Five)
+            return adopt(((BAMT.Five<T>)array).array,4);
+        return adopt(((BAMT.Six<T>)array).array,5);
+    }
+
+    @SuppressWarnings("unchecked") //BAMT leaves are Object[] that only ever hold T
+    private static <T> RRBT<T> adopt(Object[] dense, int height){
+        if(height==0)
+            return leaf((T[])dense);
+        int n = dense.length;
+        RRBT<T> right = adopt((Object[])dense[n-1],height-1);
+        if(n==1)
+            return right;
+        int completeSize = 1 << (BITS_IN_INDEX*height);
+        RRBT<T> left = n==2 ? new RRBT<>(dense[0],height-1,completeSize)
+                            : new RRBT<>(Arrays.copyOf(dense,n-1,Object[].class),height,(n-1)*completeSize);
+        return left.concat(right);
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public int height(){
+        return height;
+    }
+
+    public boolean isEmpty(){
+        return size==0;
+    }
+
+    public RRBT<T> concat(RRBT<T> other){
+        if(size==0)
+            return other;
+        if(other.size==0)
+            return this;
+        Object[] res;
+        int h;
+        if(height==other.height){
+            h = height;
+            res = merge(root,other.root,h);
+        }else if(height>other.height){
+            h = height;
+            res = appendRight(root,height,other.root,other.height);
+        }else{
+            h = other.height;
+            res = prependLeft(root,height,other.root,other.height);
+        }
+        if(res.length==1)
+            return new RRBT<>(res[0],h,size+other.size);
+        return new RRBT<>(branch(res,h+1),h+1,size+other.size);
+    }
+
+    /**
+     * @return Tuple containing the first n elements and the remaining elements
+     */
+    public Tuple2<RRBT<T>,RRBT<T>> split(int n){
+        if(n<=0)
+            return Tuple.tuple(empty(),this);
+        if(n>=size)
+            return Tuple.tuple(this,empty());
+        return split(root,height,size,n);
+    }
+
+    public RRBT<T> take(int n){
+        return split(n)._1();
+    }
+
+    public RRBT<T> drop(int n){
+        return split(n)._2();
+    }
+
+    @SuppressWarnings("unchecked") //leaves are Object[] that only ever hold T
+    public RRBT<T> insertAt(int pos, T value){
+        int index = Math.max(0,Math.min(pos,size));
+        if(size==0)
+            return leaf((T[])new Object[]{value});
+        Object[] res = insert(root,height,index,value);
+        if(res.length==1)
+            return new RRBT<>(res[0],height,size+1);
+        return new RRBT<>(branch(res,height+1),height+1,size+1);
+    }
+
+    public RRBT<T> removeAt(int pos){
+        if(pos<0 || pos>=size)
+            return this;
+        if(size==1)
+            return empty();
+        Object node = remove(root,height,pos);
+        int h = height;
+        while(h>0 && slots(node,h)==1){
+            node = children(node)[0];
+            h--;
+        }
+        return new RRBT<>(node,h,size-1);
+    }
+
+    @Override
+    public RRBT<T> append(BAMT.ActiveTail<T> tail) {
+        return concat(leaf(tail.getNestedArrayAt(0)));
+    }
+
+    @Override
+    public RRBT<T> set(int pos, T value) {
+        if(pos<0 || pos>=size)
+            return this;
+        return new RRBT<>(update(root,height,pos,value),height,size);
+    }
+
+    @Override
+    public <R> RRBT<R> map(Function<? super T, ? extends R> fn) {
+        return new RRBT<>(map(root,height,fn),height,size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") //leaves are Object[] that only ever hold T
+    public T[] getNestedArrayAt(int pos) {
+        Object node = root;
+        int index = pos;
+        for(int h=height;h>0;h--){
+            int c = childIndex(node,h,index);
+            index -= offset(node,h,c);
+            node = children(node)[c];
+        }
+        return (T[])node;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") //leaves are Object[] that only ever hold T
+    public T getOrElse(int pos, T alt) {
+        if(pos<0 || pos>=size)
+            return alt;
+        Object node = root;
+        int index = pos;
+        for(int h=height;h>0;h--){
+            if(node instanceof Relaxed){
+                Relaxed r = (Relaxed)node;
+                int c = relaxedIndex(r,h,index);
+                if(c>0)
+                    index -= r.sizes[c-1];
+                node = r.children[c];
+            }else{
+                int shift = BITS_IN_INDEX*h;
+                node = ((Object[])node)[index >>> shift];
+                index &= (1 << shift)-1;
+            }
+        }
+        return (T)((Object[])node)[index];
+    }
+
+    @Override
+    public T getOrElseGet(int pos, Supplier<T> alt) {
+        if(pos<0 || pos>=size)
+            return alt.get();
+        return getOrElse(pos,null);
+    }
+
+    @Override
+    public Option<T> get(int pos) {
+        if(pos<0 || pos>=size)
+            return Option.none();
+        return Option.of(getOrElse(pos,null));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new LeafIterator<>(this);
+    }
+
+    @Override
+    public ReactiveSeq<T> stream() {
+        return ReactiveSeq.fromIterator(iterator());
+    }
+
+    static final class Relaxed {
+        final Object[] children;
+        final int[] sizes;
+
+        Relaxed(Object[] children, int[] sizes) {
+            this.children = children;
+            this.sizes = sizes;
+        }
+    }
+
+    private static Object[] children(Object node){
+        return node instanceof Relaxed ? ((Relaxed)node).children : (Object[])node;
+    }
+
+    private static int slots(Object node, int height){
+        if(height==0)
+            return ((Object[])node).length;
+        return children(node).length;
+    }
+
+    private static Object[] slotArray(Object node, int height){
+        if(height==0)
+            return (Object[])node;
+        return children(node);
+    }
+
+    private static int sizeOf(Object node, int height){
+        if(height==0)
+            return ((Object[])node).length;
+        if(node instanceof Relaxed){
+            int[] sizes = ((Relaxed)node).sizes;
+            return sizes[sizes.length-1];
+        }
+        Object[] dense = (Object[])node;
+        return ((dense.length-1) << (BITS_IN_INDEX*height)) + sizeOf(dense[dense.length-1],height-1);
+    }
+
+    private static Object branch(Object[] children, int height){
+        int[] sizes = new int[children.length];
+        int total = 0;
+        for(int i=0;i<children.length;i++){
+            total += sizeOf(children[i],height-1);
+            sizes[i]=total;
+        }
+        return new Relaxed(children,sizes);
+    }
+
+    private static Object node(Object[] slots, int height){
+        return height==0 ? slots : branch(slots,height);
+    }
+
+    /**
+     * Build one node from the slots if they fit, otherwise two nodes that are both at least half full.
+     */
+    private static Object[] pack(Object[] slots, int height){
+        if(slots.length<=WIDTH)
+            return new Object[]{node(slots,height)};
+        int half = slots.length >>> 1;
+        return new Object[]{node(Arrays.copyOfRange(slots,0,half,Object[].class),height),
+                            node(Arrays.copyOfRange(slots,half,slots.length,Object[].class),height)};
+    }
+
+    private static Object[] merge(Object left, Object right, int height){
+        Object[] a = slotArray(left,height);
+        Object[] b = slotArray(right,height);
+        Object[] slots = Arrays.copyOf(a,a.length+b.length,Object[].class);
+        System.arraycopy(b,0,slots,a.length,b.length);
+        return pack(slots,height);
+    }
+
+    private static Object[] appendRight(Object node, int height, Object right, int rightHeight){
+        Object[] cs = children(node);
+        Object last = cs[cs.length-1];
+        Object[] res = height-1==rightHeight ? merge(last,right,rightHeight)
+                                             : appendRight(last,height-1,right,rightHeight);
+        Object[] slots = Arrays.copyOf(cs,cs.length-1+res.length,Object[].class);
+        System.arraycopy(res,0,slots,cs.length-1,res.length);
+        return pack(slots,height);
+    }
+
+    private static Object[] prependLeft(Object left, int leftHeight, Object node, int height){
+        Object[] cs = children(node);
+        Object first = cs[0];
+        Object[] res = height-1==leftHeight ? merge(left,first,leftHeight)
+                                            : prependLeft(left,leftHeight,first,height-1);
+        Object[] slots = new Object[res.length+cs.length-1];
+        System.arraycopy(res,0,slots,0,res.length);
+        System.arraycopy(cs,1,slots,res.length,cs.length-1);
+        return pack(slots,height);
+    }
+
+    private static int relaxedIndex(Relaxed node, int height, int index){
+        int shift = BITS_IN_INDEX*height;
+        int last = node.sizes.length-1;
+        int c = shift<31 ? Math.min(index >>> shift,last) : 0;
+        while(c<last && node.sizes[c]<=index)
+            c++;
+        return c;
+    }
+
+    private static int childIndex(Object node, int height, int index){
+        if(node instanceof Relaxed)
+            return relaxedIndex((Relaxed)node,height,index);
+        Object[] dense = (Object[])node;
+        return Math.min(index >>> (BITS_IN_INDEX*height),dense.length-1);
+    }
+
+    private static int offset(Object node, int height, int child){
+        if(child==0)
+            return 0;
+        if(node instanceof Relaxed)
+            return ((Relaxed)node).sizes[child-1];
+        return child << (BITS_IN_INDEX*height);
+    }
+
+    private static <T> RRBT<T> tree(Object[] slots, int height, int size){
+        if(slots.length==0)
+            return empty();
+        if(slots.length==1)
+            return new RRBT<>(slots[0],height-1,size);
+        return new RRBT<>(branch(slots,height),height,size);
+    }
+
+    private static <T> Tuple2<RRBT<T>,RRBT<T>> split(Object node, int height, int size, int index){
+        if(height==0){
+            Object[] leaf = (Object[])node;
+            return Tuple.tuple(new RRBT<>(Arrays.copyOfRange(leaf,0,index,Object[].class),0,index),
+                               new RRBT<>(Arrays.copyOfRange(leaf,index,leaf.length,Object[].class),0,leaf.length-index));
+        }
+        Object[] cs = children(node);
+        int c = childIndex(node,height,index);
+        int off = offset(node,height,c);
+        int local = index-off;
+        if(local==0){
+            return Tuple.tuple(tree(Arrays.copyOfRange(cs,0,c,Object[].class),height,off),
+                               tree(Arrays.copyOfRange(cs,c,cs.length,Object[].class),height,size-off));
+        }
+        int childSize = sizeOf(cs[c],height-1);
+        Tuple2<RRBT<T>,RRBT<T>> parts = split(cs[c],height-1,childSize,local);
+        RRBT<T> left = RRBT.<T>tree(Arrays.copyOfRange(cs,0,c,Object[].class),height,off).concat(parts._1());
+        RRBT<T> right = parts._2().concat(tree(Arrays.copyOfRange(cs,c+1,cs.length,Object[].class),height,size-off-childSize));
+        return Tuple.tuple(left,right);
+    }
+
+    private static Object[] insert(Object node, int height, int index, Object value){
+        if(height==0){
+            Object[] leaf = (Object[])node;
+            Object[] slots = new Object[leaf.length+1];
+            System.arraycopy(leaf,0,slots,0,index);
+            slots[index]=value;
+            System.arraycopy(leaf,index,slots,index+1,leaf.length-index);
+            return pack(slots,0);
+        }
+        Object[] cs = children(node);
+        int c = childIndex(node,height,index);
+        Object[] res = insert(cs[c],height-1,index-offset(node,height,c),value);
+        Object[] slots = new Object[cs.length-1+res.length];
+        System.arraycopy(cs,0,slots,0,c);
+        System.arraycopy(res,0,slots,c,res.length);
+        System.arraycopy(cs,c+1,slots,c+res.length,cs.length-c-1);
+        return pack(slots,height);
+    }
+
+    private static Object remove(Object node, int height, int index){
+        if(height==0){
+            Object[] leaf = (Object[])node;
+            Object[] slots = new Object[leaf.length-1];
+            System.arraycopy(leaf,0,slots,0,index);
+            System.arraycopy(leaf,index+1,slots,index,leaf.length-index-1);
+            return slots;
+        }
+        Object[] cs = children(node);
+        int c = childIndex(node,height,index);
+        Object child = remove(cs[c],height-1,index-offset(node,height,c));
+        int count = slots(child,height-1);
+        Object[] slots;
+        if(count==0){
+            slots = new Object[cs.length-1];
+            System.arraycopy(cs,0,slots,0,c);
+            System.arraycopy(cs,c+1,slots,c,cs.length-c-1);
+        }else if(count<MIN_WIDTH && cs.length>1){
+            int from = c>0 ? c-1 : c;
+            Object[] merged = c>0 ? merge(cs[c-1],child,height-1) : merge(child,cs[c+1],height-1);
+            slots = new Object[cs.length-2+merged.length];
+            System.arraycopy(cs,0,slots,0,from);
+            System.arraycopy(merged,0,slots,from,merged.length);
+            System.arraycopy(cs,from+2,slots,from+merged.length,cs.length-from-2);
+        }else{
+            slots = Arrays.copyOf(cs,cs.length,Object[].class);
+            slots[c]=child;
+        }
+        return node(slots,height);
+    }
+
+    private static Object update(Object node, int height, int index, Object value){
+        if(height==0){
+            Object[] leaf = Arrays.copyOf((Object[])node,((Object[])node).length,Object[].class);
+            leaf[index]=value;
+            return leaf;
+        }
+        Object[] cs = children(node);
+        int c = childIndex(node,height,index);
+        Object[] updated = Arrays.copyOf(cs,cs.length,Object[].class);
+        updated[c] = update(cs[c],height-1,index-offset(node,height,c),value);
+        if(node instanceof Relaxed)
+            return new Relaxed(updated,((Relaxed)node).sizes);
+        return updated;
+    }
+
+    @SuppressWarnings("unchecked") //leaves are Object[] that only ever hold T
+    private static <T> Object map(Object node, int height, Function<? super T, ?> fn){
+        Object[] slots = slotArray(node,height);
+        Object[] res = new Object[slots.length];
+        for(int i=0;i<slots.length;i++){
+            res[i] = height==0 ? fn.apply((T)slots[i]) : map(slots[i],height-1,fn);
+        }
+        if(node instanceof Relaxed)
+            return new Relaxed(res,((Relaxed)node).sizes);
+        return res;
+    }
+
+    private static final class LeafIterator<T> implements Iterator<T> {
+        private final Object[][] path;
+        private final int[] positions;
+        private int remaining;
+
+        LeafIterator(RRBT<T> tree) {
+            this.path = new Object[tree.height+1][];
+            this.positions = new int[tree.height+1];
+            this.remaining = tree.size;
+            path[tree.height] = slotArray(tree.root,tree.height);
+            for(int h=tree.height-1;h>=0;h--){
+                path[h] = slotArray(path[h+1][0],h);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining>0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked") //leaves are Object[] that only ever hold T
+        public T next() {
+            if(remaining==0)
+                throw new NoSuchElementException();
+            if(positions[0]==path[0].length){
+                int h = 1;
+                while(positions[h]+1==path[h].length)
+                    h++;
+                positions[h]++;
+                for(;h>0;h--){
+                    path[h-1] = slotArray(path[h][positions[h]],h-1);
+                    positions[h-1]=0;
+                }
+            }
+            remaining--;
+            return (T)path[0][positions[0]++];
+        }
+    }
+}
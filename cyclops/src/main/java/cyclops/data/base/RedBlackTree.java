@@ -5,7 +5,6 @@ import com.oath.cyclops.matching.Deconstruct.Deconstruct5;
 import com.oath.cyclops.matching.Sealed2;
 import cyclops.control.Option;
 
-import cyclops.matching.Api;
 import cyclops.reactive.ReactiveSeq;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -13,7 +12,6 @@ import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.tuple.Tuple3;
 import cyclops.data.tuple.Tuple5;
-import lombok.experimental.Wither;
 
 import java.io.Serializable;
 import java.util.Comparator;
@@ -22,12 +20,13 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static cyclops.data.base.RedBlackTree.Node.*;
-import static cyclops.matching.Api.Case;
 
 
 public interface RedBlackTree extends Serializable{
     static <K,V> Tree<K,V> rootIsBlack(Tree<K,V> root){
-        return Api.MatchType(root).with(Case(node->node.withBlack(true)),Case(leaf->leaf));
+        if(root.isRed() && !root.isEmpty())
+            return ((Node<K,V>)root).withBlack(true);
+        return root;
     }
     public static <K,V> Tree<K,V> fromStream(Comparator<? super K> comp, Stream<? extends Tuple2<? extends K, ? extends V>> stream){
         Tree<K,V> tree[] = new Tree[1];
@@ -40,6 +39,92 @@ public interface RedBlackTree extends Serializable{
     public static <K,V> Tree<K,V> empty(Comparator<? super K> comp){
         return new Leaf<K,V>(comp);
     }
+
+    /**
+     * Join two trees, where every key in left is less than key and every key in right is greater than key.
+     * Walks down the spine of the taller tree only, so runs in O(log n) and shares the untouched subtrees.
+     */
+    public static <K,V> Tree<K,V> join(Tree<K,V> left, K key, V value, Tree<K,V> right){
+        Comparator<? super K> comp = left.comparator();
+        Tree<K,V> l = rootIsBlack(left);
+        Tree<K,V> r = rootIsBlack(right);
+        int lh = l.blackHeight();
+        int rh = r.blackHeight();
+        if(lh>rh){
+            Node<K,V> joined = joinRight(l,lh,key,value,r,rh,comp);
+            return joined.isRed() && joined.right.isRed() ? joined.withBlack(true) : joined;
+        }
+        if(rh>lh){
+            Node<K,V> joined = joinLeft(l,lh,key,value,r,rh,comp);
+            return joined.isRed() && joined.left.isRed() ? joined.withBlack(true) : joined;
+        }
+        return BLACK(l,r,key,value,comp);
+    }
+
+    /**
+     * Split a tree around key in O(log n)
+     *
+     * @return Tree of keys less than key, the value stored against key (if present), Tree of keys greater than key
+     */
+    public static <K,V> Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> split(Tree<K,V> tree, K key){
+        if(tree.isEmpty())
+            return Tuple.tuple(tree,Option.none(),tree);
+        Node<K,V> node = (Node<K,V>)tree;
+        int compRes = node.comp.compare(node.key,key);
+        if(compRes>0){
+            Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> t3 = split(node.left,key);
+            return Tuple.tuple(t3._1(),t3._2(),join(t3._3(),node.key,node.value,node.right));
+        }
+        if(compRes<0){
+            Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> t3 = split(node.right,key);
+            return Tuple.tuple(join(node.left,node.key,node.value,t3._1()),t3._2(),t3._3());
+        }
+        return Tuple.tuple(node.left,Option.of(node.value),node.right);
+    }
+
+    /**
+     * @return Tree of all keys greater than (or equal to, if inclusive) key
+     */
+    public static <K,V> Tree<K,V> from(Tree<K,V> tree, K key, boolean inclusive){
+        Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> t3 = split(tree,key);
+        if(inclusive && t3._2().isPresent())
+            return join(empty(tree.comparator()),key,t3._2().orElse(null),t3._3());
+        return t3._3();
+    }
+
+    /**
+     * @return Tree of all keys less than (or equal to, if inclusive) key
+     */
+    public static <K,V> Tree<K,V> until(Tree<K,V> tree, K key, boolean inclusive){
+        Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> t3 = split(tree,key);
+        if(inclusive && t3._2().isPresent())
+            return join(t3._1(),key,t3._2().orElse(null),empty(tree.comparator()));
+        return t3._1();
+    }
+
+    static <K,V> Node<K,V> joinRight(Tree<K,V> left, int lh, K key, V value, Tree<K,V> right, int rh, Comparator<? super K> comp){
+        if(left.isEmpty() || (left.isBlack() && lh==rh))
+            return RED(left,right,key,value,comp);
+        Node<K,V> node = (Node<K,V>)left;
+        Node<K,V> joined = joinRight(node.right,lh-(node.isBlack ? 1 : 0),key,value,right,rh,comp);
+        if(node.isBlack && joined.isRed() && joined.right.isRed()){
+            Tree<K,V> nestedRight = ((Node<K,V>)joined.right).withBlack(true);
+            return RED(BLACK(node.left,joined.left,node.key,node.value,comp),nestedRight,joined.key,joined.value,comp);
+        }
+        return new Node<>(node.isBlack,node.left,joined,node.key,node.value,comp);
+    }
+
+    static <K,V> Node<K,V> joinLeft(Tree<K,V> left, int lh, K key, V value, Tree<K,V> right, int rh, Comparator<? super K> comp){
+        if(right.isEmpty() || (right.isBlack() && lh==rh))
+            return RED(left,right,key,value,comp);
+        Node<K,V> node = (Node<K,V>)right;
+        Node<K,V> joined = joinLeft(left,lh,key,value,node.left,rh-(node.isBlack ? 1 : 0),comp);
+        if(node.isBlack && joined.isRed() && joined.left.isRed()){
+            Tree<K,V> nestedLeft = ((Node<K,V>)joined.left).withBlack(true);
+            return RED(nestedLeft,BLACK(joined.right,node.right,node.key,node.value,comp),joined.key,joined.value,comp);
+        }
+        return new Node<>(node.isBlack,joined,node.right,node.key,node.value,comp);
+    }
     public static interface Tree<K,V> extends Sealed2<Node<K,V>,Leaf<K,V>> {
 
         boolean isEmpty();
@@ -55,8 +140,95 @@ public interface RedBlackTree extends Serializable{
         Comparator<? super K> comparator();
         ReactiveSeq<Tuple2<K,V>> stream();
         int size();
+        int blackHeight();
         String tree();
 
+        /**
+         * @return Greatest entry with a key less than or equal to key
+         */
+        default Option<Tuple2<K,V>> floor(K key){
+            return closest(key,true,true);
+        }
+        /**
+         * @return Least entry with a key greater than or equal to key
+         */
+        default Option<Tuple2<K,V>> ceiling(K key){
+            return closest(key,false,true);
+        }
+        /**
+         * @return Greatest entry with a key strictly less than key
+         */
+        default Option<Tuple2<K,V>> lower(K key){
+            return closest(key,true,false);
+        }
+        /**
+         * @return Least entry with a key strictly greater than key
+         */
+        default Option<Tuple2<K,V>> higher(K key){
+            return closest(key,false,false);
+        }
+
+        default Option<Tuple2<K,V>> closest(K key, boolean below, boolean inclusive){
+            Tree<K,V> tree = this;
+            Node<K,V> best = null;
+            while(!tree.isEmpty()){
+                Node<K,V> node = (Node<K,V>)tree;
+                int compRes = node.comp.compare(node.key,key);
+                if(compRes==0 && inclusive)
+                    return Option.some(Tuple.tuple(node.key,node.value));
+                if(below ? compRes<0 : compRes>0){
+                    best = node;
+                    tree = below ? node.right : node.left;
+                }else{
+                    tree = below ? node.left : node.right;
+                }
+            }
+            return best==null ? Option.none() : Option.some(Tuple.tuple(best.key,best.value));
+        }
+
+        /**
+         * @return The number of keys strictly less than key
+         */
+        default int rank(K key){
+            Tree<K,V> tree = this;
+            int rank = 0;
+            while(!tree.isEmpty()){
+                Node<K,V> node = (Node<K,V>)tree;
+                int compRes = node.comp.compare(node.key,key);
+                if(compRes<0){
+                    rank += node.left.size()+1;
+                    tree = node.right;
+                }else if(compRes>0){
+                    tree = node.left;
+                }else{
+                    return rank + node.left.size();
+                }
+            }
+            return rank;
+        }
+
+        /**
+         * @return The entry at position index in key order
+         */
+        default Option<Tuple2<K,V>> select(int index){
+            if(index<0 || index>=size())
+                return Option.none();
+            Tree<K,V> tree = this;
+            int pos = index;
+            while(true){
+                Node<K,V> node = (Node<K,V>)tree;
+                int leftSize = node.left.size();
+                if(pos<leftSize){
+                    tree = node.left;
+                }else if(pos==leftSize){
+                    return Option.some(Tuple.tuple(node.key,node.value));
+                }else{
+                    pos = pos-leftSize-1;
+                    tree = node.right;
+                }
+            }
+        }
+
 
 
 
@@ -113,12 +285,10 @@ public interface RedBlackTree extends Serializable{
 
             }
 
-            return new Node(isBlack,left,right,key,value,comparator());
+            return new Node<>(isBlack,left,right,key,value,comparator());
         }
     }
 
-    @AllArgsConstructor
-    @Wither
     public static final class Node<K,V> implements Tree<K,V>, Deconstruct5<Boolean,Tree<K,V>,Tree<K,V>, K,V> {
         private final boolean isBlack;
         private final Tree<K,V> left;
@@ -126,21 +296,59 @@ public interface RedBlackTree extends Serializable{
         private final K key;
         private final V value;
         private final Comparator<K> comp;
+        private final int size;
+        private final int blackHeight;
 
         private static final long serialVersionUID = 1L;
 
+        @SuppressWarnings("unchecked") //a Comparator<? super K> can always compare two Ks
+        public Node(boolean isBlack, Tree<K, V> left, Tree<K, V> right, K key, V value, Comparator<? super K> comp) {
+            this.isBlack = isBlack;
+            this.left = left;
+            this.right = right;
+            this.key = key;
+            this.value = value;
+            this.comp = (Comparator<K>)comp;
+            this.size = left.size()+right.size()+1;
+            this.blackHeight = left.blackHeight() + (isBlack ? 1 : 0);
+        }
+
+        public Node<K,V> withBlack(boolean isBlack){
+            return this.isBlack==isBlack ? this : new Node<>(isBlack,left,right,key,value,comp);
+        }
+
+        public Node<K,V> withLeft(Tree<K,V> left){
+            return this.left==left ? this : new Node<>(isBlack,left,right,key,value,comp);
+        }
+
+        public Node<K,V> withRight(Tree<K,V> right){
+            return this.right==right ? this : new Node<>(isBlack,left,right,key,value,comp);
+        }
+
+        public Node<K,V> withKey(K key){
+            return this.key==key ? this : new Node<>(isBlack,left,right,key,value,comp);
+        }
+
+        public Node<K,V> withValue(V value){
+            return this.value==value ? this : new Node<>(isBlack,left,right,key,value,comp);
+        }
+
+        public Node<K,V> withComp(Comparator<K> comp){
+            return this.comp==comp ? this : new Node<>(isBlack,left,right,key,value,comp);
+        }
+
 
         static <K,V> Node<K,V> RED(Tree<K,V> left, Tree<K,V> right,K key, V value,Comparator<? super K> comp){
-            return new Node(false,left,right,key,value,comp);
+            return new Node<>(false,left,right,key,value,comp);
         }
         static <K,V> Node<K,V> BLACK(Tree<K,V> left, Tree<K,V> right,K key, V value,Comparator<? super K> comp){
-            return new Node(true,left,right,key,value,comp);
+            return new Node<>(true,left,right,key,value,comp);
         }
         static <K,V> Node<K,V> LEFT_BLACK(Tree<K,V> left, Tree<K,V> right,K key, V value,Comparator<? super K> comp){
-            return new Node(true,left,right,key,value,comp);
+            return new Node<>(true,left,right,key,value,comp);
         }
         static <K,V> Node<K,V> RIGHT_BLACK(Tree<K,V> left, Tree<K,V> right,K key, V value,Comparator<? super K> comp){
-            return new Node(true,left,right,key,value,comp);
+            return new Node<>(true,left,right,key,value,comp);
         }
 
         public Tree<K, V> left() {
@@ -200,7 +408,7 @@ public interface RedBlackTree extends Serializable{
                 return balance(isBlack, left.plus(key, value), right, this.key, this.value);
             }
             else if (compRes==0)
-                return new Node(isBlack, left,right, key, value,comp);
+                return new Node<>(isBlack, left,right, key, value,comp);
 
             Tree<K, V> n = balance(isBlack, left, right.plus(key, value), this.key, this.value);
 
@@ -264,7 +472,12 @@ public interface RedBlackTree extends Serializable{
 
         @Override
         public int size() {
-            return left.size() +right.size() +1;
+            return size;
+        }
+
+        @Override
+        public int blackHeight() {
+            return blackHeight;
         }
     }
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -298,7 +511,7 @@ public interface RedBlackTree extends Serializable{
 
         @Override
         public Tree<K, V> plus(K key, V value) {
-            return new Node(false,new Leaf<>(comp),new Leaf<>(comp),key,value,comp);
+            return new Node<>(false,new Leaf<>(comp),new Leaf<>(comp),key,value,comp);
         }
 
         @Override
@@ -321,6 +534,11 @@ public interface RedBlackTree extends Serializable{
             return 0;
         }
 
+        @Override
+        public int blackHeight() {
+            return 0;
+        }
+
         @Override
         public String tree() {
             return "{LEAF}";
@@ -6,19 +6,21 @@ import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
-import cyclops.reactive.ReactiveSeq;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.tuple.Tuple3;
 import cyclops.data.tuple.Tuple4;
 
+import com.oath.cyclops.async.SharedTimer;
 import com.oath.cyclops.util.box.LazyImmutable;
 import com.oath.cyclops.util.ExceptionSoftener;
+import com.oath.cyclops.util.stream.scheduling.cron.CronSchedule;
 
 import lombok.val;
 
@@ -166,14 +168,14 @@ public class Memoize {
     public static <T, R> Function1<T, R> memoizeFunctionAsync(final Function<T, R> fn, ScheduledExecutorService ex, long updateRateInMillis){
         final Map<T, R> lazy = new ConcurrentHashMap<>();
 
-        ReactiveSeq.generate(()->{
+        SharedTimer.instance()
+                   .scheduleAtFixedRate(()->{
 
             lazy.forEach((k,v)->{
 
                 lazy.put(k,fn.apply(k));
             });
-            return null;
-        }).scheduleFixedRate(updateRateInMillis,ex);
+        },0,updateRateInMillis,TimeUnit.MILLISECONDS,ex);
 
         return t -> lazy.computeIfAbsent(t, fn);
     }
@@ -191,14 +193,14 @@ public class Memoize {
     public static <T, R> Function1<T, R> memoizeFunctionAsync(final Function<T, R> fn, ScheduledExecutorService ex, String cron) {
         final Map<T, R> lazy = new ConcurrentHashMap<>();
 
-        ReactiveSeq.generate(()->{
+        SharedTimer.instance()
+                   .schedule(CronSchedule.of(cron),()->{
 
             lazy.forEach((k,v)->{
 
                 lazy.put(k,fn.apply(k));
             });
-            return null;
-        }).schedule(cron,ex);
+        },ex);
 
         return t -> lazy.computeIfAbsent(t, fn);
     }
@@ -0,0 +1,614 @@
+package cyclops.reactive;
+
+import cyclops.control.Option;
+import cyclops.data.DoubleVector;
+import org.reactivestreams.Publisher;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lazy, replayable sequence of unboxed double values.
+ *
+ * Each terminal operation pulls from a fresh DoubleStream, operators never box the values flowing through them -
+ * boxing only occurs when converting to a ReactiveSeq (via {@link #boxed()}, {@link #mapToObj(DoubleFunction)} or
+ * {@link #toSpouts()}). Windowing operators such as {@link #sliding(int)} and {@link #grouped(int)} emit
+ * {@link DoubleVector}s.
+ */
+public final class DoubleSeq implements Iterable<Double> {
+
+    private static final DoubleSeq EMPTY = new DoubleSeq(DoubleStream::empty);
+
+    private final Supplier<? extends DoubleStream> stream;
+
+    private DoubleSeq(Supplier<? extends DoubleStream> stream) {
+        this.stream = stream;
+    }
+
+    public static DoubleSeq empty(){
+        return EMPTY;
+    }
+
+    public static DoubleSeq of(double... values){
+        return new DoubleSeq(() -> Arrays.stream(values));
+    }
+
+    public static DoubleSeq iterate(double seed, DoubleUnaryOperator fn){
+        return new DoubleSeq(() -> DoubleStream.iterate(seed,fn));
+    }
+
+    public static DoubleSeq iterate(double seed, DoublePredicate hasNext, DoubleUnaryOperator fn){
+        return iterate(seed,fn).takeWhile(hasNext);
+    }
+
+    public static DoubleSeq generate(DoubleSupplier s){
+        return new DoubleSeq(() -> DoubleStream.generate(s));
+    }
+
+    /**
+     * @param stream One shot DoubleStream, the returned DoubleSeq can only be traversed once
+     */
+    public static DoubleSeq fromDoubleStream(DoubleStream stream){
+        return new DoubleSeq(() -> stream);
+    }
+
+    public static DoubleSeq deferFromDoubleStream(Supplier<? extends DoubleStream> stream){
+        return new DoubleSeq(stream);
+    }
+
+    public static DoubleSeq fromIterable(Iterable<Double> it){
+        if(it instanceof DoubleSeq)
+            return (DoubleSeq)it;
+        if(it instanceof DoubleVector)
+            return new DoubleSeq(((DoubleVector)it)::doubleStream);
+        if(it instanceof ReactiveSeq)
+            return fromReactiveSeq((ReactiveSeq<Double>)it);
+        return new DoubleSeq(() -> StreamSupport.stream(it.spliterator(),false).mapToDouble(Double::doubleValue));
+    }
+
+    /**
+     * If the Spliterator of the ReactiveSeq is a Spliterator.OfDouble (for example a ReactiveSeq created by {@link ReactiveSeq#ofDoubles(double...)}
+     * with no further operators applied) the values are read without boxing, otherwise each Double is unboxed in turn.
+     */
+    public static DoubleSeq fromReactiveSeq(ReactiveSeq<Double> seq){
+        return new DoubleSeq(() -> {
+            Spliterator<Double> split = seq.spliterator();
+            if(split instanceof Spliterator.OfDouble)
+                return StreamSupport.doubleStream((Spliterator.OfDouble)split,false);
+            return StreamSupport.stream(split,false).mapToDouble(Double::doubleValue);
+        });
+    }
+
+    public static DoubleSeq fromPublisher(Publisher<? extends Double> publisher){
+        return fromReactiveSeq(ReactiveSeq.fromPublisher(publisher));
+    }
+
+    public DoubleStream doubleStream(){
+        return stream.get();
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator(){
+        return stream.get().iterator();
+    }
+
+    @Override
+    public Spliterator.OfDouble spliterator(){
+        return stream.get().spliterator();
+    }
+
+    public ReactiveSeq<Double> boxed(){
+        return ReactiveSeq.deferFromStream(() -> stream.get().boxed());
+    }
+
+    /**
+     * @return A push based ReactiveSeq (see {@link Spouts}) over the values in this DoubleSeq
+     */
+    public ReactiveSeq<Double> toSpouts(){
+        return Spouts.fromIterable(this);
+    }
+
+    public DoubleVector toDoubleVector(){
+        return DoubleVector.fromStream(stream.get());
+    }
+
+    public double[] toArray(){
+        return stream.get().toArray();
+    }
+
+    public DoubleSeq map(DoubleUnaryOperator fn){
+        return new DoubleSeq(() -> stream.get().map(fn));
+    }
+
+    public IntSeq mapToInt(DoubleToIntFunction fn){
+        return IntSeq.deferFromIntStream(() -> stream.get().mapToInt(fn));
+    }
+
+    public LongSeq mapToLong(DoubleToLongFunction fn){
+        return LongSeq.deferFromLongStream(() -> stream.get().mapToLong(fn));
+    }
+
+    public <R> ReactiveSeq<R> mapToObj(DoubleFunction<? extends R> fn){
+        return ReactiveSeq.deferFromStream(() -> stream.get().mapToObj(fn));
+    }
+
+    public DoubleSeq flatMap(DoubleFunction<? extends DoubleSeq> fn){
+        return new DoubleSeq(() -> stream.get().flatMap(i -> fn.apply(i).doubleStream()));
+    }
+
+    public DoubleSeq filter(DoublePredicate pred){
+        return new DoubleSeq(() -> stream.get().filter(pred));
+    }
+
+    public DoubleSeq filterNot(DoublePredicate pred){
+        return filter(pred.negate());
+    }
+
+    public DoubleSeq peek(DoubleConsumer c){
+        return new DoubleSeq(() -> stream.get().peek(c));
+    }
+
+    public DoubleSeq distinct(){
+        return new DoubleSeq(() -> stream.get().distinct());
+    }
+
+    public DoubleSeq sorted(){
+        return new DoubleSeq(() -> stream.get().sorted());
+    }
+
+    public DoubleSeq reverse(){
+        return new DoubleSeq(() -> {
+            double[] values = stream.get().toArray();
+            int length = values.length;
+            return IntStream.range(0,length).mapToDouble(i -> values[length-1-i]);
+        });
+    }
+
+    public DoubleSeq take(long num){
+        return new DoubleSeq(() -> stream.get().limit(Math.max(num,0)));
+    }
+
+    public DoubleSeq limit(long num){
+        return take(num);
+    }
+
+    public DoubleSeq drop(long num){
+        return new DoubleSeq(() -> stream.get().skip(Math.max(num,0)));
+    }
+
+    public DoubleSeq skip(long num){
+        return drop(num);
+    }
+
+    public DoubleSeq slice(long from, long to){
+        long start = Math.max(from,0);
+        return drop(start).take(to-start);
+    }
+
+    public DoubleSeq takeWhile(DoublePredicate pred){
+        return withSpliterator(s -> new TakeWhile(s,pred));
+    }
+
+    public DoubleSeq takeUntil(DoublePredicate pred){
+        return takeWhile(pred.negate());
+    }
+
+    public DoubleSeq dropWhile(DoublePredicate pred){
+        return withSpliterator(s -> new DropWhile(s,pred));
+    }
+
+    public DoubleSeq dropUntil(DoublePredicate pred){
+        return dropWhile(pred.negate());
+    }
+
+    public DoubleSeq takeRight(int num){
+        return new DoubleSeq(() -> {
+            double[] ring = new double[Math.max(num,0)];
+            long[] count = {0};
+            if(ring.length>0)
+                stream.get().forEach(i -> ring[(int)(count[0]++ % ring.length)] = i);
+            int length = (int)Math.min(count[0],ring.length);
+            int start = (int)(count[0] % Math.max(ring.length,1));
+            return IntStream.range(0,length).mapToDouble(i -> ring[(start + i + ring.length - length) % ring.length]);
+        });
+    }
+
+    public DoubleSeq dropRight(int num){
+        if(num<=0)
+            return this;
+        return withSpliterator(s -> new DropRight(s,num));
+    }
+
+    public DoubleSeq scanLeft(double seed, DoubleBinaryOperator fn){
+        return withSpliterator(s -> new ScanLeft(s,seed,fn));
+    }
+
+    public DoubleSeq intersperse(double value){
+        return withSpliterator(s -> new Intersperse(s,value));
+    }
+
+    public DoubleSeq zip(DoubleSeq other, DoubleBinaryOperator zipper){
+        return new DoubleSeq(() -> StreamSupport.doubleStream(new Zip(spliterator(),other.spliterator(),zipper),false));
+    }
+
+    public DoubleSeq prepend(double... values){
+        return new DoubleSeq(() -> DoubleStream.concat(Arrays.stream(values),stream.get()));
+    }
+
+    public DoubleSeq append(double... values){
+        return new DoubleSeq(() -> DoubleStream.concat(stream.get(),Arrays.stream(values)));
+    }
+
+    public DoubleSeq prependAll(DoubleSeq other){
+        return new DoubleSeq(() -> DoubleStream.concat(other.doubleStream(),stream.get()));
+    }
+
+    public DoubleSeq appendAll(DoubleSeq other){
+        return new DoubleSeq(() -> DoubleStream.concat(stream.get(),other.doubleStream()));
+    }
+
+    public DoubleSeq cycle(long times){
+        return new DoubleSeq(() -> Stream.<DoubleStream>generate(stream::get).limit(Math.max(times,0)).flatMapToDouble(s -> s));
+    }
+
+    public DoubleSeq onEmpty(double value){
+        return withSpliterator(s -> new OnEmpty(s,value));
+    }
+
+    /**
+     * Create a sliding view over this DoubleSeq, see {@link ReactiveSeq#sliding(int)}
+     */
+    public ReactiveSeq<DoubleVector> sliding(int windowSize){
+        return sliding(windowSize,1);
+    }
+
+    public ReactiveSeq<DoubleVector> sliding(int windowSize, int increment){
+        return ReactiveSeq.deferFromStream(() -> StreamSupport.stream(new Windows(spliterator(),windowSize,increment),false));
+    }
+
+    public ReactiveSeq<DoubleVector> grouped(int groupSize){
+        return sliding(groupSize,groupSize);
+    }
+
+    public double foldLeft(double identity, DoubleBinaryOperator fn){
+        return stream.get().reduce(identity,fn);
+    }
+
+    public double foldRight(double identity, DoubleBinaryOperator fn){
+        double[] values = stream.get().toArray();
+        double acc = identity;
+        for(int i=values.length-1;i>=0;i--)
+            acc = fn.applyAsDouble(values[i],acc);
+        return acc;
+    }
+
+    public Option<Double> reduce(DoubleBinaryOperator fn){
+        return option(stream.get().reduce(fn));
+    }
+
+    public double sum(){
+        return stream.get().sum();
+    }
+
+    public long count(){
+        return stream.get().count();
+    }
+
+    public Option<Double> min(){
+        return option(stream.get().min());
+    }
+
+    public Option<Double> max(){
+        return option(stream.get().max());
+    }
+
+    public Option<Double> average(){
+        java.util.OptionalDouble res = stream.get().average();
+        return res.isPresent() ? Option.some(res.getAsDouble()) : Option.none();
+    }
+
+    public Option<Double> findFirst(){
+        return option(stream.get().findFirst());
+    }
+
+    public double firstValue(double alt){
+        return stream.get().findFirst().orElse(alt);
+    }
+
+    public Option<Double> elementAt(long index){
+        if(index<0)
+            return Option.none();
+        return option(stream.get().skip(index).findFirst());
+    }
+
+    public boolean anyMatch(DoublePredicate pred){
+        return stream.get().anyMatch(pred);
+    }
+
+    public boolean allMatch(DoublePredicate pred){
+        return stream.get().allMatch(pred);
+    }
+
+    public boolean noneMatch(DoublePredicate pred){
+        return stream.get().noneMatch(pred);
+    }
+
+    public boolean isEmpty(){
+        return !stream.get().iterator().hasNext();
+    }
+
+    public void forEachDouble(DoubleConsumer action){
+        stream.get().forEach(action);
+    }
+
+    public String join(String sep){
+        StringBuilder res = new StringBuilder();
+        PrimitiveIterator.OfDouble it = iterator();
+        while(it.hasNext()){
+            res.append(it.nextDouble());
+            if(it.hasNext())
+                res.append(sep);
+        }
+        return res.toString();
+    }
+
+    public <R> R to(Function<? super DoubleSeq, ? extends R> fn){
+        return fn.apply(this);
+    }
+
+    private DoubleSeq withSpliterator(Function<Spliterator.OfDouble, Spliterator.OfDouble> fn){
+        return new DoubleSeq(() -> StreamSupport.doubleStream(fn.apply(spliterator()),false));
+    }
+
+    private static Option<Double> option(java.util.OptionalDouble opt){
+        return opt.isPresent() ? Option.some(opt.getAsDouble()) : Option.none();
+    }
+
+    private static abstract class Operator extends Spliterators.AbstractDoubleSpliterator implements DoubleConsumer {
+        final Spliterator.OfDouble source;
+        double current;
+
+        Operator(Spliterator.OfDouble source, long size) {
+            super(size,source.characteristics() & Spliterator.ORDERED);
+            this.source = source;
+        }
+
+        @Override
+        public void accept(double value) {
+            current = value;
+        }
+    }
+
+    private static final class TakeWhile extends Operator {
+        private final DoublePredicate pred;
+        private boolean done;
+
+        TakeWhile(Spliterator.OfDouble source, DoublePredicate pred) {
+            super(source,source.estimateSize());
+            this.pred = pred;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if(done || !source.tryAdvance(this) || !pred.test(current)){
+                done = true;
+                return false;
+            }
+            action.accept(current);
+            return true;
+        }
+    }
+
+    private static final class DropWhile extends Operator {
+        private final DoublePredicate pred;
+        private boolean dropped;
+
+        DropWhile(Spliterator.OfDouble source, DoublePredicate pred) {
+            super(source,source.estimateSize());
+            this.pred = pred;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if(!dropped){
+                dropped = true;
+                while(source.tryAdvance(this)){
+                    if(!pred.test(current)){
+                        action.accept(current);
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return source.tryAdvance(action);
+        }
+    }
+
+    private static final class DropRight extends Operator {
+        private final double[] ring;
+        private int filled;
+        private int index;
+
+        DropRight(Spliterator.OfDouble source, int num) {
+            super(source,Long.MAX_VALUE);
+            this.ring = new double[num];
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            while(filled<ring.length){
+                if(!source.tryAdvance(this))
+                    return false;
+                ring[filled++] = current;
+            }
+            if(!source.tryAdvance(this))
+                return false;
+            double next = ring[index];
+            ring[index] = current;
+            index = (index+1) % ring.length;
+            action.accept(next);
+            return true;
+        }
+    }
+
+    private static final class ScanLeft extends Operator {
+        private final DoubleBinaryOperator fn;
+        private boolean started;
+        private double acc;
+
+        ScanLeft(Spliterator.OfDouble source, double seed, DoubleBinaryOperator fn) {
+            super(source,source.estimateSize());
+            this.fn = fn;
+            this.acc = seed;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if(!started){
+                started = true;
+                action.accept(acc);
+                return true;
+            }
+            if(!source.tryAdvance(this))
+                return false;
+            acc = fn.applyAsDouble(acc,current);
+            action.accept(acc);
+            return true;
+        }
+    }
+
+    private static final class Intersperse extends Operator {
+        private final double value;
+        private boolean started;
+        private boolean pending;
+
+        Intersperse(Spliterator.OfDouble source, double value) {
+            super(source,source.estimateSize());
+            this.value = value;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if(pending){
+                pending = false;
+                action.accept(current);
+                return true;
+            }
+            if(!source.tryAdvance(this))
+                return false;
+            if(!started){
+                started = true;
+                action.accept(current);
+                return true;
+            }
+            pending = true;
+            action.accept(value);
+            return true;
+        }
+    }
+
+    private static final class OnEmpty extends Operator {
+        private final double value;
+        private boolean started;
+        private boolean empty;
+
+        OnEmpty(Spliterator.OfDouble source, double value) {
+            super(source,source.estimateSize());
+            this.value = value;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if(!started){
+                started = true;
+                if(source.tryAdvance(action))
+                    return true;
+                empty = true;
+                action.accept(value);
+                return true;
+            }
+            return !empty && source.tryAdvance(action);
+        }
+    }
+
+    private static final class Zip extends Operator {
+        private final Spliterator.OfDouble other;
+        private final DoubleBinaryOperator zipper;
+        private double left;
+
+        Zip(Spliterator.OfDouble source, Spliterator.OfDouble other, DoubleBinaryOperator zipper) {
+            super(source,Math.min(source.estimateSize(),other.estimateSize()));
+            this.other = other;
+            this.zipper = zipper;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if(!source.tryAdvance(this))
+                return false;
+            left = current;
+            if(!other.tryAdvance(this))
+                return false;
+            action.accept(zipper.applyAsDouble(left,current));
+            return true;
+        }
+    }
+
+    private static final class Windows extends Spliterators.AbstractSpliterator<DoubleVector> implements DoubleConsumer {
+        private final Spliterator.OfDouble source;
+        private final int increment;
+        private final double[] window;
+        private int length;
+        private boolean canAdvance = true;
+        private double current;
+
+        Windows(Spliterator.OfDouble source, int windowSize, int increment) {
+            super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
+            this.source = source;
+            this.increment = increment;
+            this.window = new double[Math.max(windowSize,1)];
+        }
+
+        @Override
+        public void accept(double value) {
+            current = value;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super DoubleVector> action) {
+            if(!canAdvance)
+                return false;
+            int drop = Math.min(Math.max(increment,0),length);
+            System.arraycopy(window,drop,window,0,length-drop);
+            length -= drop;
+            boolean data = false;
+            while(length<window.length && canAdvance){
+                canAdvance = source.tryAdvance(this);
+                if(canAdvance){
+                    window[length++] = current;
+                    data = true;
+                }
+            }
+            if(data)
+                action.accept(DoubleVector.of(Arrays.copyOf(window,length)));
+            return data;
+        }
+    }
+}
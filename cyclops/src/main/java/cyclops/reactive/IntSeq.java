@@ -0,0 +1,625 @@
+package cyclops.reactive;
+
+import cyclops.control.Option;
+import cyclops.data.IntVector;
+import org.reactivestreams.Publisher;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lazy, replayable sequence of unboxed int values.
+ *
+ * Each terminal operation pulls from a fresh IntStream, operators never box the values flowing through them -
+ * boxing only occurs when converting to a ReactiveSeq (via {@link #boxed()}, {@link #mapToObj(IntFunction)} or
+ * {@link #toSpouts()}). Windowing operators such as {@link #sliding(int)} and {@link #grouped(int)} emit
+ * {@link IntVector}s.
+ */
+public final class IntSeq implements Iterable<Integer> {
+
+    private static final IntSeq EMPTY = new IntSeq(IntStream::empty);
+
+    private final Supplier<? extends IntStream> stream;
+
+    private IntSeq(Supplier<? extends IntStream> stream) {
+        this.stream = stream;
+    }
+
+    public static IntSeq empty(){
+        return EMPTY;
+    }
+
+    public static IntSeq of(int... values){
+        return new IntSeq(() -> Arrays.stream(values));
+    }
+
+    public static IntSeq range(int start, int end){
+        return new IntSeq(() -> IntStream.range(start,end));
+    }
+
+    public static IntSeq iterate(int seed, IntUnaryOperator fn){
+        return new IntSeq(() -> IntStream.iterate(seed,fn));
+    }
+
+    public static IntSeq iterate(int seed, IntPredicate hasNext, IntUnaryOperator fn){
+        return iterate(seed,fn).takeWhile(hasNext);
+    }
+
+    public static IntSeq generate(IntSupplier s){
+        return new IntSeq(() -> IntStream.generate(s));
+    }
+
+    /**
+     * @param stream One shot IntStream, the returned IntSeq can only be traversed once
+     */
+    public static IntSeq fromIntStream(IntStream stream){
+        return new IntSeq(() -> stream);
+    }
+
+    public static IntSeq deferFromIntStream(Supplier<? extends IntStream> stream){
+        return new IntSeq(stream);
+    }
+
+    public static IntSeq fromIterable(Iterable<Integer> it){
+        if(it instanceof IntSeq)
+            return (IntSeq)it;
+        if(it instanceof IntVector)
+            return new IntSeq(((IntVector)it)::intStream);
+        if(it instanceof ReactiveSeq)
+            return fromReactiveSeq((ReactiveSeq<Integer>)it);
+        return new IntSeq(() -> StreamSupport.stream(it.spliterator(),false).mapToInt(Integer::intValue));
+    }
+
+    /**
+     * If the Spliterator of the ReactiveSeq is a Spliterator.OfInt (for example a ReactiveSeq created by {@link ReactiveSeq#ofInts(int...)}
+     * with no further operators applied) the values are read without boxing, otherwise each Integer is unboxed in turn.
+     */
+    public static IntSeq fromReactiveSeq(ReactiveSeq<Integer> seq){
+        return new IntSeq(() -> {
+            Spliterator<Integer> split = seq.spliterator();
+            if(split instanceof Spliterator.OfInt)
+                return StreamSupport.intStream((Spliterator.OfInt)split,false);
+            return StreamSupport.stream(split,false).mapToInt(Integer::intValue);
+        });
+    }
+
+    public static IntSeq fromPublisher(Publisher<? extends Integer> publisher){
+        return fromReactiveSeq(ReactiveSeq.fromPublisher(publisher));
+    }
+
+    public IntStream intStream(){
+        return stream.get();
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator(){
+        return stream.get().iterator();
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator(){
+        return stream.get().spliterator();
+    }
+
+    public ReactiveSeq<Integer> boxed(){
+        return ReactiveSeq.deferFromStream(() -> stream.get().boxed());
+    }
+
+    /**
+     * @return A push based ReactiveSeq (see {@link Spouts}) over the values in this IntSeq
+     */
+    public ReactiveSeq<Integer> toSpouts(){
+        return Spouts.fromIterable(this);
+    }
+
+    public IntVector toIntVector(){
+        return IntVector.fromStream(stream.get());
+    }
+
+    public int[] toArray(){
+        return stream.get().toArray();
+    }
+
+    public IntSeq map(IntUnaryOperator fn){
+        return new IntSeq(() -> stream.get().map(fn));
+    }
+
+    public LongSeq mapToLong(IntToLongFunction fn){
+        return LongSeq.deferFromLongStream(() -> stream.get().mapToLong(fn));
+    }
+
+    public DoubleSeq mapToDouble(IntToDoubleFunction fn){
+        return DoubleSeq.deferFromDoubleStream(() -> stream.get().mapToDouble(fn));
+    }
+
+    public LongSeq asLongSeq(){
+        return LongSeq.deferFromLongStream(() -> stream.get().asLongStream());
+    }
+
+    public DoubleSeq asDoubleSeq(){
+        return DoubleSeq.deferFromDoubleStream(() -> stream.get().asDoubleStream());
+    }
+
+    public <R> ReactiveSeq<R> mapToObj(IntFunction<? extends R> fn){
+        return ReactiveSeq.deferFromStream(() -> stream.get().mapToObj(fn));
+    }
+
+    public IntSeq flatMap(IntFunction<? extends IntSeq> fn){
+        return new IntSeq(() -> stream.get().flatMap(i -> fn.apply(i).intStream()));
+    }
+
+    public IntSeq filter(IntPredicate pred){
+        return new IntSeq(() -> stream.get().filter(pred));
+    }
+
+    public IntSeq filterNot(IntPredicate pred){
+        return filter(pred.negate());
+    }
+
+    public IntSeq peek(IntConsumer c){
+        return new IntSeq(() -> stream.get().peek(c));
+    }
+
+    public IntSeq distinct(){
+        return new IntSeq(() -> stream.get().distinct());
+    }
+
+    public IntSeq sorted(){
+        return new IntSeq(() -> stream.get().sorted());
+    }
+
+    public IntSeq reverse(){
+        return new IntSeq(() -> {
+            int[] values = stream.get().toArray();
+            int length = values.length;
+            return IntStream.range(0,length).map(i -> values[length-1-i]);
+        });
+    }
+
+    public IntSeq take(long num){
+        return new IntSeq(() -> stream.get().limit(Math.max(num,0)));
+    }
+
+    public IntSeq limit(long num){
+        return take(num);
+    }
+
+    public IntSeq drop(long num){
+        return new IntSeq(() -> stream.get().skip(Math.max(num,0)));
+    }
+
+    public IntSeq skip(long num){
+        return drop(num);
+    }
+
+    public IntSeq slice(long from, long to){
+        long start = Math.max(from,0);
+        return drop(start).take(to-start);
+    }
+
+    public IntSeq takeWhile(IntPredicate pred){
+        return withSpliterator(s -> new TakeWhile(s,pred));
+    }
+
+    public IntSeq takeUntil(IntPredicate pred){
+        return takeWhile(pred.negate());
+    }
+
+    public IntSeq dropWhile(IntPredicate pred){
+        return withSpliterator(s -> new DropWhile(s,pred));
+    }
+
+    public IntSeq dropUntil(IntPredicate pred){
+        return dropWhile(pred.negate());
+    }
+
+    public IntSeq takeRight(int num){
+        return new IntSeq(() -> {
+            int[] ring = new int[Math.max(num,0)];
+            long[] count = {0};
+            if(ring.length>0)
+                stream.get().forEach(i -> ring[(int)(count[0]++ % ring.length)] = i);
+            int length = (int)Math.min(count[0],ring.length);
+            int start = (int)(count[0] % Math.max(ring.length,1));
+            return IntStream.range(0,length).map(i -> ring[(start + i + ring.length - length) % ring.length]);
+        });
+    }
+
+    public IntSeq dropRight(int num){
+        if(num<=0)
+            return this;
+        return withSpliterator(s -> new DropRight(s,num));
+    }
+
+    public IntSeq scanLeft(int seed, IntBinaryOperator fn){
+        return withSpliterator(s -> new ScanLeft(s,seed,fn));
+    }
+
+    public IntSeq intersperse(int value){
+        return withSpliterator(s -> new Intersperse(s,value));
+    }
+
+    public IntSeq zip(IntSeq other, IntBinaryOperator zipper){
+        return new IntSeq(() -> StreamSupport.intStream(new Zip(spliterator(),other.spliterator(),zipper),false));
+    }
+
+    public IntSeq prepend(int... values){
+        return new IntSeq(() -> IntStream.concat(Arrays.stream(values),stream.get()));
+    }
+
+    public IntSeq append(int... values){
+        return new IntSeq(() -> IntStream.concat(stream.get(),Arrays.stream(values)));
+    }
+
+    public IntSeq prependAll(IntSeq other){
+        return new IntSeq(() -> IntStream.concat(other.intStream(),stream.get()));
+    }
+
+    public IntSeq appendAll(IntSeq other){
+        return new IntSeq(() -> IntStream.concat(stream.get(),other.intStream()));
+    }
+
+    public IntSeq cycle(long times){
+        return new IntSeq(() -> Stream.<IntStream>generate(stream::get).limit(Math.max(times,0)).flatMapToInt(s -> s));
+    }
+
+    public IntSeq onEmpty(int value){
+        return withSpliterator(s -> new OnEmpty(s,value));
+    }
+
+    /**
+     * Create a sliding view over this IntSeq, see {@link ReactiveSeq#sliding(int)}
+     */
+    public ReactiveSeq<IntVector> sliding(int windowSize){
+        return sliding(windowSize,1);
+    }
+
+    public ReactiveSeq<IntVector> sliding(int windowSize, int increment){
+        return ReactiveSeq.deferFromStream(() -> StreamSupport.stream(new Windows(spliterator(),windowSize,increment),false));
+    }
+
+    public ReactiveSeq<IntVector> grouped(int groupSize){
+        return sliding(groupSize,groupSize);
+    }
+
+    public int foldLeft(int identity, IntBinaryOperator fn){
+        return stream.get().reduce(identity,fn);
+    }
+
+    public int foldRight(int identity, IntBinaryOperator fn){
+        int[] values = stream.get().toArray();
+        int acc = identity;
+        for(int i=values.length-1;i>=0;i--)
+            acc = fn.applyAsInt(values[i],acc);
+        return acc;
+    }
+
+    public Option<Integer> reduce(IntBinaryOperator fn){
+        return option(stream.get().reduce(fn));
+    }
+
+    public int sum(){
+        return stream.get().sum();
+    }
+
+    public long count(){
+        return stream.get().count();
+    }
+
+    public Option<Integer> min(){
+        return option(stream.get().min());
+    }
+
+    public Option<Integer> max(){
+        return option(stream.get().max());
+    }
+
+    public Option<Double> average(){
+        java.util.OptionalDouble res = stream.get().average();
+        return res.isPresent() ? Option.some(res.getAsDouble()) : Option.none();
+    }
+
+    public Option<Integer> findFirst(){
+        return option(stream.get().findFirst());
+    }
+
+    public int firstValue(int alt){
+        return stream.get().findFirst().orElse(alt);
+    }
+
+    public Option<Integer> elementAt(long index){
+        if(index<0)
+            return Option.none();
+        return option(stream.get().skip(index).findFirst());
+    }
+
+    public boolean anyMatch(IntPredicate pred){
+        return stream.get().anyMatch(pred);
+    }
+
+    public boolean allMatch(IntPredicate pred){
+        return stream.get().allMatch(pred);
+    }
+
+    public boolean noneMatch(IntPredicate pred){
+        return stream.get().noneMatch(pred);
+    }
+
+    public boolean isEmpty(){
+        return !stream.get().iterator().hasNext();
+    }
+
+    public void forEachInt(IntConsumer action){
+        stream.get().forEach(action);
+    }
+
+    public String join(String sep){
+        StringBuilder res = new StringBuilder();
+        PrimitiveIterator.OfInt it = iterator();
+        while(it.hasNext()){
+            res.append(it.nextInt());
+            if(it.hasNext())
+                res.append(sep);
+        }
+        return res.toString();
+    }
+
+    public <R> R to(Function<? super IntSeq, ? extends R> fn){
+        return fn.apply(this);
+    }
+
+    private IntSeq withSpliterator(Function<Spliterator.OfInt, Spliterator.OfInt> fn){
+        return new IntSeq(() -> StreamSupport.intStream(fn.apply(spliterator()),false));
+    }
+
+    private static Option<Integer> option(java.util.OptionalInt opt){
+        return opt.isPresent() ? Option.some(opt.getAsInt()) : Option.none();
+    }
+
+    private static abstract class Operator extends Spliterators.AbstractIntSpliterator implements IntConsumer {
+        final Spliterator.OfInt source;
+        int current;
+
+        Operator(Spliterator.OfInt source, long size) {
+            super(size,source.characteristics() & Spliterator.ORDERED);
+            this.source = source;
+        }
+
+        @Override
+        public void accept(int value) {
+            current = value;
+        }
+    }
+
+    private static final class TakeWhile extends Operator {
+        private final IntPredicate pred;
+        private boolean done;
+
+        TakeWhile(Spliterator.OfInt source, IntPredicate pred) {
+            super(source,source.estimateSize());
+            this.pred = pred;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if(done || !source.tryAdvance(this) || !pred.test(current)){
+                done = true;
+                return false;
+            }
+            action.accept(current);
+            return true;
+        }
+    }
+
+    private static final class DropWhile extends Operator {
+        private final IntPredicate pred;
+        private boolean dropped;
+
+        DropWhile(Spliterator.OfInt source, IntPredicate pred) {
+            super(source,source.estimateSize());
+            this.pred = pred;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if(!dropped){
+                dropped = true;
+                while(source.tryAdvance(this)){
+                    if(!pred.test(current)){
+                        action.accept(current);
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return source.tryAdvance(action);
+        }
+    }
+
+    private static final class DropRight extends Operator {
+        private final int[] ring;
+        private int filled;
+        private int index;
+
+        DropRight(Spliterator.OfInt source, int num) {
+            super(source,Long.MAX_VALUE);
+            this.ring = new int[num];
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            while(filled<ring.length){
+                if(!source.tryAdvance(this))
+                    return false;
+                ring[filled++] = current;
+            }
+            if(!source.tryAdvance(this))
+                return false;
+            int next = ring[index];
+            ring[index] = current;
+            index = (index+1) % ring.length;
+            action.accept(next);
+            return true;
+        }
+    }
+
+    private static final class ScanLeft extends Operator {
+        private final IntBinaryOperator fn;
+        private boolean started;
+        private int acc;
+
+        ScanLeft(Spliterator.OfInt source, int seed, IntBinaryOperator fn) {
+            super(source,source.estimateSize());
+            this.fn = fn;
+            this.acc = seed;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if(!started){
+                started = true;
+                action.accept(acc);
+                return true;
+            }
+            if(!source.tryAdvance(this))
+                return false;
+            acc = fn.applyAsInt(acc,current);
+            action.accept(acc);
+            return true;
+        }
+    }
+
+    private static final class Intersperse extends Operator {
+        private final int value;
+        private boolean started;
+        private boolean pending;
+
+        Intersperse(Spliterator.OfInt source, int value) {
+            super(source,source.estimateSize());
+            this.value = value;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if(pending){
+                pending = false;
+                action.accept(current);
+                return true;
+            }
+            if(!source.tryAdvance(this))
+                return false;
+            if(!started){
+                started = true;
+                action.accept(current);
+                return true;
+            }
+            pending = true;
+            action.accept(value);
+            return true;
+        }
+    }
+
+    private static final class OnEmpty extends Operator {
+        private final int value;
+        private boolean started;
+        private boolean empty;
+
+        OnEmpty(Spliterator.OfInt source, int value) {
+            super(source,source.estimateSize());
+            this.value = value;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if(!started){
+                started = true;
+                if(source.tryAdvance(action))
+                    return true;
+                empty = true;
+                action.accept(value);
+                return true;
+            }
+            return !empty && source.tryAdvance(action);
+        }
+    }
+
+    private static final class Zip extends Operator {
+        private final Spliterator.OfInt other;
+        private final IntBinaryOperator zipper;
+        private int left;
+
+        Zip(Spliterator.OfInt source, Spliterator.OfInt other, IntBinaryOperator zipper) {
+            super(source,Math.min(source.estimateSize(),other.estimateSize()));
+            this.other = other;
+            this.zipper = zipper;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if(!source.tryAdvance(this))
+                return false;
+            left = current;
+            if(!other.tryAdvance(this))
+                return false;
+            action.accept(zipper.applyAsInt(left,current));
+            return true;
+        }
+    }
+
+    private static final class Windows extends Spliterators.AbstractSpliterator<IntVector> implements IntConsumer {
+        private final Spliterator.OfInt source;
+        private final int increment;
+        private final int[] window;
+        private int length;
+        private boolean canAdvance = true;
+        private int current;
+
+        Windows(Spliterator.OfInt source, int windowSize, int increment) {
+            super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
+            this.source = source;
+            this.increment = increment;
+            this.window = new int[Math.max(windowSize,1)];
+        }
+
+        @Override
+        public void accept(int value) {
+            current = value;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super IntVector> action) {
+            if(!canAdvance)
+                return false;
+            int drop = Math.min(Math.max(increment,0),length);
+            System.arraycopy(window,drop,window,0,length-drop);
+            length -= drop;
+            boolean data = false;
+            while(length<window.length && canAdvance){
+                canAdvance = source.tryAdvance(this);
+                if(canAdvance){
+                    window[length++] = current;
+                    data = true;
+                }
+            }
+            if(data)
+                action.accept(IntVector.of(Arrays.copyOf(window,length)));
+            return data;
+        }
+    }
+}
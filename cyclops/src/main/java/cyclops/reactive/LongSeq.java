@@ -0,0 +1,622 @@
+package cyclops.reactive;
+
+import cyclops.control.Option;
+import cyclops.data.LongVector;
+import org.reactivestreams.Publisher;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A lazy, replayable sequence of unboxed long values.
+ *
+ * Each terminal operation pulls from a fresh LongStream, operators never box the values flowing through them -
+ * boxing only occurs when converting to a ReactiveSeq (via {@link #boxed()}, {@link #mapToObj(LongFunction)} or
+ * {@link #toSpouts()}). Windowing operators such as {@link #sliding(int)} and {@link #grouped(int)} emit
+ * {@link LongVector}s.
+ */
+public final class LongSeq implements Iterable<Long> {
+
+    private static final LongSeq EMPTY = new LongSeq(LongStream::empty);
+
+    private final Supplier<? extends LongStream> stream;
+
+    private LongSeq(Supplier<? extends LongStream> stream) {
+        this.stream = stream;
+    }
+
+    public static LongSeq empty(){
+        return EMPTY;
+    }
+
+    public static LongSeq of(long... values){
+        return new LongSeq(() -> Arrays.stream(values));
+    }
+
+    public static LongSeq range(long start, long end){
+        return new LongSeq(() -> LongStream.range(start,end));
+    }
+
+    public static LongSeq iterate(long seed, LongUnaryOperator fn){
+        return new LongSeq(() -> LongStream.iterate(seed,fn));
+    }
+
+    public static LongSeq iterate(long seed, LongPredicate hasNext, LongUnaryOperator fn){
+        return iterate(seed,fn).takeWhile(hasNext);
+    }
+
+    public static LongSeq generate(LongSupplier s){
+        return new LongSeq(() -> LongStream.generate(s));
+    }
+
+    /**
+     * @param stream One shot LongStream, the returned LongSeq can only be traversed once
+     */
+    public static LongSeq fromLongStream(LongStream stream){
+        return new LongSeq(() -> stream);
+    }
+
+    public static LongSeq deferFromLongStream(Supplier<? extends LongStream> stream){
+        return new LongSeq(stream);
+    }
+
+    public static LongSeq fromIterable(Iterable<Long> it){
+        if(it instanceof LongSeq)
+            return (LongSeq)it;
+        if(it instanceof LongVector)
+            return new LongSeq(((LongVector)it)::longStream);
+        if(it instanceof ReactiveSeq)
+            return fromReactiveSeq((ReactiveSeq<Long>)it);
+        return new LongSeq(() -> StreamSupport.stream(it.spliterator(),false).mapToLong(Long::longValue));
+    }
+
+    /**
+     * If the Spliterator of the ReactiveSeq is a Spliterator.OfLong (for example a ReactiveSeq created by {@link ReactiveSeq#ofLongs(long...)}
+     * with no further operators applied) the values are read without boxing, otherwise each Long is unboxed in turn.
+     */
+    public static LongSeq fromReactiveSeq(ReactiveSeq<Long> seq){
+        return new LongSeq(() -> {
+            Spliterator<Long> split = seq.spliterator();
+            if(split instanceof Spliterator.OfLong)
+                return StreamSupport.longStream((Spliterator.OfLong)split,false);
+            return StreamSupport.stream(split,false).mapToLong(Long::longValue);
+        });
+    }
+
+    public static LongSeq fromPublisher(Publisher<? extends Long> publisher){
+        return fromReactiveSeq(ReactiveSeq.fromPublisher(publisher));
+    }
+
+    public LongStream longStream(){
+        return stream.get();
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator(){
+        return stream.get().iterator();
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator(){
+        return stream.get().spliterator();
+    }
+
+    public ReactiveSeq<Long> boxed(){
+        return ReactiveSeq.deferFromStream(() -> stream.get().boxed());
+    }
+
+    /**
+     * @return A push based ReactiveSeq (see {@link Spouts}) over the values in this LongSeq
+     */
+    public ReactiveSeq<Long> toSpouts(){
+        return Spouts.fromIterable(this);
+    }
+
+    public LongVector toLongVector(){
+        return LongVector.fromStream(stream.get());
+    }
+
+    public long[] toArray(){
+        return stream.get().toArray();
+    }
+
+    public LongSeq map(LongUnaryOperator fn){
+        return new LongSeq(() -> stream.get().map(fn));
+    }
+
+    public IntSeq mapToInt(LongToIntFunction fn){
+        return IntSeq.deferFromIntStream(() -> stream.get().mapToInt(fn));
+    }
+
+    public DoubleSeq mapToDouble(LongToDoubleFunction fn){
+        return DoubleSeq.deferFromDoubleStream(() -> stream.get().mapToDouble(fn));
+    }
+
+    public DoubleSeq asDoubleSeq(){
+        return DoubleSeq.deferFromDoubleStream(() -> stream.get().asDoubleStream());
+    }
+
+    public <R> ReactiveSeq<R> mapToObj(LongFunction<? extends R> fn){
+        return ReactiveSeq.deferFromStream(() -> stream.get().mapToObj(fn));
+    }
+
+    public LongSeq flatMap(LongFunction<? extends LongSeq> fn){
+        return new LongSeq(() -> stream.get().flatMap(i -> fn.apply(i).longStream()));
+    }
+
+    public LongSeq filter(LongPredicate pred){
+        return new LongSeq(() -> stream.get().filter(pred));
+    }
+
+    public LongSeq filterNot(LongPredicate pred){
+        return filter(pred.negate());
+    }
+
+    public LongSeq peek(LongConsumer c){
+        return new LongSeq(() -> stream.get().peek(c));
+    }
+
+    public LongSeq distinct(){
+        return new LongSeq(() -> stream.get().distinct());
+    }
+
+    public LongSeq sorted(){
+        return new LongSeq(() -> stream.get().sorted());
+    }
+
+    public LongSeq reverse(){
+        return new LongSeq(() -> {
+            long[] values = stream.get().toArray();
+            int length = values.length;
+            return IntStream.range(0,length).mapToLong(i -> values[length-1-i]);
+        });
+    }
+
+    public LongSeq take(long num){
+        return new LongSeq(() -> stream.get().limit(Math.max(num,0)));
+    }
+
+    public LongSeq limit(long num){
+        return take(num);
+    }
+
+    public LongSeq drop(long num){
+        return new LongSeq(() -> stream.get().skip(Math.max(num,0)));
+    }
+
+    public LongSeq skip(long num){
+        return drop(num);
+    }
+
+    public LongSeq slice(long from, long to){
+        long start = Math.max(from,0);
+        return drop(start).take(to-start);
+    }
+
+    public LongSeq takeWhile(LongPredicate pred){
+        return withSpliterator(s -> new TakeWhile(s,pred));
+    }
+
+    public LongSeq takeUntil(LongPredicate pred){
+        return takeWhile(pred.negate());
+    }
+
+    public LongSeq dropWhile(LongPredicate pred){
+        return withSpliterator(s -> new DropWhile(s,pred));
+    }
+
+    public LongSeq dropUntil(LongPredicate pred){
+        return dropWhile(pred.negate());
+    }
+
+    public LongSeq takeRight(int num){
+        return new LongSeq(() -> {
+            long[] ring = new long[Math.max(num,0)];
+            long[] count = {0};
+            if(ring.length>0)
+                stream.get().forEach(i -> ring[(int)(count[0]++ % ring.length)] = i);
+            int length = (int)Math.min(count[0],ring.length);
+            int start = (int)(count[0] % Math.max(ring.length,1));
+            return IntStream.range(0,length).mapToLong(i -> ring[(start + i + ring.length - length) % ring.length]);
+        });
+    }
+
+    public LongSeq dropRight(int num){
+        if(num<=0)
+            return this;
+        return withSpliterator(s -> new DropRight(s,num));
+    }
+
+    public LongSeq scanLeft(long seed, LongBinaryOperator fn){
+        return withSpliterator(s -> new ScanLeft(s,seed,fn));
+    }
+
+    public LongSeq intersperse(long value){
+        return withSpliterator(s -> new Intersperse(s,value));
+    }
+
+    public LongSeq zip(LongSeq other, LongBinaryOperator zipper){
+        return new LongSeq(() -> StreamSupport.longStream(new Zip(spliterator(),other.spliterator(),zipper),false));
+    }
+
+    public LongSeq prepend(long... values){
+        return new LongSeq(() -> LongStream.concat(Arrays.stream(values),stream.get()));
+    }
+
+    public LongSeq append(long... values){
+        return new LongSeq(() -> LongStream.concat(stream.get(),Arrays.stream(values)));
+    }
+
+    public LongSeq prependAll(LongSeq other){
+        return new LongSeq(() -> LongStream.concat(other.longStream(),stream.get()));
+    }
+
+    public LongSeq appendAll(LongSeq other){
+        return new LongSeq(() -> LongStream.concat(stream.get(),other.longStream()));
+    }
+
+    public LongSeq cycle(long times){
+        return new LongSeq(() -> Stream.<LongStream>generate(stream::get).limit(Math.max(times,0)).flatMapToLong(s -> s));
+    }
+
+    public LongSeq onEmpty(long value){
+        return withSpliterator(s -> new OnEmpty(s,value));
+    }
+
+    /**
+     * Create a sliding view over this LongSeq, see {@link ReactiveSeq#sliding(int)}
+     */
+    public ReactiveSeq<LongVector> sliding(int windowSize){
+        return sliding(windowSize,1);
+    }
+
+    public ReactiveSeq<LongVector> sliding(int windowSize, int increment){
+        return ReactiveSeq.deferFromStream(() -> StreamSupport.stream(new Windows(spliterator(),windowSize,increment),false));
+    }
+
+    public ReactiveSeq<LongVector> grouped(int groupSize){
+        return sliding(groupSize,groupSize);
+    }
+
+    public long foldLeft(long identity, LongBinaryOperator fn){
+        return stream.get().reduce(identity,fn);
+    }
+
+    public long foldRight(long identity, LongBinaryOperator fn){
+        long[] values = stream.get().toArray();
+        long acc = identity;
+        for(int i=values.length-1;i>=0;i--)
+            acc = fn.applyAsLong(values[i],acc);
+        return acc;
+    }
+
+    public Option<Long> reduce(LongBinaryOperator fn){
+        return option(stream.get().reduce(fn));
+    }
+
+    public long sum(){
+        return stream.get().sum();
+    }
+
+    public long count(){
+        return stream.get().count();
+    }
+
+    public Option<Long> min(){
+        return option(stream.get().min());
+    }
+
+    public Option<Long> max(){
+        return option(stream.get().max());
+    }
+
+    public Option<Double> average(){
+        java.util.OptionalDouble res = stream.get().average();
+        return res.isPresent() ? Option.some(res.getAsDouble()) : Option.none();
+    }
+
+    public Option<Long> findFirst(){
+        return option(stream.get().findFirst());
+    }
+
+    public long firstValue(long alt){
+        return stream.get().findFirst().orElse(alt);
+    }
+
+    public Option<Long> elementAt(long index){
+        if(index<0)
+            return Option.none();
+        return option(stream.get().skip(index).findFirst());
+    }
+
+    public boolean anyMatch(LongPredicate pred){
+        return stream.get().anyMatch(pred);
+    }
+
+    public boolean allMatch(LongPredicate pred){
+        return stream.get().allMatch(pred);
+    }
+
+    public boolean noneMatch(LongPredicate pred){
+        return stream.get().noneMatch(pred);
+    }
+
+    public boolean isEmpty(){
+        return !stream.get().iterator().hasNext();
+    }
+
+    public void forEachLong(LongConsumer action){
+        stream.get().forEach(action);
+    }
+
+    public String join(String sep){
+        StringBuilder res = new StringBuilder();
+        PrimitiveIterator.OfLong it = iterator();
+        while(it.hasNext()){
+            res.append(it.nextLong());
+            if(it.hasNext())
+                res.append(sep);
+        }
+        return res.toString();
+    }
+
+    public <R> R to(Function<? super LongSeq, ? extends R> fn){
+        return fn.apply(this);
+    }
+
+    private LongSeq withSpliterator(Function<Spliterator.OfLong, Spliterator.OfLong> fn){
+        return new LongSeq(() -> StreamSupport.longStream(fn.apply(spliterator()),false));
+    }
+
+    private static Option<Long> option(java.util.OptionalLong opt){
+        return opt.isPresent() ? Option.some(opt.getAsLong()) : Option.none();
+    }
+
+    private static abstract class Operator extends Spliterators.AbstractLongSpliterator implements LongConsumer {
+        final Spliterator.OfLong source;
+        long current;
+
+        Operator(Spliterator.OfLong source, long size) {
+            super(size,source.characteristics() & Spliterator.ORDERED);
+            this.source = source;
+        }
+
+        @Override
+        public void accept(long value) {
+            current = value;
+        }
+    }
+
+    private static final class TakeWhile extends Operator {
+        private final LongPredicate pred;
+        private boolean done;
+
+        TakeWhile(Spliterator.OfLong source, LongPredicate pred) {
+            super(source,source.estimateSize());
+            this.pred = pred;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if(done || !source.tryAdvance(this) || !pred.test(current)){
+                done = true;
+                return false;
+            }
+            action.accept(current);
+            return true;
+        }
+    }
+
+    private static final class DropWhile extends Operator {
+        private final LongPredicate pred;
+        private boolean dropped;
+
+        DropWhile(Spliterator.OfLong source, LongPredicate pred) {
+            super(source,source.estimateSize());
+            this.pred = pred;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if(!dropped){
+                dropped = true;
+                while(source.tryAdvance(this)){
+                    if(!pred.test(current)){
+                        action.accept(current);
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return source.tryAdvance(action);
+        }
+    }
+
+    private static final class DropRight extends Operator {
+        private final long[] ring;
+        private int filled;
+        private int index;
+
+        DropRight(Spliterator.OfLong source, int num) {
+            super(source,Long.MAX_VALUE);
+            this.ring = new long[num];
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            while(filled<ring.length){
+                if(!source.tryAdvance(this))
+                    return false;
+                ring[filled++] = current;
+            }
+            if(!source.tryAdvance(this))
+                return false;
+            long next = ring[index];
+            ring[index] = current;
+            index = (index+1) % ring.length;
+            action.accept(next);
+            return true;
+        }
+    }
+
+    private static final class ScanLeft extends Operator {
+        private final LongBinaryOperator fn;
+        private boolean started;
+        private long acc;
+
+        ScanLeft(Spliterator.OfLong source, long seed, LongBinaryOperator fn) {
+            super(source,source.estimateSize());
+            this.fn = fn;
+            this.acc = seed;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if(!started){
+                started = true;
+                action.accept(acc);
+                return true;
+            }
+            if(!source.tryAdvance(this))
+                return false;
+            acc = fn.applyAsLong(acc,current);
+            action.accept(acc);
+            return true;
+        }
+    }
+
+    private static final class Intersperse extends Operator {
+        private final long value;
+        private boolean started;
+        private boolean pending;
+
+        Intersperse(Spliterator.OfLong source, long value) {
+            super(source,source.estimateSize());
+            this.value = value;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if(pending){
+                pending = false;
+                action.accept(current);
+                return true;
+            }
+            if(!source.tryAdvance(this))
+                return false;
+            if(!started){
+                started = true;
+                action.accept(current);
+                return true;
+            }
+            pending = true;
+            action.accept(value);
+            return true;
+        }
+    }
+
+    private static final class OnEmpty extends Operator {
+        private final long value;
+        private boolean started;
+        private boolean empty;
+
+        OnEmpty(Spliterator.OfLong source, long value) {
+            super(source,source.estimateSize());
+            this.value = value;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if(!started){
+                started = true;
+                if(source.tryAdvance(action))
+                    return true;
+                empty = true;
+                action.accept(value);
+                return true;
+            }
+            return !empty && source.tryAdvance(action);
+        }
+    }
+
+    private static final class Zip extends Operator {
+        private final Spliterator.OfLong other;
+        private final LongBinaryOperator zipper;
+        private long left;
+
+        Zip(Spliterator.OfLong source, Spliterator.OfLong other, LongBinaryOperator zipper) {
+            super(source,Math.min(source.estimateSize(),other.estimateSize()));
+            this.other = other;
+            this.zipper = zipper;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if(!source.tryAdvance(this))
+                return false;
+            left = current;
+            if(!other.tryAdvance(this))
+                return false;
+            action.accept(zipper.applyAsLong(left,current));
+            return true;
+        }
+    }
+
+    private static final class Windows extends Spliterators.AbstractSpliterator<LongVector> implements LongConsumer {
+        private final Spliterator.OfLong source;
+        private final int increment;
+        private final long[] window;
+        private int length;
+        private boolean canAdvance = true;
+        private long current;
+
+        Windows(Spliterator.OfLong source, int windowSize, int increment) {
+            super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
+            this.source = source;
+            this.increment = increment;
+            this.window = new long[Math.max(windowSize,1)];
+        }
+
+        @Override
+        public void accept(long value) {
+            current = value;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super LongVector> action) {
+            if(!canAdvance)
+                return false;
+            int drop = Math.min(Math.max(increment,0),length);
+            System.arraycopy(window,drop,window,0,length-drop);
+            length -= drop;
+            boolean data = false;
+            while(length<window.length && canAdvance){
+                canAdvance = source.tryAdvance(this);
+                if(canAdvance){
+                    window[length++] = current;
+                    data = true;
+                }
+            }
+            if(data)
+                action.accept(LongVector.of(Arrays.copyOf(window,length)));
+            return data;
+        }
+    }
+}
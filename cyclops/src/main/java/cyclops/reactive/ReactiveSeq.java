@@ -15,6 +15,9 @@ import cyclops.control.*;
 import cyclops.data.Enumeration;
 
 import com.oath.cyclops.internal.stream.OneShotStreamX;
+import com.oath.cyclops.internal.stream.ExternalSort;
+import com.oath.cyclops.internal.stream.Groupings;
+import com.oath.cyclops.internal.stream.Joins;
 import com.oath.cyclops.internal.stream.spliterators.doubles.ReversingDoubleArraySpliterator;
 import com.oath.cyclops.internal.stream.spliterators.ints.ReversingIntArraySpliterator;
 import com.oath.cyclops.internal.stream.spliterators.ints.ReversingRangeIntSpliterator;
@@ -28,6 +31,7 @@ import com.oath.cyclops.types.reactive.QueueBasedSubscriber;
 import com.oath.cyclops.types.reactive.QueueBasedSubscriber.Counter;
 import com.oath.cyclops.types.traversable.IterableX;
 import com.oath.cyclops.util.ExceptionSoftener;
+import com.oath.cyclops.util.HyperLogLog;
 import cyclops.companion.Streams;
 import com.oath.cyclops.async.*;
 import com.oath.cyclops.async.adapters.*;
@@ -55,6 +59,7 @@ import org.reactivestreams.Subscriber;
 import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
@@ -833,6 +838,31 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
 
     }
 
+    /**
+     * Convert to an unboxed IntSeq, subsequent operators on the IntSeq operate on primitive ints
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of("a","bb","ccc")
+     *             .mapToIntSeq(String::length)
+     *             .scanLeft(0,(a,b)->a+b)
+     *             .toArray();
+     *  //[0,1,3,6]
+     * }
+     * </pre>
+     */
+    default IntSeq mapToIntSeq(ToIntFunction<? super T> fn){
+        return IntSeq.deferFromIntStream(() -> StreamSupport.stream(this.spliterator(),false).mapToInt(fn));
+    }
+
+    default LongSeq mapToLongSeq(ToLongFunction<? super T> fn){
+        return LongSeq.deferFromLongStream(() -> StreamSupport.stream(this.spliterator(),false).mapToLong(fn));
+    }
+
+    default DoubleSeq mapToDoubleSeq(ToDoubleFunction<? super T> fn){
+        return DoubleSeq.deferFromDoubleStream(() -> StreamSupport.stream(this.spliterator(),false).mapToDouble(fn));
+    }
+
 
 
     /**
@@ -873,113 +903,90 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     public <T> ReactiveSeq<T> unit(T unit);
 
+    /**
+     * Apply the supplied function to a parallel Stream over the elements of this ReactiveSeq, on the common ForkJoinPool.
+     * The results are pushed onto a Queue as the parallel Stream produces them (in encounter order) and are read back
+     * sequentially from the returned ReactiveSeq.
+     *
+     * @see #foldParallel(Function) for details on how the elements are split between threads
+     * @param fn Function to apply to a parallel Stream
+     * @return ReactiveSeq of the results
+     */
     default <R> ReactiveSeq<R> parallel(Function<? super Stream<T>,? extends Stream<? extends R>> fn){
-        Queue<R> queue = QueueFactories.<R>unboundedNonBlockingQueue()
-                                                                  .build();
-
-        ReactiveSeq<Iterator<? extends R>> stream = ReactiveSeq.<Stream<? extends R>>generate(() -> foldParallel(fn))
-                                                                    .take(1)
-                                                                    .map(s->s.iterator());
-        Iterator[] it = {null};
-        Continuation[] store = {null};
-        Continuation cont =
-                new Continuation(()->{
-                    if(it[0]==null)
-                        it[0] = stream.asFunction().apply(0l);
-                    Iterator<R> local = it[0];
-                    try {
-                        if (!local.hasNext()) {
-                            queue.close();
-                            return Continuation.empty();
-                        } else {
-                            queue.offer(local.next());
-                        }
-                    }catch(Throwable t){
-                        queue.close();
-                        throw ExceptionSoftener.throwSoftenedException(t);
-                    }
-                    return store[0];
-
-
-                });
-        ;
-        store[0]=cont;
-        queue.addContinuation(cont);
-        return queue.stream();
-
-
+        return parallel(true,fn);
     }
-    default <R> ReactiveSeq<R> parallel(ForkJoinPool fj,Function<? super Stream<T>,? extends Stream<? extends R>> fn){
-        Queue<R> queue = QueueFactories.<R>unboundedNonBlockingQueue()
-                .build();
-
-        ReactiveSeq<? extends Iterator<? extends R>> stream = ReactiveSeq.<Stream<? extends R>>generate(() -> foldParallel(fj,fn))
-                .take(1)
-                .map(s->s.iterator());
-        Iterator[] it = {null};
-        Continuation[] store = {null};
-        Continuation cont =
-                new Continuation(()->{
-                    if(it[0]==null)
-                        it[0] = stream.asFunction().apply(0l);
-                    Iterator<R> local = it[0];
-                    try {
-                        if (!local.hasNext()) {
-                            queue.close();
-
-                            return Continuation.empty();
-                        } else {
-
-                            queue.offer(local.next());
-                        }
-                    }catch(Throwable t){
-                        queue.close();
-                        throw ExceptionSoftener.throwSoftenedException(t);
-                    }
-                    return store[0];
-
-
-                });
-        ;
-        store[0]=cont;
-        queue.addContinuation(cont);
-        return queue.stream();
-
 
+    /**
+     * @param ordered false if the order of the elements may be ignored, in which case the results may be
+     *                emitted in any order
+     * @param fn Function to apply to a parallel Stream
+     * @return ReactiveSeq of the results
+     */
+    default <R> ReactiveSeq<R> parallel(boolean ordered, Function<? super Stream<T>,? extends Stream<? extends R>> fn){
+        return parallel(ForkJoinPool.commonPool(),ordered,fn);
     }
-    default <R> R foldParallel(Function<? super Stream<T>,? extends R> fn){
-
-
-        Queue<T> queue = QueueFactories.<T>unboundedNonBlockingQueue().build().withTimeout(1);
-
-
-        AtomicReference<Continuation> ref = new AtomicReference<>(null);
-        Continuation cont =
-                new Continuation(()->{
-
-                    if(ref.get()==null && ref.compareAndSet(null,Continuation.empty())){
-                        try {
-                            //use the first consuming thread to tell this Stream onto the Queue
-                            this.spliterator().forEachRemaining(queue::offer);
-                        }finally {
-                            queue.close();
-                        }
-
-                    }
 
-
-                        return Continuation.empty();
+    default <R> ReactiveSeq<R> parallel(ForkJoinPool fj,Function<? super Stream<T>,? extends Stream<? extends R>> fn){
+        return parallel(fj,true,fn);
+    }
+
+    default <R> ReactiveSeq<R> parallel(ForkJoinPool fj,boolean ordered, Function<? super Stream<T>,? extends Stream<? extends R>> fn){
+        return ReactiveSeq.defer(() -> {
+            Queue<R> queue = QueueFactories.<R>unboundedNonBlockingQueue()
+                                           .build();
+            //connect before the fold starts, so that closing the queue reaches this Stream
+            ReactiveSeq<R> results = queue.stream();
+            fj.execute(() -> {
+                try {
+                    foldParallel(ordered, s -> {
+                        Stream<? extends R> out = fn.apply(s);
+                        if (ordered)
+                            out.forEachOrdered(queue::offer);
+                        else
+                            out.forEach(queue::offer);
+                        return null;
                     });
-        ;
+                } catch (Throwable t) {
+                    queue.addError(t);
+                } finally {
+                    queue.close();
+                }
+            });
+            return results;
+        });
+    }
 
-        queue.addContinuation(cont);
-        return fn.apply(queue.jdkStream().parallel());
+    /**
+     * Apply the supplied function to a parallel Stream over the elements of this ReactiveSeq.
+     *
+     * Sized sources (arrays, ranges, Vectors and other Iterables with a SUBSIZED Spliterator) are split
+     * recursively in halves, with map and filter stages applied independently on each half. Other sources
+     * and stages are batch split.
+     *
+     * @param fn Function to apply to a parallel Stream
+     * @return Result of the function
+     */
+    default <R> R foldParallel(Function<? super Stream<T>,? extends R> fn){
+        return foldParallel(true,fn);
+    }
 
+    /**
+     * @param ordered false if the order of the elements may be ignored, which can allow the parallel Stream to
+     *                skip buffering
+     * @param fn Function to apply to a parallel Stream
+     * @return Result of the function
+     */
+    default <R> R foldParallel(boolean ordered, Function<? super Stream<T>,? extends R> fn){
+        Stream<T> stream = StreamSupport.stream(SplittingSpliterators.splittable(this.spliterator()),true);
+        return fn.apply(ordered ? stream : stream.unordered());
     }
-    default <R> R foldParallel(ForkJoinPool fj,Function<? super Stream<T>,? extends R> fn){
 
-        return fj.submit(() -> foldParallel(fn)).join();
+    default <R> R foldParallel(ForkJoinPool fj,Function<? super Stream<T>,? extends R> fn){
+        return foldParallel(fj,true,fn);
+    }
 
+    default <R> R foldParallel(ForkJoinPool fj,boolean ordered, Function<? super Stream<T>,? extends R> fn){
+        return fj.submit(() -> foldParallel(ordered,fn)).join();
     }
 
 
@@ -1684,11 +1691,78 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      */
     @Override
     default <K> HashMap<K, Vector<T>> groupBy(final Function<? super T, ? extends K> classifier) {
-        return this.foldLeft(HashMap.<K, Vector<T>>empty(), (a, b) -> {
-            K k = classifier.apply(b);
-            Vector<T> s = a.getOrElse(k, Vector.empty());
-            return a.put(k, s.plus(b));
-        });
+        return collect(Groupings.groupBy(classifier));
+    }
+
+    /**
+     * Group elements into a Map in parallel, each split is grouped independently and the partial Maps merged
+     * (the elements of each group remain in encounter order).
+     *
+     * <pre>
+     * {@code
+     *  HashMap<Integer, Vector<Integer>> map1 = ReactiveSeq.range(0,1_000_000).groupByParallel(i -> i % 2);
+     * }
+     * </pre>
+     *
+     * @see #foldParallel(Function) for details on how the elements are split between threads
+     * @param classifier Function to determine the group of each element
+     * @return Map of groups
+     */
+    default <K> HashMap<K, Vector<T>> groupByParallel(final Function<? super T, ? extends K> classifier) {
+        return foldParallel(s -> s.collect(Groupings.groupBy(classifier)));
+    }
+
+    default <K> HashMap<K, Vector<T>> groupByParallel(ForkJoinPool fj, final Function<? super T, ? extends K> classifier) {
+        return foldParallel(fj,s -> s.collect(Groupings.groupBy(classifier)));
+    }
+
+    /**
+     * Reduce the elements of each group with the supplied Monoid, without materializing the groups
+     *
+     * <pre>
+     * {@code
+     *  HashMap<Integer, Integer> sums = ReactiveSeq.of(1, 2, 3, 4).groupByReduce(i -> i % 2, Monoids.intSum);
+     *  //HashMap[{0=6},{1=4}]
+     * }
+     * </pre>
+     *
+     * @param classifier Function to determine the group of each element
+     * @param monoid Monoid to reduce the elements of each group
+     * @return Map of reduced groups
+     */
+    default <K> HashMap<K, T> groupByReduce(final Function<? super T, ? extends K> classifier, final Monoid<T> monoid) {
+        return groupByReduce(classifier, Function.identity(), monoid);
+    }
+
+    /**
+     * Map and then reduce the elements of each group with the supplied Monoid, without materializing the groups
+     *
+     * <pre>
+     * {@code
+     *  HashMap<Integer, Integer> counts = ReactiveSeq.of(1, 2, 3, 4, 5).groupByReduce(i -> i % 2, i -> 1, Monoids.intSum);
+     *  //HashMap[{0=2},{1=3}]
+     * }
+     * </pre>
+     *
+     * @param classifier Function to determine the group of each element
+     * @param mapper Function to transform each element before reduction
+     * @param monoid Monoid to reduce the transformed elements of each group
+     * @return Map of reduced groups
+     */
+    default <K, R> HashMap<K, R> groupByReduce(final Function<? super T, ? extends K> classifier,
+                                               final Function<? super T, ? extends R> mapper, final Monoid<R> monoid) {
+        return collect(Groupings.groupByReduce(classifier, mapper, monoid));
+    }
+
+    /**
+     * Parallel version of {@link #groupByReduce(Function, Function, Monoid)}, each split is reduced independently
+     * and the partial results combined (in encounter order) with the Monoid
+     *
+     * @see #foldParallel(Function) for details on how the elements are split between threads
+     */
+    default <K, R> HashMap<K, R> groupByReduceParallel(final Function<? super T, ? extends K> classifier,
+                                                       final Function<? super T, ? extends R> mapper, final Monoid<R> monoid) {
+        return foldParallel(s -> s.collect(Groupings.groupByReduce(classifier, mapper, monoid)));
     }
 
     /*
@@ -1700,6 +1774,80 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     ReactiveSeq<T> distinct();
 
+    /**
+     * Remove duplicates, remembering at most maxSize of the most recently seen elements (so memory remains bounded
+     * for infinite Streams). A duplicate of an element that has been evicted will be emitted again.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1,2,1,3,4,1)
+     *             .distinctWindowed(2);
+     *  //ReactiveSeq[1,2,3,4,1]
+     * }
+     * </pre>
+     *
+     * @param maxSize Maximum number of elements to remember
+     * @return Stream with recent duplicates removed
+     */
+    default ReactiveSeq<T> distinctWindowed(int maxSize){
+        return distinctWindowed(maxSize,Long.MAX_VALUE,TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Remove duplicates, elements are forgotten when they have not been seen for the specified time or when they are
+     * the least recently seen of more than maxSize remembered elements
+     *
+     * @param maxSize Maximum number of elements to remember
+     * @param ttl Time since an element was last seen, after which it is forgotten
+     * @param unit Time unit for ttl
+     * @return Stream with recent duplicates removed
+     */
+    ReactiveSeq<T> distinctWindowed(int maxSize, long ttl, TimeUnit unit);
+
+    /**
+     * Remove duplicates using a Bloom filter, memory use is fixed (determined by expectedInsertions and falsePositiveRate).
+     * All duplicates are removed, but approximately falsePositiveRate of distinct elements are also dropped.
+     * Filters are rotated every expectedInsertions distinct elements so the false positive rate remains bounded on
+     * infinite Streams, and duplicates of elements seen more than between expectedInsertions and 2 * expectedInsertions
+     * distinct elements ago may be emitted again.
+     *
+     * <pre>
+     * {@code
+     *  events.distinctApprox(10_000_000,0.0001);
+     * }
+     * </pre>
+     *
+     * @param expectedInsertions Number of distinct elements each filter is sized for
+     * @param falsePositiveRate Target rate of distinct elements that are incorrectly dropped
+     * @return Stream with duplicates removed
+     */
+    ReactiveSeq<T> distinctApprox(long expectedInsertions, double falsePositiveRate);
+
+    /**
+     * Estimate the number of distinct elements in this Stream using HyperLogLog, in fixed memory (16KB) with
+     * a standard error of approximately 0.8%
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.range(0,1_000_000)
+     *             .countDistinctApprox();
+     *  //~1000000
+     * }
+     * </pre>
+     * @return Estimated number of distinct elements
+     */
+    default long countDistinctApprox(){
+        return countDistinctApprox(HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    /**
+     * @param precision Between 4 and 18, the estimator uses 2^precision bytes with a standard error of approximately 1.04 / sqrt(2^precision)
+     * @return Estimated number of distinct elements
+     */
+    default long countDistinctApprox(int precision){
+        return collect(Collector.of(()->new HyperLogLog(precision),HyperLogLog::add,HyperLogLog::merge)).estimate();
+    }
+
     /**
      * Scan left using supplied Monoid
      *
@@ -1813,6 +1961,61 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
 
     }
 
+    /**
+     * Sort this Stream using an external merge sort, suitable for Streams larger than the available heap.
+     * Data is sorted in memory in runs of at most runSize elements, full runs are spilled to temporary files
+     * (using Java serialization) and lazily merged back together. The sort is stable. Run files are deleted once merged,
+     * closing the sorted Stream (or a Stream derived from it) releases those of a traversal abandoned part way through.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq.of(4,3,6,7)
+     *              .sorted(Comparator.naturalOrder(),2);
+     *   //ReactiveSeq[3,4,6,7]
+     * }
+     * </pre>
+     *
+     * @param c Comparator to sort with
+     * @param runSize Maximum number of elements held in memory for sorting
+     * @return Sorted Stream
+     */
+    default ReactiveSeq<T> sorted(Comparator<? super T> c, int runSize){
+        return sorted(c,runSize,RecordSerializer.javaSerialization());
+    }
+
+    /**
+     * Sort this Stream using an external merge sort, spilling runs of runSize elements to temporary files
+     * with the supplied RecordSerializer
+     *
+     * @see #sorted(Comparator, int)
+     */
+    default ReactiveSeq<T> sorted(Comparator<? super T> c, int runSize, RecordSerializer<T> serializer){
+        ExternalSort.OpenMerges open = new ExternalSort.OpenMerges();
+        return collectAll(ExternalSort.collector(c,runSize,serializer,false,open))
+                    .concatMap(i->i)
+                    .onClose(open);
+    }
+
+    /**
+     * Remove duplicates (elements that compare equal) using an external merge sort, spilling runs of runSize elements
+     * to temporary files with the supplied RecordSerializer. Unlike {@link #distinct()} the heap used is bounded
+     * by runSize, and the distinct elements are emitted in sorted order.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq.of(4,3,4,7,3)
+     *              .distinct(Comparator.naturalOrder(),2,RecordSerializer.ints());
+     *   //ReactiveSeq[3,4,7]
+     * }
+     * </pre>
+     */
+    default ReactiveSeq<T> distinct(Comparator<? super T> c, int runSize, RecordSerializer<T> serializer){
+        ExternalSort.OpenMerges open = new ExternalSort.OpenMerges();
+        return collectAll(ExternalSort.collector(c,runSize,serializer,true,open))
+                    .concatMap(i->i)
+                    .onClose(open);
+    }
+
 
     @Override
     default ReactiveSeq<T> takeWhile(final Predicate<? super T> p) {
@@ -3604,6 +3807,49 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      */
     ReactiveSeq<T> onePer(long time, TimeUnit t);
 
+    /**
+     * Emit elements no faster than the supplied RateLimiter allows, without blocking the emitting thread. A single
+     * RateLimiter can be shared to cap the combined rate of many Streams.
+     *
+     * <pre>
+     * {@code
+     *  RateLimiter limiter = RateLimiter.tokenBucket(10, 1, TimeUnit.SECONDS);
+     *
+     *  Spouts.of(1,2,3,4,5)
+     *        .rateLimit(limiter)
+     *        .forEach(this::callService);
+     * }
+     * </pre>
+     *
+     * @param limiter RateLimiter to take one permit from per element
+     * @return ReactiveSeq that emits elements at the rate allowed by the RateLimiter
+     */
+    default ReactiveSeq<T> rateLimit(RateLimiter limiter){
+        return rateLimit(limiter, t -> 1l);
+    }
+
+    /**
+     * Emit elements no faster than the supplied RateLimiter allows, taking a per element number of permits
+     *
+     * <pre>
+     * {@code
+     *  //limit to 1MB per second
+     *  RateLimiter limiter = RateLimiter.tokenBucket(1024*1024, 1, TimeUnit.SECONDS);
+     *
+     *  Spouts.of(payloads)
+     *        .rateLimit(limiter, p -> p.length)
+     *        .forEach(this::send);
+     * }
+     * </pre>
+     *
+     * @param limiter RateLimiter to take permits from
+     * @param weigher Number of permits each element requires
+     * @return ReactiveSeq that emits elements at the rate allowed by the RateLimiter
+     */
+    default ReactiveSeq<T> rateLimit(RateLimiter limiter, ToLongFunction<? super T> weigher){
+        return Spouts.fromIterable(this).rateLimit(limiter, weigher);
+    }
+
     /**
      * Allow one element through per time period, drop all other elements in
      * that time period
@@ -3801,6 +4047,36 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return (ReactiveSeq) ReactiveTransformable.super.retry(fn, retries, delay, timeUnit);
     }
 
+    /**
+     * Retry a transformation if it fails, without blocking a thread between attempts. Re-attempts are scheduled on a
+     * shared timer according to the supplied RetryPolicy (exponential backoff, jitter, a retry budget shared across
+     * this Stream and a predicate on the exception type), and run on the policy's Executor.
+     * Results are emitted in the order of the input elements.
+     *
+     * <pre>
+     * {@code
+     *  RetryStats stats = new RetryStats();
+     *
+     *  Spouts.of(1,2,3)
+     *        .retryAsync(this::makeIOCall, RetryPolicy.exponential(5, 100, TimeUnit.MILLISECONDS)
+     *                                                 .withJitter(0.5)
+     *                                                 .withStats(stats))
+     *        .forEach(System.out::println);
+     *
+     *  stats.getExhaustedCount();
+     * }
+     * </pre>
+     *
+     * @param fn
+     *            Function to retry if fails
+     * @param policy
+     *            RetryPolicy determining which failures are retried, and when
+     */
+    default <R> ReactiveSeq<R> retryAsync(final Function<? super T, ? extends R> fn, final RetryPolicy policy) {
+        final Function<T, CompletableFuture<R>> retrying = policy.retrying(fn);
+        return mergeMap(1, t -> Future.of(retrying.apply(t)));
+    }
+
     /**
      * Remove first occurance of the specified element from the ReactiveSeq
      *
@@ -4268,6 +4544,77 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return forEach2(a->other, Tuple::tuple);
     }
 
+    /**
+     * Hash join this Stream with another. A hash index is built over the other Stream once (when this Stream is
+     * first traversed or subscribed to), each element of this Stream is then paired with every element of other
+     * with an equal key. Elements are emitted in the order of this Stream.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1,2,3)
+     *             .innerJoin(ReactiveSeq.of("a","bb","bb2"),i->i,String::length);
+     *
+     *  //ReactiveSeq[(1,"a"),(2,"bb"),(3,"bb2")]
+     * }
+     * </pre>
+     *
+     * @param other Stream to build the join index over
+     * @param key Extracts the join key from elements of this Stream
+     * @param otherKey Extracts the join key from elements of the other Stream
+     * @return Stream of matching pairs
+     */
+    default <U, K> ReactiveSeq<Tuple2<T, U>> innerJoin(ReactiveSeq<? extends U> other, Function<? super T, ? extends K> key,
+                                                       Function<? super U, ? extends K> otherKey) {
+        return Joins.innerJoin(this, ReactiveSeq.<U>narrow(other), key, otherKey);
+    }
+
+    /**
+     * Hash join this Stream with another, elements of this Stream without a match in the other Stream are paired
+     * with Option.none()
+     *
+     * @see #innerJoin(ReactiveSeq, Function, Function)
+     */
+    default <U, K> ReactiveSeq<Tuple2<T, Option<U>>> leftOuterJoin(ReactiveSeq<? extends U> other, Function<? super T, ? extends K> key,
+                                                                   Function<? super U, ? extends K> otherKey) {
+        return Joins.leftOuterJoin(this, ReactiveSeq.<U>narrow(other), key, otherKey);
+    }
+
+    /**
+     * @return Elements of this Stream that have a matching key in the other Stream (only the keys of the other Stream are retained in memory)
+     */
+    default <U, K> ReactiveSeq<T> semiJoin(ReactiveSeq<? extends U> other, Function<? super T, ? extends K> key,
+                                           Function<? super U, ? extends K> otherKey) {
+        return Joins.semiJoin(this, ReactiveSeq.<U>narrow(other), key, otherKey, false);
+    }
+
+    /**
+     * @return Elements of this Stream that do not have a matching key in the other Stream
+     */
+    default <U, K> ReactiveSeq<T> antiJoin(ReactiveSeq<? extends U> other, Function<? super T, ? extends K> key,
+                                           Function<? super U, ? extends K> otherKey) {
+        return Joins.semiJoin(this, ReactiveSeq.<U>narrow(other), key, otherKey, true);
+    }
+
+    /**
+     * Sort-merge join for Streams that are already sorted (ascending, by the supplied Comparator) on the join key.
+     * Neither Stream is indexed, only the current run of elements with an equal key in the other Stream is buffered.
+     * If either Stream is push based (see {@link Spouts}) both are subscribed to and merged without blocking, elements
+     * that arrive ahead of the other Stream are buffered until they can be matched.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1,2,2,4)
+     *             .mergeJoin(ReactiveSeq.of(2,3,4),i->i,i->i,Comparator.naturalOrder());
+     *
+     *  //ReactiveSeq[(2,2),(2,2),(4,4)]
+     * }
+     * </pre>
+     */
+    default <U, K> ReactiveSeq<Tuple2<T, U>> mergeJoin(ReactiveSeq<? extends U> other, Function<? super T, ? extends K> key,
+                                                       Function<? super U, ? extends K> otherKey, Comparator<? super K> comparator) {
+        return Joins.mergeJoin(this, ReactiveSeq.<U>narrow(other), key, otherKey, comparator);
+    }
+
     /**
      * Perform a two level nested internal iteration over this Stream and the
      * supplied stream
@@ -0,0 +1,126 @@
+package cyclops.reactive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes and reads single records to / from local spill files, used by the external (spilling) operators on ReactiveSeq
+ * such as {@link ReactiveSeq#sorted(java.util.Comparator, int, RecordSerializer)}
+ *
+ * <pre>
+ * {@code
+ *   RecordSerializer<Trade> trades = new RecordSerializer<Trade>() {
+ *       public void write(DataOutput out, Trade t) throws IOException {
+ *           out.writeLong(t.getId());
+ *           out.writeDouble(t.getPrice());
+ *       }
+ *       public Trade read(DataInput in) throws IOException {
+ *           return new Trade(in.readLong(), in.readDouble());
+ *       }
+ *   };
+ * }
+ * </pre>
+ *
+ * @param <T> Record type
+ */
+public interface RecordSerializer<T> {
+
+    void write(DataOutput out, T value) throws IOException;
+
+    T read(DataInput in) throws IOException;
+
+    /**
+     * @return Serializer that uses Java Serialization for each record (records must be Serializable)
+     */
+    static <T> RecordSerializer<T> javaSerialization(){
+        return new RecordSerializer<T>() {
+            @Override
+            public void write(DataOutput out, T value) throws IOException {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try(ObjectOutputStream oos = new ObjectOutputStream(bytes)){
+                    oos.writeObject(value);
+                }
+                out.writeInt(bytes.size());
+                out.write(bytes.toByteArray());
+            }
+
+            @Override
+            @SuppressWarnings("unchecked") //only values of type T are written by this serializer
+            public T read(DataInput in) throws IOException {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                try(ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))){
+                    return (T)ois.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+    }
+
+    static RecordSerializer<String> strings(){
+        return new RecordSerializer<String>() {
+            @Override
+            public void write(DataOutput out, String value) throws IOException {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            @Override
+            public String read(DataInput in) throws IOException {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    static RecordSerializer<Integer> ints(){
+        return new RecordSerializer<Integer>() {
+            @Override
+            public void write(DataOutput out, Integer value) throws IOException {
+                out.writeInt(value);
+            }
+
+            @Override
+            public Integer read(DataInput in) throws IOException {
+                return in.readInt();
+            }
+        };
+    }
+
+    static RecordSerializer<Long> longs(){
+        return new RecordSerializer<Long>() {
+            @Override
+            public void write(DataOutput out, Long value) throws IOException {
+                out.writeLong(value);
+            }
+
+            @Override
+            public Long read(DataInput in) throws IOException {
+                return in.readLong();
+            }
+        };
+    }
+
+    static RecordSerializer<Double> doubles(){
+        return new RecordSerializer<Double>() {
+            @Override
+            public void write(DataOutput out, Double value) throws IOException {
+                out.writeDouble(value);
+            }
+
+            @Override
+            public Double read(DataInput in) throws IOException {
+                return in.readDouble();
+            }
+        };
+    }
+}
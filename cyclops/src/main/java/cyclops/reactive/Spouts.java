@@ -4,12 +4,15 @@ import com.oath.cyclops.hkt.Higher;
 
 import com.oath.cyclops.internal.stream.spliterators.push.*;
 import com.oath.cyclops.types.reactive.BufferOverflowPolicy;
+import com.oath.cyclops.types.reactive.OverflowStats;
 import com.oath.cyclops.types.reactive.PushSubscriber;
 import com.oath.cyclops.types.traversable.IterableX;
 import com.oath.cyclops.util.ExceptionSoftener;
 import cyclops.control.*;
+import com.oath.cyclops.internal.stream.Joins;
 import com.oath.cyclops.internal.stream.ReactiveStreamX;
 import com.oath.cyclops.internal.stream.ReactiveStreamX.Type;
+import com.oath.cyclops.internal.stream.spliterators.FusedStages;
 import com.oath.cyclops.internal.stream.spliterators.UnfoldSpliterator;
 import com.oath.cyclops.types.reactive.AsyncSubscriber;
 import com.oath.cyclops.types.reactive.ReactiveSubscriber;
@@ -23,6 +26,7 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import java.io.File;
 import java.util.Queue;
 import java.util.Spliterator;
 import java.util.concurrent.Executor;
@@ -33,6 +37,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.*;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * reactive : is used to denote creational methods for reactive-streams that support non-blocking backpressure
@@ -169,6 +174,35 @@ public interface Spouts {
     static <T> ReactiveSeq<T> reactiveBuffer(Queue<T> buffer,BufferOverflowPolicy policy, Consumer<? super Subscriber<T>> onNext){
         return Spouts.reactiveStream(new BufferingSinkOperator<T>(buffer, onNext, policy));
     }
+
+    /**
+     * Create a buffering reactive-streams source that handles overflow according to the supplied BufferOverflowPolicy,
+     * recording overflow and drop counts in the supplied OverflowStats
+     *
+     * @see Spouts#reactiveBuffer(int, Consumer)
+     */
+    static <T> ReactiveSeq<T> reactiveBuffer(int buffer, BufferOverflowPolicy policy, OverflowStats stats, Consumer<? super Subscriber<T>> onNext){
+        return Spouts.reactiveStream(new BufferingSinkOperator<T>(new ManyToManyConcurrentArrayQueue<T>(buffer), onNext, policy,
+                                                                  stats, BufferingSinkOperator.DEFAULT_SAMPLE_RATE, new File(System.getProperty("java.io.tmpdir"))));
+    }
+
+    /**
+     * Create a buffering reactive-streams source that, once the buffer is full, admits one in every sampleRate
+     * new elements by discarding the oldest buffered element
+     */
+    static <T> ReactiveSeq<T> reactiveBufferSample(int buffer, int sampleRate, OverflowStats stats, Consumer<? super Subscriber<T>> onNext){
+        return Spouts.reactiveStream(new BufferingSinkOperator<T>(new ManyToManyConcurrentArrayQueue<T>(buffer), onNext, BufferOverflowPolicy.SAMPLE,
+                                                                  stats, sampleRate, new File(System.getProperty("java.io.tmpdir"))));
+    }
+
+    /**
+     * Create a buffering reactive-streams source that, once the buffer is full, pages (Serializable) elements to a file
+     * in the supplied directory and reads them back in order as downstream demand allows
+     */
+    static <T> ReactiveSeq<T> reactiveBufferSpill(int buffer, File directory, OverflowStats stats, Consumer<? super Subscriber<T>> onNext){
+        return Spouts.reactiveStream(new BufferingSinkOperator<T>(new ManyToManyConcurrentArrayQueue<T>(buffer), onNext, BufferOverflowPolicy.SPILL_TO_DISK,
+                                                                  stats, BufferingSinkOperator.DEFAULT_SAMPLE_RATE, directory));
+    }
     @Deprecated
     static <T> ReactiveSeq<T> asyncBuffer(int buffer, Consumer<? super PushSubscriber<T>> onNext){
         return Spouts.asyncStream(new BufferingSinkOperator<T>(new ManyToManyConcurrentArrayQueue<T>(buffer),c-> onNext.accept(PushSubscriber.of(c)), BufferOverflowPolicy.DROP));
@@ -233,6 +267,44 @@ public interface Spouts {
     }
 
 
+    /**
+     * Micro-batched version of {@link #reactive(Stream, Executor)}. Elements are passed from the executing thread
+     * in chunks of batchSize, with demand accounted per chunk, and unpacked on delivery (along with any map, filter
+     * and peek operations applied directly to the returned Stream), so that downstream operators still observe
+     * and request individual elements.
+     *
+     * <pre>
+     * {@code
+     *  Spouts.reactive(messages, executor, 256)
+     *        .filter(Message::isValid)
+     *        .map(Message::payload)
+     *        .forEach(store::write);
+     * }
+     * </pre>
+     *
+     * @param seq Stream to execute and push to a new Stream
+     * @param exec Executor to execute the Stream on
+     * @param batchSize Maximum number of elements per chunk
+     * @return Backpressure aware Stream of the elements
+     */
+    static <T> ReactiveSeq<T> reactive(Stream<T> seq, Executor exec, int batchSize){
+        Spliterator<Object[]> chunks = ChunkedOperator.chunks(seq.spliterator(),batchSize);
+        return fromChunks(reactive(StreamSupport.stream(chunks,false),exec));
+    }
+
+    /**
+     * Create a Stream of the elements of the chunks emitted by the supplied Publisher. Demand is signalled to the
+     * Publisher per chunk (with a small number of chunks requested ahead), and elements are delivered downstream
+     * individually, respecting element level demand.
+     *
+     * @param chunks Publisher of arrays of elements
+     * @return Stream of the elements of each chunk
+     */
+    @SuppressWarnings("unchecked") //a Publisher of any array type only emits Object[]s
+    static <T> ReactiveSeq<T> fromChunks(Publisher<? extends Object[]> chunks){
+        return reactiveStream(new ChunkedOperator<Object,T>(new PublisherToOperator<Object[]>((Publisher<Object[]>)chunks),FusedStages.empty()));
+    }
+
     /**
      *   The recommended way to connect a Spout to a Publisher is via Spouts#from
      *   Create an Subscriber for Observable style asynchronous push based Streams,
@@ -451,6 +523,39 @@ public interface Spouts {
     static <T> ReactiveSeq<T> deferFromIterable(final Supplier<? extends Iterable<? extends T>> s){
         return of(s).concatMap(i->i.get());
     }
+
+    /**
+     * Bounded memory join of two (potentially infinite) push Streams. As elements arrive on either Stream they are
+     * joined against the most recent windowSize elements of the other Stream with an equal key, elements that
+     * have fallen out of the window are discarded.
+     *
+     * <pre>
+     * {@code
+     *  Spouts.windowedJoin(orders,prices,Order::getSymbol,Price::getSymbol,10_000)
+     *        .forEach(t->println(t._1() + " at " + t._2()));
+     * }
+     * </pre>
+     *
+     * For joins against finite reference data see {@link ReactiveSeq#innerJoin(ReactiveSeq, Function, Function)}
+     *
+     * @param left Left hand Stream
+     * @param right Right hand Stream
+     * @param leftKey Extracts the join key from elements of the left Stream
+     * @param rightKey Extracts the join key from elements of the right Stream
+     * @param windowSize Number of elements of each Stream retained for joining
+     * @return Stream of matching pairs
+     */
+    static <T, U, K> ReactiveSeq<Tuple2<T, U>> windowedJoin(Publisher<? extends T> left, Publisher<? extends U> right,
+                                                            Function<? super T, ? extends K> leftKey,
+                                                            Function<? super U, ? extends K> rightKey, int windowSize){
+        return defer(() -> {
+            Joins.WindowedJoin<T, U, K> join = new Joins.WindowedJoin<>(leftKey, rightKey, windowSize);
+            ReactiveSeq<Either<T, U>> lefts = Spouts.<T>from(left).map(Either::<T, U>left);
+            ReactiveSeq<Either<T, U>> rights = Spouts.<U>from(right).map(Either::<T, U>right);
+            return Joins.merge(lefts, rights)
+                        .concatMap(join::accept);
+        });
+    }
     /**
      * Unfold a function into a ReactiveSeq
      *
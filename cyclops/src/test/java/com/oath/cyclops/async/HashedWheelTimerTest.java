@@ -0,0 +1,128 @@
+package com.oath.cyclops.async;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class HashedWheelTimerTest {
+
+    HashedWheelTimer timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 8, "test-timer");
+
+    @Test
+    public void firesAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        long[] fired = {0};
+        timer.schedule(() -> {
+            fired[0] = System.nanoTime();
+            latch.countDown();
+        }, 50, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertThat(fired[0] - start, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50)));
+    }
+
+    @Test
+    public void manyRoundsOfTheWheel() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++)
+            timer.schedule(latch::countDown, i, TimeUnit.MILLISECONDS, ForkJoinPool.commonPool());
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void cancelled() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        HashedWheelTimer.Handle handle = timer.schedule(count::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        assertTrue(handle.cancel());
+        assertFalse(handle.cancel());
+        assertTrue(handle.isCancelled());
+        Thread.sleep(100);
+        assertThat(count.get(), equalTo(0));
+    }
+
+    @Test
+    public void fixedRate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        HashedWheelTimer.Handle handle = timer.scheduleAtFixedRate(latch::countDown, 0, 10, TimeUnit.MILLISECONDS,
+                                                                   ForkJoinPool.commonPool());
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        handle.cancel();
+    }
+
+    @Test
+    public void fixedDelayStopsOnCancel() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        HashedWheelTimer.Handle handle = timer.scheduleWithFixedDelay(count::incrementAndGet, 0, 5, TimeUnit.MILLISECONDS,
+                                                                      ForkJoinPool.commonPool());
+        Thread.sleep(50);
+        handle.cancel();
+        Thread.sleep(20);
+        int stopped = count.get();
+        Thread.sleep(50);
+        assertThat(count.get(), equalTo(stopped));
+    }
+
+    @Test
+    public void firesAfterIdle() throws InterruptedException {
+        CountDownLatch first = new CountDownLatch(1);
+        timer.schedule(first::countDown, 1, TimeUnit.MILLISECONDS);
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        long[] fired = {0};
+        timer.schedule(() -> {
+            fired[0] = System.nanoTime();
+            latch.countDown();
+        }, 20, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertThat(fired[0] - start, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20)));
+    }
+
+    @Test
+    public void failingTaskDoesNotStopTheWheel() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.schedule(() -> {
+            throw new IllegalStateException("expected");
+        }, 1, TimeUnit.MILLISECONDS);
+        timer.schedule(latch::countDown, 5, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void earlierTimeoutWakesWorkerParkedForALaterOne() throws InterruptedException {
+        HashedWheelTimer.Handle later = timer.schedule(() -> { }, 1, TimeUnit.HOURS);
+        Thread.sleep(20);
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        long[] fired = {0};
+        timer.schedule(() -> {
+            fired[0] = System.nanoTime();
+            latch.countDown();
+        }, 30, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertThat(fired[0] - start, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30)));
+        later.cancel();
+    }
+
+    @Test
+    public void firesAcrossSkippedRotations() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        timer.schedule(latch::countDown, 3, TimeUnit.MILLISECONDS);
+        timer.schedule(latch::countDown, 45, TimeUnit.MILLISECONDS);
+        HashedWheelTimer.Handle cancelled = timer.schedule(latch::countDown, 20, TimeUnit.MILLISECONDS);
+        cancelled.cancel();
+        timer.schedule(latch::countDown, 90, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+}
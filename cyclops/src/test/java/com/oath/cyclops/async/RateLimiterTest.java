@@ -0,0 +1,56 @@
+package com.oath.cyclops.async;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class RateLimiterTest {
+
+    long now = 0;
+
+    @Test
+    public void tokenBucketBurst() {
+        TokenBucket bucket = new TokenBucket(TimeUnit.MILLISECONDS.toNanos(10), 3, () -> now);
+        assertThat(bucket.reserve(1), equalTo(0l));
+        assertThat(bucket.reserve(1), equalTo(0l));
+        assertThat(bucket.reserve(1), equalTo(0l));
+        assertThat(bucket.reserve(1), equalTo(TimeUnit.MILLISECONDS.toNanos(10)));
+        assertThat(bucket.reserve(1), equalTo(TimeUnit.MILLISECONDS.toNanos(20)));
+    }
+
+    @Test
+    public void tokenBucketRefillsToCapacity() {
+        TokenBucket bucket = new TokenBucket(TimeUnit.MILLISECONDS.toNanos(10), 3, () -> now);
+        assertTrue(bucket.tryAcquire(3));
+        assertFalse(bucket.tryAcquire(1));
+        now += TimeUnit.MILLISECONDS.toNanos(15);
+        assertTrue(bucket.tryAcquire(1));
+        assertFalse(bucket.tryAcquire(1));
+        now += TimeUnit.SECONDS.toNanos(10);
+        assertThat(bucket.available(), equalTo(3.0));
+    }
+
+    @Test
+    public void tokenBucketWeighted() {
+        TokenBucket bucket = new TokenBucket(TimeUnit.MILLISECONDS.toNanos(1), 10, () -> now);
+        assertThat(bucket.reserve(10), equalTo(0l));
+        assertThat(bucket.reserve(5), equalTo(TimeUnit.MILLISECONDS.toNanos(5)));
+    }
+
+    @Test
+    public void leakyBucketSpacesEvenly() {
+        LeakyBucket bucket = new LeakyBucket(TimeUnit.MILLISECONDS.toNanos(10), () -> now);
+        assertThat(bucket.reserve(1), equalTo(0l));
+        assertThat(bucket.reserve(1), equalTo(TimeUnit.MILLISECONDS.toNanos(10)));
+        assertThat(bucket.reserve(2), equalTo(TimeUnit.MILLISECONDS.toNanos(20)));
+        assertFalse(bucket.tryAcquire(1));
+        now += TimeUnit.SECONDS.toNanos(1);
+        assertTrue(bucket.tryAcquire(1));
+        assertFalse(bucket.tryAcquire(1));
+    }
+}
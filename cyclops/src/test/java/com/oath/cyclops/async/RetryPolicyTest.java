@@ -0,0 +1,127 @@
+package com.oath.cyclops.async;
+
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RetryPolicyTest {
+
+    private Function<Integer, Integer> failTimes(int times, AtomicInteger calls) {
+        return i -> {
+            if (calls.incrementAndGet() <= times)
+                throw new UncheckedIOException(new IOException("boom"));
+            return i * 2;
+        };
+    }
+
+    @Test
+    public void retriesUntilSuccess() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        RetryStats stats = new RetryStats();
+        RetryPolicy policy = RetryPolicy.exponential(5, 1, TimeUnit.MILLISECONDS)
+                                        .withStats(stats);
+        CompletableFuture<Integer> result = policy.<Integer, Integer>retrying(failTimes(3, calls))
+                                                  .apply(10);
+        assertThat(result.get(), equalTo(20));
+        assertThat(stats.getAttemptCount(), equalTo(4l));
+        assertThat(stats.getRetryCount(), equalTo(3l));
+        assertThat(stats.getExhaustedCount(), equalTo(0l));
+    }
+
+    @Test
+    public void exhausted() throws Exception {
+        RetryStats stats = new RetryStats();
+        RetryPolicy policy = RetryPolicy.exponential(2, 1, TimeUnit.MILLISECONDS)
+                                        .withStats(stats);
+        CompletableFuture<Integer> result = policy.<Integer, Integer>retrying(failTimes(10, new AtomicInteger()))
+                                                  .apply(10);
+        try {
+            result.get();
+            fail("expected failure");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(UncheckedIOException.class));
+        }
+        assertThat(stats.getAttemptCount(), equalTo(3l));
+        assertThat(stats.getExhaustedCount(), equalTo(1l));
+    }
+
+    @Test
+    public void notRetriedWhenPredicateFails() throws Exception {
+        RetryStats stats = new RetryStats();
+        RetryPolicy policy = RetryPolicy.exponential(5, 1, TimeUnit.MILLISECONDS)
+                                        .withStats(stats)
+                                        .retryOn(IllegalStateException.class);
+        CompletableFuture<Integer> result = policy.<Integer, Integer>retrying(failTimes(1, new AtomicInteger()))
+                                                  .apply(10);
+        assertTrue(result.isCompletedExceptionally());
+        assertThat(stats.getAttemptCount(), equalTo(1l));
+        assertThat(stats.getRetryCount(), equalTo(0l));
+        assertThat(stats.getExhaustedCount(), equalTo(0l));
+    }
+
+    @Test
+    public void budgetSharedAcrossElements() {
+        RetryStats stats = new RetryStats();
+        RetryPolicy policy = RetryPolicy.exponential(5, 1, TimeUnit.MILLISECONDS)
+                                        .withBudget(3)
+                                        .withStats(stats);
+        Function<Integer, CompletableFuture<Integer>> fn = policy.retrying(i -> {
+            throw new RuntimeException("boom");
+        });
+        fn.apply(1).handle((r, t) -> r).join();
+        fn.apply(2).handle((r, t) -> r).join();
+        assertThat(stats.getRetryCount(), equalTo(3l));
+        assertThat(stats.getExhaustedCount(), equalTo(2l));
+    }
+
+    @Test
+    public void delays() {
+        RetryPolicy policy = RetryPolicy.exponential(5, 100, TimeUnit.MILLISECONDS)
+                                        .withMaxDelay(300, TimeUnit.MILLISECONDS);
+        assertThat(policy.delayNanos(0), equalTo(TimeUnit.MILLISECONDS.toNanos(100)));
+        assertThat(policy.delayNanos(1), equalTo(TimeUnit.MILLISECONDS.toNanos(200)));
+        assertThat(policy.delayNanos(2), equalTo(TimeUnit.MILLISECONDS.toNanos(300)));
+
+        RetryPolicy jittered = policy.withJitter(0.5);
+        for (int i = 0; i < 100; i++) {
+            long delay = jittered.delayNanos(0);
+            assertTrue(delay >= TimeUnit.MILLISECONDS.toNanos(50));
+            assertTrue(delay <= TimeUnit.MILLISECONDS.toNanos(100));
+        }
+    }
+
+    @Test
+    public void spoutsRetryAsync() {
+        AtomicInteger calls = new AtomicInteger();
+        RetryPolicy policy = RetryPolicy.exponential(5, 1, TimeUnit.MILLISECONDS);
+        assertThat(Spouts.of(1, 2, 3)
+                         .retryAsync(failTimes(2, calls), policy)
+                         .toList(),
+                   equalTo(Arrays.asList(2, 4, 6)));
+    }
+
+    @Test
+    public void reactiveSeqRetryAsync() {
+        AtomicInteger calls = new AtomicInteger();
+        RetryPolicy policy = RetryPolicy.exponential(5, 1, TimeUnit.MILLISECONDS);
+        assertThat(ReactiveSeq.of(1, 2, 3)
+                              .retryAsync(failTimes(2, calls), policy)
+                              .toList(),
+                   equalTo(Arrays.asList(2, 4, 6)));
+    }
+}
@@ -0,0 +1,172 @@
+package com.oath.cyclops.async.adapters;
+
+import com.oath.cyclops.async.adapters.RingBufferTopic.SlowConsumerPolicy;
+import com.oath.cyclops.async.wait.DirectWaitStrategy;
+import com.oath.cyclops.async.wait.SpinWait;
+import com.oath.cyclops.react.async.subscription.AlwaysContinue;
+import cyclops.data.Seq;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class RingBufferTopicTest {
+
+    private List<Integer> range(int size){
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void fanOut(){
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(16);
+        List<CompletableFuture<List<Integer>>> results = ReactiveSeq.range(0, 5)
+                                                                    .map(i -> topic.stream())
+                                                                    .map(s -> CompletableFuture.supplyAsync(() -> s.toList()))
+                                                                    .toList();
+        topic.fromStream(range(10_000).stream());
+        topic.close();
+        for(CompletableFuture<List<Integer>> next : results)
+            assertThat(next.join(), equalTo(range(10_000)));
+    }
+
+    @Test
+    public void capacityRoundedToPowerOf2(){
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(3, SlowConsumerPolicy.BLOCK,
+                                                               new SpinWait<>(), new DirectWaitStrategy<>());
+        topic.stream();
+        for(int i = 0; i < 4; i++)
+            assertTrue(topic.offer(i));
+        assertFalse(topic.offer(4));
+    }
+
+    @Test
+    public void block(){
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(2, SlowConsumerPolicy.BLOCK,
+                                                               new SpinWait<>(), new DirectWaitStrategy<>());
+        Iterator<Integer> it = topic.stream().iterator();
+        assertTrue(topic.offer(0));
+        assertTrue(topic.offer(1));
+        assertFalse(topic.offer(2));
+        assertThat(it.next(), equalTo(0));
+        assertTrue(topic.offer(2));
+        assertThat(it.next(), equalTo(1));
+        assertThat(it.next(), equalTo(2));
+    }
+
+    @Test
+    public void disconnectStream(){
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(2, SlowConsumerPolicy.BLOCK,
+                                                               new SpinWait<>(), new DirectWaitStrategy<>());
+        ReactiveSeq<Integer> slow = topic.stream();
+        topic.offer(0);
+        topic.offer(1);
+        assertFalse(topic.offer(2));
+        topic.disconnect(slow);
+        assertTrue(topic.offer(2));
+        assertThat(slow.toList(), equalTo(Arrays.asList()));
+    }
+
+    @Test
+    public void drop(){
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(4, SlowConsumerPolicy.DROP);
+        ReactiveSeq<Integer> slow = topic.stream();
+        for(int i = 0; i < 10; i++)
+            assertTrue(topic.offer(i));
+        topic.close();
+        assertThat(slow.toList(), equalTo(Arrays.asList(6, 7, 8, 9)));
+    }
+
+    @Test
+    public void disconnectSlowConsumers(){
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(4, SlowConsumerPolicy.DISCONNECT);
+        ReactiveSeq<Integer> slow = topic.stream();
+        Iterator<Integer> fast = topic.stream().iterator();
+        for(int i = 0; i < 4; i++)
+            topic.offer(i);
+        for(int i = 0; i < 4; i++)
+            assertThat(fast.next(), equalTo(i));
+        topic.offer(4);
+        ReactiveSeq<Integer> late = topic.stream();
+        for(int i = 5; i < 8; i++)
+            topic.offer(i);
+        topic.close();
+        assertThat(slow.toList(), equalTo(Arrays.asList()));
+        assertThat(ReactiveSeq.fromIterator(fast).toList(), equalTo(Arrays.asList(4, 5, 6, 7)));
+        assertThat(late.toList(), equalTo(Arrays.asList(5, 6, 7)));
+    }
+
+    @Test
+    public void batches(){
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(8);
+        ReactiveSeq<Seq<Integer>> batches = topic.streamBatch(2);
+        topic.fromStream(range(5).stream());
+        topic.close();
+        assertThat(batches.toList(), equalTo(Arrays.asList(Seq.of(0, 1), Seq.of(2, 3), Seq.of(4))));
+    }
+
+    @Test
+    public void nulls(){
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(8);
+        ReactiveSeq<Integer> s = topic.stream();
+        topic.offer(1);
+        topic.offer(null);
+        topic.offer(2);
+        topic.close();
+        assertThat(s.toList(), equalTo(Arrays.asList(1, null, 2)));
+    }
+
+    @Test(expected = Queue.ClosedQueueException.class)
+    public void offerAfterClose(){
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(8);
+        topic.close();
+        topic.offer(1);
+    }
+
+    @Test
+    public void closedSubscriptionStopsWaiting(){
+        AtomicBoolean closed = new AtomicBoolean(false);
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(8);
+        ReactiveSeq<Integer> s = topic.stream(new AlwaysContinue(){
+            @Override
+            public boolean closed() {
+                return closed.get();
+            }
+        });
+        CompletableFuture<List<Integer>> result = CompletableFuture.supplyAsync(() -> s.toList());
+        topic.offer(1);
+        closed.set(true);
+        assertThat(result.join().size() <= 1, equalTo(true));
+    }
+
+    @Test
+    public void sizeSignal(){
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(8);
+        Iterator<Integer> it = topic.stream().iterator();
+        Signal<Integer> signal = Signal.queueBackedSignal();
+        topic.setSizeSignal(0, signal);
+        assertThat(topic.getSizeSignal(0), equalTo(signal));
+        topic.offer(1);
+        topic.offer(2);
+        assertThat(it.next(), equalTo(1));
+        topic.offer(3);
+        signal.close();
+        assertThat(signal.getContinuous().stream().toList(), equalTo(Arrays.asList(1, 2, 2)));
+    }
+
+    @Test
+    public void isTopic(){
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(8);
+        assertTrue(topic.fold(q -> false, t -> true));
+    }
+}
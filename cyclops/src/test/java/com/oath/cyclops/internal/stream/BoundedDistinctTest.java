@@ -0,0 +1,80 @@
+package com.oath.cyclops.internal.stream;
+
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BoundedDistinctTest {
+
+    @Test
+    public void windowed(){
+        assertThat(ReactiveSeq.of(1,2,1,3,4,1).distinctWindowed(2).toList(),equalTo(Arrays.asList(1,2,3,4,1)));
+        assertThat(Spouts.of(1,2,1,3,4,1).distinctWindowed(2).toList(),equalTo(Arrays.asList(1,2,3,4,1)));
+        assertThat(ReactiveSeq.of(1,2,1,3,4,1).distinctWindowed(10).toList(),equalTo(Arrays.asList(1,2,3,4)));
+    }
+
+    @Test
+    public void windowedIsLeastRecentlySeen(){
+        //1 is refreshed by its duplicate, so 2 is evicted
+        assertThat(ReactiveSeq.of(1,2,1,3,2,1).distinctWindowed(2).toList(),equalTo(Arrays.asList(1,2,3,2,1)));
+        assertThat(ReactiveSeq.of(1,2,1,3,1).distinctWindowed(2).toList(),equalTo(Arrays.asList(1,2,3)));
+    }
+
+    @Test
+    public void windowedInfinite(){
+        assertThat(ReactiveSeq.iterate(0,i->i+1).map(i->i%1000).distinctWindowed(100).take(2000).count(),equalTo(2000l));
+        assertThat(ReactiveSeq.iterate(0,i->i+1).map(i->i%50).distinctWindowed(100).take(50).toList(),
+                   equalTo(ReactiveSeq.range(0,50).toList()));
+    }
+
+    @Test
+    public void ttl() throws InterruptedException {
+        Predicate<Integer> filter = BoundedDistinct.recent(100,TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(filter.test(1));
+        assertFalse(filter.test(1));
+        Thread.sleep(100);
+        assertTrue(filter.test(1));
+    }
+
+    @Test
+    public void replayable(){
+        ReactiveSeq<Integer> stream = ReactiveSeq.of(1,2,2,3).distinctWindowed(10,1,TimeUnit.MINUTES);
+        assertThat(stream.toList(),equalTo(Arrays.asList(1,2,3)));
+        assertThat(stream.toList(),equalTo(Arrays.asList(1,2,3)));
+        ReactiveSeq<Integer> approx = ReactiveSeq.of(1,2,2,3).distinctApprox(100,0.01);
+        assertThat(approx.toList(),equalTo(Arrays.asList(1,2,3)));
+        assertThat(approx.toList(),equalTo(Arrays.asList(1,2,3)));
+    }
+
+    @Test
+    public void approx(){
+        assertThat(Spouts.of(1,2,1,3,4,1).distinctApprox(100,0.001).toList(),equalTo(Arrays.asList(1,2,3,4)));
+        long count = ReactiveSeq.range(0,100_000).map(i->i%50_000).distinctApprox(50_000,0.01).count();
+        assertThat(count,lessThan(50_001l));
+        assertThat((50_000-count)/50_000d,lessThan(0.02));
+    }
+
+    @Test
+    public void approxRotates(){
+        long count = ReactiveSeq.range(0,200_000).distinctApprox(1000,0.01).count();
+        assertThat((200_000-count)/200_000d,lessThan(0.03));
+    }
+
+    @Test
+    public void countDistinctApprox(){
+        long count = ReactiveSeq.range(0,200_000).map(i->i%100_000).countDistinctApprox();
+        assertThat(Math.abs(count-100_000)/100_000d,lessThan(0.03));
+        assertThat(Spouts.of(1,2,2,3).countDistinctApprox(),equalTo(3l));
+        assertThat(ReactiveSeq.empty().countDistinctApprox(),equalTo(0l));
+    }
+}
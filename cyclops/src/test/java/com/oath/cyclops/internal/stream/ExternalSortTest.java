@@ -0,0 +1,106 @@
+package com.oath.cyclops.internal.stream;
+
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.RecordSerializer;
+import cyclops.reactive.Spouts;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class ExternalSortTest {
+
+    private List<Integer> random(int size){
+        Random r = new Random(size);
+        List<Integer> res = new ArrayList<>(size);
+        for(int i=0;i<size;i++)
+            res.add(r.nextInt(size/2+1));
+        return res;
+    }
+
+    private int spillFiles(){
+        String[] names = new File(System.getProperty("java.io.tmpdir")).list((dir,name)->name.startsWith("cyclops-sort"));
+        return names==null ? 0 : names.length;
+    }
+
+    @Test
+    public void sorted(){
+        int files = spillFiles();
+        for(int size : new int[]{0,1,10,99,100,101,1000,20_000}){
+            List<Integer> data = random(size);
+            List<Integer> expected = data.stream().sorted().collect(Collectors.toList());
+            assertThat(ReactiveSeq.fromIterable(data).sorted(Comparator.naturalOrder(),100,RecordSerializer.ints()).toList(),
+                       equalTo(expected));
+            assertThat(ReactiveSeq.fromIterable(data).sorted(Comparator.naturalOrder(),7).toList(),
+                       equalTo(expected));
+            assertThat(Spouts.fromIterable(data).sorted(Comparator.naturalOrder(),100,RecordSerializer.ints()).toList(),
+                       equalTo(expected));
+        }
+        assertThat(spillFiles(),equalTo(files));
+    }
+
+    @Test
+    public void reverseOrder(){
+        List<Integer> data = random(5000);
+        assertThat(ReactiveSeq.fromIterable(data).sorted(Comparator.<Integer>reverseOrder(),50,RecordSerializer.ints()).toList(),
+                   equalTo(data.stream().sorted(Comparator.reverseOrder()).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void stable(){
+        List<Integer> keys = random(10_000);
+        List<Tuple2<Integer,Integer>> data = new ArrayList<>();
+        for(int i=0;i<keys.size();i++)
+            data.add(Tuple.tuple(keys.get(i)%10,i));
+        Comparator<Tuple2<Integer,Integer>> byKey = Comparator.comparing(Tuple2::_1);
+        assertThat(ReactiveSeq.fromIterable(data).sorted(byKey,33).toList(),
+                   equalTo(data.stream().sorted(byKey).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void distinct(){
+        for(int size : new int[]{0,1,10,1000,20_000}){
+            List<Integer> data = random(size);
+            List<Integer> expected = new ArrayList<>(new TreeSet<>(data));
+            assertThat(ReactiveSeq.fromIterable(data).distinct(Comparator.naturalOrder(),50,RecordSerializer.ints()).toList(),
+                       equalTo(expected));
+        }
+    }
+
+    @Test
+    public void strings(){
+        List<String> data = ReactiveSeq.fromIterable(random(3000)).map(i->"value-"+i+"-é").toList();
+        assertThat(ReactiveSeq.fromIterable(data).sorted(Comparator.naturalOrder(),64,RecordSerializer.strings()).toList(),
+                   equalTo(data.stream().sorted().collect(Collectors.toList())));
+    }
+
+    @Test
+    public void closeReleasesAbandonedRuns(){
+        int files = spillFiles();
+        ReactiveSeq<Integer> sorted = ReactiveSeq.fromIterable(random(1000)).sorted(Comparator.naturalOrder(),100,RecordSerializer.ints());
+        assertThat(sorted.limit(5).toList().size(),equalTo(5));
+        assertThat(sorted.findFirst().isPresent(),equalTo(true));
+        assertThat(spillFiles()>files,equalTo(true));
+
+        ReactiveSeq<Integer> limited = sorted.limit(5);
+        limited.close();
+        assertThat(spillFiles(),equalTo(files));
+    }
+
+    @Test
+    public void replayable(){
+        ReactiveSeq<Integer> sorted = ReactiveSeq.of(5,3,1,4,2).sorted(Comparator.naturalOrder(),2,RecordSerializer.ints());
+        assertThat(sorted.toList(),equalTo(ReactiveSeq.range(1,6).toList()));
+        assertThat(sorted.toList(),equalTo(ReactiveSeq.range(1,6).toList()));
+    }
+}
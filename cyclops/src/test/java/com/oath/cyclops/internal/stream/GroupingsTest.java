@@ -0,0 +1,58 @@
+package com.oath.cyclops.internal.stream;
+
+import cyclops.companion.Monoids;
+import cyclops.data.HashMap;
+import cyclops.data.Vector;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class GroupingsTest {
+
+    @Test
+    public void groupBy(){
+        HashMap<Integer, Vector<Integer>> map = ReactiveSeq.of(1, 2, 3, 4, 5).groupBy(i -> i % 2);
+        assertThat(map.size(),equalTo(2));
+        assertThat(map.getOrElse(0,Vector.empty()),equalTo(Vector.of(2,4)));
+        assertThat(map.getOrElse(1,Vector.empty()),equalTo(Vector.of(1,3,5)));
+        assertThat(Spouts.of(1, 2, 3, 4, 5).groupBy(i -> i % 2),equalTo(map));
+        assertThat(ReactiveSeq.<Integer>empty().groupBy(i -> i % 2),equalTo(HashMap.empty()));
+    }
+
+    @Test
+    public void groupByLargeGroups(){
+        HashMap<Integer, Vector<Integer>> map = ReactiveSeq.range(0,100_000).groupBy(i -> i % 3);
+        assertThat(map.getOrElse(2,Vector.empty()),equalTo(ReactiveSeq.range(0,100_000).filter(i->i%3==2).to().vector()));
+    }
+
+    @Test
+    public void groupByParallel(){
+        HashMap<Integer, Vector<Integer>> expected = ReactiveSeq.range(0,100_000).groupBy(i -> i % 1000);
+        assertThat(ReactiveSeq.range(0,100_000).groupByParallel(i -> i % 1000),equalTo(expected));
+        assertThat(ReactiveSeq.range(0,100_000).groupByParallel(new ForkJoinPool(3),i -> i % 1000),equalTo(expected));
+        assertThat(ReactiveSeq.fromIterable(ReactiveSeq.range(0,100_000).toList())
+                              .map(i->i*2).groupByParallel(i -> i % 7),
+                   equalTo(ReactiveSeq.range(0,100_000).map(i->i*2).groupBy(i -> i % 7)));
+    }
+
+    @Test
+    public void groupByReduce(){
+        HashMap<Integer, Integer> sums = ReactiveSeq.of(1, 2, 3, 4).groupByReduce(i -> i % 2, Monoids.intSum);
+        assertThat(sums,equalTo(HashMap.of(0,6,1,4)));
+        HashMap<Integer, Integer> counts = Spouts.of(1, 2, 3, 4, 5).groupByReduce(i -> i % 2, i -> 1, Monoids.intSum);
+        assertThat(counts,equalTo(HashMap.of(0,2,1,3)));
+    }
+
+    @Test
+    public void groupByReduceOrdered(){
+        HashMap<Integer, String> joined = ReactiveSeq.range(0,20_000)
+                                                     .groupByReduceParallel(i -> i % 2, i -> i+",", Monoids.stringConcat);
+        assertThat(joined,equalTo(ReactiveSeq.range(0,20_000).groupByReduce(i -> i % 2, i -> i+",", Monoids.stringConcat)));
+        assertThat(joined.getOrElse(1,"").startsWith("1,3,5,"),equalTo(true));
+    }
+}
@@ -0,0 +1,129 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+public class FusedSpliteratorTest {
+
+    private <T> ReactiveSeq<T> pipeline(ReactiveSeq<Integer> source, List<Integer> peeked){
+        return (ReactiveSeq<T>)source.map(i -> i + 1)
+                                     .filter(i -> i % 2 == 0)
+                                     .peek(peeked::add)
+                                     .map(i -> i * 3)
+                                     .skip(2)
+                                     .filter(i -> i % 4 != 0)
+                                     .map(i -> "v" + i)
+                                     .limit(5);
+    }
+
+    @Test
+    public void fusesPullStages(){
+        List<Integer> peeked = new ArrayList<>();
+        ReactiveSeq<String> fused = pipeline(ReactiveSeq.range(0, 100), peeked);
+        List<String> expected = IntStream.range(0, 100).boxed()
+                                         .map(i -> i + 1)
+                                         .filter(i -> i % 2 == 0)
+                                         .map(i -> i * 3)
+                                         .skip(2)
+                                         .filter(i -> i % 4 != 0)
+                                         .map(i -> "v" + i)
+                                         .limit(5)
+                                         .collect(Collectors.toList());
+        assertThat(fused.toList(), equalTo(expected));
+        assertThat(fused.spliterator(), instanceOf(FusedSpliterator.class));
+    }
+
+    @Test
+    public void limitStopsPulling(){
+        List<Integer> peeked = new ArrayList<>();
+        assertThat(pipeline(ReactiveSeq.iterate(0, i -> i + 1), peeked).toList(),
+                   equalTo(Arrays.asList("v18", "v30", "v42", "v54", "v66")));
+        assertThat(peeked, equalTo(Arrays.asList(2, 4, 6, 8, 10, 12, 14, 16, 18, 20, 22)));
+    }
+
+    @Test
+    public void replayable(){
+        ReactiveSeq<Integer> fused = ReactiveSeq.of(1, 2, 3, 4, 5, 6).map(i -> i * 2).filter(i -> i > 2).skip(1).limit(3);
+        assertThat(fused.toList(), equalTo(Arrays.asList(6, 8, 10)));
+        assertThat(fused.toList(), equalTo(Arrays.asList(6, 8, 10)));
+        assertThat(fused.iterator().next(), equalTo(6));
+        assertThat(fused.map(i -> i + 1).toList(), equalTo(Arrays.asList(7, 9, 11)));
+    }
+
+    @Test
+    public void tryAdvance(){
+        Spliterator<Integer> split = ReactiveSeq.range(0, 10).filter(i -> i % 3 == 0).map(i -> i * 2).limit(3).spliterator();
+        List<Integer> res = new ArrayList<>();
+        while(split.tryAdvance(res::add)){
+        }
+        assertThat(res, equalTo(Arrays.asList(0, 6, 12)));
+    }
+
+    @Test
+    public void limitZero(){
+        AtomicInteger pulled = new AtomicInteger();
+        assertThat(ReactiveSeq.iterate(0, i -> i + 1).peek(i -> pulled.incrementAndGet()).filter(i -> true).limit(0).toList(),
+                   equalTo(Arrays.asList()));
+        assertThat(pulled.get(), equalTo(0));
+    }
+
+    @Test
+    public void parallel(){
+        List<Integer> expected = IntStream.range(0, 100_000).map(i -> i * 2).filter(i -> i % 3 == 0).boxed().collect(Collectors.toList());
+        assertThat(ReactiveSeq.range(0, 100_000).map(i -> i * 2).filter(i -> i % 3 == 0)
+                              .foldParallel(s -> s.collect(Collectors.toList())), equalTo(expected));
+        assertThat(ReactiveSeq.range(0, 1000).filter(i -> i % 2 == 0).map(i -> i * 2).limit(10)
+                              .foldParallel(s -> s.collect(Collectors.toList())),
+                   equalTo(Arrays.asList(0, 4, 8, 12, 16, 20, 24, 28, 32, 36)));
+    }
+
+    @Test
+    public void fusesPushStages(){
+        List<Integer> peeked = new ArrayList<>();
+        ReactiveSeq<String> fused = Spouts.range(0, 10)
+                                          .map(i -> i + 1)
+                                          .filter(i -> i % 2 == 0)
+                                          .peek(peeked::add)
+                                          .map(i -> "v" + i);
+        assertThat(fused.toList(), equalTo(Arrays.asList("v2", "v4", "v6", "v8", "v10")));
+        assertThat(peeked, equalTo(Arrays.asList(2, 4, 6, 8, 10)));
+        assertThat(fused.take(2).toList(), equalTo(Arrays.asList("v2", "v4")));
+        assertThat(fused.collectAll(Collectors.toList()).singleOrElse(null), equalTo(Arrays.asList("v2", "v4", "v6", "v8", "v10")));
+    }
+
+    @Test
+    public void pushBackpressure(){
+        List<String> res = new ArrayList<>();
+        Spouts.range(0, 100)
+              .filter(i -> i % 10 == 0)
+              .map(i -> "v" + i)
+              .filter(s -> !s.equals("v20"))
+              .forEach(3, res::add);
+        assertThat(res, equalTo(Arrays.asList("v0", "v10", "v30")));
+    }
+
+    @Test
+    public void pushErrors(){
+        List<Throwable> errors = new ArrayList<>();
+        List<Integer> res = new ArrayList<>();
+        Spouts.of(1, 2, 0, 4)
+              .filter(i -> i < 10)
+              .map(i -> 8 / i)
+              .forEach(res::add, errors::add);
+        assertThat(res, equalTo(Arrays.asList(8, 4, 2)));
+        assertThat(errors.size(), equalTo(1));
+    }
+}
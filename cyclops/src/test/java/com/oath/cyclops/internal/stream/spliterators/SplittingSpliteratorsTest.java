@@ -0,0 +1,102 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import cyclops.data.Seq;
+import cyclops.data.Vector;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public class SplittingSpliteratorsTest {
+
+    @Test
+    public void splitsSizedSources(){
+        Integer[] array = ReactiveSeq.range(0,1000).toArray(Integer[]::new);
+        checkSplit(ReactiveSeq.of(array));
+        checkSplit(ReactiveSeq.range(0,1000));
+        checkSplit(ReactiveSeq.range(0,3,3000));
+        checkSplit(ReactiveSeq.rangeLong(0,1000).map(Long::intValue));
+        checkSplit(Vector.range(0,1000).stream());
+        checkSplit(ReactiveSeq.range(0,2000).filter(i->i%2==0).map(i->i/2));
+    }
+
+    @Test
+    public void reversedSourcesAreNotSplit(){
+        Spliterator<Integer> split = SplittingSpliterators.splittable(ReactiveSeq.range(0,1000).reverse().spliterator());
+        List<Integer> all = new ArrayList<>();
+        split.forEachRemaining(all::add);
+        assertThat(all,equalTo(ReactiveSeq.range(0,1000).reverse().toList()));
+    }
+
+    @Test
+    public void foldParallel(){
+        List<ReactiveSeq<Integer>> sources = new ArrayList<>();
+        sources.add(ReactiveSeq.range(0,100000));
+        sources.add(ReactiveSeq.of(ReactiveSeq.range(0,100000).toArray(Integer[]::new)));
+        sources.add(Vector.range(0,100000).stream());
+        sources.add(Seq.range(0,100000).stream());
+        sources.add(ReactiveSeq.iterate(0,i->i+1).take(100000));
+        sources.add(ReactiveSeq.range(0,100000).reverse());
+        for(ReactiveSeq<Integer> source : sources){
+            ReactiveSeq<Integer> seq = source.map(i->i*3).filter(i->i%2==0);
+            List<Integer> expected = seq.toList();
+            assertThat(seq.foldParallel(s->s.collect(Collectors.toList())),equalTo(expected));
+            assertThat(seq.foldParallel(new ForkJoinPool(4),s->s.collect(Collectors.toList())),equalTo(expected));
+            assertThat(seq.foldParallel(false,s->s.mapToLong(i->i).sum()),equalTo(seq.mapToLong(i->i).sum()));
+            assertThat(seq.parallel(s->s.map(i->i+1)).toList(),equalTo(seq.map(i->i+1).toList()));
+            assertThat(seq.parallel(false,s->s.map(i->i+1)).count(),equalTo((long)expected.size()));
+        }
+    }
+
+    @Test
+    public void parallelTraversalVisitsEachElementOnce(){
+        List<Integer> expected = ReactiveSeq.range(0,100000).toList();
+        Integer[] array = expected.toArray(new Integer[0]);
+        List<Spliterator<Integer>> sources = new ArrayList<>();
+        sources.add(SplittingSpliterators.splittable(ReactiveSeq.range(0,100000).spliterator()));
+        sources.add(SplittingSpliterators.splittable(ReactiveSeq.rangeLong(0,100000).map(Long::intValue).spliterator()));
+        sources.add(SplittingSpliterators.splittable(ReactiveSeq.of(array).spliterator()));
+        for(Spliterator<Integer> source : sources){
+            List<Integer> all = new ArrayList<>();
+            StreamSupport.stream(source,true).forEachOrdered(all::add);
+            assertThat(all,equalTo(expected));
+        }
+        assertThat(StreamSupport.stream(SplittingSpliterators.splittable(ReactiveSeq.of(array).spliterator()),true)
+                                .collect(Collectors.toList()),equalTo(expected));
+
+        ReactiveSeq<Integer> seq = ReactiveSeq.range(0,100000).map(i->i*3).filter(i->i%2==0);
+        assertThat(seq.parallel(s->s.map(i->i+1)).toList().size(),equalTo(50000));
+    }
+
+    private void checkSplit(ReactiveSeq<Integer> seq){
+        List<Integer> expected = seq.toList();
+        Spliterator<Integer> suffix = SplittingSpliterators.splittable(seq.spliterator());
+        Spliterator<Integer> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        List<Integer> all = new ArrayList<>();
+        prefix.forEachRemaining(all::add);
+        assertThat(all.size()>0,equalTo(true));
+        suffix.forEachRemaining(all::add);
+        assertThat(all,equalTo(expected));
+    }
+
+    @Test
+    public void arraySpliteratorSplitsInHalves(){
+        ReversingArraySpliterator<Integer> split = new ReversingArraySpliterator<>(new Integer[]{1,2,3,4,5},0,5,false);
+        Spliterator<Integer> prefix = split.trySplit();
+        assertThat(prefix.estimateSize(),equalTo(2L));
+        assertThat(split.estimateSize(),equalTo(3L));
+        assertNull(new ReversingArraySpliterator<>(new Integer[]{1},0,1,false).trySplit());
+        assertNull(split.invert().trySplit());
+    }
+}
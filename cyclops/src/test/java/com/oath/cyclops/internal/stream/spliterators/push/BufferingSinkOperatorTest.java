@@ -0,0 +1,130 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import com.oath.cyclops.types.reactive.BufferOverflowPolicy;
+import com.oath.cyclops.types.reactive.OverflowStats;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class BufferingSinkOperatorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    OverflowStats stats = new OverflowStats();
+
+    /*
+     * Ignores backpressure, sends all elements on the first request
+     */
+    private Consumer<Subscriber<Integer>> burst(int size){
+        return s -> s.onSubscribe(new Subscription() {
+            boolean sent;
+            @Override
+            public void request(long n) {
+                if(!sent) {
+                    sent = true;
+                    for(int i = 0; i < size; i++)
+                        s.onNext(i);
+                }
+            }
+
+            @Override
+            public void cancel() {
+
+            }
+        });
+    }
+
+    private List<Integer> drain(ReactiveSeq<Integer> stream){
+        List<Integer> res = new ArrayList<>();
+        Subscription sub = stream.forEach(2, res::add);
+        assertThat(res, equalTo(Arrays.asList(0, 1)));
+        sub.request(100);
+        return res;
+    }
+
+    private List<Integer> range(int start, int end){
+        return IntStream.range(start, end).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void drop(){
+        assertThat(drain(Spouts.reactiveBuffer(4, BufferOverflowPolicy.DROP, stats, burst(20))), equalTo(range(0, 6)));
+        assertThat(stats.getOverflowCount(), equalTo(14l));
+        assertThat(stats.getDropCount(), equalTo(14l));
+    }
+
+    @Test
+    public void dropOldest(){
+        assertThat(drain(Spouts.reactiveBuffer(4, BufferOverflowPolicy.DROP_OLDEST, stats, burst(20))),
+                   equalTo(Arrays.asList(0, 1, 16, 17, 18, 19)));
+        assertThat(stats.getOverflowCount(), equalTo(14l));
+        assertThat(stats.getDropCount(), equalTo(14l));
+    }
+
+    @Test
+    public void latest(){
+        assertThat(drain(Spouts.reactiveBuffer(4, BufferOverflowPolicy.LATEST, stats, burst(20))),
+                   equalTo(Arrays.asList(0, 1, 2, 3, 4, 5, 19)));
+        assertThat(stats.getOverflowCount(), equalTo(14l));
+        assertThat(stats.getDropCount(), equalTo(13l));
+    }
+
+    @Test
+    public void sample(){
+        assertThat(drain(Spouts.reactiveBufferSample(4, 5, stats, burst(20))),
+                   equalTo(Arrays.asList(0, 1, 4, 5, 10, 15)));
+        assertThat(stats.getOverflowCount(), equalTo(14l));
+        assertThat(stats.getDropCount(), equalTo(14l));
+    }
+
+    @Test
+    public void spill(){
+        assertThat(drain(Spouts.reactiveBufferSpill(4, folder.getRoot(), stats, burst(1000))), equalTo(range(0, 102)));
+        assertThat(stats.getOverflowCount(), equalTo(994l));
+        assertThat(stats.getDropCount(), equalTo(0l));
+    }
+
+    @Test
+    public void spillInOrder(){
+        List<Integer> res = new ArrayList<>();
+        Subscription sub = Spouts.reactiveBufferSpill(4, folder.getRoot(), stats, burst(1000))
+                                 .forEach(2, res::add);
+        for(int i = 0; i < 100; i++)
+            sub.request(10);
+        assertThat(res, equalTo(range(0, 1000)));
+        assertThat(folder.getRoot().list().length, equalTo(0));
+    }
+
+    @Test
+    public void spillDeletedOnCancel(){
+        Subscription sub = Spouts.reactiveBufferSpill(4, folder.getRoot(), stats, burst(1000))
+                                 .forEach(2, i->{});
+        assertThat(folder.getRoot().list().length, equalTo(1));
+        sub.cancel();
+        assertThat(folder.getRoot().list().length, equalTo(0));
+    }
+
+    @Test
+    public void block(){
+        List<Integer> res = new ArrayList<>();
+        Spouts.reactiveBuffer(4, BufferOverflowPolicy.BLOCK, stats, burst(20))
+              .forEach(Long.MAX_VALUE, res::add);
+        assertThat(res, equalTo(range(0, 20)));
+        assertThat(stats.getDropCount(), equalTo(0l));
+    }
+}
@@ -0,0 +1,116 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.After;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ChunkedOperatorTest {
+
+    ExecutorService exec = Executors.newFixedThreadPool(2);
+
+    @After
+    public void shutdown(){
+        exec.shutdownNow();
+    }
+
+    private Stream<Integer> range(int size){
+        return IntStream.range(0, size).boxed();
+    }
+
+    @Test
+    public void chunks(){
+        List<Integer> sizes = ReactiveSeq.fromSpliterator(ChunkedOperator.chunks(range(10).spliterator(), 4))
+                                         .map(a -> a.length)
+                                         .toList();
+        assertThat(sizes, equalTo(Arrays.asList(4, 4, 2)));
+    }
+
+    @Test
+    public void elements(){
+        for(int batch : new int[]{1, 3, 64, 1000}) {
+            assertThat(Spouts.reactive(range(1000), exec, batch).toList(),
+                       equalTo(range(1000).collect(Collectors.toList())));
+        }
+        assertThat(Spouts.reactive(range(0), exec, 16).toList(), equalTo(Collections.emptyList()));
+    }
+
+    @Test
+    public void fusedStages(){
+        List<Integer> peeked = new CopyOnWriteArrayList<>();
+        List<String> res = Spouts.reactive(range(100), exec, 8)
+                                 .filter(i -> i % 3 == 0)
+                                 .peek(peeked::add)
+                                 .map(i -> "v" + i)
+                                 .take(4)
+                                 .toList();
+        assertThat(res, equalTo(Arrays.asList("v0", "v3", "v6", "v9")));
+        assertTrue(peeked.size() >= 4);
+    }
+
+    @Test
+    public void elementDemand() throws InterruptedException {
+        List<Integer> res = new CopyOnWriteArrayList<>();
+        AtomicBoolean complete = new AtomicBoolean();
+        Subscription sub = Spouts.reactive(range(100), exec, 32)
+                                 .forEach(5, res::add, e -> {}, () -> complete.set(true));
+        Thread.sleep(200);
+        assertThat(res, equalTo(Arrays.asList(0, 1, 2, 3, 4)));
+        sub.request(3);
+        Thread.sleep(200);
+        assertThat(res, equalTo(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7)));
+        sub.request(Long.MAX_VALUE);
+        long deadline = System.currentTimeMillis() + 5000;
+        while(!complete.get() && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+        assertTrue(complete.get());
+        assertThat(res, equalTo(range(100).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void errors(){
+        List<Throwable> errors = new ArrayList<>();
+        List<Integer> res = new ArrayList<>();
+        Spouts.<Integer>fromChunks(Spouts.of(new Integer[]{1, 2}, new Integer[]{0, 4}))
+              .map(i -> 8 / i)
+              .forEach(res::add, errors::add);
+        assertThat(res, equalTo(Arrays.asList(8, 4, 2)));
+        assertThat(errors.size(), equalTo(1));
+    }
+
+    @Test
+    public void fromChunks(){
+        ReactiveSeq<Integer> elements = Spouts.<Integer>fromChunks(Spouts.of(new Integer[]{1, 2, 3}, new Integer[]{}, new Integer[]{4}));
+        assertThat(elements.toList(), equalTo(Arrays.asList(1, 2, 3, 4)));
+        assertThat(elements.map(i -> i * 2).filter(i -> i > 2).toList(), equalTo(Arrays.asList(4, 6, 8)));
+    }
+
+    @Test
+    public void cancel() throws InterruptedException {
+        List<Integer> res = new CopyOnWriteArrayList<>();
+        Subscription sub = Spouts.reactive(Stream.iterate(0, i -> i + 1), exec, 16)
+                                 .forEach(10, res::add);
+        Thread.sleep(100);
+        sub.cancel();
+        sub.request(10);
+        Thread.sleep(100);
+        assertThat(res.size(), equalTo(10));
+    }
+}
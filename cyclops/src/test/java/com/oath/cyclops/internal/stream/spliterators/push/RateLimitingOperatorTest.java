@@ -0,0 +1,73 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import com.oath.cyclops.async.RateLimiter;
+import com.oath.cyclops.async.SharedTimer;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class RateLimitingOperatorTest {
+
+    @Test
+    public void limitsRate() {
+        RateLimiter limiter = RateLimiter.leakyBucket(100, 1, TimeUnit.SECONDS);
+        long start = System.nanoTime();
+        assertThat(Spouts.of(1, 2, 3, 4, 5, 6)
+                         .rateLimit(limiter)
+                         .toList(),
+                   equalTo(Arrays.asList(1, 2, 3, 4, 5, 6)));
+        assertThat(System.nanoTime() - start, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50)));
+    }
+
+    @Test
+    public void sharedAcrossStreams() {
+        RateLimiter limiter = RateLimiter.leakyBucket(100, 1, TimeUnit.SECONDS);
+        long start = System.nanoTime();
+        Spouts.of(1, 2, 3).rateLimit(limiter).toList();
+        Spouts.of(1, 2, 3).rateLimit(limiter).toList();
+        assertThat(System.nanoTime() - start, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50)));
+    }
+
+    @Test
+    public void weighted() {
+        RateLimiter limiter = RateLimiter.leakyBucket(1000, 1, TimeUnit.SECONDS);
+        long start = System.nanoTime();
+        assertThat(Spouts.of(20, 20, 20)
+                         .rateLimit(limiter, i -> i)
+                         .toList(),
+                   equalTo(Arrays.asList(20, 20, 20)));
+        assertThat(System.nanoTime() - start, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(40)));
+    }
+
+    @Test
+    public void demandDriven() {
+        RateLimiter limiter = RateLimiter.tokenBucket(1000, 1, TimeUnit.SECONDS);
+        List<Integer> result = new ArrayList<>();
+        StreamSubscription sub = new RateLimitingOperator<>(new ArrayOfValuesOperator<>(1, 2, 3, 4, 5), limiter,
+                                                            i -> 1l, SharedTimer.instance(), ForkJoinPool.commonPool())
+                .subscribe(result::add, e -> { }, () -> { });
+        sub.request(2);
+        assertThat(result, equalTo(Arrays.asList(1, 2)));
+        sub.request(1);
+        assertThat(result, equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void syncStream() {
+        RateLimiter limiter = RateLimiter.tokenBucket(1000, 1, TimeUnit.SECONDS);
+        assertThat(ReactiveSeq.of(1, 2, 3)
+                              .rateLimit(limiter)
+                              .toList(),
+                   equalTo(Arrays.asList(1, 2, 3)));
+    }
+}
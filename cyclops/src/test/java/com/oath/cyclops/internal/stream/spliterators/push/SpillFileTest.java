@@ -0,0 +1,45 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class SpillFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void fifo() throws Exception {
+        SpillFile<String> spill = new SpillFile<>(folder.getRoot());
+        assertTrue(spill.isEmpty());
+        assertThat(spill.read(), nullValue());
+        spill.write("a");
+        spill.write("b");
+        assertThat(spill.read(), equalTo("a"));
+        spill.write("c");
+        assertThat(spill.size(), equalTo(2l));
+        assertThat(spill.read(), equalTo("b"));
+        assertThat(spill.read(), equalTo("c"));
+        assertTrue(spill.isEmpty());
+    }
+
+    @Test
+    public void deletedOnceDrained() throws Exception {
+        SpillFile<Integer> spill = new SpillFile<>(folder.getRoot());
+        for(int i = 0; i < 100; i++)
+            spill.write(i);
+        assertThat(folder.getRoot().list().length, equalTo(1));
+        for(int i = 0; i < 100; i++)
+            assertThat(spill.read(), equalTo(i));
+        assertThat(folder.getRoot().list().length, equalTo(0));
+        spill.write(100);
+        assertThat(spill.read(), equalTo(100));
+        spill.close();
+    }
+}
@@ -0,0 +1,129 @@
+package com.oath.cyclops.streams.hotstream;
+
+import com.oath.cyclops.internal.stream.ConnectionQueues;
+import com.oath.cyclops.internal.stream.IteratorHotStream;
+import com.oath.cyclops.types.reactive.BufferOverflowPolicy;
+import com.oath.cyclops.types.stream.Connectable;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ConnectionPolicyTest {
+
+    static final Executor exec = Executors.newFixedThreadPool(30);
+
+    @Test
+    public void moreThanTenConnections() throws InterruptedException {
+        Connectable<Integer> hot = ReactiveSeq.range(0, 1000)
+                                              .primedHotStream(exec);
+        CountDownLatch latch = new CountDownLatch(25);
+        List<List<Integer>> results = new ArrayList<>();
+        List<ReactiveSeq<Integer>> connected = new ArrayList<>();
+        for (int i = 0; i < 25; i++)
+            connected.add(hot.connect(10, BufferOverflowPolicy.BLOCK));
+        for (ReactiveSeq<Integer> next : connected) {
+            List<Integer> result = new ArrayList<>();
+            results.add(result);
+            exec.execute(() -> {
+                next.forEach(result::add);
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        //emission stalls on the first (unread) connection, so later connections miss at most a few leading elements
+        for (List<Integer> result : results) {
+            assertTrue(result.size() > 900);
+            assertThat(result.get(result.size() - 1), equalTo(999));
+        }
+    }
+
+    @Test
+    public void slowConnectionDoesNotStallOthers() throws InterruptedException {
+        Connectable<Integer> hot = ReactiveSeq.range(0, 10_000)
+                                              .primedHotStream(exec);
+        ReactiveSeq<Integer> fast = hot.connect(100, BufferOverflowPolicy.BLOCK);
+        ReactiveSeq<Integer> slow = hot.connect(1, BufferOverflowPolicy.LATEST);
+        //nobody reads from slow until fast is done, fast still receives everything
+        assertThat(fast.toList()
+                       .size(), equalTo(10_000));
+        assertThat(slow.firstValue(null), equalTo(9_999));
+    }
+
+    @Test
+    public void closeRemovesConnection() {
+        Connectable<Integer> hot = ReactiveSeq.range(0, 1000)
+                                              .primedHotStream(exec);
+        IteratorHotStream<Integer> registry = (IteratorHotStream<Integer>) hot;
+        ReactiveSeq<Integer> first = hot.connect(10, BufferOverflowPolicy.DROP);
+        ReactiveSeq<Integer> second = hot.connect(10, BufferOverflowPolicy.DROP);
+        assertThat(registry.connectionCount(), equalTo(2));
+
+        first.close();
+        assertThat(registry.connectionCount(), equalTo(1));
+        second.close();
+        assertThat(registry.connectionCount(), equalTo(0));
+    }
+
+    @Test
+    public void closingDerivedStreamRemovesConnection() {
+        Connectable<Integer> hot = ReactiveSeq.range(0, 1000)
+                                              .primedHotStream(exec);
+        IteratorHotStream<Integer> registry = (IteratorHotStream<Integer>) hot;
+        ReactiveSeq<Integer> mapped = hot.connect(10, BufferOverflowPolicy.DROP)
+                                         .map(i -> i * 2)
+                                         .filter(i -> i > 10);
+        assertThat(registry.connectionCount(), equalTo(1));
+
+        mapped.close();
+        assertThat(registry.connectionCount(), equalTo(0));
+    }
+
+    @Test
+    public void dropOldest() {
+        Queue<Integer> queue = ConnectionQueues.queue(2, BufferOverflowPolicy.DROP_OLDEST);
+        queue.offer(1);
+        queue.offer(2);
+        queue.offer(3);
+        assertThat(queue.poll(), equalTo(2));
+        assertThat(queue.poll(), equalTo(3));
+        assertThat(queue.poll(), nullValue());
+    }
+
+    @Test
+    public void drop() {
+        Queue<Integer> queue = ConnectionQueues.queue(2, BufferOverflowPolicy.DROP);
+        queue.offer(1);
+        queue.offer(2);
+        queue.offer(3);
+        assertThat(queue.poll(), equalTo(1));
+        assertThat(queue.poll(), equalTo(2));
+        assertThat(queue.poll(), nullValue());
+    }
+
+    @Test
+    public void latest() {
+        Queue<Integer> queue = ConnectionQueues.queue(1, BufferOverflowPolicy.LATEST);
+        queue.offer(1);
+        queue.offer(2);
+        assertThat(queue.size(), equalTo(1));
+        assertThat(queue.poll(), equalTo(2));
+        assertThat(queue.poll(), nullValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unsupported() {
+        ConnectionQueues.queue(1, BufferOverflowPolicy.SPILL_TO_DISK);
+    }
+}
@@ -0,0 +1,58 @@
+package com.oath.cyclops.util;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BloomFilterTest {
+
+    @Test
+    public void noFalseNegatives(){
+        BloomFilter filter = new BloomFilter(10_000,0.01);
+        for(int i=0;i<10_000;i++)
+            filter.put(i);
+        for(int i=0;i<10_000;i++)
+            assertTrue(filter.mightContain(i));
+    }
+
+    @Test
+    public void saturated(){
+        BloomFilter filter = new BloomFilter(1000,0.01);
+        for(int i=0;i<900;i++)
+            filter.put(i);
+        assertFalse(filter.isSaturated());
+        for(int i=900;i<1100;i++)
+            filter.put(i);
+        assertTrue(filter.isSaturated());
+    }
+
+    @Test
+    public void falsePositiveRate(){
+        BloomFilter filter = new BloomFilter(50_000,0.01);
+        for(int i=0;i<50_000;i++)
+            filter.put("in"+i);
+        int falsePositives = 0;
+        for(int i=0;i<100_000;i++){
+            if(filter.mightContain("out"+i))
+                falsePositives++;
+        }
+        assertThat(falsePositives/100_000d,lessThan(0.02));
+    }
+
+    @Test
+    public void put(){
+        BloomFilter filter = new BloomFilter(100,0.01);
+        assertTrue(filter.put("hello"));
+        assertFalse(filter.put("hello"));
+        assertTrue(filter.put(null));
+        assertTrue(filter.mightContain(null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidRate(){
+        new BloomFilter(100,1.0);
+    }
+}
@@ -0,0 +1,23 @@
+package com.oath.cyclops.util;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class HashingTest {
+
+    @Test
+    public void stringsWithEqualHashCodes(){
+        assertThat("Aa".hashCode(),equalTo("BB".hashCode()));
+        assertThat(Hashing.hash64("Aa"),not(equalTo(Hashing.hash64("BB"))));
+        assertThat(Hashing.hash64("Aa"),equalTo(Hashing.hash64(new StringBuilder("A").append('a').toString())));
+    }
+
+    @Test
+    public void longsWithEqualHashCodes(){
+        assertThat(Long.valueOf(1L).hashCode(),equalTo(Long.valueOf(1L << 32).hashCode()));
+        assertThat(Hashing.hash64(1L),not(equalTo(Hashing.hash64(1L << 32))));
+    }
+}
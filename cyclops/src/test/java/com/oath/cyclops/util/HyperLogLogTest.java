@@ -0,0 +1,60 @@
+package com.oath.cyclops.util;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+public class HyperLogLogTest {
+
+    private double error(long estimate, long actual){
+        return Math.abs(estimate - actual) / (double)actual;
+    }
+
+    @Test
+    public void empty(){
+        assertThat(new HyperLogLog().estimate(),equalTo(0l));
+    }
+
+    @Test
+    public void small(){
+        HyperLogLog hll = new HyperLogLog();
+        for(int i=0;i<100;i++){
+            hll.add(i);
+            hll.add(i);
+        }
+        assertThat(hll.estimate(),equalTo(100l));
+    }
+
+    @Test
+    public void large(){
+        for(int size : new int[]{10_000,100_000,1_000_000}){
+            HyperLogLog hll = new HyperLogLog();
+            for(int i=0;i<size;i++)
+                hll.add("value"+i);
+            assertThat(error(hll.estimate(),size),lessThan(0.03));
+        }
+    }
+
+    @Test
+    public void merge(){
+        HyperLogLog left = new HyperLogLog(12);
+        HyperLogLog right = new HyperLogLog(12);
+        for(int i=0;i<60_000;i++)
+            left.add(i);
+        for(int i=40_000;i<100_000;i++)
+            right.add(i);
+        assertThat(error(left.merge(right).estimate(),100_000),lessThan(0.05));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mergeDifferentPrecision(){
+        new HyperLogLog(10).merge(new HyperLogLog(12));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPrecision(){
+        new HyperLogLog(3);
+    }
+}
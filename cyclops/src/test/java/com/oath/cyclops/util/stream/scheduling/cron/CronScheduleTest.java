@@ -0,0 +1,98 @@
+package com.oath.cyclops.util.stream.scheduling.cron;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class CronScheduleTest {
+
+    String[] expressions = {
+        "* * * * * ?",
+        "0/5 * * * * ?",
+        "0 0 12 * * ?",
+        "0 15 10 ? * MON-FRI",
+        "0 0/30 8-17 ? * *",
+        "30 45 23 31 * ?",
+        "0 0 0 29 2 ?",
+        "0 10,44 14 ? 3 WED",
+        "0 0 6 1 JAN,JUL ?",
+        "0 0 12 ? * SUN 2030-2035",
+        "0 15 10 L * ?",
+        "0 15 10 ? * 6#3",
+        "0 0 12 15W * ?"
+    };
+
+    @Test
+    public void matchesCronExpression() throws Exception {
+        Random random = new Random(42);
+        long now = System.currentTimeMillis();
+        for (String cron : expressions) {
+            CronExpression expression = new CronExpression(cron);
+            CronSchedule schedule = CronSchedule.of(cron);
+            for (int i = 0; i < 200; i++) {
+                long from = now + (long) (random.nextDouble() * 4 * 365 * 24 * 60 * 60 * 1000L);
+                Date expected = expression.getNextValidTimeAfter(new Date(from));
+                assertThat(cron + " after " + new Date(from), schedule.nextFireTimeAfter(from),
+                           equalTo(expected == null ? -1 : expected.getTime()));
+            }
+        }
+    }
+
+    @Test
+    public void successiveFireTimes() throws Exception {
+        CronExpression expression = new CronExpression("0 0/30 8-17 ? * *");
+        CronSchedule schedule = CronSchedule.of("0 0/30 8-17 ? * *");
+        long time = System.currentTimeMillis();
+        Date date = new Date(time);
+        for (int i = 0; i < 100; i++) {
+            time = schedule.nextFireTimeAfter(time);
+            date = expression.getNextValidTimeAfter(date);
+            assertThat(time, equalTo(date.getTime()));
+        }
+    }
+
+    @Test
+    public void matchesCronExpressionAcrossDaylightSaving() throws Exception {
+        String[] crons = { "* * * * * ?", "0 0/15 * * * ?", "0 30 1 * * ?", "0 30 2 * * ?", "0 15 2 * * ?", "0 0 * * * ?" };
+        //fall back and spring forward transitions, Lord Howe shifts by half an hour
+        String[][] transitions = {
+            { "America/New_York", "2018-11-04T04:00:00Z", "2017-03-12T05:00:00Z" },
+            { "Australia/Lord_Howe", "2018-04-01T13:00:00Z", "2018-10-06T14:00:00Z" }
+        };
+        for (String[] transition : transitions) {
+            TimeZone zone = TimeZone.getTimeZone(transition[0]);
+            for (String cron : crons) {
+                CronExpression expression = new CronExpression(cron);
+                expression.setTimeZone(zone);
+                CronSchedule schedule = CronSchedule.of(cron, zone);
+                for (int i = 1; i < transition.length; i++) {
+                    long start = Instant.parse(transition[i]).toEpochMilli();
+                    for (long from = start; from < start + 4 * 60 * 60 * 1000L; from += 13_000L) {
+                        Date expected = expression.getNextValidTimeAfter(new Date(from));
+                        assertThat(transition[0] + " " + cron + " after " + Instant.ofEpochMilli(from), schedule.nextFireTimeAfter(from),
+                                   equalTo(expected == null ? -1 : expected.getTime()));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void cachedPerTimeZone() {
+        assertThat(CronSchedule.of("0 0 12 * * ?", TimeZone.getTimeZone("UTC")),
+                   not(sameInstance(CronSchedule.of("0 0 12 * * ?", TimeZone.getTimeZone("Asia/Tokyo")))));
+    }
+
+    @Test
+    public void cached() {
+        assertThat(CronSchedule.of("0 0 12 * * ?"), sameInstance(CronSchedule.of("0 0 12 * * ?")));
+    }
+}
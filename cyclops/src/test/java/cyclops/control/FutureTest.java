@@ -239,6 +239,13 @@ public class FutureTest {
         assertThat(res,equalTo("hello"));
 
     }
+    @Test
+    public void scheduleCronWithNoFutureFireTime(){
+        Future<String> future = Future.schedule("0 0 12 * * ? 2000", Executors.newScheduledThreadPool(1), ()->"hello");
+
+        assertTrue(future.isFailed());
+        assertThat(future.toEither().swap().orElse(null),instanceOf(NoSuchElementException.class));
+    }
 
 
     @Test
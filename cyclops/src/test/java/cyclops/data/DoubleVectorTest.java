@@ -0,0 +1,46 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import org.junit.Test;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class DoubleVectorTest {
+
+    int[] sizes = {0,1,32,33,1025,40000};
+
+    @Test
+    public void append(){
+        for(int size : sizes){
+            DoubleVector vec = DoubleVector.empty();
+            for(int i=0;i<size;i++)
+                vec = vec.append(i/2d);
+            assertThat(vec,equalTo(DoubleVector.fromStream(IntStream.range(0,size).mapToDouble(i->i/2d))));
+            assertThat(vec.getOrElse(size-1,-1),equalTo(size==0 ? -1d : (size-1)/2d));
+            assertThat(vec.get(size),equalTo(Option.none()));
+        }
+    }
+
+    @Test
+    public void nan(){
+        assertThat(DoubleVector.of(Double.NaN),equalTo(DoubleVector.of(Double.NaN)));
+        assertThat(DoubleVector.of(Double.NaN).hashCode(),equalTo(DoubleVector.of(Double.NaN).hashCode()));
+    }
+
+    @Test
+    public void mapFilterFold(){
+        for(int size : sizes){
+            DoubleVector vec = DoubleVector.fromStream(IntStream.range(0,size).asDoubleStream());
+            assertThat(vec.map(i->i*2).toArray(),equalTo(IntStream.range(0,size).asDoubleStream().map(i->i*2).toArray()));
+            assertThat(vec.filter(i->i>10).size(),equalTo(Math.max(0,size-11)));
+            assertThat(vec.sum(),equalTo(IntStream.range(0,size).asDoubleStream().sum()));
+            assertThat(vec.foldLeft(1,(a,b)->a),equalTo(1d));
+            assertThat(vec.doubleStream().toArray(),equalTo(IntStream.range(0,size).asDoubleStream().toArray()));
+            assertThat(vec.updateAt(0,-1).getOrElse(0,0),equalTo(size==0 ? 0d : -1d));
+        }
+    }
+}
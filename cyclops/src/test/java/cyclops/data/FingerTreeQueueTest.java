@@ -0,0 +1,100 @@
+package cyclops.data;
+
+import com.oath.cyclops.types.traversable.IterableX;
+import cyclops.control.Option;
+import cyclops.data.basetests.BaseImmutableQueueTest;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class FingerTreeQueueTest extends BaseImmutableQueueTest {
+
+    @Test
+    public void dequeueBothEnds(){
+        FingerTreeQueue<Integer> q = FingerTreeQueue.of(1,2,3);
+        assertThat(q.dequeue(-1),equalTo(Tuple.tuple(1,FingerTreeQueue.of(2,3))));
+        assertThat(q.dequeueLast(-1),equalTo(Tuple.tuple(3,FingerTreeQueue.of(1,2))));
+        assertThat(q.last(-1),equalTo(3));
+        assertThat(FingerTreeQueue.<Integer>empty().dequeueLast(-1)._1(),equalTo(-1));
+        assertThat(q.prepend(0).enqueue(4).init().tail(),equalTo(q));
+    }
+
+    @Test
+    public void serialization() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ObjectOutputStream(bytes)){
+            out.writeObject(FingerTreeQueue.of(1,2,3));
+            out.writeObject(FingerTreeQueue.empty());
+        }
+        try(ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))){
+            assertThat(in.readObject(),equalTo(FingerTreeQueue.of(1,2,3)));
+            assertThat(in.readObject()==FingerTreeQueue.empty(),equalTo(true));
+        }
+    }
+
+    @Test
+    public void indexedOperations(){
+        FingerTreeQueue<Integer> q = FingerTreeQueue.fromStream(ReactiveSeq.range(0,1000));
+        assertThat(q.get(999),equalTo(Option.some(999)));
+        assertThat(q.get(1000),equalTo(Option.none()));
+        assertThat(q.appendAll(q).size(),equalTo(2000));
+        assertThat(q.appendAll(q).getOrElse(1500,-1),equalTo(500));
+        assertThat(q.splitAt(400).map1(ImmutableQueue::size),equalTo(Tuple.tuple(400,q.drop(400))));
+        assertThat(q.insertAt(500,-1).removeAt(500),equalTo(q));
+        assertThat(q.updateAt(10,-1).getOrElse(10,0),equalTo(-1));
+        assertThat(q.deleteBetween(10,990).toList(),equalTo(q.take(10).appendAll(q.takeRight(10)).toList()));
+    }
+
+    @Override
+    protected <T> ImmutableQueue<T> fromStream(Stream<T> s) {
+        return FingerTreeQueue.fromStream(s);
+    }
+
+    @Override
+    public <T> ImmutableQueue<T> empty() {
+        return FingerTreeQueue.empty();
+    }
+
+    @Override
+    public <T> ImmutableQueue<T> of(T... values) {
+        return FingerTreeQueue.of(values);
+    }
+
+    @Override
+    public IterableX<Integer> range(int start, int end) {
+        return FingerTreeQueue.fromStream(ReactiveSeq.range(start,end));
+    }
+
+    @Override
+    public IterableX<Long> rangeLong(long start, long end) {
+        return FingerTreeQueue.fromStream(ReactiveSeq.rangeLong(start,end));
+    }
+
+    @Override
+    public <T> IterableX<T> iterate(int times, T seed, UnaryOperator<T> fn) {
+        return FingerTreeQueue.fromStream(ReactiveSeq.iterate(seed,fn).limit(times));
+    }
+
+    @Override
+    public <T> IterableX<T> generate(int times, Supplier<T> fn) {
+        return FingerTreeQueue.fromStream(ReactiveSeq.generate(fn).limit(times));
+    }
+
+    @Override
+    public <U, T> IterableX<T> unfold(U seed, Function<? super U, Option<Tuple2<T, U>>> unfolder) {
+        return FingerTreeQueue.fromStream(ReactiveSeq.unfold(seed,unfolder));
+    }
+}
@@ -2,7 +2,10 @@ package cyclops.data;
 
 import com.oath.cyclops.types.persistent.PersistentMap;
 import cyclops.control.Option;
+import cyclops.data.base.HAMT;
+import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
 import lombok.AllArgsConstructor;
 import lombok.ToString;
 import org.hamcrest.MatcherAssert;
@@ -110,7 +113,79 @@ public class HashMapTest {
     MatcherAssert.assertThat(HashMap.of(1,"a",2,"b").removeAll(0),equalTo(HashMap.of(1,"a",2,"b")));
   }
 
+    @Test
+    public void builder(){
+        HashMap.Builder<Integer,Integer> builder = HashMap.builder();
+        PersistentMap<Integer,Integer> expected = HashMap.empty();
+        for(int i=0;i<10000;i++){
+            builder.put(i,i);
+            expected = expected.put(i,i);
+        }
+        builder.put(5,-5);
+        expected = expected.put(5,-5);
+        HashMap<Integer,Integer> map = builder.build();
+        assertThat(map,equalTo(expected));
+        assertThat(map.size(),equalTo(10000));
+
+        builder.put(5,50);
+        builder.put(20000,1);
+        assertThat(map.get(5),equalTo(Option.some(-5)));
+        assertThat(map.containsKey(20000),equalTo(false));
+        assertThat(builder.build().get(5),equalTo(Option.some(50)));
+        assertThat(builder.build().size(),equalTo(10001));
+    }
 
+    @Test
+    public void builderCollisions(){
+        HashMap.Builder<Collider,Integer> builder = HashMap.builder();
+        for(int i=0;i<100;i++)
+            builder.put(new Collider(i,i%3),i);
+        HashMap<Collider,Integer> map = builder.build();
+        assertThat(map.size(),equalTo(100));
+        for(int i=0;i<100;i++)
+            assertThat(map.get(new Collider(i,i%3)),equalTo(Option.some(i)));
+    }
 
-}
+    @Test
+    public void fromHAMT(){
+        HAMT.Node<Integer,String> node = HAMT.<Integer,String>empty().plus(0,1,1,"one")
+                                                                     .plus(0,2,2,"two");
+        HashMap<Integer,String> map = new HashMap<>(node);
+        assertThat(map.size(),equalTo(2));
+        assertThat(map.get(2),equalTo(Option.some("two")));
+    }
 
+    @Test
+    public void bulkOperations(){
+        HashMap<Integer,String> left = HashMap.fromStream(ReactiveSeq.range(0,3000).map(i->Tuple.tuple(i,"l"+i)));
+        HashMap<Integer,String> right = HashMap.fromStream(ReactiveSeq.range(2000,5000).map(i->Tuple.tuple(i,"r"+i)));
+        HashMap<Integer,String> union = left.putAll(right);
+        assertThat(union.size(),equalTo(5000));
+        assertThat(union.get(2500),equalTo(Option.some("r2500")));
+        assertThat(union.get(10),equalTo(Option.some("l10")));
+        HashSet<Integer> keys = HashSet.fromStream(ReactiveSeq.range(2000,5000));
+        assertThat(left.removeAllKeys(keys).size(),equalTo(2000));
+        assertThat(left.removeAllKeys(keys).containsKey(2000),equalTo(false));
+        assertThat(left.removeAllKeys(keys),equalTo(left.removeAllKeys(keys.toList())));
+        assertThat(left.retainAllKeys(keys).size(),equalTo(1000));
+        assertThat(left.retainAllKeys(keys).get(2500),equalTo(Option.some("l2500")));
+        assertThat(left.retainAllKeys(keys.toList()),equalTo(left.retainAllKeys(keys)));
+    }
+
+    @AllArgsConstructor
+    @ToString
+    static class Collider{
+        int value;
+        int hash;
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Collider && ((Collider)o).value==value;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.stream.Stream;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class HashSetTest extends BaseImmutableSetTest{
     @Override
@@ -101,4 +102,40 @@ public class HashSetTest extends BaseImmutableSetTest{
         assertThat(of(1).lastIndexOfSlice(Seq.of(1,2,3)),equalTo(Maybe.nothing()));
         assertThat(of(0,1,2,3,4,5,6,1,2,3).lastIndexOfSlice(Seq.of(1,2,3)),equalTo(Maybe.just(1l)));
     }
+
+    @Test
+    public void builder(){
+        HashSet.Builder<Integer> builder = HashSet.builder();
+        for(int i=0;i<5000;i++)
+            builder.add(i%2500);
+        HashSet<Integer> set = builder.build();
+        assertThat(set.size(),equalTo(2500));
+        assertThat(set,equalTo(HashSet.fromStream(Stream.iterate(0,i->i+1).limit(2500))));
+        builder.add(-1);
+        assertThat(set.containsValue(-1),equalTo(false));
+        assertThat(builder.build().containsValue(-1),equalTo(true));
+    }
+
+    @Test
+    public void getMap(){
+        HashSet<Integer> set = HashSet.of(1,2,3);
+        assertThat(set.getMap().size(),equalTo(3));
+        assertThat(set.getMap().get(0,2,2),equalTo(Option.some(2)));
+        assertThat(set.getMap(),sameInstance(set.getMap()));
+        assertThat(set.plus(4).getMap().size(),equalTo(4));
+    }
+
+    @Test
+    public void setOperations(){
+        HashSet<Integer> evens = HashSet.fromStream(Stream.iterate(0,i->i+2).limit(5000));
+        HashSet<Integer> threes = HashSet.fromStream(Stream.iterate(0,i->i+3).limit(5000));
+        assertThat(evens.union(threes),equalTo(HashSet.fromStream(Stream.iterate(0,i->i+1).limit(15000).filter(i->(i%2==0 && i<10000) || i%3==0))));
+        assertThat(evens.intersection(threes),equalTo(HashSet.fromStream(Stream.iterate(0,i->i+6).limit(1667))));
+        assertThat(evens.difference(threes).size(),equalTo(5000-1667));
+        assertThat(evens.plusAll(threes),equalTo(evens.union(threes)));
+        assertThat(evens.retainAll(threes),equalTo(evens.intersection(threes)));
+        assertThat(evens.removeAll(threes),equalTo(evens.difference(threes)));
+        assertThat(evens.difference(threes).containsValue(6),equalTo(false));
+        assertThat(evens.difference(threes).containsValue(4),equalTo(true));
+    }
 }
@@ -0,0 +1,99 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class IntVectorTest {
+
+    int[] sizes = {0,1,31,32,33,64,65,1024,1025,1056,32*32*32+1,40000};
+
+    @Test
+    public void empty(){
+        assertThat(IntVector.empty().size(),equalTo(0));
+        assertThat(IntVector.empty().isEmpty(),equalTo(true));
+        assertThat(IntVector.empty().get(0),equalTo(Option.none()));
+        assertThat(IntVector.empty().toArray().length,equalTo(0));
+    }
+
+    @Test
+    public void append(){
+        for(int size : sizes){
+            IntVector vec = IntVector.empty();
+            for(int i=0;i<size;i++)
+                vec = vec.append(i);
+            assertThat(vec,equalTo(IntVector.range(0,size)));
+            assertThat(vec.toArray(),equalTo(IntStream.range(0,size).toArray()));
+            for(int i=0;i<size;i++)
+                assertThat(vec.getOrElse(i,-1),equalTo(i));
+            assertThat(vec.getOrElse(size,-1),equalTo(-1));
+            assertThat(vec.getOrElse(-1,-1),equalTo(-1));
+        }
+    }
+
+    @Test
+    public void of(){
+        assertThat(IntVector.of(1,2,3).toString(),equalTo("[1, 2, 3]"));
+        assertThat(IntVector.of(1,2,3),equalTo(IntVector.empty().appendAll(1,2,3)));
+        assertThat(IntVector.of(1,2,3).hashCode(),equalTo(Arrays.asList(1,2,3).hashCode()));
+        assertThat(IntVector.fromIterable(Vector.range(0,100)),equalTo(IntVector.range(0,100)));
+        assertThat(IntVector.fromStream(IntStream.range(0,100)),equalTo(IntVector.range(0,100)));
+    }
+
+    @Test
+    public void updateAt(){
+        for(int size : sizes){
+            IntVector vec = IntVector.range(0,size);
+            IntVector updated = vec;
+            for(int i=0;i<size;i+=7)
+                updated = updated.updateAt(i,-i);
+            for(int i=0;i<size;i++){
+                assertThat(vec.getOrElse(i,0),equalTo(i));
+                assertThat(updated.getOrElse(i,0),equalTo(i%7==0 ? -i : i));
+            }
+            assertThat(vec.updateAt(size,1),equalTo(vec));
+        }
+    }
+
+    @Test
+    public void mapFilterFold(){
+        for(int size : sizes){
+            IntVector vec = IntVector.range(0,size);
+            assertThat(vec.map(i->i*2).toArray(),equalTo(IntStream.range(0,size).map(i->i*2).toArray()));
+            assertThat(vec.filter(i->i%3==0).toArray(),equalTo(IntStream.range(0,size).filter(i->i%3==0).toArray()));
+            assertThat(vec.foldLeft(0,(a,b)->a+b),equalTo(IntStream.range(0,size).sum()));
+            assertThat(vec.sum(),equalTo(IntStream.range(0,size).sum()));
+            assertThat(vec.mapToObj(i->""+i),equalTo(Vector.range(0,size).map(i->""+i)));
+        }
+    }
+
+    @Test
+    public void streams(){
+        for(int size : sizes){
+            IntVector vec = IntVector.range(0,size);
+            assertThat(vec.intStream().toArray(),equalTo(IntStream.range(0,size).toArray()));
+            assertThat(vec.intStream().parallel().sum(),equalTo(IntStream.range(0,size).sum()));
+            assertThat(vec.stream().toList(),equalTo(Vector.range(0,size).toList()));
+        }
+    }
+
+    @Test
+    public void serialization() throws Exception{
+        IntVector vec = IntVector.range(0,2000);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ObjectOutputStream(bytes)){
+            out.writeObject(vec);
+        }
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertThat(in.readObject(),equalTo(vec));
+    }
+}
@@ -325,4 +325,41 @@ public class LazySeqTest extends BaseImmutableListTest {
 
 
 
+    @Test
+    public void chunkedOperations(){
+        java.util.List<Integer> model = ReactiveSeq.range(0,1000).toList();
+        LazySeq<Integer> seq = LazySeq.range(0,1000);
+        assertThat(seq.size(),equalTo(1000));
+        assertThat(seq.map(i->i*2).toList(),equalTo(ReactiveSeq.fromIterable(model).map(i->i*2).toList()));
+        assertThat(seq.filter(i->i%7==0 || i>990).toList(),equalTo(ReactiveSeq.fromIterable(model).filter(i->i%7==0 || i>990).toList()));
+        assertThat(seq.take(45).toList(),equalTo(model.subList(0,45)));
+        assertThat(seq.drop(45).toList(),equalTo(model.subList(45,1000)));
+        assertThat(seq.drop(45).take(100).getOrElse(99,-1),equalTo(144));
+        assertThat(seq.zip(LazySeq.range(0,40)).map(t->t._1()+t._2()).toList(),equalTo(ReactiveSeq.range(0,40).map(i->i*2).toList()));
+        assertThat(seq.zip(Arrays.asList(1,2,3),(a,b)->a*b).toList(),equalTo(Arrays.asList(0,2,6)));
+        assertThat(seq.prepend(-1).map(i->i+1).take(3).toList(),equalTo(Arrays.asList(0,1,2)));
+        assertThat(seq.drop(1).headOrElse(-1),equalTo(1));
+        assertThat(seq.appendAll(LazySeq.of(5000)).size(),equalTo(1001));
+    }
+
+    @Test
+    public void chunkedLazinessAtChunkGranularity(){
+        int[] pulled = {0};
+        LazySeq<Integer> seq = LazySeq.chunked(ReactiveSeq.iterate(0,i->i+1).peek(i->pulled[0]++));
+        assertThat(pulled[0],equalTo(0));
+        LazySeq<Integer> mapped = seq.map(i->i+1).filter(i->i%2==0);
+        assertThat(pulled[0],equalTo(32));
+        assertThat(mapped.take(5).toList(),equalTo(Arrays.asList(2,4,6,8,10)));
+        assertThat(pulled[0],equalTo(32));
+        assertThat(seq.getOrElse(40,-1),equalTo(40));
+        assertThat(pulled[0],equalTo(64));
+    }
+
+    @Test
+    public void chunkedLargeDrop(){
+        LazySeq<Integer> seq = LazySeq.range(0,2_000_000);
+        assertThat(seq.drop(1_999_990).filter(i->i%2==0).toList(),equalTo(Arrays.asList(1999990,1999992,1999994,1999996,1999998)));
+        assertThat(seq.filter(i->i>1_999_997).toList(),equalTo(Arrays.asList(1999998,1999999)));
+    }
+
 }
@@ -0,0 +1,72 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class LinkedMapTest {
+
+    @Test
+    public void insertionOrder() {
+        LinkedMap<String, Integer> map = LinkedMap.<String, Integer>empty().put("c", 1).put("a", 2).put("b", 3);
+        assertThat(map.stream().map(Tuple2::_1).join(), equalTo("cab"));
+        assertThat(map.put("a", 20).stream().map(Tuple2::_1).join(), equalTo("cab"));
+        assertThat(map.put("a", 20).getOrElse("a", -1), equalTo(20));
+        assertThat(map.remove("a").put("a", 4).stream().map(Tuple2::_1).join(), equalTo("cba"));
+        assertThat(map.first(), equalTo(Option.some(Tuple.tuple("c", 1))));
+        assertThat(map.last(), equalTo(Option.some(Tuple.tuple("b", 3))));
+        assertThat(LinkedMap.empty().first(), equalTo(Option.none()));
+    }
+
+    @Test
+    public void putAllRetainsExistingEntries() {
+        LinkedMap<String, Integer> map = LinkedMap.<String, Integer>empty().put("a", 1).put("b", 2);
+        LinkedMap<String, Integer> res = map.putAll(HashMap.of("b", 20, "c", 30));
+        assertThat(res.size(), equalTo(3));
+        assertThat(res.stream().map(Tuple2::_1).join(), equalTo("abc"));
+        assertThat(res.getOrElse("b", -1), equalTo(20));
+    }
+
+    @Test
+    public void hashCodeMatchesEqualMaps() {
+        LinkedMap<String, Integer> map = LinkedMap.<String, Integer>empty().put("a", 1).put("b", 2);
+        LinkedMap<String, Integer> reordered = LinkedMap.<String, Integer>empty().put("b", 2).put("x", 0).put("a", 1).remove("x");
+        assertThat(map, equalTo(reordered));
+        assertThat(map.hashCode(), equalTo(reordered.hashCode()));
+        assertThat(map.hashCode(), equalTo(HashMap.of("a", 1, "b", 2).hashCode()));
+    }
+
+    @Test
+    public void randomOperations() {
+        Random random = new Random(11);
+        Map<Integer, Integer> model = new LinkedHashMap<>();
+        LinkedMap<Integer, Integer> map = LinkedMap.empty();
+        for (int i = 0; i < 20000; i++) {
+            Integer key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                model.remove(key);
+                map = map.remove(key);
+            } else {
+                model.put(key, i);
+                map = map.put(key, i);
+            }
+        }
+        List<Tuple2<Integer, Integer>> expected = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> e : model.entrySet())
+            expected.add(Tuple.tuple(e.getKey(), e.getValue()));
+        assertThat(map.size(), equalTo(model.size()));
+        assertThat(map.stream().toList(), equalTo(expected));
+        assertThat(map.first(), equalTo(Option.some(expected.get(0))));
+        assertThat(map.last(), equalTo(Option.some(expected.get(expected.size() - 1))));
+    }
+}
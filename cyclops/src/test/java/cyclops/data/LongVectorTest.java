@@ -0,0 +1,46 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import org.junit.Test;
+
+import java.util.stream.LongStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class LongVectorTest {
+
+    int[] sizes = {0,1,32,33,1025,40000};
+
+    @Test
+    public void append(){
+        for(int size : sizes){
+            LongVector vec = LongVector.empty();
+            for(long i=0;i<size;i++)
+                vec = vec.append(i+Integer.MAX_VALUE);
+            assertThat(vec,equalTo(LongVector.range(Integer.MAX_VALUE,Integer.MAX_VALUE+(long)size)));
+            assertThat(vec.toArray(),equalTo(LongStream.range(0,size).map(i->i+Integer.MAX_VALUE).toArray()));
+            assertThat(vec.get(size),equalTo(Option.none()));
+        }
+    }
+
+    @Test
+    public void updateAt(){
+        LongVector vec = LongVector.range(0,1000);
+        assertThat(vec.updateAt(500,-1).getOrElse(500,0),equalTo(-1l));
+        assertThat(vec.updateAt(999,-1).getOrElse(999,0),equalTo(-1l));
+        assertThat(vec.getOrElse(500,0),equalTo(500l));
+    }
+
+    @Test
+    public void mapFilterFold(){
+        for(int size : sizes){
+            LongVector vec = LongVector.range(0,size);
+            assertThat(vec.map(i->i*2).toArray(),equalTo(LongStream.range(0,size).map(i->i*2).toArray()));
+            assertThat(vec.filter(i->i%3==0).toArray(),equalTo(LongStream.range(0,size).filter(i->i%3==0).toArray()));
+            assertThat(vec.foldLeft(0,Math::max),equalTo(Math.max(0,size-1l)));
+            assertThat(vec.sum(),equalTo(LongStream.range(0,size).sum()));
+            assertThat(vec.longStream().toArray(),equalTo(LongStream.range(0,size).toArray()));
+        }
+    }
+}
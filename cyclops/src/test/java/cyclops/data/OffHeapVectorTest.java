@@ -0,0 +1,141 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.OffHeapVector.Codec;
+import cyclops.reactive.ReactiveSeq;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class OffHeapVectorTest {
+
+    Path path;
+
+    @Before
+    public void setup() throws IOException {
+        path = Files.createTempFile("offheap", ".vec");
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    public void empty() {
+        OffHeapVector<Long> vector = OffHeapVector.write(path, Codec.longs(), Vector.empty());
+        assertThat(vector.size(), equalTo(0L));
+        assertTrue(vector.isEmpty());
+        assertThat(vector.get(0), equalTo(Option.none()));
+        assertFalse(vector.iterator().hasNext());
+        vector.close();
+    }
+
+    @Test
+    public void longs() {
+        for (int size : new int[]{1, 31, 32, 33, 1023, 1024, 1025, 32 * 32 * 32, 32 * 32 * 32 + 7}) {
+            List<Long> model = new ArrayList<>();
+            for (long i = 0; i < size; i++)
+                model.add(i * 3);
+            OffHeapVector<Long> vector = OffHeapVector.write(path, Codec.longs(), model);
+            check(vector, model);
+            vector.close();
+        }
+    }
+
+    @Test
+    public void reopen() {
+        OffHeapVector.write(path, Codec.strings(), ReactiveSeq.range(0, 5000).map(i -> "hello" + i)).close();
+        OffHeapVector<String> first = OffHeapVector.open(path, Codec.strings());
+        OffHeapVector<String> second = OffHeapVector.open(path, Codec.strings());
+        assertThat(first.size(), equalTo(5000L));
+        assertThat(second.getOrElse(4321, null), equalTo("hello4321"));
+        assertThat(first.stream().toList(), equalTo(second.stream().toList()));
+        first.close();
+        second.close();
+    }
+
+    @Test
+    public void segments() throws IOException {
+        Random random = new Random(7);
+        List<byte[]> model = new ArrayList<>();
+        try (OffHeapVector.Writer<byte[]> writer = new OffHeapVector.Writer<>(FileChannel.open(path, StandardOpenOption.WRITE), Codec.bytes(), 12)) {
+            for (int i = 0; i < 20000; i++) {
+                byte[] next = new byte[random.nextInt(600)];
+                random.nextBytes(next);
+                model.add(next);
+                writer.append(next);
+            }
+        }
+        assertTrue(Files.size(path) > 4096 * 100);
+        OffHeapVector<byte[]> vector = OffHeapVector.open(path, Codec.bytes());
+        assertThat(vector.size(), equalTo((long) model.size()));
+        for (int i = 0; i < model.size(); i++) {
+            assertTrue(Arrays.equals(vector.getOrElse(i, null), model.get(i)));
+        }
+        Iterator<byte[]> it = vector.iterator();
+        for (byte[] next : model) {
+            assertTrue(Arrays.equals(it.next(), next));
+        }
+        assertFalse(it.hasNext());
+        vector.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void elementLargerThanSegment() throws IOException {
+        try (OffHeapVector.Writer<byte[]> writer = new OffHeapVector.Writer<>(FileChannel.open(path, StandardOpenOption.WRITE), Codec.bytes(), 12)) {
+            writer.append(new byte[5000]);
+        }
+    }
+
+    @Test
+    public void arena() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        List<Integer> model = new ArrayList<>();
+        try (OffHeapVector.Writer<Integer> writer = OffHeapVector.writer(Channels.newChannel(bytes), Codec.ints())) {
+            for (int i = 0; i < 2000; i++) {
+                model.add(-i);
+                writer.append(-i);
+            }
+        }
+        ByteBuffer arena = ByteBuffer.allocateDirect(bytes.size());
+        arena.put(bytes.toByteArray()).flip();
+        check(OffHeapVector.wrap(new UnsafeBuffer(arena), Codec.ints()), model);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidFile() throws IOException {
+        Files.write(path, new byte[64]);
+        OffHeapVector.open(path, Codec.longs());
+    }
+
+    private <T> void check(OffHeapVector<T> vector, List<T> model) {
+        assertThat(vector.size(), equalTo((long) model.size()));
+        for (int i = 0; i < model.size(); i++) {
+            assertThat(vector.getOrElse(i, null), equalTo(model.get(i)));
+        }
+        assertThat(vector.get(-1), equalTo(Option.none()));
+        assertThat(vector.get(model.size()), equalTo(Option.none()));
+        assertThat(vector.stream().toList(), equalTo(model));
+    }
+}
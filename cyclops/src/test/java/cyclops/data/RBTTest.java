@@ -139,6 +139,15 @@ public class RBTTest {
         assertThat(tree.size(),equalTo(7));
     }
 
-
+    @Test
+    public void withersRecomputeSize(){
+        RedBlackTree.Node<Integer,Integer> root = this.<Integer>of(1,0,2).fold(n->n,leaf->null);
+        assertThat(root.size(),equalTo(3));
+        assertThat(root.withLeft(empty()).size(),equalTo(2));
+        assertThat(root.withLeft(root.left()).size(),equalTo(3));
+        assertThat(root.withRight(empty()).getOrElse(2,-1),equalTo(-1));
+        assertThat(root.withValue(10).getOrElse(1,-1),equalTo(10));
+        assertThat(root.withKey(5).size(),equalTo(3));
+    }
 
 }
@@ -1,9 +1,18 @@
 package cyclops.data;
 
 
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
 import org.junit.Test;
 
 import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
 
 /**
  * Created by johnmcclean on 02/09/2017.
@@ -22,4 +31,72 @@ public class TreeMapTest {
 
         System.out.println(map.put(10,"boo!").elementAt(10).orElse(null));
     }
+
+    @Test
+    public void navigation(){
+        Random random = new Random(7);
+        java.util.TreeMap<Integer,Integer> model = new java.util.TreeMap<>();
+        TreeMap<Integer,Integer> map = TreeMap.empty(Comparator.<Integer>naturalOrder());
+        for(int i=0;i<2000;i++){
+            int key = random.nextInt(5000);
+            if(random.nextInt(4)==0){
+                model.remove(key);
+                map = map.remove(key);
+            }else{
+                model.put(key,i);
+                map = map.put(key,i);
+            }
+        }
+        assertThat(map.size(),equalTo(model.size()));
+        for(int key=-10;key<5010;key+=3){
+            assertThat(map.floor(key),equalTo(entry(model.floorEntry(key))));
+            assertThat(map.ceiling(key),equalTo(entry(model.ceilingEntry(key))));
+            assertThat(map.lower(key),equalTo(entry(model.lowerEntry(key))));
+            assertThat(map.higher(key),equalTo(entry(model.higherEntry(key))));
+            assertThat(map.rank(key),equalTo(model.headMap(key).size()));
+        }
+        int index = 0;
+        for(Map.Entry<Integer,Integer> e : model.entrySet()){
+            assertThat(map.select(index++),equalTo(entry(e)));
+        }
+        assertThat(map.select(-1),equalTo(Option.none()));
+        assertThat(map.select(model.size()),equalTo(Option.none()));
+    }
+
+    @Test
+    public void rangeViews(){
+        Random random = new Random(11);
+        java.util.TreeMap<Integer,Integer> model = new java.util.TreeMap<>();
+        TreeMap<Integer,Integer> map = TreeMap.empty(Comparator.<Integer>naturalOrder());
+        for(int i=0;i<3000;i++){
+            int key = random.nextInt(10000);
+            model.put(key,i);
+            map = map.put(key,i);
+        }
+        for(int i=0;i<200;i++){
+            int from = random.nextInt(10200)-100;
+            int to = from + random.nextInt(3000);
+            boolean fromInclusive = random.nextBoolean();
+            boolean toInclusive = random.nextBoolean();
+            check(map.subMap(from,fromInclusive,to,toInclusive),model.subMap(from,fromInclusive,to,toInclusive));
+            check(map.headMap(to,toInclusive),model.headMap(to,toInclusive));
+            check(map.tailMap(from,fromInclusive),model.tailMap(from,fromInclusive));
+        }
+        check(map.subMap(10,5),new java.util.TreeMap<>());
+        TreeMap<Integer,Integer> view = map.subMap(100,200);
+        assertThat(view.put(150,-1).put(5000,-1).size(),equalTo(model.subMap(100,200).size()+(model.containsKey(150) ? 1 : 2)));
+        check(map,model);
+    }
+
+    private void check(TreeMap<Integer,Integer> map, NavigableMap<Integer,Integer> model){
+        assertThat(map.size(),equalTo(model.size()));
+        assertThat(map.stream().map(Tuple2::_1).toList(),equalTo(new java.util.ArrayList<>(model.keySet())));
+        for(Integer key : model.keySet()){
+            assertThat(map.get(key),equalTo(Option.some(model.get(key))));
+        }
+    }
+
+    private Option<Tuple2<Integer,Integer>> entry(Map.Entry<Integer,Integer> e){
+        return e==null ? Option.none() : Option.some(Tuple.tuple(e.getKey(),e.getValue()));
+    }
 }
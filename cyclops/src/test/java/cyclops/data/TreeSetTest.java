@@ -132,4 +132,54 @@ public class TreeSetTest extends BaseImmutableSortedSetTest{
         MatcherAssert.assertThat(of(1).lastIndexOfSlice(Seq.of(1,2,3)),equalTo(Maybe.nothing()));
         MatcherAssert.assertThat(of(0,1,2,3,4,5,6,1,2,3).lastIndexOfSlice(Seq.of(1,2,3)),equalTo(Maybe.just(1l)));
     }
+
+    @Test
+    public void navigation(){
+        java.util.TreeSet<Integer> model = new java.util.TreeSet<>();
+        TreeSet<Integer> set = TreeSet.empty();
+        java.util.Random random = new java.util.Random(3);
+        for(int i=0;i<1500;i++){
+            int next = random.nextInt(4000);
+            model.add(next);
+            set = set.plus(next);
+        }
+        for(int value=-5;value<4005;value+=7){
+            assertThat(set.floor(value),equalTo(Option.ofNullable(model.floor(value))));
+            assertThat(set.ceiling(value),equalTo(Option.ofNullable(model.ceiling(value))));
+            assertThat(set.lower(value),equalTo(Option.ofNullable(model.lower(value))));
+            assertThat(set.higher(value),equalTo(Option.ofNullable(model.higher(value))));
+            assertThat(set.rank(value),equalTo(model.headSet(value).size()));
+        }
+        assertThat(set.first(),equalTo(Option.some(model.first())));
+        assertThat(set.last(),equalTo(Option.some(model.last())));
+        assertThat(set.get(100),equalTo(Option.some(model.stream().skip(100).findFirst().get())));
+    }
+
+    @Test
+    public void rangeViews(){
+        TreeSet<Integer> set = TreeSet.fromIterable(Vector.range(0,1000));
+        assertThat(set.subSet(100,200).toList(),equalTo(Vector.range(100,200).toList()));
+        assertThat(set.subSet(100,false,200,true).toList(),equalTo(Vector.range(101,201).toList()));
+        assertThat(set.headSet(10).toList(),equalTo(Vector.range(0,10).toList()));
+        assertThat(set.headSet(10,true).size(),equalTo(11));
+        assertThat(set.tailSet(990).toList(),equalTo(Vector.range(990,1000).toList()));
+        assertThat(set.tailSet(990,false).size(),equalTo(9));
+        assertThat(set.subSet(200,false,100,false).size(),equalTo(0));
+        assertThat(set.take(5).toList(),equalTo(Vector.range(0,5).toList()));
+        assertThat(set.drop(995).toList(),equalTo(Vector.range(995,1000).toList()));
+        assertThat(set.take(2000).size(),equalTo(1000));
+        assertThat(set.drop(2000).size(),equalTo(0));
+        assertThat(set.size(),equalTo(1000));
+    }
+
+    @Test
+    public void subSetKeepsElementBounds(){
+        TreeSet<Integer> set = TreeSet.of(1,3,5,7,9);
+        assertThat(set.subSet(3,7).toList(),equalTo(Vector.of(3,5).toList()));
+        assertThat(set.subSet(3,8).toList(),equalTo(Vector.of(3,5,7,9).toList()));
+        assertThat(set.subSet(7,3).toList(),equalTo(Vector.of(7,9).toList()));
+        assertThat(set.subSet(4,7).size(),equalTo(0));
+        assertThat(set.subSet(5,5).size(),equalTo(0));
+        assertThat(set.subSet(4,true,8,false).toList(),equalTo(Vector.of(5,7).toList()));
+    }
 }
@@ -15,6 +15,8 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -463,4 +465,78 @@ public class VectorTest extends BaseImmutableListTest {
         assertThat(ints.delete(2),equalTo(Either.right(Vector.of(1,2))));
     }
 
+    @Test
+    public void spliceLarge(){
+        Vector<Integer> vec = Vector.range(0,5000);
+        List<Integer> model = new ArrayList<>();
+        for(int i=0;i<5000;i++)
+            model.add(i);
+        Random random = new Random(7);
+        for(int i=0;i<500;i++){
+            int pos = random.nextInt(model.size());
+            if(i%2==0){
+                vec = vec.insertAt(pos,-i);
+                model.add(pos,-i);
+            }else{
+                vec = vec.removeAt(pos);
+                model.remove(pos);
+            }
+            vec = vec.append(i);
+            model.add(i);
+        }
+        assertThat(vec.size(),equalTo(model.size()));
+        assertThat(vec.toList(),equalTo(model));
+        for(int i=0;i<model.size();i++){
+            assertThat(vec.getOrElse(i,null),equalTo(model.get(i)));
+        }
+    }
+
+    @Test
+    public void concatLarge(){
+        Vector<Integer> a = Vector.range(0,3000);
+        Vector<Integer> b = Vector.range(3000,7000);
+        assertThat(a.appendAll(b),equalTo(Vector.range(0,7000)));
+        assertThat(b.prependAll(a),equalTo(Vector.range(0,7000)));
+        assertThat(a.appendAll(b).appendAll(a).size(),equalTo(10000));
+        assertThat(a.prepend(-1).getOrElse(0,null),equalTo(-1));
+        assertThat(a.prepend(-1).getOrElse(3000,null),equalTo(2999));
+    }
+
+    @Test
+    public void splitLarge(){
+        Vector<Integer> vec = Vector.range(0,3000).appendAll(Vector.range(3000,5000));
+        for(int i=0;i<5000;i+=333){
+            assertThat(vec.take(i),equalTo(Vector.range(0,i)));
+            assertThat(vec.drop(i),equalTo(Vector.range(i,5000)));
+            assertThat(vec.takeRight(i),equalTo(Vector.range(5000-i,5000)));
+            assertThat(vec.dropRight(i),equalTo(Vector.range(0,5000-i)));
+        }
+        assertThat(vec.deleteBetween(100,4900),equalTo(Vector.range(0,100).appendAll(Vector.range(4900,5000))));
+        assertThat(vec.slice(1000,1100),equalTo(Vector.range(1000,1100)));
+        assertThat(vec.insertAt(2500,Vector.range(-100,0)).slice(2500,2600),equalTo(Vector.range(-100,0)));
+    }
+
+    @Test
+    public void builder(){
+        for(int size : new int[]{0,1,31,32,33,64,1024,1025,1056,33*32*32,40000}){
+            Vector.Builder<Integer> builder = Vector.builder();
+            for(int i=0;i<size;i++)
+                builder.append(i);
+            Vector<Integer> vec = builder.build();
+            assertThat(builder.size(),equalTo(size));
+            assertThat(vec,equalTo(Vector.range(0,size)));
+            assertThat(vec.append(size),equalTo(Vector.range(0,size+1)));
+            for(int i=0;i<size;i+=31)
+                assertThat(vec.getOrElse(i,null),equalTo(i));
+        }
+    }
+
+    @Test
+    public void builderReuse(){
+        Vector.Builder<Integer> builder = Vector.<Integer>builder().appendAll(Vector.range(0,1000));
+        Vector<Integer> first = builder.build();
+        builder.appendAll(Vector.range(1000,2000));
+        assertThat(first,equalTo(Vector.range(0,1000)));
+        assertThat(builder.build(),equalTo(Vector.range(0,2000)));
+    }
 }
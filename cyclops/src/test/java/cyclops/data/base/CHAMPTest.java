@@ -0,0 +1,148 @@
+package cyclops.data.base;
+
+import cyclops.control.Option;
+import cyclops.data.base.CHAMP.Node;
+import cyclops.data.base.HAMTTest.Collider;
+import cyclops.data.tuple.Tuple2;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class CHAMPTest {
+
+    @Test
+    public void empty() {
+        Node<Integer, Integer> node = CHAMP.empty();
+        assertThat(node.size(), equalTo(0));
+        assertThat(node.get(0, 1, 1), equalTo(Option.none()));
+        assertFalse(node.iterator().hasNext());
+    }
+
+    @Test
+    public void putGetRemove() {
+        Random random = new Random(3);
+        for (int hashes : new int[]{1, 7, 100, Integer.MAX_VALUE}) {
+            Map<Collider, Integer> model = new HashMap<>();
+            Node<Collider, Integer> node = CHAMP.empty();
+            for (int i = 0; i < 5000; i++) {
+                Collider key = new Collider(random.nextInt(2000), hashes);
+                if (random.nextInt(3) == 0) {
+                    model.remove(key);
+                    node = node.minus(0, key.hashCode(), key);
+                } else {
+                    model.put(key, i);
+                    node = node.plus(0, key.hashCode(), key, i);
+                }
+            }
+            check(node, model);
+            for (Collider key : model.keySet().toArray(new Collider[0])) {
+                node = node.minus(0, key.hashCode(), key);
+            }
+            assertThat(node.size(), equalTo(0));
+        }
+    }
+
+    @Test
+    public void minusIsCanonical() {
+        Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty().put(0, 0).put(32, 32);
+        Node<Integer, Integer> expected = CHAMP.<Integer, Integer>empty().put(0, 0).put(1, 1);
+        assertThat(node.put(1, 1).minus(32).toString(), equalTo(expected.toString()));
+        assertThat(node.put(1024, 1024).minus(1024).toString(), equalTo(node.toString()));
+    }
+
+    @Test
+    public void transientPlus() {
+        Object edit = new Object();
+        Node<Integer, Integer> node = CHAMP.empty();
+        Node<Integer, Integer> snapshot = null;
+        for (int i = 0; i < 10000; i++) {
+            node = node.plus(edit, 0, i * 31, i * 31, i);
+            if (i == 5000) {
+                snapshot = node;
+                edit = new Object();
+            }
+        }
+        assertThat(node.size(), equalTo(10000));
+        for (int i = 0; i < 10000; i++) {
+            assertThat(node.getOrElse(i * 31, null), equalTo(i));
+        }
+        assertThat(snapshot.size(), equalTo(5001));
+        assertThat(snapshot.getOrElse(5000 * 31, null), equalTo(5000));
+        assertThat(snapshot.getOrElse(5001 * 31, null), equalTo(null));
+    }
+
+    @Test
+    public void setOperations() {
+        Random random = new Random(1);
+        for (int run = 0; run < 50; run++) {
+            Map<Collider, Integer> left = new HashMap<>();
+            Map<Collider, Integer> right = new HashMap<>();
+            int range = 1 + random.nextInt(3000);
+            int hashes = 1 + random.nextInt(range);
+            for (int i = random.nextInt(2000); i > 0; i--)
+                left.put(new Collider(random.nextInt(range), hashes), i);
+            for (int i = random.nextInt(2000); i > 0; i--)
+                right.put(new Collider(random.nextInt(range), hashes), -i);
+            Node<Collider, Integer> leftNode = node(left);
+            Node<Collider, Integer> rightNode = node(right);
+
+            Map<Collider, Integer> union = new HashMap<>(left);
+            union.putAll(right);
+            check(CHAMP.union(leftNode, rightNode), union);
+
+            Map<Collider, Integer> intersection = new HashMap<>(left);
+            intersection.keySet().retainAll(right.keySet());
+            check(CHAMP.intersection(leftNode, rightNode), intersection);
+
+            Map<Collider, Integer> difference = new HashMap<>(left);
+            difference.keySet().removeAll(right.keySet());
+            check(CHAMP.difference(leftNode, rightNode), difference);
+        }
+    }
+
+    @Test
+    public void setOperationsShareStructure() {
+        Node<Integer, Integer> node = CHAMP.empty();
+        for (int i = 0; i < 1000; i++)
+            node = node.plus(0, i, i, i);
+        Node<Integer, Integer> empty = CHAMP.empty();
+        assertTrue(CHAMP.union(node, node) == node);
+        assertTrue(CHAMP.union(node, empty) == node);
+        assertTrue(CHAMP.union(empty, node) == node);
+        assertTrue(CHAMP.intersection(node, node) == node);
+        assertTrue(CHAMP.difference(node, empty) == node);
+        assertThat(CHAMP.difference(node, node).size(), equalTo(0));
+        Node<Integer, Integer> subset = node.minus(0, 5, 5);
+        assertTrue(CHAMP.union(node, subset) == node);
+        assertTrue(CHAMP.intersection(subset, node) == subset);
+    }
+
+    private Node<Collider, Integer> node(Map<Collider, Integer> map) {
+        Node<Collider, Integer> node = CHAMP.empty();
+        for (Map.Entry<Collider, Integer> e : map.entrySet())
+            node = node.plus(0, e.getKey().hashCode(), e.getKey(), e.getValue());
+        return node;
+    }
+
+    private void check(Node<Collider, Integer> node, Map<Collider, Integer> expected) {
+        assertThat(node.size(), equalTo(expected.size()));
+        for (Map.Entry<Collider, Integer> e : expected.entrySet())
+            assertThat(node.get(0, e.getKey().hashCode(), e.getKey()), equalTo(Option.some(e.getValue())));
+        Map<Collider, Integer> iterated = new HashMap<>();
+        Iterator<Tuple2<Collider, Integer>> it = node.iterator();
+        while (it.hasNext()) {
+            Tuple2<Collider, Integer> next = it.next();
+            iterated.put(next._1(), next._2());
+        }
+        assertThat(iterated, equalTo(expected));
+        assertThat(node.stream().count(), equalTo((long) expected.size()));
+    }
+}
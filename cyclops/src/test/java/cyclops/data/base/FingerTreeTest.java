@@ -0,0 +1,155 @@
+package cyclops.data.base;
+
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class FingerTreeTest {
+
+    Random random = new Random(42);
+
+    @Test
+    public void empty(){
+        FingerTree<Integer> tree = FingerTree.empty();
+        assertThat(tree.size(),equalTo(0));
+        assertThat(tree.getOrElse(0,-1),equalTo(-1));
+        assertThat(tree.iterator().hasNext(),equalTo(false));
+        assertThat(tree.tail().isEmpty(),equalTo(true));
+        assertThat(tree.init().isEmpty(),equalTo(true));
+    }
+
+    @Test
+    public void deque(){
+        FingerTree<Integer> tree = FingerTree.empty();
+        List<Integer> model = new ArrayList<>();
+        for(int i=0;i<20000;i++){
+            switch(random.nextInt(5)){
+                case 0:
+                    tree = tree.prepend(i);
+                    model.add(0,i);
+                    break;
+                case 1:
+                    tree = tree.append(i);
+                    model.add(i);
+                    break;
+                case 2:
+                    tree = tree.append(-i);
+                    model.add(-i);
+                    break;
+                case 3:
+                    if(!model.isEmpty()){
+                        assertThat(tree.head(),equalTo(model.get(0)));
+                        tree = tree.tail();
+                        model.remove(0);
+                    }
+                    break;
+                default:
+                    if(!model.isEmpty()){
+                        assertThat(tree.last(),equalTo(model.get(model.size()-1)));
+                        tree = tree.init();
+                        model.remove(model.size()-1);
+                    }
+            }
+            if(i%1000==0)
+                check(tree,model);
+        }
+        check(tree,model);
+    }
+
+    @Test
+    public void concat(){
+        FingerTree<Integer> tree = FingerTree.empty();
+        List<Integer> model = new ArrayList<>();
+        for(int i=0;i<200;i++){
+            int size = random.nextInt(i%10==0 ? 2000 : 20);
+            FingerTree<Integer> next = create(size,model.size());
+            List<Integer> nextModel = ReactiveSeq.range(model.size(),model.size()+size).toList();
+            if(random.nextBoolean()){
+                tree = tree.concat(next);
+                model.addAll(nextModel);
+            }else{
+                tree = next.concat(tree);
+                model.addAll(0,nextModel);
+            }
+            check(tree,model);
+        }
+    }
+
+    @Test
+    public void split(){
+        for(int size : new int[]{1,2,5,8,9,100,1000,10000}){
+            FingerTree<Integer> tree = create(size,0);
+            List<Integer> model = ReactiveSeq.range(0,size).toList();
+            for(int i=-1;i<=size+1;i+=1+size/100){
+                Tuple2<FingerTree<Integer>,FingerTree<Integer>> parts = tree.split(i);
+                int at = Math.max(0,Math.min(i,size));
+                check(parts._1(),model.subList(0,at));
+                check(parts._2(),model.subList(at,size));
+                check(parts._1().concat(parts._2()),model);
+            }
+        }
+    }
+
+    @Test
+    public void insertRemoveAndSet(){
+        FingerTree<Integer> tree = FingerTree.empty();
+        List<Integer> model = new ArrayList<>();
+        for(int i=0;i<3000;i++){
+            int pos = random.nextInt(model.size()+1);
+            tree = tree.insertAt(pos,i);
+            model.add(pos,i);
+        }
+        check(tree,model);
+        for(int i=0;i<model.size();i+=7){
+            tree = tree.set(i,-i);
+            model.set(i,-i);
+        }
+        check(tree,model);
+        while(model.size()>0){
+            int pos = random.nextInt(model.size());
+            tree = tree.removeAt(pos);
+            model.remove(pos);
+            if(model.size()%100==0)
+                check(tree,model);
+        }
+        assertThat(tree.size(),equalTo(0));
+    }
+
+    @Test
+    public void mapAndReverse(){
+        FingerTree<Integer> tree = create(5000,0);
+        List<Integer> model = ReactiveSeq.range(0,5000).toList();
+        check(tree.map(i->i*2),ReactiveSeq.fromIterable(model).map(i->i*2).toList());
+        List<Integer> reversed = new ArrayList<>(model);
+        Collections.reverse(reversed);
+        check(tree.reverse(),reversed);
+        List<Integer> iterated = new ArrayList<>();
+        Iterator<Integer> it = tree.reverseIterator();
+        while(it.hasNext())
+            iterated.add(it.next());
+        assertThat(iterated,equalTo(reversed));
+    }
+
+    private FingerTree<Integer> create(int size, int start){
+        FingerTree<Integer> tree = FingerTree.empty();
+        for(int i=0;i<size;i++)
+            tree = tree.append(start+i);
+        return tree;
+    }
+
+    private void check(FingerTree<Integer> tree, List<Integer> model){
+        assertThat(tree.size(),equalTo(model.size()));
+        for(int i=0;i<model.size();i++)
+            assertThat(tree.getOrElse(i,null),equalTo(model.get(i)));
+        assertThat(tree.stream().toList(),equalTo(model));
+    }
+}
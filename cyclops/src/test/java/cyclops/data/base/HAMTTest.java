@@ -225,8 +225,30 @@ public class HAMTTest {
 
     }
 
-    
-
-
+    @Test
+    public void minusDoesNotHoistNestedBitsetNode() {
+        Node<Integer, Integer> node = HAMT.<Integer, Integer>empty();
+        //0, 32 and 64 share the first 5 bits of their hash, 1 does not
+        for (Integer next : new Integer[]{0, 32, 64, 1}) {
+            node = node.plus(0, next.hashCode(), next, next);
+        }
+        node = node.minus(0, one.hashCode(), one);
+        assertThat(node.size(), equalTo(3));
+        for (Integer next : new Integer[]{0, 32, 64}) {
+            assertThat(node.get(0, next.hashCode(), next), equalTo(Option.some(next)));
+        }
+    }
 
+    @Test
+    public void collisionMergeRecordsBucketSize() {
+        //1 and 33 share the first 5 bits of their hash
+        Node<Integer, Integer> node = HAMT.<Integer, Integer>empty()
+                                          .plus(0, 1, 1, 1)
+                                          .plus(0, 1, 2, 2)
+                                          .plus(0, 1, 3, 3)
+                                          .plus(0, 33, 4, 4);
+        assertThat(node.size(), equalTo(4));
+        assertThat(node.get(0, 1, 3), equalTo(Option.some(3)));
+        assertThat(node.get(0, 33, 4), equalTo(Option.some(4)));
+    }
 }
@@ -0,0 +1,156 @@
+package cyclops.data.base;
+
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+public class RRBTTest {
+
+    Random random = new Random(42);
+
+    @Test
+    public void empty(){
+        RRBT<Integer> tree = RRBT.empty();
+        assertThat(tree.size(),equalTo(0));
+        assertThat(tree.getOrElse(0,-1),equalTo(-1));
+        assertThat(tree.iterator().hasNext(),equalTo(false));
+    }
+
+    @Test
+    public void concatSmall(){
+        RRBT<Integer> tree = RRBT.empty();
+        List<Integer> model = new ArrayList<>();
+        for(int i=0;i<2000;i++){
+            tree = tree.concat(create(i%7,model.size()));
+            add(model,i%7);
+            check(tree,model);
+        }
+    }
+
+    @Test
+    public void concatLarge(){
+        RRBT<Integer> tree = RRBT.empty();
+        List<Integer> model = new ArrayList<>();
+        for(int i=0;i<50;i++){
+            int size = random.nextInt(5000);
+            RRBT<Integer> next = create(size,0);
+            List<Integer> nextModel = new ArrayList<>();
+            add(nextModel,size);
+            if(random.nextBoolean()){
+                tree = tree.concat(next);
+                model.addAll(nextModel);
+            }else{
+                tree = next.concat(tree);
+                model.addAll(0,nextModel);
+            }
+            check(tree,model);
+        }
+        assertThat(tree.height(),lessThan(5));
+    }
+
+    @Test
+    public void split(){
+        RRBT<Integer> tree = create(10000,0);
+        List<Integer> model = new ArrayList<>();
+        add(model,10000);
+        for(int i=0;i<=10000;i+=97){
+            Tuple2<RRBT<Integer>,RRBT<Integer>> parts = tree.split(i);
+            check(parts._1(),model.subList(0,i));
+            check(parts._2(),model.subList(i,model.size()));
+            check(parts._1().concat(parts._2()),model);
+        }
+    }
+
+    @Test
+    public void insertAndRemove(){
+        RRBT<Integer> tree = RRBT.empty();
+        List<Integer> model = new ArrayList<>();
+        for(int i=0;i<5000;i++){
+            int pos = random.nextInt(model.size()+1);
+            tree = tree.insertAt(pos,i);
+            model.add(pos,i);
+        }
+        check(tree,model);
+        while(model.size()>0){
+            int pos = random.nextInt(model.size());
+            tree = tree.removeAt(pos);
+            model.remove(pos);
+            if(model.size()%100==0)
+                check(tree,model);
+        }
+        assertThat(tree.size(),equalTo(0));
+    }
+
+    @Test
+    public void setAndMap(){
+        RRBT<Integer> tree = create(3000,0).concat(create(1500,3000)).insertAt(17,-1);
+        List<Integer> model = new ArrayList<>();
+        add(model,3000);
+        for(int i=3000;i<4500;i++)
+            model.add(i);
+        model.add(17,-1);
+        for(int i=0;i<model.size();i+=13){
+            tree = tree.set(i,i*10);
+            model.set(i,i*10);
+        }
+        check(tree,model);
+        check(tree.map(i->i+1),ReactiveSeq.fromIterable(model).map(i->i+1).toList());
+    }
+
+    @Test
+    public void adoptBAMT(){
+        for(int size : new int[]{32,64,1024,1056,32*32*32+32*5,40000}){
+            BAMT.NestedArray<Integer> root = new BAMT.Zero<>();
+            List<Integer> model = new ArrayList<>();
+            for(int i=0;i<size/32;i++){
+                Integer[] leaf = new Integer[32];
+                for(int j=0;j<32;j++){
+                    leaf[j]=model.size();
+                    model.add(model.size());
+                }
+                root = root.append(new BAMT.ActiveTail<>(leaf));
+            }
+            RRBT<Integer> tree = RRBT.fromNestedArray(root);
+            check(tree,model);
+            check(tree.concat(tree),ReactiveSeq.fromIterable(model).appendAll(model).toList());
+        }
+    }
+
+    private RRBT<Integer> create(int size, int start){
+        RRBT<Integer> tree = RRBT.empty();
+        for(int i=0;i<size;i+=32){
+            Integer[] leaf = new Integer[Math.min(32,size-i)];
+            for(int j=0;j<leaf.length;j++)
+                leaf[j]=start+i+j;
+            tree = tree.concat(RRBT.leaf(leaf));
+        }
+        return tree;
+    }
+
+    private void add(List<Integer> model, int count){
+        int start = model.size();
+        for(int i=0;i<count;i++)
+            model.add(start+i);
+    }
+
+    private void check(RRBT<Integer> tree, List<Integer> model){
+        assertThat(tree.size(),equalTo(model.size()));
+        for(int i=0;i<model.size();i++){
+            assertThat(tree.getOrElse(i,null),equalTo(model.get(i)));
+        }
+        Iterator<Integer> it = tree.iterator();
+        for(Integer next : model){
+            assertThat(it.next(),equalTo(next));
+        }
+        assertThat(it.hasNext(),equalTo(false));
+    }
+}
@@ -0,0 +1,49 @@
+package cyclops.reactive;
+
+import cyclops.control.Option;
+import cyclops.data.DoubleVector;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class DoubleSeqTest {
+
+    @Test
+    public void operators(){
+        DoubleSeq seq = DoubleSeq.of(0,0.5,1,1.5,2);
+        assertThat(seq.takeWhile(i->i<1).toArray(),equalTo(new double[]{0,0.5}));
+        assertThat(seq.dropUntil(i->i>1).toArray(),equalTo(new double[]{1.5,2}));
+        assertThat(seq.takeRight(1).toArray(),equalTo(new double[]{2}));
+        assertThat(seq.dropRight(4).toArray(),equalTo(new double[]{0}));
+        assertThat(seq.scanLeft(1,(a,b)->a+b).toArray(),equalTo(new double[]{1,1,1.5,2.5,4,6}));
+        assertThat(seq.zip(DoubleSeq.of(2,2),(a,b)->a*b).toArray(),equalTo(new double[]{0,1}));
+        assertThat(DoubleSeq.empty().onEmpty(1).toArray(),equalTo(new double[]{1}));
+    }
+
+    @Test
+    public void windows(){
+        assertThat(DoubleSeq.of(1,2,3).sliding(2).toList(),
+                   equalTo(ReactiveSeq.of(DoubleVector.of(1,2),DoubleVector.of(2,3)).toList()));
+        assertThat(DoubleSeq.of(1,2,3).grouped(2).toList(),
+                   equalTo(ReactiveSeq.of(DoubleVector.of(1,2),DoubleVector.of(3)).toList()));
+    }
+
+    @Test
+    public void terminals(){
+        DoubleSeq seq = DoubleSeq.of(1,2,3);
+        assertThat(seq.sum(),equalTo(6.0));
+        assertThat(seq.average(),equalTo(Option.some(2.0)));
+        assertThat(seq.foldRight(0,(a,b)->a+b),equalTo(6.0));
+        assertThat(seq.toDoubleVector(),equalTo(DoubleVector.of(1,2,3)));
+    }
+
+    @Test
+    public void conversions(){
+        assertThat(DoubleSeq.fromReactiveSeq(ReactiveSeq.ofDoubles(1,2)).toArray(),equalTo(new double[]{1,2}));
+        assertThat(DoubleSeq.fromPublisher(Spouts.of(1.0,2.0)).toArray(),equalTo(new double[]{1,2}));
+        assertThat(DoubleSeq.of(1.5,2.5).mapToLong(d->(long)d).toArray(),equalTo(new long[]{1,2}));
+        assertThat(DoubleSeq.of(1,2).boxed().toList(),equalTo(ReactiveSeq.of(1.0,2.0).toList()));
+        assertThat(ReactiveSeq.of("a","bb").mapToDoubleSeq(String::length).toArray(),equalTo(new double[]{1,2}));
+    }
+}
@@ -0,0 +1,126 @@
+package cyclops.reactive;
+
+import cyclops.control.Option;
+import cyclops.data.IntVector;
+import cyclops.data.Seq;
+import cyclops.data.Vector;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class IntSeqTest {
+
+    private List<Integer> list(IntSeq seq){
+        List<Integer> res = new ArrayList<>();
+        seq.forEachInt(i -> res.add(i));
+        return res;
+    }
+
+    private List<Integer> list(ReactiveSeq<Integer> seq){
+        return seq.toList();
+    }
+
+    @Test
+    public void factories(){
+        assertThat(IntSeq.empty().isEmpty(),equalTo(true));
+        assertThat(IntSeq.of(1,2,3).toArray(),equalTo(new int[]{1,2,3}));
+        assertThat(IntSeq.range(0,5).toArray(),equalTo(new int[]{0,1,2,3,4}));
+        assertThat(IntSeq.iterate(1,i->i*2).take(4).toArray(),equalTo(new int[]{1,2,4,8}));
+        assertThat(IntSeq.iterate(1,i->i<10,i->i+3).toArray(),equalTo(new int[]{1,4,7}));
+        assertThat(IntSeq.generate(()->7).take(2).toArray(),equalTo(new int[]{7,7}));
+        assertThat(IntSeq.fromIterable(Vector.of(1,2,3)).toArray(),equalTo(new int[]{1,2,3}));
+        assertThat(IntSeq.fromIterable(IntVector.of(1,2,3)).toArray(),equalTo(new int[]{1,2,3}));
+    }
+
+    @Test
+    public void replayable(){
+        AtomicInteger count = new AtomicInteger(0);
+        IntSeq seq = IntSeq.range(0,10).peek(i->count.incrementAndGet()).map(i->i*2);
+        assertThat(seq.sum(),equalTo(90));
+        assertThat(seq.sum(),equalTo(90));
+        assertThat(count.get(),equalTo(20));
+    }
+
+    @Test
+    public void operators(){
+        IntSeq seq = IntSeq.range(0,10);
+        assertThat(list(seq.takeWhile(i->i<3)),equalTo(list(ReactiveSeq.range(0,10).takeWhile(i->i<3))));
+        assertThat(list(seq.dropWhile(i->i<3)),equalTo(list(ReactiveSeq.range(0,10).dropWhile(i->i<3))));
+        assertThat(list(seq.takeUntil(i->i>3)),equalTo(list(ReactiveSeq.range(0,10).takeUntil(i->i>3))));
+        assertThat(list(seq.dropUntil(i->i>3)),equalTo(list(ReactiveSeq.range(0,10).dropUntil(i->i>3))));
+        assertThat(list(seq.takeRight(3)),equalTo(list(ReactiveSeq.range(0,10).takeRight(3))));
+        assertThat(list(seq.dropRight(3)),equalTo(list(ReactiveSeq.range(0,10).dropRight(3))));
+        assertThat(list(seq.takeRight(20)),equalTo(list(ReactiveSeq.range(0,10))));
+        assertThat(list(seq.dropRight(20)),equalTo(list(ReactiveSeq.empty())));
+        assertThat(list(seq.scanLeft(0,(a,b)->a+b)),equalTo(list(ReactiveSeq.range(0,10).scanLeft(0,(a,b)->a+b))));
+        assertThat(list(seq.intersperse(-1)),equalTo(list(ReactiveSeq.range(0,10).intersperse(-1))));
+        assertThat(list(seq.slice(2,5)),equalTo(list(ReactiveSeq.range(0,10).slice(2,5))));
+        assertThat(list(seq.reverse()),equalTo(list(ReactiveSeq.range(0,10).reverse())));
+        assertThat(list(seq.cycle(3)),equalTo(list(ReactiveSeq.range(0,10).cycle(3))));
+        assertThat(list(seq.filterNot(i->i%2==0)),equalTo(list(ReactiveSeq.range(0,10).filterNot(i->i%2==0))));
+        assertThat(list(seq.zip(IntSeq.range(100,105),(a,b)->a+b)),equalTo(list(ReactiveSeq.range(0,10).zip(ReactiveSeq.range(100,105),(a,b)->a+b))));
+        assertThat(list(seq.prepend(-2,-1).append(10)),equalTo(list(ReactiveSeq.range(-2,11))));
+        assertThat(list(IntSeq.of(1).prependAll(IntSeq.of(0)).appendAll(IntSeq.of(2))),equalTo(list(ReactiveSeq.of(0,1,2))));
+        assertThat(list(IntSeq.empty().onEmpty(1)),equalTo(list(ReactiveSeq.of(1))));
+        assertThat(list(seq.onEmpty(1)),equalTo(list(ReactiveSeq.range(0,10))));
+        assertThat(list(IntSeq.of(3,1,3,2).distinct().sorted()),equalTo(list(ReactiveSeq.of(1,2,3))));
+        assertThat(list(IntSeq.of(1,2).flatMap(i->IntSeq.of(i,i))),equalTo(list(ReactiveSeq.of(1,1,2,2))));
+    }
+
+    @Test
+    public void windows(){
+        for(int size=0;size<12;size++){
+            for(int window=1;window<5;window++){
+                for(int increment=1;increment<5;increment++){
+                    assertThat(IntSeq.range(0,size).sliding(window,increment).map(IntVector::toArray).map(IntSeq::of).map(this::list).toList(),
+                               equalTo(ReactiveSeq.range(0,size).sliding(window,increment).map(Seq::toList).toList()));
+                }
+                assertThat(IntSeq.range(0,size).grouped(window).map(IntVector::toArray).map(IntSeq::of).map(this::list).toList(),
+                           equalTo(ReactiveSeq.range(0,size).grouped(window).map(Vector::toList).toList()));
+            }
+        }
+        assertThat(IntSeq.range(0,5).sliding(2).toList(),equalTo(ReactiveSeq.of(IntVector.of(0,1),IntVector.of(1,2),IntVector.of(2,3),IntVector.of(3,4)).toList()));
+    }
+
+    @Test
+    public void terminals(){
+        IntSeq seq = IntSeq.range(1,5);
+        assertThat(seq.foldLeft(0,(a,b)->a-b),equalTo(-10));
+        assertThat(seq.foldRight(0,(a,b)->a-b),equalTo(1-(2-(3-(4-0)))));
+        assertThat(seq.reduce((a,b)->a*b),equalTo(Option.some(24)));
+        assertThat(IntSeq.empty().reduce((a,b)->a*b),equalTo(Option.none()));
+        assertThat(seq.sum(),equalTo(10));
+        assertThat(seq.count(),equalTo(4L));
+        assertThat(seq.min(),equalTo(Option.some(1)));
+        assertThat(seq.max(),equalTo(Option.some(4)));
+        assertThat(seq.average(),equalTo(Option.some(2.5)));
+        assertThat(seq.findFirst(),equalTo(Option.some(1)));
+        assertThat(IntSeq.empty().firstValue(-1),equalTo(-1));
+        assertThat(seq.elementAt(2),equalTo(Option.some(3)));
+        assertThat(seq.elementAt(10),equalTo(Option.none()));
+        assertThat(seq.anyMatch(i->i==3),equalTo(true));
+        assertThat(seq.allMatch(i->i<5),equalTo(true));
+        assertThat(seq.noneMatch(i->i>3),equalTo(false));
+        assertThat(seq.join(","),equalTo("1,2,3,4"));
+        assertThat(seq.toIntVector(),equalTo(IntVector.range(1,5)));
+    }
+
+    @Test
+    public void conversions(){
+        assertThat(IntSeq.range(0,5).boxed().toList(),equalTo(ReactiveSeq.range(0,5).toList()));
+        assertThat(IntSeq.range(0,5).toSpouts().toList(),equalTo(ReactiveSeq.range(0,5).toList()));
+        assertThat(IntSeq.range(0,5).mapToObj(i->"x"+i).toList(),equalTo(ReactiveSeq.range(0,5).map(i->"x"+i).toList()));
+        assertThat(IntSeq.fromReactiveSeq(ReactiveSeq.range(0,5)).toArray(),equalTo(new int[]{0,1,2,3,4}));
+        assertThat(IntSeq.fromReactiveSeq(ReactiveSeq.of(0,1,2)).toArray(),equalTo(new int[]{0,1,2}));
+        assertThat(IntSeq.fromPublisher(Spouts.of(0,1,2)).toArray(),equalTo(new int[]{0,1,2}));
+        assertThat(ReactiveSeq.of("a","bb","ccc").mapToIntSeq(String::length).scanLeft(0,(a,b)->a+b).toArray(),equalTo(new int[]{0,1,3,6}));
+        assertThat(ReactiveSeq.ofInts(1,2).mapToIntSeq(i->i*2).toArray(),equalTo(new int[]{2,4}));
+        assertThat(IntSeq.range(0,3).asLongSeq().toArray(),equalTo(new long[]{0,1,2}));
+        assertThat(IntSeq.range(0,3).mapToDouble(i->i/2.0).toArray(),equalTo(new double[]{0,0.5,1}));
+    }
+}
@@ -0,0 +1,54 @@
+package cyclops.reactive;
+
+import cyclops.control.Option;
+import cyclops.data.LongVector;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class LongSeqTest {
+
+    @Test
+    public void operators(){
+        LongSeq seq = LongSeq.range(0,10);
+        assertThat(seq.takeWhile(i->i<3).toArray(),equalTo(new long[]{0,1,2}));
+        assertThat(seq.dropWhile(i->i<7).toArray(),equalTo(new long[]{7,8,9}));
+        assertThat(seq.takeRight(2).toArray(),equalTo(new long[]{8,9}));
+        assertThat(seq.dropRight(8).toArray(),equalTo(new long[]{0,1}));
+        assertThat(seq.take(3).scanLeft(0,(a,b)->a+b).toArray(),equalTo(new long[]{0,0,1,3}));
+        assertThat(seq.take(3).intersperse(-1).toArray(),equalTo(new long[]{0,-1,1,-1,2}));
+        assertThat(seq.take(3).reverse().toArray(),equalTo(new long[]{2,1,0}));
+        assertThat(seq.zip(LongSeq.of(10,20),(a,b)->a*b).toArray(),equalTo(new long[]{0,20}));
+        assertThat(LongSeq.empty().onEmpty(1).toArray(),equalTo(new long[]{1}));
+        assertThat(seq.take(2).cycle(2).toArray(),equalTo(new long[]{0,1,0,1}));
+    }
+
+    @Test
+    public void windows(){
+        assertThat(LongSeq.range(0,5).sliding(3,2).toList(),
+                   equalTo(ReactiveSeq.of(LongVector.of(0,1,2),LongVector.of(2,3,4)).toList()));
+        assertThat(LongSeq.range(0,5).grouped(2).toList(),
+                   equalTo(ReactiveSeq.of(LongVector.of(0,1),LongVector.of(2,3),LongVector.of(4)).toList()));
+    }
+
+    @Test
+    public void terminals(){
+        LongSeq seq = LongSeq.range(1,5);
+        assertThat(seq.foldLeft(0,(a,b)->a-b),equalTo(-10L));
+        assertThat(seq.sum(),equalTo(10L));
+        assertThat(seq.max(),equalTo(Option.some(4L)));
+        assertThat(LongSeq.empty().min(),equalTo(Option.none()));
+        assertThat(seq.toLongVector(),equalTo(LongVector.range(1,5)));
+    }
+
+    @Test
+    public void conversions(){
+        assertThat(LongSeq.fromReactiveSeq(ReactiveSeq.rangeLong(0,3)).toArray(),equalTo(new long[]{0,1,2}));
+        assertThat(LongSeq.of(1,2).boxed().toList(),equalTo(ReactiveSeq.of(1L,2L).toList()));
+        assertThat(LongSeq.of(1,2).toSpouts().toList(),equalTo(ReactiveSeq.of(1L,2L).toList()));
+        assertThat(LongSeq.of(1,2).mapToInt(l->(int)l*2).toArray(),equalTo(new int[]{2,4}));
+        assertThat(LongSeq.of(1,2).asDoubleSeq().toArray(),equalTo(new double[]{1,2}));
+        assertThat(ReactiveSeq.of("a","bb").mapToLongSeq(String::length).toArray(),equalTo(new long[]{1,2}));
+    }
+}
@@ -0,0 +1,155 @@
+package cyclops.streams;
+
+import com.oath.cyclops.internal.stream.Joins;
+import cyclops.control.Either;
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static cyclops.data.tuple.Tuple.tuple;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class ReactiveSeqJoinTest {
+
+    <T> List<Supplier<ReactiveSeq<T>>> all(T... values){
+        return asList(() -> ReactiveSeq.of(values), () -> Spouts.of(values),
+                      () -> Spouts.reactive(Stream.of(values), ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    public void innerJoin(){
+        for(Supplier<ReactiveSeq<String>> seq : all("a","bb","cc","ddd","eeee")){
+            assertThat(seq.get().innerJoin(ReactiveSeq.of(1,2,2,3),String::length,i->i).toList(),
+                       equalTo(asList(tuple("a",1),tuple("bb",2),tuple("bb",2),tuple("cc",2),tuple("cc",2),tuple("ddd",3))));
+            assertThat(seq.get().innerJoin(Spouts.of(1,3),String::length,i->i).toList(),
+                       equalTo(asList(tuple("a",1),tuple("ddd",3))));
+            assertThat(seq.get().innerJoin(ReactiveSeq.<Integer>empty(),String::length,i->i).toList(),
+                       equalTo(asList()));
+        }
+    }
+
+    @Test
+    public void leftOuterJoin(){
+        for(Supplier<ReactiveSeq<String>> seq : all("a","bb","ddd")){
+            assertThat(seq.get().leftOuterJoin(ReactiveSeq.of(1,3,3),String::length,i->i).toList(),
+                       equalTo(asList(tuple("a",Option.some(1)),tuple("bb",Option.none()),tuple("ddd",Option.some(3)),tuple("ddd",Option.some(3)))));
+        }
+    }
+
+    @Test
+    public void semiAndAntiJoin(){
+        for(Supplier<ReactiveSeq<Integer>> seq : all(1,2,3,4,5,6)){
+            assertThat(seq.get().semiJoin(ReactiveSeq.of("a","b","ccc","ccc"),i->i,String::length).toList(),
+                       equalTo(asList(1,3)));
+            assertThat(seq.get().antiJoin(ReactiveSeq.of("a","b","ccc"),i->i,String::length).toList(),
+                       equalTo(asList(2,4,5,6)));
+        }
+    }
+
+    @Test
+    public void indexBuiltOnceAndLazily(){
+        AtomicInteger count = new AtomicInteger(0);
+        ReactiveSeq<Tuple2<Integer,Integer>> joined = ReactiveSeq.range(0,1000)
+                                                                 .innerJoin(ReactiveSeq.range(0,10).peek(i->count.incrementAndGet()),i->i%10,i->i);
+        assertThat(count.get(),equalTo(0));
+        assertThat(joined.count(),equalTo(1000L));
+        assertThat(count.get(),equalTo(10));
+    }
+
+    @Test
+    public void mergeJoin(){
+        for(Supplier<ReactiveSeq<Integer>> seq : all(1,2,2,4,6,6,7)){
+            List<Tuple2<Integer,Integer>> expected = ReactiveSeq.of(1,2,2,4,6,6,7)
+                                                                .innerJoin(ReactiveSeq.of(0,2,2,3,4,6,8),i->i,i->i)
+                                                                .toList();
+            assertThat(seq.get().mergeJoin(ReactiveSeq.of(0,2,2,3,4,6,8),i->i,i->i,Comparator.naturalOrder()).toList(),
+                       equalTo(expected));
+        }
+        assertThat(ReactiveSeq.of(3,2,1).mergeJoin(ReactiveSeq.of(3,1),i->i,i->i,Comparator.<Integer>reverseOrder()).toList(),
+                   equalTo(asList(tuple(3,3),tuple(1,1))));
+        assertThat(ReactiveSeq.<Integer>empty().mergeJoin(ReactiveSeq.of(3,1),i->i,i->i,Comparator.naturalOrder()).toList(),
+                   equalTo(asList()));
+        assertThat(ReactiveSeq.of(1,2).mergeJoin(ReactiveSeq.<Integer>empty(),i->i,i->i,Comparator.naturalOrder()).toList(),
+                   equalTo(asList()));
+        assertThat(ReactiveSeq.of(1,2,2,4).mergeJoin(Spouts.reactive(Stream.of(2,3,4),ForkJoinPool.commonPool()),i->i,i->i,Comparator.naturalOrder()).toList(),
+                   equalTo(asList(tuple(2,2),tuple(2,2),tuple(4,4))));
+    }
+
+    @Test
+    public void mergeJoinBuffersUntilRunComplete(){
+        Joins.MergeJoin<Integer,String,Integer> join = new Joins.MergeJoin<>(i->i,String::length,Comparator.naturalOrder());
+        assertThat(join.needsLeft(),equalTo(true));
+        assertThat(join.needsRight(),equalTo(false));
+        assertThat(join.left(2),equalTo(asList()));
+        assertThat(join.left(2),equalTo(asList()));
+        assertThat(join.needsLeft(),equalTo(false));
+        assertThat(join.needsRight(),equalTo(true));
+        assertThat(join.right("a"),equalTo(asList()));
+        assertThat(join.right("bb"),equalTo(asList()));
+        assertThat(join.right("cc"),equalTo(asList()));
+        assertThat(join.right("ddd"),equalTo(asList(tuple(2,"bb"),tuple(2,"cc"),tuple(2,"bb"),tuple(2,"cc"))));
+        assertThat(join.left(3),equalTo(asList()));
+        assertThat(join.rightComplete(),equalTo(asList(tuple(3,"ddd"))));
+        assertThat(join.left(4),equalTo(asList()));
+        assertThat(join.isComplete(),equalTo(true));
+    }
+
+    @Test
+    public void mergeJoinRequestsFromOneSideAtATime(){
+        AtomicInteger lefts = new AtomicInteger(0);
+        AtomicInteger rights = new AtomicInteger(0);
+        List<Tuple2<Integer,Integer>> res = Spouts.range(0,1_000_000).peek(i->lefts.incrementAndGet())
+                                                  .mergeJoin(Spouts.of(5,6).peek(i->rights.incrementAndGet()),i->i,i->i,Comparator.naturalOrder())
+                                                  .toList();
+        assertThat(res,equalTo(asList(tuple(5,5),tuple(6,6))));
+        assertThat(lefts.get(),equalTo(8));
+        assertThat(rights.get(),equalTo(2));
+
+        lefts.set(0);
+        rights.set(0);
+        res = Spouts.of(3).peek(i->lefts.incrementAndGet())
+                    .mergeJoin(Spouts.range(0,1_000_000).peek(i->rights.incrementAndGet()),i->i,i->i,Comparator.naturalOrder())
+                    .toList();
+        assertThat(res,equalTo(asList(tuple(3,3))));
+        assertThat(lefts.get(),equalTo(1));
+        assertThat(rights.get(),equalTo(5));
+    }
+
+    @Test
+    public void windowedJoin(){
+        List<Tuple2<Integer,String>> res = Spouts.windowedJoin(Spouts.of(1,2,3),Spouts.of("a","bb","ccc","d"),i->i,String::length,10)
+                                                 .toList();
+        assertThat(res.size(),equalTo(4));
+        assertThat(res.containsAll(asList(tuple(1,"a"),tuple(2,"bb"),tuple(3,"ccc"),tuple(1,"d"))),equalTo(true));
+
+        long count = Spouts.windowedJoin(Spouts.reactive(Stream.of(1,2,3),ForkJoinPool.commonPool()),
+                                         Spouts.reactive(Stream.of("a","bb","ccc","d"),ForkJoinPool.commonPool()),
+                                         i->i,String::length,10)
+                           .count();
+        assertThat(count,equalTo(4L));
+    }
+
+    @Test
+    public void windowedJoinEvicts(){
+        Joins.WindowedJoin<String,String,String> join = new Joins.WindowedJoin<>(s->s.substring(0,1),s->s.substring(0,1),2);
+        assertThat(join.accept(Either.left("a1")),equalTo(asList()));
+        assertThat(join.accept(Either.left("b1")),equalTo(asList()));
+        assertThat(join.accept(Either.right("a2")),equalTo(asList(tuple("a1","a2"))));
+        assertThat(join.accept(Either.left("c1")),equalTo(asList()));
+        assertThat(join.accept(Either.right("a3")),equalTo(asList()));
+        assertThat(join.accept(Either.left("a4")),equalTo(asList(tuple("a4","a2"),tuple("a4","a3"))));
+        assertThat(join.accept(Either.right("b2")),equalTo(asList()));
+        assertThat(join.accept(Either.right("c2")),equalTo(asList(tuple("c1","c2"))));
+    }
+}
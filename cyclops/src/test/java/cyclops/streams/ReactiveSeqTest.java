@@ -24,6 +24,7 @@ import org.junit.Test;
 import reactor.core.publisher.Flux;
 
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
@@ -662,6 +663,37 @@ public class ReactiveSeqTest {
         }
     }
 
+    @Test
+    public void parallelEmitsBeforeCompletion() throws InterruptedException {
+        CountDownLatch firstSeen = new CountDownLatch(1);
+        List<Integer> result = ReactiveSeq.of(1, 2, 3)
+                                          .parallel(s -> s.map(i -> {
+                                              if (i == 3) {
+                                                  try {
+                                                      firstSeen.await(10, TimeUnit.SECONDS);
+                                                  } catch (InterruptedException e) {
+                                                      Thread.currentThread().interrupt();
+                                                  }
+                                                  return firstSeen.getCount() == 0 ? i : -1;
+                                              }
+                                              return i;
+                                          }))
+                                          .peek(i -> firstSeen.countDown())
+                                          .toList();
+        assertThat(result, equalTo(asList(1, 2, 3)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void parallelPropagatesErrors(){
+        ReactiveSeq.range(0, 100)
+                   .parallel(s -> s.map(i -> {
+                       if (i == 50)
+                           throw new IllegalStateException();
+                       return i;
+                   }))
+                   .toList();
+    }
+
     @Test
     public void testLimit(){
         assertThat(ReactiveSeq.fill(1).limit(2).count(),equalTo(2l));